@@ -0,0 +1,289 @@
+package com.mambu.number2words.tools.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import com.mambu.number2words.internal.english.mapping.EnglishNumberMapping;
+import com.mambu.number2words.internal.simplifiedchinese.financial.mapping.SimplifiedChineseFinancialNumberMapping;
+import com.mambu.number2words.internal.spanish.mapping.SpanishNumberMapping;
+import com.mambu.number2words.parsing.interfaces.ValueMapping;
+import com.mambu.number2words.parsing.interfaces.WordValue.GrammaticalNumber;
+import com.mambu.number2words.parsing.interfaces.WordValue.WordForm;
+
+/**
+ * Build-time tool that validates the {@link ValueMapping} enums of the languages and generates, next to each one, a
+ * class with its words as static arrays (the values in ascending order and the words of every value, grammatical
+ * number and word form). The transcription contexts read the words from these tables, so no maps are built or looked
+ * up when transcribing.
+ * <p>
+ * The enums are compiled with this tool in their own source set, before the main classes. The build runs it first
+ * ({@code compileJava} depends on {@code generateMappingTables}), so it fails on an invalid mapping and the generated
+ * classes, in <code>build/generated-sources</code>, are compiled with the main classes.
+ */
+public final class MappingTablesGenerator {
+
+	/**
+	 * The mappings and the names of their tables classes.
+	 */
+	private static final Object[][] TABLES = { { EnglishNumberMapping.class, "EnglishMappingTables" },
+			{ SimplifiedChineseFinancialNumberMapping.class, "SimplifiedChineseFinancialMappingTables" },
+			{ SpanishNumberMapping.class, "SpanishMappingTables" } };
+
+	/**
+	 * Private constructor. No instances allowed.
+	 */
+	private MappingTablesGenerator() {
+		// command-line tool
+	}
+
+	/**
+	 * Entry point.
+	 *
+	 * @param args
+	 *            - the folder of the generated sources (i.e. <code>build/generated-sources/mapping-tables</code>).
+	 * @throws IOException
+	 *             if the classes could not be written.
+	 */
+	public static void main(final String[] args) throws IOException {
+
+		if (args.length != 1) {
+			System.err.println("Usage: MappingTablesGenerator OUTPUT_FOLDER");
+			System.exit(2);
+		}
+
+		for (final Object[] table : TABLES) {
+
+			final Class<?> enumClass = (Class<?>) table[0];
+			final File file = getSourceFile(new File(args[0]), enumClass, (String) table[1]);
+
+			Files.createDirectories(file.getParentFile().toPath());
+			Files.write(file.toPath(), generate(enumClass, (String) table[1]).getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	private static File getSourceFile(final File sourceFolder, final Class<?> enumClass, final String className) {
+		return new File(sourceFolder, enumClass.getPackage().getName().replace('.', File.separatorChar)
+				+ File.separatorChar + className + ".java");
+	}
+
+	/**
+	 * Validates a mapping enum and generates the source of its tables.
+	 *
+	 * @param enumClass
+	 *            - the {@link ValueMapping} enum. Not <code>null</code>.
+	 * @param className
+	 *            - the name of the generated class, in the package of the enum. Not <code>null</code>.
+	 * @return the Java source.
+	 * @throws IllegalArgumentException
+	 *             if the enum is not a valid mapping: the values must start at 0, be in strict ascending order and
+	 *             end with a group quantifier, and there must be a word for every grammatical number and word form.
+	 */
+	static String generate(final Class<?> enumClass, final String className) {
+
+		final Object[] constants = enumClass.getEnumConstants();
+
+		if (constants == null || constants.length == 0 || !ValueMapping.class.isAssignableFrom(enumClass)) {
+			throw new IllegalArgumentException(enumClass + " is not a value mapping enum");
+		}
+
+		final ValueMapping[] mappings = new ValueMapping[constants.length];
+
+		for (int i = 0; i < constants.length; ++i) {
+
+			mappings[i] = (ValueMapping) constants[i];
+
+			if (i == 0 ? mappings[i].getValue() != 0L : mappings[i].getValue() <= mappings[i - 1].getValue()) {
+				throw new IllegalArgumentException(constants[i] + " breaks the strict ascending order from 0");
+			}
+		}
+
+		if (!mappings[mappings.length - 1].isGroupQuantifier()) {
+			throw new IllegalArgumentException(enumClass.getSimpleName()
+					+ "'s last enum constant is not a group quantifier");
+		}
+
+		int denseLimit = 0;
+
+		while (denseLimit + 1 < mappings.length && mappings[denseLimit + 1].getValue() == denseLimit + 1) {
+			++denseLimit;
+		}
+
+		final int wordsPerValue = GrammaticalNumber.values().length * WordForm.values().length;
+
+		final StringBuilder groupQuantifiers = new StringBuilder();
+		final StringBuilder subGroupQuantifiers = new StringBuilder();
+
+		int groups = 0;
+		int subGroups = 0;
+
+		for (int i = mappings.length - 1; i >= 0; --i) {
+			if (mappings[i].isGroupQuantifier()) {
+				groupQuantifiers.append(groups++ % 8 == 0 ? "\n\t\t" : " ").append(mappings[i].getValue()).append("L,");
+			}
+			if (mappings[i].isSubGroupQuantifier()) {
+				subGroupQuantifiers.append(subGroups++ % 8 == 0 ? "\n\t\t" : " ").append(mappings[i].getValue())
+						.append("L,");
+			}
+		}
+
+		final StringBuilder values = new StringBuilder();
+		final StringBuilder words = new StringBuilder();
+
+		for (int i = 0; i < mappings.length; ++i) {
+
+			values.append(i % 8 == 0 ? "\n\t\t" : " ").append(mappings[i].getValue()).append("L,");
+
+			words.append("\n\t\t// ").append(((Enum<?>) constants[i]).name()).append("\n\t\t");
+
+			for (final GrammaticalNumber number : GrammaticalNumber.values()) {
+				for (final WordForm form : WordForm.values()) {
+
+					final String word = mappings[i].getWordValue().getWord(number, form);
+
+					if (word == null || word.isEmpty()) {
+						throw new IllegalArgumentException(constants[i] + " has no word for " + number + " " + form);
+					}
+
+					words.append('"').append(word.replace("\\", "\\\\").replace("\"", "\\\"")).append("\", ");
+				}
+			}
+
+			words.setLength(words.length() - 1);
+		}
+
+		final String packageName = enumClass.getPackage().getName();
+		final String mappingName = enumClass.getSimpleName();
+
+		return "package " + packageName + ";\n"
+				+ "\n"
+				+ "import java.util.Arrays;\n"
+				+ "\n"
+				+ "import com.mambu.number2words.internal.common.mapping.WordTable;\n"
+				+ "import com.mambu.number2words.parsing.interfaces.WordValue.GrammaticalNumber;\n"
+				+ "import com.mambu.number2words.parsing.interfaces.WordValue.WordForm;\n"
+				+ "\n"
+				+ "/**\n"
+				+ " * Words of {@link " + mappingName + "}, as static arrays.\n"
+				+ " * <p>\n"
+				+ " * GENERATED by <code>com.mambu.number2words.tools.codegen.MappingTablesGenerator</code>"
+				+ " from the mapping enum.\n"
+				+ " * Do not edit: the build generates it before compiling the main classes.\n"
+				+ " */\n"
+				+ "public final class " + className + " {\n"
+				+ "\n"
+				+ "\t/**\n"
+				+ "\t * The values from 0 up to this one are all mapped, so they are their own index.\n"
+				+ "\t */\n"
+				+ "\tprivate static final long DENSE_LIMIT = " + denseLimit + "L;\n"
+				+ "\n"
+				+ "\t/**\n"
+				+ "\t * The number of words of each value: one per grammatical number and word form.\n"
+				+ "\t */\n"
+				+ "\tprivate static final int WORDS_PER_VALUE = " + wordsPerValue + ";\n"
+				+ "\n"
+				+ "\t/**\n"
+				+ "\t * The mapped values, in ascending order.\n"
+				+ "\t */\n"
+				+ "\tprivate static final long[] VALUES = {" + values + "\n\t};\n"
+				+ "\n"
+				+ "\t/**\n"
+				+ "\t * The words of each value, by grammatical number and word form.\n"
+				+ "\t */\n"
+				+ "\tprivate static final String[] WORDS = {" + words + "\n\t};\n"
+				+ "\n"
+				+ "\t/**\n"
+				+ "\t * The values of the group quantifiers, in descending order.\n"
+				+ "\t */\n"
+				+ "\tprivate static final long[] GROUP_QUANTIFIERS = {" + groupQuantifiers + "\n\t};\n"
+				+ "\n"
+				+ "\t/**\n"
+				+ "\t * The values of the sub-group quantifiers, in descending order.\n"
+				+ "\t */\n"
+				+ "\tprivate static final long[] SUB_GROUP_QUANTIFIERS = {" + subGroupQuantifiers + "\n\t};\n"
+				+ "\n"
+				+ "\t/**\n"
+				+ "\t * Private constructor. No instances allowed.\n"
+				+ "\t */\n"
+				+ "\tprivate " + className + "() {\n"
+				+ "\t\t// generated tables\n"
+				+ "\t}\n"
+				+ "\n"
+				+ "\t/**\n"
+				+ "\t * Returns the words as a {@link WordTable}, sharing these arrays, to build the overlays on.\n"
+				+ "\t * \n"
+				+ "\t * @return a {@link WordTable} instance. Never <code>null</code>.\n"
+				+ "\t */\n"
+				+ "\tpublic static WordTable asWordTable() {\n"
+				+ "\t\treturn WordTable.of(VALUES, DENSE_LIMIT, WORDS);\n"
+				+ "\t}\n"
+				+ "\n"
+				+ "\t/**\n"
+				+ "\t * @return the values of the group quantifiers, in descending order. Never <code>null</code>.\n"
+				+ "\t */\n"
+				+ "\tpublic static long[] getGroupQuantifiers() {\n"
+				+ "\t\treturn GROUP_QUANTIFIERS.clone();\n"
+				+ "\t}\n"
+				+ "\n"
+				+ "\t/**\n"
+				+ "\t * @return the values of the sub-group quantifiers, in descending order. Never <code>null</code>."
+				+ "\n"
+				+ "\t */\n"
+				+ "\tpublic static long[] getSubGroupQuantifiers() {\n"
+				+ "\t\treturn SUB_GROUP_QUANTIFIERS.clone();\n"
+				+ "\t}\n"
+				+ "\n"
+				+ "\t/**\n"
+				+ "\t * @return the largest value such that all the values from 0 to it are mapped.\n"
+				+ "\t */\n"
+				+ "\tpublic static long getLargestConsecutiveValue() {\n"
+				+ "\t\treturn DENSE_LIMIT;\n"
+				+ "\t}\n"
+				+ "\n"
+				+ "\t/**\n"
+				+ "\t * Returns the position of a value in the order of the mapping.\n"
+				+ "\t * \n"
+				+ "\t * @param value\n"
+				+ "\t *            - the value.\n"
+				+ "\t * @return the ordinal of the mapping of the value, -1 if the value is not mapped.\n"
+				+ "\t */\n"
+				+ "\tpublic static int indexOf(final long value) {\n"
+				+ "\n"
+				+ "\t\tif (value >= 0 && value <= DENSE_LIMIT) {\n"
+				+ "\t\t\treturn (int) value;\n"
+				+ "\t\t}\n"
+				+ "\n"
+				+ "\t\tfinal int index = Arrays.binarySearch(VALUES, value);\n"
+				+ "\n"
+				+ "\t\treturn index >= 0 ? index : -1;\n"
+				+ "\t}\n"
+				+ "\n"
+				+ "\t/**\n"
+				+ "\t * Returns the word of a value.\n"
+				+ "\t * \n"
+				+ "\t * @param value\n"
+				+ "\t *            - the value.\n"
+				+ "\t * @param number\n"
+				+ "\t *            - the <i>grammatical</i> number. Not <code>null</code>.\n"
+				+ "\t * @param form\n"
+				+ "\t *            - the <i>word form</i>. Not <code>null</code>.\n"
+				+ "\t * @return the word. Never <code>null</code>.\n"
+				+ "\t * @throws NullPointerException\n"
+				+ "\t *             if the value is not mapped.\n"
+				+ "\t */\n"
+				+ "\tpublic static String getWord(final long value, final GrammaticalNumber number,"
+				+ " final WordForm form) {\n"
+				+ "\n"
+				+ "\t\tfinal int index = indexOf(value);\n"
+				+ "\n"
+				+ "\t\tif (index < 0) {\n"
+				+ "\t\t\tthrow new NullPointerException(\"Value is not mapped: \" + value);\n"
+				+ "\t\t}\n"
+				+ "\n"
+				+ "\t\treturn WORDS[index * WORDS_PER_VALUE + number.ordinal() * " + WordForm.values().length
+				+ " + form.ordinal()];\n"
+				+ "\t}\n"
+				+ "}\n";
+	}
+}
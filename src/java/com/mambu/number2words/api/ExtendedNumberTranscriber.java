@@ -0,0 +1,126 @@
+package com.mambu.number2words.api;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link NumberTranscriber} with the entry points that do not go through a {@link BigDecimal}: decomposed numbers,
+ * digit texts, amounts in minor units, packed decimals, sequences and comparisons.
+ * <p>
+ * All the transcribers of this library implement it; the ones returned as a {@link NumberTranscriber} (i.e. by
+ * {@link com.mambu.number2words.api.factories.NumberTranscriberFactory#newTranscriber(java.util.Locale)
+ * NumberTranscriberFactory.newTranscriber(Locale)}) can be tested for it with <code>instanceof</code>.
+ */
+public interface ExtendedNumberTranscriber extends NumberTranscriber {
+
+	/**
+	 * Returns the decimal number written in the text transcribed into words. The text is split into digit groups
+	 * directly, without being parsed into a {@link BigDecimal}.
+	 * 
+	 * @param number
+	 *            - the number, as digits optionally followed by <code>'.'</code> and more digits (i.e.
+	 *            <code>"1234.50"</code>). Not <code>null</code>.
+	 * @return String containing the transcribed number.
+	 * @throws NumberFormatException
+	 *             if the text is not a valid non-negative number.
+	 * @see NumberDecomposition#parse(CharSequence, char, char)
+	 */
+	String toWords(final CharSequence number);
+
+	/**
+	 * Appends the already decomposed number transcribed into words to the StringBuilder instance.
+	 * <p>
+	 * The same {@link NumberDecomposition} can be transcribed by several transcribers (i.e. for different languages)
+	 * without decomposing the number again.
+	 * 
+	 * @param builder
+	 *            - StringBuilder instance to which the words will be appended. Not null.
+	 * @param number
+	 *            - the decomposed number to transcribe. Not <code>null</code>.
+	 */
+	void appendWords(final StringBuilder builder, final NumberDecomposition number);
+
+	/**
+	 * Checks if the expected text is the transcription of the number, without building the transcription.
+	 * 
+	 * @param number
+	 *            - BigDecimal instance to transcribe. Not <code>null</code>. Equal or greater than 0.
+	 * @param expected
+	 *            - the text to compare with. Not <code>null</code>.
+	 * @return <code>true</code> if the text is equal to {@link #toWords(BigDecimal)}.
+	 * @see #mismatch(NumberDecomposition, CharSequence)
+	 */
+	boolean matches(final BigDecimal number, final CharSequence expected);
+
+	/**
+	 * Compares the transcription of the number with the expected text as the words are produced, without building the
+	 * transcription. The characters after the first difference are not compared.
+	 * 
+	 * @param number
+	 *            - the decomposed number to transcribe. Not <code>null</code>.
+	 * @param expected
+	 *            - the text to compare with. Not <code>null</code>.
+	 * @return the index in the expected text of the first character that differs from the transcription (the length of
+	 *         the shorter of the two if one is a prefix of the other), or -1 if they are equal.
+	 */
+	int mismatch(final NumberDecomposition number, final CharSequence expected);
+
+	/**
+	 * Appends an amount given in minor units (i.e. cents) transcribed into words to the StringBuilder instance. The
+	 * words are the same as for <code>appendWords(builder, BigDecimal.valueOf(minorUnits, scale))</code>.
+	 * <p>
+	 * This is the fast path for currency amounts: no {@link BigDecimal} is created and the words of the fractional part
+	 * are looked up instead of being transcribed.
+	 * 
+	 * @param builder
+	 *            - StringBuilder instance to which the words will be appended. Not null.
+	 * @param minorUnits
+	 *            - the unscaled amount (i.e. 1250 for 12.50). Equal or greater than 0.
+	 * @param scale
+	 *            - the number of digits after the decimal point (i.e. 2 for cents). Between 0 and 18.
+	 */
+	void appendAmount(final StringBuilder builder, final long minorUnits, final int scale);
+
+	/**
+	 * Appends a packed decimal (COMP-3 / BCD) value transcribed into words to the StringBuilder instance. The digits
+	 * are read in place, so slices of memory-mapped files are not copied.
+	 * 
+	 * @param builder
+	 *            - StringBuilder instance to which the words will be appended. Not null.
+	 * @param buffer
+	 *            - the buffer holding the value. Not <code>null</code>. Its position is not changed.
+	 * @param offset
+	 *            - the index of the first byte of the value.
+	 * @param length
+	 *            - the number of bytes of the value.
+	 * @param scale
+	 *            - the implied number of digits after the decimal point. Equal or greater than 0.
+	 * @see NumberDecomposition#parsePacked(ByteBuffer, int, int, int)
+	 */
+	void appendPacked(final StringBuilder builder, final ByteBuffer buffer, final int offset, final int length,
+			final int scale);
+
+	/**
+	 * Returns a sequence over all the integers in the <code>[from, to]</code> interval, in ascending order. The words
+	 * of the higher groups are reused between consecutive values.
+	 *
+	 * @param from
+	 *            - the first value. Equal or greater than 0.
+	 * @param to
+	 *            - the last value (inclusive). If smaller than <code>from</code>, the sequence is empty.
+	 * @return a {@link NumberSequence} instance. Never <code>null</code>.
+	 */
+	NumberSequence sequence(final long from, final long to);
+
+	/**
+	 * Returns a sequence over the passed values, in the order they appear. Any order is accepted, but sorted values
+	 * share most of their higher groups and are transcribed faster.
+	 *
+	 * @param values
+	 *            - the values to transcribe. Not <code>null</code>. Each equal or greater than 0. The array is not
+	 *            copied.
+	 * @return a {@link NumberSequence} instance. Never <code>null</code>.
+	 */
+	NumberSequence sequence(final long[] values);
+
+}
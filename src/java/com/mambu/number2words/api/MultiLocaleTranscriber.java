@@ -0,0 +1,54 @@
+package com.mambu.number2words.api;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Implementations of this interface will transcribe the same numerical value into words in several languages at once
+ * (i.e. for bilingual statements). The number is decomposed only once, into a {@link NumberDecomposition}, which is
+ * then transcribed by each language.
+ */
+public interface MultiLocaleTranscriber {
+
+	/**
+	 * The locales of the transcriptions, in the order in which they are returned.
+	 * 
+	 * @return an unmodifiable list of {@link Locale}s. Never <code>null</code>.
+	 */
+	List<Locale> getLocales();
+
+	/**
+	 * Returns the number transcribed into words, for each locale.
+	 * 
+	 * @param number
+	 *            - BigDecimal instance to transcribe. Not <code>null</code>. Equal or greater than 0.
+	 * @return the transcriptions, in the order of {@link #getLocales()}. Never <code>null</code>.
+	 */
+	String[] toWords(final BigDecimal number);
+
+	/**
+	 * Appends the number transcribed into words to the StringBuilder instances, one per locale.
+	 * 
+	 * @param builders
+	 *            - the StringBuilder instances to which the words will be appended, in the order of
+	 *            {@link #getLocales()}. Not <code>null</code>.
+	 * @param number
+	 *            - BigDecimal instance to transcribe. Not <code>null</code>. Equal or greater than 0.
+	 */
+	void appendWords(final StringBuilder[] builders, final BigDecimal number);
+
+	/**
+	 * Appends the number transcribed into words in all the locales to the same StringBuilder instance, separated by
+	 * the passed separator (i.e. "one / uno").
+	 * 
+	 * @param builder
+	 *            - StringBuilder instance to which the words will be appended. Not <code>null</code>.
+	 * @param number
+	 *            - BigDecimal instance to transcribe. Not <code>null</code>. Equal or greater than 0.
+	 * @param separator
+	 *            - the text written between the transcriptions. Not <code>null</code>.
+	 */
+	void appendWords(final StringBuilder builder, final BigDecimal number, final String separator);
+
+}
@@ -0,0 +1,715 @@
+package com.mambu.number2words.api;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.mambu.number2words.internal.common.DecimalDivision;
+
+/**
+ * Language neutral form of a non-negative number: the decimal digits of its integer part and, if the number has digits
+ * after the decimal point, the decomposition of its fractional part (as an integer, i.e. 1.20 has a fractional part of
+ * 20).
+ * <p>
+ * A number is decomposed once and can then be transcribed into several languages, each language reading the digits in
+ * its own groups (3 digits for English, 4 for Chinese, etc...) without any further arithmetic.
+ * <p>
+ * This class is immutable and thread safe.
+ *
+ * @see ExtendedNumberTranscriber#appendWords(StringBuilder, NumberDecomposition)
+ */
+public final class NumberDecomposition {
+
+	/**
+	 * Maximum number of digits that can be read as a <code>long</code>.
+	 */
+	public static final int MAX_LONG_DIGITS = 18;
+
+	/**
+	 * Marks that no grouping separator is accepted when parsing.
+	 */
+	public static final char NO_GROUPING = '\0';
+
+	/**
+	 * The decomposition of zero.
+	 */
+	private static final NumberDecomposition ZERO = new NumberDecomposition(new byte[] { 0 }, 1, null);
+
+	/**
+	 * The digits of the integer part, least significant first (<code>digits[i]</code> is the digit of
+	 * 10<sup>i</sup>). Only the first {@link #digitCount} are used.
+	 */
+	private final byte[] digits;
+
+	/**
+	 * The number of digits of the integer part. There are no leading zeroes, except for zero itself (1 digit).
+	 */
+	private final int digitCount;
+
+	/**
+	 * The fractional part, <code>null</code> if the number had no digits after the decimal point.
+	 */
+	private final NumberDecomposition fraction;
+
+	/**
+	 * The number of digits after the decimal point, with the leading zeroes of the fractional part (2 for 1.05). 0 if
+	 * there is no fractional part.
+	 */
+	private final int fractionDigitCount;
+
+	/**
+	 * Private constructor. Use the factory methods.
+	 */
+	private NumberDecomposition(final byte[] digits, final int digitCount, final NumberDecomposition fraction) {
+		this(digits, digitCount, fraction, fraction == null ? 0 : fraction.digitCount);
+	}
+
+	/**
+	 * Private constructor. Use the factory methods.
+	 */
+	private NumberDecomposition(final byte[] digits, final int digitCount, final NumberDecomposition fraction,
+			final int fractionDigitCount) {
+		this.digits = digits;
+		this.digitCount = digitCount;
+		this.fraction = fraction;
+		this.fractionDigitCount = fractionDigitCount;
+	}
+
+	/**
+	 * Decomposes a decimal number.
+	 *
+	 * @param number
+	 *            - the number. Not <code>null</code>. Equal or greater than 0.
+	 * @return a {@link NumberDecomposition} instance. Never <code>null</code>.
+	 * @throws IllegalArgumentException
+	 *             if the number is negative.
+	 */
+	public static NumberDecomposition of(final BigDecimal number) {
+
+		if (number.signum() < 0) {
+			throw new IllegalArgumentException("Negative numbers are not supported");
+		}
+
+		final BigInteger integerPart = number.toBigInteger();
+
+		NumberDecomposition fraction = null;
+
+		if (number.scale() > 0) {
+			// the fractional part must be parsed as a normal number
+			// 0.20 will be sent as 20, 0.200 as 200, etc..
+			fraction = ofInteger(number.subtract(new BigDecimal(integerPart)).unscaledValue(), null);
+		}
+
+		return withFractionDigitCount(ofInteger(integerPart, fraction), Math.max(number.scale(), 0));
+	}
+
+	/**
+	 * Decomposes an integer.
+	 *
+	 * @param number
+	 *            - the number. Equal or greater than 0.
+	 * @return a {@link NumberDecomposition} instance. Never <code>null</code>.
+	 * @throws IllegalArgumentException
+	 *             if the number is negative.
+	 */
+	public static NumberDecomposition ofInteger(final long number) {
+
+		if (number < 0) {
+			throw new IllegalArgumentException("Negative numbers are not supported");
+		}
+
+		if (number == 0) {
+			return ZERO;
+		}
+
+		final byte[] digits = new byte[19];
+		int count = 0;
+
+		for (long remaining = number; remaining > 0; remaining /= 10) {
+			digits[count++] = (byte) (remaining % 10);
+		}
+
+		return new NumberDecomposition(digits, count, null);
+	}
+
+	/**
+	 * Decomposes an amount given in minor units (i.e. cents) with a fixed scale. The result is the same as for
+	 * <code>BigDecimal.valueOf(minorUnits, scale)</code>, without any {@link BigDecimal} arithmetic.
+	 *
+	 * @param minorUnits
+	 *            - the unscaled amount (i.e. 1250 for 12.50). Equal or greater than 0.
+	 * @param scale
+	 *            - the number of digits after the decimal point. Between 0 and {@link #MAX_LONG_DIGITS}.
+	 * @return a {@link NumberDecomposition} instance. Never <code>null</code>.
+	 * @throws IllegalArgumentException
+	 *             if the amount is negative or the scale is out of range.
+	 */
+	public static NumberDecomposition ofMinorUnits(final long minorUnits, final int scale) {
+
+		if (scale < 0 || scale > MAX_LONG_DIGITS) {
+			throw new IllegalArgumentException("Unsupported scale: " + scale);
+		}
+
+		if (minorUnits < 0) {
+			throw new IllegalArgumentException("Negative numbers are not supported");
+		}
+
+		final NumberDecomposition integer = ofInteger(DecimalDivision.divide(minorUnits, scale));
+
+		if (scale == 0) {
+			return integer;
+		}
+
+		return new NumberDecomposition(integer.digits, integer.digitCount, ofInteger(DecimalDivision.remainder(
+				minorUnits, scale)), scale);
+	}
+
+	/**
+	 * Computes 10<sup>power</sup>.
+	 *
+	 * @param power
+	 *            - the power. Between 0 and {@link #MAX_LONG_DIGITS}.
+	 * @return the power of ten.
+	 * @throws IllegalArgumentException
+	 *             if the power is out of range.
+	 */
+	public static long powerOfTen(final int power) {
+
+		if (power < 0 || power > MAX_LONG_DIGITS) {
+			throw new IllegalArgumentException("Unsupported scale: " + power);
+		}
+
+		long value = 1L;
+
+		for (int i = 0; i < power; ++i) {
+			value *= 10;
+		}
+
+		return value;
+	}
+
+	/**
+	 * Parses a decimal number such as <code>"1234.50"</code> (digits, optionally followed by <code>'.'</code> and more
+	 * digits).
+	 *
+	 * @param text
+	 *            - the number. Not <code>null</code>.
+	 * @return a {@link NumberDecomposition} instance. Never <code>null</code>.
+	 * @throws NumberFormatException
+	 *             if the text is not a valid non-negative number.
+	 * @see #parse(CharSequence, char, char)
+	 */
+	public static NumberDecomposition parse(final CharSequence text) {
+		return parse(text, '.', NO_GROUPING);
+	}
+
+	/**
+	 * Parses a decimal number directly from its digits, without any {@link BigDecimal} or {@link BigInteger}.
+	 * <p>
+	 * The number must be made of digits, optionally followed by the decimal separator and more digits. The integer part
+	 * can have grouping separators between its digits (i.e. <code>"1,234,567.50"</code>). The size of the groups is not
+	 * checked, as it depends on the language (i.e. <code>"1,0000"</code> in Chinese). Signs, exponents, spaces and
+	 * separators that are not between two digits are rejected.
+	 * <p>
+	 * The result is the same as for <code>of(new BigDecimal(text))</code>, once the grouping separators are removed.
+	 *
+	 * @param text
+	 *            - the number. Not <code>null</code>.
+	 * @param decimalSeparator
+	 *            - the character separating the integer and fractional parts (i.e. <code>'.'</code>).
+	 * @param groupingSeparator
+	 *            - the character separating digit groups (i.e. <code>','</code>), or {@link #NO_GROUPING}.
+	 * @return a {@link NumberDecomposition} instance. Never <code>null</code>.
+	 * @throws NumberFormatException
+	 *             if the text is not a valid non-negative number.
+	 */
+	public static NumberDecomposition parse(final CharSequence text, final char decimalSeparator,
+			final char groupingSeparator) {
+
+		final int length = text.length();
+
+		int point = -1;
+		boolean afterDigit = false;
+
+		for (int i = 0; i < length; ++i) {
+
+			final char c = text.charAt(i);
+
+			if (c >= '0' && c <= '9') {
+				afterDigit = true;
+			} else if (c == decimalSeparator && point < 0 && afterDigit) {
+				point = i;
+				afterDigit = false;
+			} else if (c == groupingSeparator && groupingSeparator != NO_GROUPING && point < 0 && afterDigit) {
+				afterDigit = false;
+			} else {
+				throw new NumberFormatException("Invalid number: " + text);
+			}
+		}
+
+		if (!afterDigit) {
+			// empty or ending with a separator
+			throw new NumberFormatException("Invalid number: " + text);
+		}
+
+		if (point < 0) {
+			return parseDigits(text, 0, length, null);
+		}
+
+		return withFractionDigitCount(parseDigits(text, 0, point, parseDigits(text, point + 1, length, null)), length
+				- point - 1);
+	}
+
+	/**
+	 * Parses an ASCII encoded decimal number. The position of the buffer is not changed.
+	 *
+	 * @param buffer
+	 *            - the buffer holding the number. Not <code>null</code>.
+	 * @param offset
+	 *            - the index of the first byte of the number.
+	 * @param length
+	 *            - the number of bytes of the number.
+	 * @param decimalSeparator
+	 *            - the character separating the integer and fractional parts (i.e. <code>'.'</code>).
+	 * @param groupingSeparator
+	 *            - the character separating digit groups (i.e. <code>','</code>), or {@link #NO_GROUPING}.
+	 * @return a {@link NumberDecomposition} instance. Never <code>null</code>.
+	 * @throws NumberFormatException
+	 *             if the bytes are not a valid non-negative number.
+	 * @see #parse(CharSequence, char, char)
+	 */
+	public static NumberDecomposition parseAscii(final ByteBuffer buffer, final int offset, final int length,
+			final char decimalSeparator, final char groupingSeparator) {
+
+		if (offset < 0 || length < 0 || offset + length > buffer.limit()) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		return parse(new AsciiSequence(buffer, offset, length), decimalSeparator, groupingSeparator);
+	}
+
+	/**
+	 * Parses an ASCII encoded decimal number.
+	 *
+	 * @param bytes
+	 *            - the bytes holding the number. Not <code>null</code>.
+	 * @param offset
+	 *            - the index of the first byte of the number.
+	 * @param length
+	 *            - the number of bytes of the number.
+	 * @param decimalSeparator
+	 *            - the character separating the integer and fractional parts (i.e. <code>'.'</code>).
+	 * @param groupingSeparator
+	 *            - the character separating digit groups (i.e. <code>','</code>), or {@link #NO_GROUPING}.
+	 * @return a {@link NumberDecomposition} instance. Never <code>null</code>.
+	 * @throws NumberFormatException
+	 *             if the bytes are not a valid non-negative number.
+	 * @see #parse(CharSequence, char, char)
+	 */
+	public static NumberDecomposition parseAscii(final byte[] bytes, final int offset, final int length,
+			final char decimalSeparator, final char groupingSeparator) {
+		return parseAscii(ByteBuffer.wrap(bytes), offset, length, decimalSeparator, groupingSeparator);
+	}
+
+	/**
+	 * Decomposes a packed decimal (COMP-3 / BCD) value: two digits per byte, the last nibble holding the sign. The
+	 * value is read with absolute gets, so the position of the buffer is not changed and memory-mapped buffers are read
+	 * in place.
+	 * <p>
+	 * The sign nibbles <code>C</code>, <code>F</code>, <code>A</code> and <code>E</code> are positive, <code>B</code>
+	 * and <code>D</code> are negative (and not supported).
+	 *
+	 * @param buffer
+	 *            - the buffer holding the value. Not <code>null</code>.
+	 * @param offset
+	 *            - the index of the first byte of the value.
+	 * @param length
+	 *            - the number of bytes of the value (the value has <code>2 * length - 1</code> digits).
+	 * @param scale
+	 *            - the implied number of digits after the decimal point. Equal or greater than 0.
+	 * @return a {@link NumberDecomposition} instance. Never <code>null</code>.
+	 * @throws NumberFormatException
+	 *             if the bytes are not a valid packed decimal.
+	 * @throws IllegalArgumentException
+	 *             if the value is negative or the scale is negative.
+	 */
+	public static NumberDecomposition parsePacked(final ByteBuffer buffer, final int offset, final int length,
+			final int scale) {
+
+		if (offset < 0 || length <= 0 || offset + length > buffer.limit()) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		if (scale < 0) {
+			throw new IllegalArgumentException("Unsupported scale: " + scale);
+		}
+
+		final int sign = buffer.get(offset + length - 1) & 0x0F;
+
+		if (sign == 0x0B || sign == 0x0D) {
+			throw new IllegalArgumentException("Negative numbers are not supported");
+		}
+
+		if (sign < 0x0A) {
+			throw new NumberFormatException("Invalid packed decimal sign: " + sign);
+		}
+
+		final int digitCount = 2 * length - 1;
+
+		for (int power = 0; power < digitCount; ++power) {
+			if (packedDigit(buffer, offset + length - 1, power) > 9) {
+				throw new NumberFormatException("Invalid packed decimal digit at byte "
+						+ (offset + length - 1 - (power + 1) / 2));
+			}
+		}
+
+		final NumberDecomposition fraction = scale == 0 ? null : packedDigits(buffer, offset + length - 1, 0,
+				Math.min(scale, digitCount), null);
+
+		return withFractionDigitCount(packedDigits(buffer, offset + length - 1, scale, digitCount, fraction), scale);
+	}
+
+	/**
+	 * Sets the number of digits after the decimal point of a decomposition.
+	 */
+	private static NumberDecomposition withFractionDigitCount(final NumberDecomposition number, final int count) {
+
+		if (number.fraction == null || number.fractionDigitCount == count) {
+			return number;
+		}
+
+		return new NumberDecomposition(number.digits, number.digitCount, number.fraction, count);
+	}
+
+	/**
+	 * Reads the digit of a packed decimal multiplying 10<sup>power</sup>.
+	 *
+	 * @param buffer
+	 *            - the buffer holding the value.
+	 * @param last
+	 *            - the index of the last byte (the one holding the sign).
+	 * @param power
+	 *            - the power of ten of the digit.
+	 */
+	private static int packedDigit(final ByteBuffer buffer, final int last, final int power) {
+
+		final int value = buffer.get(last - (power + 1) / 2);
+
+		// even powers are in the high nibbles: [d2 d1][d0 sign]
+		return (power & 1) == 0 ? (value >> 4) & 0x0F : value & 0x0F;
+	}
+
+	/**
+	 * Collects the (already validated) packed digits with powers in <code>[from, to)</code>.
+	 */
+	private static NumberDecomposition packedDigits(final ByteBuffer buffer, final int last, final int from,
+			final int to, final NumberDecomposition fraction) {
+
+		int top = to - 1;
+
+		while (top >= from && packedDigit(buffer, last, top) == 0) {
+			--top;
+		}
+
+		if (top < from) {
+			return fraction == null ? ZERO : new NumberDecomposition(ZERO.digits, 1, fraction);
+		}
+
+		final byte[] digits = new byte[top - from + 1];
+
+		for (int power = from; power <= top; ++power) {
+			digits[power - from] = (byte) packedDigit(buffer, last, power);
+		}
+
+		return new NumberDecomposition(digits, digits.length, fraction);
+	}
+
+	/**
+	 * Collects the (already validated) digits in <code>[from, to)</code>, skipping leading zeroes and any other
+	 * character.
+	 */
+	private static NumberDecomposition parseDigits(final CharSequence text, final int from, final int to,
+			final NumberDecomposition fraction) {
+
+		int count = 0;
+
+		for (int i = from; i < to; ++i) {
+
+			final char c = text.charAt(i);
+
+			if (c >= '0' && c <= '9' && (count > 0 || c != '0')) {
+				++count;
+			}
+		}
+
+		if (count == 0) {
+			return fraction == null ? ZERO : new NumberDecomposition(ZERO.digits, 1, fraction);
+		}
+
+		final byte[] digits = new byte[count];
+		int power = 0;
+
+		for (int i = to - 1; power < count; --i) {
+
+			final char c = text.charAt(i);
+
+			if (c >= '0' && c <= '9') {
+				digits[power++] = (byte) (c - '0');
+			}
+		}
+
+		return new NumberDecomposition(digits, count, fraction);
+	}
+
+	/**
+	 * Read only {@link CharSequence} view over ASCII bytes.
+	 */
+	private static final class AsciiSequence implements CharSequence {
+
+		private final ByteBuffer buffer;
+		private final int offset;
+		private final int length;
+
+		AsciiSequence(final ByteBuffer buffer, final int offset, final int length) {
+			this.buffer = buffer;
+			this.offset = offset;
+			this.length = length;
+		}
+
+		@Override
+		public int length() {
+			return length;
+		}
+
+		@Override
+		public char charAt(final int index) {
+			return (char) (buffer.get(offset + index) & 0xFF);
+		}
+
+		@Override
+		public CharSequence subSequence(final int start, final int end) {
+			return new AsciiSequence(buffer, offset + start, end - start);
+		}
+
+		@Override
+		public String toString() {
+
+			final char[] chars = new char[length];
+
+			for (int i = 0; i < length; ++i) {
+				chars[i] = charAt(i);
+			}
+
+			return new String(chars);
+		}
+	}
+
+	/**
+	 * Decomposes a non-negative integer, with an optional fractional part.
+	 */
+	private static NumberDecomposition ofInteger(final BigInteger number, final NumberDecomposition fraction) {
+
+		if (number.bitLength() < 63) {
+
+			final NumberDecomposition integer = ofInteger(number.longValue());
+
+			return fraction == null ? integer : new NumberDecomposition(integer.digits, integer.digitCount, fraction);
+		}
+
+		final String text = number.toString();
+		final byte[] digits = new byte[text.length()];
+
+		for (int i = 0; i < digits.length; ++i) {
+			digits[i] = (byte) (text.charAt(digits.length - 1 - i) - '0');
+		}
+
+		return new NumberDecomposition(digits, digits.length, fraction);
+	}
+
+	/**
+	 * The number of digits of the integer part (without leading zeroes). Zero has 1 digit.
+	 *
+	 * @return the number of digits. Greater than 0.
+	 */
+	public int getDigitCount() {
+		return digitCount;
+	}
+
+	/**
+	 * Checks if the integer part is zero.
+	 *
+	 * @return <code>true</code> if the integer part is zero.
+	 */
+	public boolean isZero() {
+		return digitCount == 1 && digits[0] == 0;
+	}
+
+	/**
+	 * The digit of the integer part multiplying 10<sup>power</sup>.
+	 *
+	 * @param power
+	 *            - the power of ten. Equal or greater than 0.
+	 * @return the digit (0 for positions after the most significant digit).
+	 */
+	public int getDigit(final int power) {
+		return power < digitCount ? digits[power] : 0;
+	}
+
+	/**
+	 * The value of a group of digits of the integer part. For 1234567, the group of 3 digits at power 3 is 234.
+	 *
+	 * @param power
+	 *            - the power of ten of the lowest digit of the group. Equal or greater than 0.
+	 * @param length
+	 *            - the number of digits in the group. Between 1 and {@link #MAX_LONG_DIGITS}.
+	 * @return the value of the group.
+	 */
+	public long getGroup(final int power, final int length) {
+
+		long value = 0L;
+
+		for (int i = Math.min(power + length, digitCount) - 1; i >= power; --i) {
+			value = value * 10 + digits[i];
+		}
+
+		return value;
+	}
+
+	/**
+	 * The integer part, without its lowest digits (i.e. the integer part divided by 10<sup>power</sup>). The fractional
+	 * part is not kept.
+	 *
+	 * @param power
+	 *            - the number of digits to drop. Equal or greater than 0.
+	 * @return a {@link NumberDecomposition} instance. Never <code>null</code>.
+	 */
+	public NumberDecomposition dropLowDigits(final int power) {
+
+		if (power >= digitCount) {
+			return ZERO;
+		}
+
+		return new NumberDecomposition(Arrays.copyOfRange(digits, power, digitCount), digitCount - power, null);
+	}
+
+	/**
+	 * Checks if the number had digits after the decimal point.
+	 *
+	 * @return <code>true</code> if there is a fractional part.
+	 */
+	public boolean hasFraction() {
+		return fraction != null;
+	}
+
+	/**
+	 * The number of digits after the decimal point, including the leading zeroes of the fractional part: 2 for 1.05
+	 * and 1.50, while {@link #getFraction()} is 5 and 50.
+	 *
+	 * @return the number of digits, 0 if there is no fractional part.
+	 */
+	public int getFractionDigitCount() {
+		return fractionDigitCount;
+	}
+
+	/**
+	 * The fractional part as an integer (i.e. 20 for 1.20).
+	 *
+	 * @return the decomposition of the fractional part, <code>null</code> if the number had no digits after the decimal
+	 *         point.
+	 */
+	public NumberDecomposition getFraction() {
+		return fraction;
+	}
+
+	/**
+	 * The integer part as a {@link BigInteger}.
+	 *
+	 * @return a {@link BigInteger} instance. Never <code>null</code>.
+	 */
+	public BigInteger toBigInteger() {
+
+		if (digitCount <= MAX_LONG_DIGITS) {
+			return BigInteger.valueOf(getGroup(0, digitCount));
+		}
+
+		final char[] text = new char[digitCount];
+
+		for (int i = 0; i < digitCount; ++i) {
+			text[i] = (char) ('0' + digits[digitCount - 1 - i]);
+		}
+
+		return new BigInteger(new String(text));
+	}
+
+	/**
+	 * The number as a {@link BigDecimal}, with the fractional part and its leading zeroes.
+	 *
+	 * @return a {@link BigDecimal} instance. Never <code>null</code>.
+	 */
+	public BigDecimal toBigDecimal() {
+
+		if (fraction == null) {
+			return new BigDecimal(toBigInteger());
+		}
+
+		return new BigDecimal(toBigInteger().multiply(BigInteger.TEN.pow(fractionDigitCount)).add(
+				fraction.toBigInteger()), fractionDigitCount);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(final Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof NumberDecomposition)) {
+			return false;
+		}
+
+		final NumberDecomposition other = (NumberDecomposition) obj;
+
+		if (digitCount != other.digitCount || fractionDigitCount != other.fractionDigitCount
+				|| !Objects.equals(fraction, other.fraction)) {
+			return false;
+		}
+
+		for (int i = 0; i < digitCount; ++i) {
+			if (digits[i] != other.digits[i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int hashCode() {
+
+		int hash = 31 * Objects.hashCode(fraction) + fractionDigitCount;
+
+		for (int i = 0; i < digitCount; ++i) {
+			hash = 31 * hash + digits[i];
+		}
+
+		return hash;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "NumberDecomposition [integer=" + toBigInteger()
+				+ (fraction == null ? "" : ", fraction=" + fraction.toBigInteger() + ", fractionDigitCount="
+						+ fractionDigitCount) + "]";
+	}
+}
@@ -0,0 +1,73 @@
+package com.mambu.number2words.api;
+
+import java.math.BigDecimal;
+
+/**
+ * Implementations of this interface will provide a way to parse numbers transcribed into words back into numerical
+ * values (i.e. to verify the amounts read from cheques). This is the reverse of {@link NumberTranscriber}.
+ * <p>
+ * The words are matched without regard to case. Words that are not part of the language's numbers are rejected, but
+ * the order of the words is not fully validated (i.e. "two one" is read as 3). To check that the words are exactly the
+ * transcription of the parsed value, compare them with {@link NumberTranscriber#toWords(BigDecimal)}.
+ * <p>
+ * <b>Note</b>: the transcription of the fractional part does not keep its leading zeroes in all languages (i.e. both
+ * 1.5 and 1.05 can be transcribed as "one and five" in English). Use the methods taking a scale to read amounts with a
+ * known number of decimals.
+ */
+public interface NumberParser {
+
+	/**
+	 * Parses the words of a number. The scale of the result is the number of digits of the fractional part (i.e. "one
+	 * and fifty" is 1.50), or 0 if there is no fractional part.
+	 *
+	 * @param words
+	 *            - the transcribed number. Not <code>null</code>.
+	 * @return a BigDecimal instance. Never <code>null</code>.
+	 * @throws NumberFormatException
+	 *             if the words are not a valid number.
+	 */
+	BigDecimal parse(final CharSequence words);
+
+	/**
+	 * Parses the words of an amount with a known number of decimals (i.e. "one and five" is 1.05 for scale 2).
+	 *
+	 * @param words
+	 *            - the transcribed number. Not <code>null</code>.
+	 * @param scale
+	 *            - the number of digits after the decimal point. Equal or greater than 0.
+	 * @return a BigDecimal instance with the passed scale. Never <code>null</code>.
+	 * @throws NumberFormatException
+	 *             if the words are not a valid number or the fractional part does not fit the scale.
+	 */
+	BigDecimal parse(final CharSequence words, final int scale);
+
+	/**
+	 * Parses the words of an integer, without creating any {@link BigDecimal}.
+	 *
+	 * @param words
+	 *            - the transcribed number. Not <code>null</code>.
+	 * @return the parsed value.
+	 * @throws NumberFormatException
+	 *             if the words are not a valid integer.
+	 * @throws ArithmeticException
+	 *             if the value does not fit into a <code>long</code>.
+	 */
+	long parseLong(final CharSequence words);
+
+	/**
+	 * Parses the words of an amount with a known number of decimals into minor units (i.e. "twelve and fifty" is 1250
+	 * for scale 2), without creating any {@link BigDecimal}.
+	 *
+	 * @param words
+	 *            - the transcribed number. Not <code>null</code>.
+	 * @param scale
+	 *            - the number of digits after the decimal point. Between 0 and 18.
+	 * @return the amount in minor units.
+	 * @throws NumberFormatException
+	 *             if the words are not a valid number or the fractional part does not fit the scale.
+	 * @throws ArithmeticException
+	 *             if the value does not fit into a <code>long</code>.
+	 */
+	long parseMinorUnits(final CharSequence words, final int scale);
+
+}
@@ -0,0 +1,52 @@
+package com.mambu.number2words.api;
+
+/**
+ * Cursor over a sequence of integers that are transcribed incrementally.
+ * <p>
+ * Consecutive values of a sequence usually differ only in their lowest group (i.e. 1,000,001 and 1,000,002 share "one
+ * million"), so implementations keep the words of the higher groups between values and render again only what
+ * changed.
+ * <p>
+ * Instances are not thread safe.
+ *
+ * @see ExtendedNumberTranscriber#sequence(long, long)
+ * @see ExtendedNumberTranscriber#sequence(long[])
+ */
+public interface NumberSequence {
+
+	/**
+	 * Checks if there are more values in the sequence.
+	 *
+	 * @return <code>true</code> if {@link #next()} can be called.
+	 */
+	boolean hasNext();
+
+	/**
+	 * Moves to the next value of the sequence.
+	 *
+	 * @return the new current value.
+	 * @throws java.util.NoSuchElementException
+	 *             if there are no more values.
+	 */
+	long next();
+
+	/**
+	 * Appends the current value transcribed into words to the StringBuilder instance.
+	 *
+	 * @param builder
+	 *            - StringBuilder instance to which the words will be appended. Not <code>null</code>.
+	 * @throws IllegalStateException
+	 *             if {@link #next()} was not called.
+	 */
+	void appendWords(final StringBuilder builder);
+
+	/**
+	 * Returns the current value transcribed into words.
+	 *
+	 * @return String containing the transcribed number.
+	 * @throws IllegalStateException
+	 *             if {@link #next()} was not called.
+	 */
+	String toWords();
+
+}
@@ -0,0 +1,45 @@
+package com.mambu.number2words.api.factories;
+
+import java.util.Locale;
+
+import com.mambu.number2words.api.NumberParser;
+
+/**
+ * A language supported by {@link NumberTranscriberFactory}. The modules are found with {@link java.util.ServiceLoader}
+ * (listed in <code>META-INF/services/com.mambu.number2words.api.factories.LanguageModule</code>), so a language can be
+ * added by putting its jar on the class path.
+ * <p>
+ * Creating a module must be cheap: all the modules are instantiated when the factory is initialized, but the word
+ * tables of a language should only be loaded when its first transcriber or parser is created.
+ * <p>
+ * Implementations must be thread safe.
+ */
+public interface LanguageModule extends TranscriberProvider {
+
+	/**
+	 * The code of the language, as returned by {@link Locale#getLanguage()}.
+	 *
+	 * @return the language code. Not <code>null</code>.
+	 */
+	String getLanguage();
+
+	/**
+	 * Creates a parser of the words of the language.
+	 *
+	 * @param locale
+	 *            - the locale the module was registered for. Not <code>null</code>.
+	 * @return a {@link NumberParser} instance. Not <code>null</code>.
+	 */
+	NumberParser newParser(final Locale locale);
+
+	/**
+	 * Adds the words of the language to a fingerprint (see
+	 * {@link com.mambu.number2words.internal.common.mapping.MappingFingerprint MappingFingerprint}).
+	 *
+	 * @param fingerprint
+	 *            - the fingerprint of the previous languages.
+	 * @return the updated fingerprint.
+	 */
+	long updateFingerprint(final long fingerprint);
+
+}
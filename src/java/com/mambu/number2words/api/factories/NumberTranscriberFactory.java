@@ -1,21 +1,32 @@
 package com.mambu.number2words.api.factories;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.TreeMap;
 
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.MultiLocaleTranscriber;
+import com.mambu.number2words.api.NumberParser;
 import com.mambu.number2words.api.NumberTranscriber;
-import com.mambu.number2words.internal.english.EnglishNumberTranscriber;
-import com.mambu.number2words.internal.english.EnglishNumberTranscriptionContext;
-import com.mambu.number2words.internal.english.tokenization.EnglishNumberTokenizer;
-import com.mambu.number2words.internal.simplifiedchinese.financial.SimplifiedChineseFinancialNumberTranscriber;
-import com.mambu.number2words.internal.simplifiedchinese.financial.SimplifiedChineseFinancialNumberTranscriptionContext;
-import com.mambu.number2words.internal.simplifiedchinese.financial.tokenization.SimplifiedChineseFinancialNumberTokenizer;
-import com.mambu.number2words.internal.spanish.SpanishNumberTranscriber;
-import com.mambu.number2words.internal.spanish.SpanishNumberTranscriptionContext;
-import com.mambu.number2words.internal.spanish.tokenization.SpanishNumberTokenizer;
-import com.mambu.number2words.parsing.interfaces.NumberTokenizer;
-import com.mambu.number2words.parsing.interfaces.TranscriptionContext;
+import com.mambu.number2words.cache.AmountDictionary;
+import com.mambu.number2words.cache.TranscriptionCache;
+import com.mambu.number2words.internal.common.CachingNumberTranscriber;
+import com.mambu.number2words.internal.common.DictionaryNumberTranscriber;
+import com.mambu.number2words.internal.common.MultiLocaleNumberTranscriber;
+import com.mambu.number2words.internal.common.TranscriberWarmUp;
+import com.mambu.number2words.internal.common.mapping.MappingFingerprint;
+import com.mambu.number2words.internal.rules.LanguageRules;
+import com.mambu.number2words.internal.rules.MethodHandleNumberTranscriber;
+import com.mambu.number2words.internal.rules.RuleBasedNumberTranscriber;
 
 /**
  * Factory class used to inject {@link NumberTranscriber} instances.
@@ -25,40 +36,31 @@ import com.mambu.number2words.parsing.interfaces.TranscriptionContext;
  */
 public final class NumberTranscriberFactory {
 
-	// FUTURE: (aatasiei) look at providing a way to register transcribers and make the configuration in some other
-	// static file.
-
-	/*
-	 * The codes should be the same as result of Locale#getLangauge() call, which might not match the ISO standard.
-	 */
-	private static final String ENGLISH_CODE = "en";
-	private static final String SIMPLIFIED_CHINESE_CODE = "zh";
-	private static final String SPANISH = "es";
-
 	/**
-	 * Mapping language codes to {@link NumberTokenizer}. Implementations should be thread safe.
+	 * Mapping language codes (the same as the result of {@link Locale#getLanguage()}) to the {@link LanguageModule}s
+	 * found on the class path, in the order of the codes.
 	 */
-	private static final Map<String, NumberTokenizer> TOKENIZERS = new HashMap<>();
+	private static final Map<String, LanguageModule> MODULES;
 
 	/**
-	 * Mapping language codes to {@link TranscriptionContext}. Implementations should be thread safe.
+	 * The registry of the languages, with the modules.
 	 */
-	private static final Map<String, TranscriptionContext> CONTEXTS = new HashMap<>();
+	private static final TranscriberRegistry REGISTRY = new TranscriberRegistry();
 
 	static {
-		// these should be state-less, thread safe implementations.
+		// the modules only load their tables when the first transcriber of their language is created
+		final Map<String, LanguageModule> modules = new TreeMap<>();
 
-		// ENGLISH
-		TOKENIZERS.put(ENGLISH_CODE, new EnglishNumberTokenizer());
-		CONTEXTS.put(ENGLISH_CODE, new EnglishNumberTranscriptionContext());
+		for (final LanguageModule module : ServiceLoader.load(LanguageModule.class,
+				NumberTranscriberFactory.class.getClassLoader())) {
+			modules.put(module.getLanguage(), module);
+		}
 
-		// SIMPLIFIED CHINESE - Financial numbers
-		TOKENIZERS.put(SIMPLIFIED_CHINESE_CODE, new SimplifiedChineseFinancialNumberTokenizer());
-		CONTEXTS.put(SIMPLIFIED_CHINESE_CODE, new SimplifiedChineseFinancialNumberTranscriptionContext());
+		for (final LanguageModule module : modules.values()) {
+			REGISTRY.register(new Locale(module.getLanguage()), module);
+		}
 
-		// SPANISH
-		TOKENIZERS.put(SPANISH, new SpanishNumberTokenizer());
-		CONTEXTS.put(SPANISH, new SpanishNumberTranscriptionContext());
+		MODULES = Collections.unmodifiableMap(modules);
 	}
 
 	/**
@@ -77,44 +79,294 @@ public final class NumberTranscriberFactory {
 	 * @throws {@link IllegalArgumentException} when Locale is not supported.
 	 */
 	public static NumberTranscriber newTranscriber(Locale locale) {
+		return REGISTRY.create(locale);
+	}
 
-		final String key = locale.getLanguage();
+	/**
+	 * Factory that, given a {@link Locale}, returns the {@link NumberTranscriber} shared by all the callers of its
+	 * language. The locale is resolved through the fallback chain of the {@link #getRegistry() registry} (i.e.
+	 * <code>es-MX</code> to <code>es</code>) once and cached, and the lookup is lock-free.
+	 * 
+	 * @param locale
+	 *            Locale used to identify the language used when transcribing the numbers. Not <code>null</code>.
+	 * @return a thread safe {@link NumberTranscriber} instance.
+	 * @throws {@link IllegalArgumentException} when Locale is not supported.
+	 */
+	public static ExtendedNumberTranscriber getTranscriber(Locale locale) {
+		return REGISTRY.get(locale);
+	}
+
+	/**
+	 * Factory that, given a {@link Locale}, provides a {@link NumberTranscriber} with some of the words of its language
+	 * changed (i.e. for a tenant, see {@link TenantTranscribers}). The overlay is resolved into a flat table of words
+	 * that shares the unchanged words with the other transcribers of the language.
+	 * 
+	 * @param locale
+	 *            Locale used to identify the language used when transcribing the numbers. Not <code>null</code>.
+	 * @param overlay
+	 *            the changes to the words of the language. Not <code>null</code>.
+	 * @return a {@link NumberTranscriber} instance.
+	 * @throws {@link IllegalArgumentException} when the language of the Locale does not support overlays or the overlay
+	 *         changes values that are not mapped by the language.
+	 */
+	public static ExtendedNumberTranscriber newTranscriber(Locale locale, WordOverlay overlay) {
 
-		if (TOKENIZERS.containsKey(key)) {
+		final LanguageModule module = MODULES.get(locale.getLanguage());
 
-			return newTranscriber(key);
+		if (!(module instanceof WordOverlaySupport)) {
+			throw new IllegalArgumentException("Word overlays are not supported for locale: " + locale);
 		}
 
-		throw new IllegalArgumentException();
+		return ((WordOverlaySupport) module).newTranscriber(locale, overlay);
 	}
 
 	/**
-	 * Factory method that given a {@link String} that matches a {@link Locale#getLanguage()} previously registered,
-	 * will return a {@link NumberTranscriber} implementation.
+	 * Factory that, given a {@link Locale}, provides a {@link NumberTranscriber} that writes the words of its language
+	 * in a style (i.e. upper case, for cheques). The style is compiled into the tables of words when the transcriber is
+	 * created, so the styled transcriptions cost the same as the other ones.
 	 * 
-	 * @param key
-	 *            - the {@link String} language code key. Not <code>null</code>.
+	 * @param locale
+	 *            Locale used to identify the language used when transcribing the numbers. Not <code>null</code>.
+	 * @param style
+	 *            the style of the words. Not <code>null</code>.
+	 * @return a {@link NumberTranscriber} instance.
+	 * @throws {@link IllegalArgumentException} when the language of the Locale does not support styles.
+	 */
+	public static ExtendedNumberTranscriber newTranscriber(Locale locale, OutputStyle style) {
+		return newTranscriber(locale, WordOverlay.EMPTY, style);
+	}
+
+	/**
+	 * Factory that, given a {@link Locale}, provides a {@link NumberTranscriber} with some of the words of its language
+	 * changed (see {@link #newTranscriber(Locale, WordOverlay)}) and then styled (see
+	 * {@link #newTranscriber(Locale, OutputStyle)}).
+	 * 
+	 * @param locale
+	 *            Locale used to identify the language used when transcribing the numbers. Not <code>null</code>.
+	 * @param overlay
+	 *            the changes to the words of the language. Not <code>null</code>.
+	 * @param style
+	 *            the style of the words. Not <code>null</code>.
+	 * @return a {@link NumberTranscriber} instance.
+	 * @throws {@link IllegalArgumentException} when the language of the Locale does not support styles or the overlay
+	 *         changes values that are not mapped by the language.
+	 */
+	public static ExtendedNumberTranscriber newTranscriber(Locale locale, WordOverlay overlay, OutputStyle style) {
+
+		final LanguageModule module = MODULES.get(locale.getLanguage());
+
+		if (!(module instanceof OutputStyleSupport)) {
+			throw new IllegalArgumentException("Output styles are not supported for locale: " + locale);
+		}
+
+		return ((OutputStyleSupport) module).newTranscriber(locale, Objects.requireNonNull(overlay),
+				Objects.requireNonNull(style));
+	}
+
+	/**
+	 * Returns the registry used by this factory, to which languages can be added at runtime.
+	 * 
+	 * @return the {@link TranscriberRegistry} instance.
+	 */
+	public static TranscriberRegistry getRegistry() {
+		return REGISTRY;
+	}
+
+	/**
+	 * Factory that, given a {@link Locale}, provides a {@link NumberTranscriber} implementation that keeps the
+	 * transcriptions in a cache. The same cache can be passed for several locales.
+	 * 
+	 * @param locale
+	 *            Locale used to identify the language used when transcribing the numbers. Not <code>null</code>.
+	 * @param cache
+	 *            the cache of the transcriptions (i.e. a {@link com.mambu.number2words.cache.StripedTranscriptionCache
+	 *            StripedTranscriptionCache}). Not <code>null</code>.
 	 * @return a {@link NumberTranscriber} instance.
 	 * @throws {@link IllegalArgumentException} when Locale is not supported.
 	 */
-	protected static NumberTranscriber newTranscriber(final String key) {
+	public static ExtendedNumberTranscriber newCachingTranscriber(Locale locale, TranscriptionCache cache) {
+		return new CachingNumberTranscriber(REGISTRY.create(locale), locale, cache);
+	}
+
+	/**
+	 * Factory that provides a {@link NumberTranscriber} implementation that reads the words of the amounts in the range
+	 * of a precomputed {@link AmountDictionary}, and transcribes the other numbers in the language of the dictionary.
+	 * 
+	 * @param dictionary
+	 *            the mapped dictionary (see {@link AmountDictionary#open(java.nio.file.Path)}). Not <code>null</code>.
+	 * @return a {@link NumberTranscriber} instance.
+	 * @throws {@link IllegalArgumentException} when the Locale of the dictionary is not supported.
+	 */
+	public static ExtendedNumberTranscriber newDictionaryTranscriber(AmountDictionary dictionary) {
+		return new DictionaryNumberTranscriber(REGISTRY.create(dictionary.getLocale()), dictionary);
+	}
+
+	/**
+	 * Factory that, given a {@link Locale}, provides a {@link NumberTranscriber} that spells numbers from the bundled
+	 * declarative rules of its language (English, Spanish and Simplified Chinese). The words are the same as the ones
+	 * of {@link #newTranscriber(Locale)}.
+	 * 
+	 * @param locale
+	 *            Locale used to identify the language used when transcribing the numbers. Not <code>null</code>.
+	 * @return a {@link NumberTranscriber} instance.
+	 * @throws {@link IllegalArgumentException} when there are no rules for the language of the Locale.
+	 */
+	public static ExtendedNumberTranscriber newRuleBasedTranscriber(Locale locale) {
+		return new RuleBasedNumberTranscriber(LanguageRules.bundled(locale.getLanguage()));
+	}
 
-		switch (key) {
+	/**
+	 * Factory that provides a {@link NumberTranscriber} that spells numbers from a declarative definition of the rules
+	 * of a language (see {@link LanguageRules}). The transcriber can be added to the {@link #getRegistry() registry}.
+	 * 
+	 * @param rules
+	 *            the definition, in the properties format. Not <code>null</code>. Not closed.
+	 * @return a {@link NumberTranscriber} instance.
+	 * @throws IOException
+	 *             if the definition could not be read.
+	 * @throws {@link IllegalArgumentException} when the definition is not valid.
+	 */
+	public static ExtendedNumberTranscriber newRuleBasedTranscriber(Reader rules) throws IOException {
+		return new RuleBasedNumberTranscriber(LanguageRules.compile(rules));
+	}
+
+	/**
+	 * Factory that, given a {@link Locale}, provides a {@link NumberTranscriber} that runs a pipeline of method handles
+	 * built for the bundled rules of its language, with the words of the language bound in. Each language holds its
+	 * pipeline in a constant of its own class. The words are the same as the ones of
+	 * {@link #newRuleBasedTranscriber(Locale)}.
+	 * <p>
+	 * Meant for JVMs transcribing in several languages, where the calls shared by the languages can not be inlined.
+	 * 
+	 * @param locale
+	 *            Locale used to identify the language used when transcribing the numbers. Not <code>null</code>.
+	 * @return a {@link NumberTranscriber} instance.
+	 * @throws {@link IllegalArgumentException} when there are no rules for the language of the Locale.
+	 */
+	public static ExtendedNumberTranscriber newSpecializedTranscriber(Locale locale) {
+		return MethodHandleNumberTranscriber.forLanguage(locale.getLanguage());
+	}
+
+	/**
+	 * Factory that, given several {@link Locale}s, provides a {@link MultiLocaleTranscriber} that transcribes each number
+	 * into all of their languages, decomposing it only once.
+	 * 
+	 * @param locales
+	 *            Locales used to identify the languages used when transcribing the numbers, in the order of the
+	 *            transcriptions. Not <code>null</code>, not empty.
+	 * @return a {@link MultiLocaleTranscriber} instance.
+	 * @throws {@link IllegalArgumentException} when a Locale is not supported.
+	 */
+	public static MultiLocaleTranscriber newMultiLocaleTranscriber(Locale... locales) {
 
-		case ENGLISH_CODE:
+		final List<ExtendedNumberTranscriber> transcribers = new ArrayList<>(locales.length);
 
-			return new EnglishNumberTranscriber(TOKENIZERS.get(key), CONTEXTS.get(key));
+		for (final Locale locale : locales) {
+			transcribers.add(REGISTRY.create(locale));
+		}
 
-		case SIMPLIFIED_CHINESE_CODE:
-			// for Simplified Chinese we use the financial numerals
-			return new SimplifiedChineseFinancialNumberTranscriber(TOKENIZERS.get(key), CONTEXTS.get(key));
+		return new MultiLocaleNumberTranscriber(Arrays.asList(locales), transcribers);
+	}
 
-		case SPANISH:
+	/**
+	 * Factory that, given a {@link Locale}, provides a {@link NumberParser} that reads the words produced by the
+	 * {@link NumberTranscriber} of the same language back into numbers.
+	 * 
+	 * @param locale
+	 *            Locale used to identify the language of the words. Not <code>null</code>.
+	 * @return a {@link NumberParser} instance.
+	 * @throws {@link IllegalArgumentException} when Locale is not supported.
+	 */
+	public static NumberParser newParser(Locale locale) {
 
-			return new SpanishNumberTranscriber(TOKENIZERS.get(key), CONTEXTS.get(key));
+		final LanguageModule module = MODULES.get(locale.getLanguage());
+
+		if (module == null) {
+			throw new IllegalArgumentException("Unsupported locale: " + locale);
 		}
 
-		throw new IllegalArgumentException();
+		return module.newParser(locale);
+	}
+
+	/**
+	 * Warms up the shared transcribers (see {@link #getTranscriber(Locale)}) and the parsers of some languages, so that
+	 * the first requests after a deployment are not slowed down by class loading, table initialization and
+	 * interpreted code. The transcriptions go through all the branches of the languages (all the group sizes, values
+	 * above 10<sup>12</sup>, fractional parts, zeros, singular and plural words) and the tables of the amounts in minor
+	 * units are filled.
+	 * <p>
+	 * Blocks until done; readiness checks can wait for it and log the returned report.
+	 * 
+	 * @param locales
+	 *            Locales of the languages to warm up. Not <code>null</code>.
+	 * @param profile
+	 *            the amount of work per language (i.e. {@link WarmUpProfile#DEFAULT}). Not <code>null</code>.
+	 * @return a {@link WarmUpReport} instance with the duration of the warm-up.
+	 * @throws {@link IllegalArgumentException} when a Locale is not supported.
+	 */
+	public static WarmUpReport warmUp(Set<Locale> locales, WarmUpProfile profile) {
+
+		final long start = System.nanoTime();
+
+		long count = 0L;
+
+		for (final Locale locale : locales) {
+			count += TranscriberWarmUp.run(getTranscriber(locale), profile.isParsers() ? newParser(locale) : null,
+					profile.getIterations(), profile.getAmountScale());
+		}
+
+		return new WarmUpReport(locales, count, System.nanoTime() - start);
+	}
+
+	/**
+	 * Returns a fingerprint of the words of all the language modules. Data derived from the transcriptions (i.e.
+	 * cache snapshots) can store it to detect that the words have changed since.
+	 * 
+	 * @return the fingerprint.
+	 */
+	public static long getMappingsFingerprint() {
+
+		long fingerprint = MappingFingerprint.INITIAL;
+
+		for (final LanguageModule module : MODULES.values()) {
+			fingerprint = MappingFingerprint.update(fingerprint, module.getLanguage());
+			fingerprint = module.updateFingerprint(fingerprint);
+		}
+
+		return fingerprint;
+	}
+
+	/**
+	 * Returns a fingerprint of the words of the language of a locale. Unlike {@link #getMappingsFingerprint()}, only
+	 * the module of that language loads its words.
+	 * 
+	 * @param locale
+	 *            - the {@link Locale}. Not <code>null</code>.
+	 * @return the fingerprint.
+	 * @throws {@link IllegalArgumentException} when Locale is not supported.
+	 */
+	public static long getMappingsFingerprint(final Locale locale) {
+
+		final LanguageModule module = MODULES.get(locale.getLanguage());
+
+		if (module == null) {
+			throw new IllegalArgumentException("Unsupported locale: " + locale);
+		}
+
+		return module.updateFingerprint(MappingFingerprint.update(MappingFingerprint.INITIAL, module.getLanguage()));
+	}
+
+	/**
+	 * Factory method that given a {@link String} that matches a {@link Locale#getLanguage()} previously registered,
+	 * will return a {@link NumberTranscriber} implementation.
+	 * 
+	 * @param key
+	 *            - the {@link String} language code key. Not <code>null</code>.
+	 * @return a {@link NumberTranscriber} instance.
+	 * @throws {@link IllegalArgumentException} when Locale is not supported.
+	 */
+	protected static NumberTranscriber newTranscriber(final String key) {
+		return REGISTRY.create(new Locale(key));
 	}
 
 }
@@ -0,0 +1,210 @@
+package com.mambu.number2words.api.factories;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * The style of the words of a transcriber: the letter case, hyphenated tens (i.e. "twenty-two" in English) and the
+ * separator between the words.
+ * <p>
+ * The style is compiled into the tables of words and the separators of a transcriber when it is created (see
+ * {@link NumberTranscriberFactory#newTranscriber(Locale, OutputStyle)}), so the styled words are not converted during
+ * the transcriptions.
+ * <p>
+ * This class is immutable: the <code>with</code> methods return modified copies.
+ */
+public final class OutputStyle {
+
+	/**
+	 * The letter case of the words.
+	 */
+	public enum LetterCase {
+
+		/**
+		 * The words of the language, unchanged.
+		 */
+		DEFAULT {
+			@Override
+			public String apply(final String text, final Locale locale) {
+				return text;
+			}
+		},
+
+		/**
+		 * All the letters in upper case (i.e. "ONE HUNDRED").
+		 */
+		UPPER {
+			@Override
+			public String apply(final String text, final Locale locale) {
+				return text.toUpperCase(locale);
+			}
+		},
+
+		/**
+		 * The first letter of each word in upper case (i.e. "One Hundred").
+		 */
+		TITLE {
+			@Override
+			public String apply(final String text, final Locale locale) {
+
+				final StringBuilder builder = new StringBuilder(text.length());
+
+				int start = 0;
+
+				for (int end = text.indexOf(' '); end >= 0; end = text.indexOf(' ', start)) {
+					builder.append(capitalize(text.substring(start, end), locale)).append(' ');
+					start = end + 1;
+				}
+
+				return builder.append(capitalize(text.substring(start), locale)).toString();
+			}
+		},
+
+		/**
+		 * The first letter of the first word in upper case (i.e. "One hundred").
+		 */
+		SENTENCE {
+			@Override
+			public String apply(final String text, final Locale locale) {
+				return capitalize(text, locale);
+			}
+		};
+
+		/**
+		 * Changes the case of a text.
+		 *
+		 * @param text
+		 *            - the text. Not <code>null</code>.
+		 * @param locale
+		 *            - the locale of the case rules. Not <code>null</code>.
+		 * @return the text in this case. Never <code>null</code>.
+		 */
+		public abstract String apply(final String text, final Locale locale);
+
+		/**
+		 * Changes the first letter of a text to upper case.
+		 */
+		private static String capitalize(final String text, final Locale locale) {
+
+			if (text.isEmpty()) {
+				return text;
+			}
+
+			final int first = Character.charCount(text.codePointAt(0));
+
+			return text.substring(0, first).toUpperCase(locale) + text.substring(first);
+		}
+	}
+
+	/**
+	 * The words of the language, with their separators.
+	 */
+	public static final OutputStyle DEFAULT = new OutputStyle(LetterCase.DEFAULT, false, null);
+
+	/**
+	 * The letter case.
+	 */
+	private final LetterCase letterCase;
+
+	/**
+	 * Whether the tens and the units are joined by a hyphen.
+	 */
+	private final boolean hyphenatedTens;
+
+	/**
+	 * The separator between the words, <code>null</code> for the one of the language.
+	 */
+	private final String wordSeparator;
+
+	/**
+	 * Private constructor.
+	 *
+	 * @param letterCase
+	 *            - the letter case.
+	 * @param hyphenatedTens
+	 *            - whether the tens and the units are joined by a hyphen.
+	 * @param wordSeparator
+	 *            - the separator between the words, <code>null</code> for the one of the language.
+	 */
+	private OutputStyle(final LetterCase letterCase, final boolean hyphenatedTens, final String wordSeparator) {
+		this.letterCase = letterCase;
+		this.hyphenatedTens = hyphenatedTens;
+		this.wordSeparator = wordSeparator;
+	}
+
+	/**
+	 * Returns a copy of this style with a different letter case.
+	 *
+	 * @param letterCase
+	 *            - the letter case. Not <code>null</code>.
+	 * @return an {@link OutputStyle} instance. Never <code>null</code>.
+	 */
+	public OutputStyle withLetterCase(final LetterCase letterCase) {
+		return new OutputStyle(Objects.requireNonNull(letterCase), hyphenatedTens, wordSeparator);
+	}
+
+	/**
+	 * Returns a copy of this style with or without hyphenated tens. Only the languages that write the tens and the
+	 * units as separate words use it (i.e. English).
+	 *
+	 * @param hyphenated
+	 *            - <code>true</code> to join the tens and the units by a hyphen (i.e. "twenty-two").
+	 * @return an {@link OutputStyle} instance. Never <code>null</code>.
+	 */
+	public OutputStyle withHyphenatedTens(final boolean hyphenated) {
+		return new OutputStyle(letterCase, hyphenated, wordSeparator);
+	}
+
+	/**
+	 * Returns a copy of this style with a different separator between the words.
+	 *
+	 * @param separator
+	 *            - the separator (i.e. a non-breaking space). Not <code>null</code>, can be empty.
+	 * @return an {@link OutputStyle} instance. Never <code>null</code>.
+	 */
+	public OutputStyle withWordSeparator(final String separator) {
+		return new OutputStyle(letterCase, hyphenatedTens, Objects.requireNonNull(separator));
+	}
+
+	/**
+	 * @return the letter case. Never <code>null</code>.
+	 */
+	public LetterCase getLetterCase() {
+		return letterCase;
+	}
+
+	/**
+	 * @return the case of every word, without the case of the first one: {@link LetterCase#DEFAULT} for
+	 *         {@link LetterCase#SENTENCE}. Never <code>null</code>.
+	 */
+	public LetterCase getWordCase() {
+		return letterCase == LetterCase.SENTENCE ? LetterCase.DEFAULT : letterCase;
+	}
+
+	/**
+	 * @return <code>true</code> if the tens and the units are joined by a hyphen.
+	 */
+	public boolean isHyphenatedTens() {
+		return hyphenatedTens;
+	}
+
+	/**
+	 * Gets the separator between the words.
+	 *
+	 * @param languageSeparator
+	 *            - the separator of the language. Not <code>null</code>.
+	 * @return the separator of this style, or the one of the language if not changed. Never <code>null</code>.
+	 */
+	public String getWordSeparator(final String languageSeparator) {
+		return wordSeparator == null ? languageSeparator : wordSeparator;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "OutputStyle [letterCase=" + letterCase + ", hyphenatedTens=" + hyphenatedTens + ", wordSeparator="
+				+ (wordSeparator == null ? null : "'" + wordSeparator + "'") + "]";
+	}
+}
@@ -0,0 +1,30 @@
+package com.mambu.number2words.api.factories;
+
+import java.util.Locale;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberTranscriber;
+
+/**
+ * Implemented by the {@link LanguageModule}s whose words can be styled by an {@link OutputStyle} (see
+ * {@link NumberTranscriberFactory#newTranscriber(Locale, WordOverlay, OutputStyle)}).
+ */
+public interface OutputStyleSupport {
+
+	/**
+	 * Creates a transcriber with the words of the language changed by an overlay and then styled. The styled words
+	 * must be computed once, when the transcriber is created.
+	 *
+	 * @param locale
+	 *            - the locale the module was registered for. Not <code>null</code>.
+	 * @param overlay
+	 *            - the changes, {@link WordOverlay#EMPTY} for none. Not <code>null</code>.
+	 * @param style
+	 *            - the style of the words. Not <code>null</code>.
+	 * @return a thread safe {@link NumberTranscriber} instance. Not <code>null</code>.
+	 * @throws IllegalArgumentException
+	 *             if the overlay changes values that are not mapped by the language.
+	 */
+	ExtendedNumberTranscriber newTranscriber(final Locale locale, final WordOverlay overlay, final OutputStyle style);
+
+}
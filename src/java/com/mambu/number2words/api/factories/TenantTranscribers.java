@@ -0,0 +1,166 @@
+package com.mambu.number2words.api.factories;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberTranscriber;
+
+/**
+ * The transcribers of the tenants of a multi-tenant service, each with its own {@link WordOverlay} on top of the words
+ * of the languages.
+ * <p>
+ * The overlays are read from an {@link OverlaySource} when a tenant first uses a language, and resolved into a
+ * transcriber with a flat table of words (see {@link NumberTranscriberFactory#newTranscriber(Locale, WordOverlay)}),
+ * so the words cost the same to look up as the ones of the shared transcribers. Tenants without changes get the shared
+ * transcribers (see {@link NumberTranscriberFactory#getTranscriber(Locale)}).
+ * <p>
+ * At most a maximum number of tenants are kept, in access order; the least recently used one is evicted when a new
+ * tenant is added. The tenants are looked up under a short lock, the overlays are resolved outside of it.
+ * <p>
+ * This class is thread safe.
+ */
+public final class TenantTranscribers {
+
+	/**
+	 * Provides the changes to the words of the tenants (i.e. from their configuration).
+	 */
+	public interface OverlaySource {
+
+		/**
+		 * Gets the changes to the words of a language for a tenant.
+		 *
+		 * @param tenant
+		 *            - the tenant. Not <code>null</code>.
+		 * @param locale
+		 *            - the locale of the language. Not <code>null</code>.
+		 * @return the changes, <code>null</code> or {@link WordOverlay#EMPTY} if there are none.
+		 */
+		WordOverlay getOverlay(final String tenant, final Locale locale);
+	}
+
+	/**
+	 * The source of the overlays.
+	 */
+	private final OverlaySource source;
+
+	/**
+	 * The kept tenants, in access order. Guarded by itself.
+	 */
+	private final Map<String, Tenant> tenants;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param source
+	 *            - the source of the overlays. Not <code>null</code>.
+	 * @param maximumTenants
+	 *            - the largest number of kept tenants. Greater than 0.
+	 */
+	public TenantTranscribers(final OverlaySource source, final int maximumTenants) {
+
+		if (maximumTenants < 1) {
+			throw new IllegalArgumentException("Invalid maximum tenants: " + maximumTenants);
+		}
+
+		this.source = Objects.requireNonNull(source);
+		this.tenants = new LinkedHashMap<String, Tenant>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<String, Tenant> eldest) {
+				return size() > maximumTenants;
+			}
+		};
+	}
+
+	/**
+	 * Gets the transcriber of a tenant for a language, resolving the overlay of the tenant on first use.
+	 *
+	 * @param tenant
+	 *            - the tenant. Not <code>null</code>.
+	 * @param locale
+	 *            - the locale of the language. Not <code>null</code>.
+	 * @return a thread safe {@link NumberTranscriber} instance. Never <code>null</code>.
+	 * @throws IllegalArgumentException
+	 *             if the language is not supported or the overlay is not valid for it.
+	 */
+	public ExtendedNumberTranscriber get(final String tenant, final Locale locale) {
+
+		Tenant entry;
+
+		synchronized (tenants) {
+
+			entry = tenants.get(tenant);
+
+			if (entry == null) {
+				entry = new Tenant();
+				tenants.put(tenant, entry);
+			}
+		}
+
+		ExtendedNumberTranscriber transcriber = entry.transcribers.get(locale);
+
+		if (transcriber == null) {
+
+			final WordOverlay overlay = source.getOverlay(tenant, locale);
+
+			transcriber = overlay == null || overlay.isEmpty() ? NumberTranscriberFactory.getTranscriber(locale)
+					: NumberTranscriberFactory.newTranscriber(locale, overlay);
+
+			final ExtendedNumberTranscriber previous = entry.transcribers.putIfAbsent(locale, transcriber);
+
+			if (previous != null) {
+				transcriber = previous;
+			}
+		}
+
+		return transcriber;
+	}
+
+	/**
+	 * Removes the transcribers of a tenant (i.e. after its overlay changed). They are resolved again on next use.
+	 *
+	 * @param tenant
+	 *            - the tenant. Not <code>null</code>.
+	 */
+	public void invalidate(final String tenant) {
+		synchronized (tenants) {
+			tenants.remove(tenant);
+		}
+	}
+
+	/**
+	 * Removes the transcribers of all the tenants.
+	 */
+	public void invalidateAll() {
+		synchronized (tenants) {
+			tenants.clear();
+		}
+	}
+
+	/**
+	 * @return the number of kept tenants.
+	 */
+	public int size() {
+		synchronized (tenants) {
+			return tenants.size();
+		}
+	}
+
+	/**
+	 * The transcribers of a tenant.
+	 */
+	private static final class Tenant {
+
+		/**
+		 * The transcribers, by locale.
+		 */
+		private final ConcurrentMap<Locale, ExtendedNumberTranscriber> transcribers = new ConcurrentHashMap<>(4);
+	}
+}
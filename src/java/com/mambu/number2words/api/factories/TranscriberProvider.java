@@ -0,0 +1,24 @@
+package com.mambu.number2words.api.factories;
+
+import java.util.Locale;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberTranscriber;
+
+/**
+ * Creates the {@link NumberTranscriber} of a language. Registered in a {@link TranscriberRegistry} to add languages at
+ * runtime.
+ */
+public interface TranscriberProvider {
+
+	/**
+	 * Creates a transcriber. The registry calls it once and shares the transcriber between threads, so the
+	 * implementation must be thread safe.
+	 *
+	 * @param locale
+	 *            - the locale the provider was registered for. Not <code>null</code>.
+	 * @return a {@link NumberTranscriber} instance. Not <code>null</code>.
+	 */
+	ExtendedNumberTranscriber newTranscriber(final Locale locale);
+
+}
@@ -0,0 +1,287 @@
+package com.mambu.number2words.api.factories;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberTranscriber;
+
+/**
+ * Registry of the languages that can be transcribed, returning one shared transcriber per language.
+ * <p>
+ * A locale is resolved to the first registered locale of its fallback chain: the locale itself, the locale without its
+ * script and extensions, without its variant, the language alone and finally the chain of the fallback locale (if set).
+ * For example, <code>es-MX</code> is resolved to <code>es</code> if only the latter is registered. The resolution is
+ * done once per locale and cached.
+ * <p>
+ * Lookups are lock-free: the registrations are kept in an immutable snapshot that is replaced (copy-on-write) when a
+ * language is registered, together with its cache of resolved locales. Registrations are expected to be rare.
+ * <p>
+ * This class is thread safe.
+ */
+public final class TranscriberRegistry {
+
+	/**
+	 * The current registrations. Replaced on every change.
+	 */
+	private volatile Snapshot snapshot = new Snapshot(Collections.<Locale, Registration> emptyMap(), null);
+
+	/**
+	 * Registers the provider of the transcribers of a locale, replacing the previous one. The transcriber is created
+	 * when first used.
+	 *
+	 * @param locale
+	 *            - the locale. Not <code>null</code>.
+	 * @param provider
+	 *            - the provider of the transcriber. Not <code>null</code>.
+	 * @return this registry.
+	 */
+	public TranscriberRegistry register(final Locale locale, final TranscriberProvider provider) {
+
+		final Registration registration = new Registration(Objects.requireNonNull(locale),
+				Objects.requireNonNull(provider));
+
+		synchronized (this) {
+
+			final Map<Locale, Registration> registrations = new HashMap<>(snapshot.registrations);
+			registrations.put(locale, registration);
+
+			snapshot = new Snapshot(registrations, snapshot.fallback);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Registers an existing transcriber for a locale, replacing the previous one.
+	 *
+	 * @param locale
+	 *            - the locale. Not <code>null</code>.
+	 * @param transcriber
+	 *            - the thread safe transcriber. Not <code>null</code>.
+	 * @return this registry.
+	 */
+	public TranscriberRegistry register(final Locale locale, final ExtendedNumberTranscriber transcriber) {
+
+		Objects.requireNonNull(transcriber);
+
+		return register(locale, new TranscriberProvider() {
+
+			@Override
+			public ExtendedNumberTranscriber newTranscriber(final Locale registered) {
+				return transcriber;
+			}
+		});
+	}
+
+	/**
+	 * Sets the locale used for the locales that are not registered, at the end of all the fallback chains.
+	 *
+	 * @param fallback
+	 *            - the fallback locale, <code>null</code> to fail for the locales that are not registered.
+	 * @return this registry.
+	 */
+	public TranscriberRegistry setFallback(final Locale fallback) {
+
+		synchronized (this) {
+			snapshot = new Snapshot(snapshot.registrations, fallback);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Checks if a locale can be resolved.
+	 *
+	 * @param locale
+	 *            - the locale. Not <code>null</code>.
+	 * @return <code>true</code> if a registered locale is in the fallback chain of the locale.
+	 */
+	public boolean isSupported(final Locale locale) {
+		return snapshot.resolve(locale) != null;
+	}
+
+	/**
+	 * Returns the shared transcriber of a locale.
+	 *
+	 * @param locale
+	 *            - the locale. Not <code>null</code>.
+	 * @return a {@link NumberTranscriber} instance, shared with all the locales resolved to the same registration.
+	 * @throws IllegalArgumentException
+	 *             if the locale can not be resolved.
+	 */
+	public ExtendedNumberTranscriber get(final Locale locale) {
+		return resolve(locale).getTranscriber();
+	}
+
+	/**
+	 * Creates a new transcriber of a locale, not shared.
+	 *
+	 * @param locale
+	 *            - the locale. Not <code>null</code>.
+	 * @return a {@link NumberTranscriber} instance.
+	 * @throws IllegalArgumentException
+	 *             if the locale can not be resolved.
+	 */
+	public ExtendedNumberTranscriber create(final Locale locale) {
+
+		final Registration registration = resolve(locale);
+
+		return registration.provider.newTranscriber(registration.locale);
+	}
+
+	/**
+	 * Returns the registered locale to which a locale is resolved.
+	 *
+	 * @param locale
+	 *            - the locale. Not <code>null</code>.
+	 * @return the registered locale.
+	 * @throws IllegalArgumentException
+	 *             if the locale can not be resolved.
+	 */
+	public Locale getResolvedLocale(final Locale locale) {
+		return resolve(locale).locale;
+	}
+
+	private Registration resolve(final Locale locale) {
+
+		final Registration registration = snapshot.resolve(Objects.requireNonNull(locale));
+
+		if (registration == null) {
+			throw new IllegalArgumentException("Unsupported locale: " + locale);
+		}
+
+		return registration;
+	}
+
+	/**
+	 * Returns the fallback chain of a locale, without the fallback locale of the registry.
+	 *
+	 * @param locale
+	 *            - the locale. Not <code>null</code>.
+	 * @return the locales, from the most to the least specific.
+	 */
+	static List<Locale> getFallbackChain(final Locale locale) {
+
+		final List<Locale> chain = new ArrayList<>(4);
+
+		chain.add(locale);
+
+		addCandidate(chain, new Locale(locale.getLanguage(), locale.getCountry(), locale.getVariant()));
+		addCandidate(chain, new Locale(locale.getLanguage(), locale.getCountry()));
+		addCandidate(chain, new Locale(locale.getLanguage()));
+
+		return chain;
+	}
+
+	private static void addCandidate(final List<Locale> chain, final Locale candidate) {
+		if (!chain.contains(candidate)) {
+			chain.add(candidate);
+		}
+	}
+
+	/**
+	 * A registered locale and its provider. The transcriber is created once, when first needed.
+	 */
+	private static final class Registration {
+
+		private final Locale locale;
+
+		private final TranscriberProvider provider;
+
+		private volatile ExtendedNumberTranscriber transcriber;
+
+		Registration(final Locale locale, final TranscriberProvider provider) {
+			this.locale = locale;
+			this.provider = provider;
+		}
+
+		ExtendedNumberTranscriber getTranscriber() {
+
+			ExtendedNumberTranscriber result = transcriber;
+
+			if (result == null) {
+				synchronized (this) {
+
+					result = transcriber;
+
+					if (result == null) {
+						result = Objects.requireNonNull(provider.newTranscriber(locale), "Provider returned null");
+						transcriber = result;
+					}
+				}
+			}
+
+			return result;
+		}
+	}
+
+	/**
+	 * The registrations at a point in time, with the locales already resolved against them.
+	 */
+	private static final class Snapshot {
+
+		/**
+		 * Marks the locales that can not be resolved.
+		 */
+		private static final Registration UNSUPPORTED = new Registration(Locale.ROOT, null);
+
+		/**
+		 * Locales requested beyond this are resolved but not cached, so arbitrary client input can not grow the cache
+		 * without bound.
+		 */
+		private static final int MAX_RESOLVED = 1024;
+
+		private final Map<Locale, Registration> registrations;
+
+		private final Locale fallback;
+
+		private final ConcurrentHashMap<Locale, Registration> resolved = new ConcurrentHashMap<>();
+
+		Snapshot(final Map<Locale, Registration> registrations, final Locale fallback) {
+			this.registrations = registrations;
+			this.fallback = fallback;
+		}
+
+		/**
+		 * @return the registration of the locale, <code>null</code> if there is none.
+		 */
+		Registration resolve(final Locale locale) {
+
+			Registration registration = resolved.get(locale);
+
+			if (registration == null) {
+
+				registration = UNSUPPORTED;
+
+				final List<Locale> chain = getFallbackChain(locale);
+
+				if (fallback != null) {
+					chain.addAll(getFallbackChain(fallback));
+				}
+
+				for (final Locale candidate : chain) {
+
+					final Registration found = registrations.get(candidate);
+
+					if (found != null) {
+						registration = found;
+						break;
+					}
+				}
+
+				if (resolved.size() < MAX_RESOLVED) {
+					resolved.putIfAbsent(locale, registration);
+				}
+			}
+
+			return registration == UNSUPPORTED ? null : registration;
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package com.mambu.number2words.api.factories;
+
+/**
+ * How much work {@link NumberTranscriberFactory#warmUp(java.util.Set, WarmUpProfile)} does for each language.
+ * <p>
+ * This class is immutable.
+ */
+public final class WarmUpProfile {
+
+	/**
+	 * Enough transcriptions per language for the transcription code to be compiled by the optimizing compiler (C2) of
+	 * the default tiered compilation, with the fraction tables of the amounts of up to 2 decimals and the parsers.
+	 */
+	public static final WarmUpProfile DEFAULT = new WarmUpProfile(20000, 2, true);
+
+	/**
+	 * A short run that loads and initializes the classes and tables, but mostly leaves the code interpreted or compiled
+	 * by C1. For tests and tools.
+	 */
+	public static final WarmUpProfile QUICK = new WarmUpProfile(500, 2, false);
+
+	/**
+	 * The largest number of numbers transcribed per language (about a minute of warm-up per language).
+	 */
+	public static final int MAX_ITERATIONS = 10000000;
+
+	/**
+	 * The number of numbers transcribed per language.
+	 */
+	private final int iterations;
+
+	/**
+	 * The largest scale of the amounts whose fraction tables are filled.
+	 */
+	private final int amountScale;
+
+	/**
+	 * Whether the parsers are warmed up too.
+	 */
+	private final boolean parsers;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param iterations
+	 *            - the number of numbers transcribed per language. Between 1 and {@link #MAX_ITERATIONS}.
+	 * @param amountScale
+	 *            - the largest scale of the amounts in minor units whose fraction tables are filled (see
+	 *            {@link com.mambu.number2words.api.ExtendedNumberTranscriber#appendAmount(StringBuilder, long, int)
+	 *            appendAmount}). Between 0 and 4.
+	 * @param parsers
+	 *            - <code>true</code> to also parse the transcribed words.
+	 * @throws IllegalArgumentException
+	 *             if a value is out of range.
+	 */
+	public WarmUpProfile(final int iterations, final int amountScale, final boolean parsers) {
+
+		if (iterations < 1 || iterations > MAX_ITERATIONS) {
+			throw new IllegalArgumentException("Invalid iterations: " + iterations);
+		}
+
+		if (amountScale < 0 || amountScale > 4) {
+			throw new IllegalArgumentException("Invalid amount scale: " + amountScale);
+		}
+
+		this.iterations = iterations;
+		this.amountScale = amountScale;
+		this.parsers = parsers;
+	}
+
+	/**
+	 * @return the number of numbers transcribed per language.
+	 */
+	public int getIterations() {
+		return iterations;
+	}
+
+	/**
+	 * @return the largest scale of the amounts whose fraction tables are filled.
+	 */
+	public int getAmountScale() {
+		return amountScale;
+	}
+
+	/**
+	 * @return <code>true</code> if the parsers are warmed up too.
+	 */
+	public boolean isParsers() {
+		return parsers;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "WarmUpProfile [iterations=" + iterations + ", amountScale=" + amountScale + ", parsers=" + parsers
+				+ "]";
+	}
+}
@@ -0,0 +1,83 @@
+package com.mambu.number2words.api.factories;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The result of {@link NumberTranscriberFactory#warmUp(Set, WarmUpProfile)}.
+ * <p>
+ * This class is immutable.
+ */
+public final class WarmUpReport {
+
+	/**
+	 * The warmed up languages.
+	 */
+	private final Set<Locale> locales;
+
+	/**
+	 * The number of transcriptions done.
+	 */
+	private final long transcriptionCount;
+
+	/**
+	 * The duration of the warm-up, in nanoseconds.
+	 */
+	private final long elapsedNanos;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param locales
+	 *            - the warmed up languages. Not <code>null</code>.
+	 * @param transcriptionCount
+	 *            - the number of transcriptions done.
+	 * @param elapsedNanos
+	 *            - the duration of the warm-up, in nanoseconds.
+	 */
+	public WarmUpReport(final Set<Locale> locales, final long transcriptionCount, final long elapsedNanos) {
+		this.locales = Collections.unmodifiableSet(new LinkedHashSet<>(locales));
+		this.transcriptionCount = transcriptionCount;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * @return the warmed up languages. Never <code>null</code>.
+	 */
+	public Set<Locale> getLocales() {
+		return locales;
+	}
+
+	/**
+	 * @return the number of transcriptions done.
+	 */
+	public long getTranscriptionCount() {
+		return transcriptionCount;
+	}
+
+	/**
+	 * @return the duration of the warm-up, in nanoseconds.
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * @return the duration of the warm-up, in milliseconds.
+	 */
+	public long getElapsedMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "WarmUpReport [locales=" + locales + ", transcriptions=" + transcriptionCount + ", elapsed="
+				+ getElapsedMillis() + " ms]";
+	}
+}
@@ -0,0 +1,172 @@
+package com.mambu.number2words.api.factories;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.mambu.number2words.parsing.interfaces.WordValue.GrammaticalNumber;
+import com.mambu.number2words.parsing.interfaces.WordValue.WordForm;
+
+/**
+ * Changes to the words of a language (i.e. the vocabulary of a tenant): a different decimal separator and different
+ * words for some of the mapped values. Only the changes are kept; the other words are the ones of the language.
+ * <p>
+ * This class is immutable: the <code>with</code> methods return modified copies.
+ */
+public final class WordOverlay {
+
+	/**
+	 * The overlay without changes.
+	 */
+	public static final WordOverlay EMPTY = new WordOverlay(null, new TreeMap<Long, String[]>());
+
+	/**
+	 * The number of word forms.
+	 */
+	private static final int FORMS = WordForm.values().length;
+
+	/**
+	 * The number of words of each value: one per grammatical number and word form.
+	 */
+	private static final int WORDS_PER_VALUE = GrammaticalNumber.values().length * FORMS;
+
+	/**
+	 * The decimal separator, <code>null</code> if not changed.
+	 */
+	private final String decimalSeparator;
+
+	/**
+	 * The changed words, by value, grammatical number and word form (<code>null</code> for the unchanged ones).
+	 */
+	private final TreeMap<Long, String[]> words;
+
+	/**
+	 * Private constructor.
+	 *
+	 * @param decimalSeparator
+	 *            - the decimal separator, <code>null</code> if not changed.
+	 * @param words
+	 *            - the changed words. Not shared.
+	 */
+	private WordOverlay(final String decimalSeparator, final TreeMap<Long, String[]> words) {
+		this.decimalSeparator = decimalSeparator;
+		this.words = words;
+	}
+
+	/**
+	 * Returns a copy of this overlay with a different decimal separator.
+	 *
+	 * @param separator
+	 *            - the word between the integer and the fractional part. Not <code>null</code>.
+	 * @return a {@link WordOverlay} instance. Never <code>null</code>.
+	 */
+	public WordOverlay withDecimalSeparator(final String separator) {
+		return new WordOverlay(Objects.requireNonNull(separator), words);
+	}
+
+	/**
+	 * Returns a copy of this overlay with a different word for a value, in all the grammatical numbers and forms.
+	 *
+	 * @param value
+	 *            - the mapped value (i.e. 1000 for "thousand").
+	 * @param word
+	 *            - the word. Not <code>null</code>.
+	 * @return a {@link WordOverlay} instance. Never <code>null</code>.
+	 */
+	public WordOverlay withWord(final long value, final String word) {
+
+		Objects.requireNonNull(word);
+
+		final String[] changes = new String[WORDS_PER_VALUE];
+
+		for (int i = 0; i < changes.length; ++i) {
+			changes[i] = word;
+		}
+
+		final TreeMap<Long, String[]> copy = new TreeMap<>(words);
+		copy.put(value, changes);
+
+		return new WordOverlay(decimalSeparator, copy);
+	}
+
+	/**
+	 * Returns a copy of this overlay with a different word for a value, in one grammatical number and form.
+	 *
+	 * @param value
+	 *            - the mapped value (i.e. 1000000 for "millones").
+	 * @param number
+	 *            - the <i>grammatical</i> number. Not <code>null</code>.
+	 * @param form
+	 *            - the <i>word form</i>. Not <code>null</code>.
+	 * @param word
+	 *            - the word. Not <code>null</code>.
+	 * @return a {@link WordOverlay} instance. Never <code>null</code>.
+	 */
+	public WordOverlay withWord(final long value, final GrammaticalNumber number, final WordForm form,
+			final String word) {
+
+		Objects.requireNonNull(word);
+
+		final String[] previous = words.get(value);
+		final String[] changes = previous == null ? new String[WORDS_PER_VALUE] : previous.clone();
+
+		changes[index(number, form)] = word;
+
+		final TreeMap<Long, String[]> copy = new TreeMap<>(words);
+		copy.put(value, changes);
+
+		return new WordOverlay(decimalSeparator, copy);
+	}
+
+	/**
+	 * @return <code>true</code> if nothing is changed.
+	 */
+	public boolean isEmpty() {
+		return decimalSeparator == null && words.isEmpty();
+	}
+
+	/**
+	 * @return the decimal separator, <code>null</code> if not changed.
+	 */
+	public String getDecimalSeparator() {
+		return decimalSeparator;
+	}
+
+	/**
+	 * @return the values with changed words, in ascending order. Never <code>null</code>.
+	 */
+	public Set<Long> getValues() {
+		return Collections.unmodifiableSet(words.keySet());
+	}
+
+	/**
+	 * Gets a changed word.
+	 *
+	 * @param value
+	 *            - the mapped value.
+	 * @param number
+	 *            - the <i>grammatical</i> number. Not <code>null</code>.
+	 * @param form
+	 *            - the <i>word form</i>. Not <code>null</code>.
+	 * @return the word, <code>null</code> if not changed.
+	 */
+	public String getWord(final long value, final GrammaticalNumber number, final WordForm form) {
+
+		final String[] changes = words.get(value);
+
+		return changes == null ? null : changes[index(number, form)];
+	}
+
+	private static int index(final GrammaticalNumber number, final WordForm form) {
+		return number.ordinal() * FORMS + form.ordinal();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "WordOverlay [decimalSeparator=" + decimalSeparator + ", values=" + words.keySet() + "]";
+	}
+}
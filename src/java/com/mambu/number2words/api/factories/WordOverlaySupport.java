@@ -0,0 +1,28 @@
+package com.mambu.number2words.api.factories;
+
+import java.util.Locale;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberTranscriber;
+
+/**
+ * Implemented by the {@link LanguageModule}s whose words can be changed by a {@link WordOverlay} (see
+ * {@link NumberTranscriberFactory#newTranscriber(Locale, WordOverlay)}).
+ */
+public interface WordOverlaySupport {
+
+	/**
+	 * Creates a transcriber with the words of the language changed by an overlay. The transcriber must share the
+	 * unchanged words with the other transcribers of the language.
+	 *
+	 * @param locale
+	 *            - the locale the module was registered for. Not <code>null</code>.
+	 * @param overlay
+	 *            - the changes. Not <code>null</code>.
+	 * @return a thread safe {@link NumberTranscriber} instance. Not <code>null</code>.
+	 * @throws IllegalArgumentException
+	 *             if the overlay changes values that are not mapped by the language.
+	 */
+	ExtendedNumberTranscriber newTranscriber(final Locale locale, final WordOverlay overlay);
+
+}
@@ -0,0 +1,432 @@
+package com.mambu.number2words.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Objects;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+import com.mambu.number2words.internal.common.DecimalDivision;
+
+/**
+ * Read-only dictionary of the words of every amount with a fixed scale up to a maximum (i.e. every amount with two
+ * decimals up to 99,999.99), precomputed into a file that is memory-mapped when opened.
+ * <p>
+ * The processes of a host that open the same file share its pages in the page cache, instead of each one building and
+ * caching the same words. The words are read directly from the mapped file: they are decoded into the caller's
+ * {@link StringBuilder} or copied as UTF-8 bytes into a {@link ByteBuffer}.
+ * <p>
+ * File layout (big-endian):
+ *
+ * <pre>
+ * 0   magic ("N2WD"), int
+ * 4   version, int
+ * 8   fingerprint of the words ({@link NumberTranscriberFactory#getMappingsFingerprint()}), long
+ * 16  scale, int
+ * 20  number of amounts, int
+ * 24  length of the locale language tag, byte, followed by the tag (ASCII)
+ * 64  offsets of the words of each amount (and of their end), relative to the words, int[count + 1]
+ * ... the UTF-8 words of all the amounts, in ascending order
+ * </pre>
+ *
+ * The whole file is limited to 2 GB. The mapping is released when the instance is garbage collected.
+ * <p>
+ * This class is thread safe.
+ */
+public final class AmountDictionary {
+
+	private static final int MAGIC = 0x4e325744;
+
+	private static final int VERSION = 1;
+
+	/*
+	 * Header layout.
+	 */
+	private static final int FINGERPRINT_OFFSET = 8;
+	private static final int SCALE_OFFSET = 16;
+	private static final int COUNT_OFFSET = 20;
+	private static final int LOCALE_OFFSET = 24;
+	private static final int MAX_LOCALE_LENGTH = 39;
+	private static final int HEADER_SIZE = 64;
+
+	/**
+	 * The size of the buffer used to write the words.
+	 */
+	private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+	/**
+	 * The mapped file.
+	 */
+	private final ByteBuffer buffer;
+
+	/**
+	 * The language of the words.
+	 */
+	private final Locale locale;
+
+	/**
+	 * The number of digits after the decimal point of the amounts.
+	 */
+	private final int scale;
+
+	/**
+	 * 10<sup>scale</sup>.
+	 */
+	private final long divisor;
+
+	/**
+	 * The largest amount, in minor units.
+	 */
+	private final long maxMinorUnits;
+
+	/**
+	 * The position of the words in the file.
+	 */
+	private final int wordsOffset;
+
+	private AmountDictionary(final ByteBuffer buffer, final Locale locale, final int scale, final int count) {
+		this.buffer = buffer;
+		this.locale = locale;
+		this.scale = scale;
+		this.divisor = NumberDecomposition.powerOfTen(scale);
+		this.maxMinorUnits = count - 1L;
+		this.wordsOffset = HEADER_SIZE + 4 * (count + 1);
+	}
+
+	/**
+	 * Transcribes all the amounts from 0 to the maximum and writes them to a dictionary file. The file is written next
+	 * to the target and then moved over it, so the processes that open it never see a partial dictionary.
+	 *
+	 * @param transcriber
+	 *            - the transcriber of the language. Not <code>null</code>.
+	 * @param locale
+	 *            - the language of the transcriber. Not <code>null</code>.
+	 * @param maxMinorUnits
+	 *            - the largest amount, in minor units (i.e. 9999999 for 99,999.99). Between 0 and
+	 *            <code>Integer.MAX_VALUE - 1</code>.
+	 * @param scale
+	 *            - the number of digits after the decimal point. Between 0 and
+	 *            {@link NumberDecomposition#MAX_LONG_DIGITS}.
+	 * @param file
+	 *            - the dictionary file. Not <code>null</code>.
+	 * @return the size of the file, in bytes.
+	 * @throws IllegalArgumentException
+	 *             if the parameters are out of range or the dictionary would be larger than 2 GB.
+	 * @throws IOException
+	 *             if the file can not be written.
+	 */
+	public static long build(final ExtendedNumberTranscriber transcriber, final Locale locale, final long maxMinorUnits,
+			final int scale, final Path file) throws IOException {
+
+		if (maxMinorUnits < 0 || maxMinorUnits >= Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Invalid maximum amount: " + maxMinorUnits);
+		}
+
+		final byte[] tag = locale.toLanguageTag().getBytes(StandardCharsets.US_ASCII);
+
+		if (tag.length > MAX_LOCALE_LENGTH) {
+			throw new IllegalArgumentException("Locale tag too long: " + locale.toLanguageTag());
+		}
+
+		NumberDecomposition.powerOfTen(scale);
+
+		final int count = (int) maxMinorUnits + 1;
+		final long wordsOffset = HEADER_SIZE + 4L * (count + 1);
+
+		final int[] offsets = new int[count + 1];
+		final Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+
+		try (final FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+			final ByteBuffer words = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+			final StringBuilder builder = new StringBuilder(256);
+
+			long position = wordsOffset;
+			long length = 0L;
+
+			for (int i = 0; i < count; ++i) {
+
+				builder.setLength(0);
+				transcriber.appendAmount(builder, i, scale);
+
+				final byte[] bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+
+				if (wordsOffset + length + bytes.length > Integer.MAX_VALUE) {
+					throw new IllegalArgumentException("Dictionary larger than 2 GB, at amount " + i);
+				}
+
+				if (words.remaining() < bytes.length) {
+					position += flush(channel, words, position);
+				}
+
+				if (bytes.length > words.capacity()) {
+					final ByteBuffer large = ByteBuffer.wrap(bytes);
+					large.position(bytes.length);
+					position += flush(channel, large, position);
+				} else {
+					words.put(bytes);
+				}
+
+				offsets[i] = (int) length;
+				length += bytes.length;
+			}
+
+			offsets[count] = (int) length;
+			flush(channel, words, position);
+
+			final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+
+			header.putInt(MAGIC).putInt(VERSION).putLong(NumberTranscriberFactory.getMappingsFingerprint())
+					.putInt(scale).putInt(count).put((byte) tag.length).put(tag);
+			header.position(HEADER_SIZE);
+
+			flush(channel, header, 0L);
+
+			final ByteBuffer index = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+			position = HEADER_SIZE;
+
+			for (final int offset : offsets) {
+
+				if (!index.hasRemaining()) {
+					position += flush(channel, index, position);
+				}
+
+				index.putInt(offset);
+			}
+
+			flush(channel, index, position);
+		}
+
+		Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		return Files.size(file);
+	}
+
+	/**
+	 * Writes the content of a buffer at a position of the file and clears it.
+	 *
+	 * @return the number of written bytes.
+	 */
+	private static int flush(final FileChannel channel, final ByteBuffer buffer, final long position)
+			throws IOException {
+
+		buffer.flip();
+
+		final int length = buffer.remaining();
+
+		while (buffer.hasRemaining()) {
+			channel.write(buffer, position + length - buffer.remaining());
+		}
+
+		buffer.clear();
+
+		return length;
+	}
+
+	/**
+	 * Maps a dictionary file.
+	 *
+	 * @param file
+	 *            - the dictionary file. Not <code>null</code>.
+	 * @return an {@link AmountDictionary} instance. Never <code>null</code>.
+	 * @throws IOException
+	 *             if the file can not be read, is not a dictionary or was built for different words.
+	 */
+	public static AmountDictionary open(final Path file) throws IOException {
+
+		final MappedByteBuffer buffer;
+
+		try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+			if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+				throw new IOException("Not an amount dictionary: " + file);
+			}
+
+			buffer = channel.map(MapMode.READ_ONLY, 0L, channel.size());
+		}
+
+		if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+			throw new IOException("Not an amount dictionary: " + file);
+		}
+
+		if (buffer.getLong(FINGERPRINT_OFFSET) != NumberTranscriberFactory.getMappingsFingerprint()) {
+			throw new IOException("Amount dictionary built for different words: " + file);
+		}
+
+		final int scale = buffer.getInt(SCALE_OFFSET);
+		final int count = buffer.getInt(COUNT_OFFSET);
+		final int tagLength = buffer.get(LOCALE_OFFSET);
+
+		if (scale < 0 || scale > NumberDecomposition.MAX_LONG_DIGITS || count <= 0 || tagLength < 0
+				|| tagLength > MAX_LOCALE_LENGTH || HEADER_SIZE + 4L * (count + 1) > buffer.capacity()) {
+			throw new IOException("Corrupted amount dictionary: " + file);
+		}
+
+		final char[] tag = new char[tagLength];
+
+		for (int i = 0; i < tagLength; ++i) {
+			tag[i] = (char) buffer.get(LOCALE_OFFSET + 1 + i);
+		}
+
+		final AmountDictionary dictionary = new AmountDictionary(buffer, Locale.forLanguageTag(new String(tag)), scale,
+				count);
+
+		if (dictionary.wordsOffset + (long) dictionary.offset(count) != buffer.capacity()) {
+			throw new IOException("Corrupted amount dictionary: " + file);
+		}
+
+		return dictionary;
+	}
+
+	/**
+	 * @return the language of the words.
+	 */
+	public Locale getLocale() {
+		return locale;
+	}
+
+	/**
+	 * @return the number of digits after the decimal point of the amounts.
+	 */
+	public int getScale() {
+		return scale;
+	}
+
+	/**
+	 * @return the largest amount, in minor units.
+	 */
+	public long getMaxMinorUnits() {
+		return maxMinorUnits;
+	}
+
+	/**
+	 * Returns the position of the amount in the dictionary. The numbers with fewer decimals than the scale are found as
+	 * well, as their words are the same (i.e. 12.5 for a scale of 2 is read as 12.05, as both are
+	 * <i>twelve and five</i>).
+	 *
+	 * @param number
+	 *            - the number. Not <code>null</code>.
+	 * @return the amount in minor units, or -1 if it is not in the dictionary.
+	 */
+	public long indexOf(final NumberDecomposition number) {
+
+		if (number.hasFraction() != (scale > 0) || number.getDigitCount() > NumberDecomposition.MAX_LONG_DIGITS) {
+			return -1L;
+		}
+
+		final long integer = number.getGroup(0, number.getDigitCount());
+
+		if (integer > DecimalDivision.divide(maxMinorUnits, scale)) {
+			return -1L;
+		}
+
+		long index = integer * divisor;
+
+		if (scale > 0) {
+
+			final NumberDecomposition fraction = number.getFraction();
+
+			if (fraction.getDigitCount() > scale) {
+				return -1L;
+			}
+
+			index += fraction.getGroup(0, fraction.getDigitCount());
+		}
+
+		return index <= maxMinorUnits ? index : -1L;
+	}
+
+	/**
+	 * Appends the words of an amount to the builder, if present.
+	 *
+	 * @param builder
+	 *            - the builder. Not <code>null</code>.
+	 * @param minorUnits
+	 *            - the amount in minor units, with the scale of the dictionary.
+	 * @return <code>true</code> if the amount is in the dictionary.
+	 */
+	public boolean appendTo(final StringBuilder builder, final long minorUnits) {
+
+		if (minorUnits < 0 || minorUnits > maxMinorUnits) {
+			return false;
+		}
+
+		final int index = (int) minorUnits;
+		final int start = wordsOffset + offset(index);
+		final int end = wordsOffset + offset(index + 1);
+
+		builder.ensureCapacity(builder.length() + end - start);
+
+		int position = start;
+
+		while (position < end) {
+
+			final int b = buffer.get(position++) & 0xFF;
+
+			if (b < 0x80) {
+				builder.append((char) b);
+			} else if (b < 0xE0) {
+				builder.append((char) (((b & 0x1F) << 6) | (buffer.get(position++) & 0x3F)));
+			} else if (b < 0xF0) {
+				builder.append((char) (((b & 0x0F) << 12) | ((buffer.get(position++) & 0x3F) << 6) | (buffer
+						.get(position++) & 0x3F)));
+			} else {
+				builder.appendCodePoint(((b & 0x07) << 18) | ((buffer.get(position++) & 0x3F) << 12)
+						| ((buffer.get(position++) & 0x3F) << 6) | (buffer.get(position++) & 0x3F));
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Copies the UTF-8 bytes of the words of an amount to the buffer, if present.
+	 *
+	 * @param target
+	 *            - the buffer to which the bytes are copied, from its position. Not <code>null</code>.
+	 * @param minorUnits
+	 *            - the amount in minor units, with the scale of the dictionary.
+	 * @return the number of copied bytes, or -1 if the amount is not in the dictionary.
+	 * @throws java.nio.BufferOverflowException
+	 *             if the words do not fit into the remaining bytes of the buffer.
+	 */
+	public int copyTo(final ByteBuffer target, final long minorUnits) {
+
+		Objects.requireNonNull(target);
+
+		if (minorUnits < 0 || minorUnits > maxMinorUnits) {
+			return -1;
+		}
+
+		final int index = (int) minorUnits;
+		final ByteBuffer words = buffer.duplicate();
+
+		words.limit(wordsOffset + offset(index + 1));
+		words.position(wordsOffset + offset(index));
+
+		final int length = words.remaining();
+
+		target.put(words);
+
+		return length;
+	}
+
+	/**
+	 * The offset of the words of an amount, relative to the start of the words.
+	 */
+	private int offset(final int index) {
+		return buffer.getInt(HEADER_SIZE + 4 * index);
+	}
+}
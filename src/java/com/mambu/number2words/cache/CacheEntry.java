@@ -0,0 +1,91 @@
+package com.mambu.number2words.cache;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Objects;
+
+import com.mambu.number2words.api.NumberDecomposition;
+
+/**
+ * A cached transcription, with the estimated frequency of its key. Used to save and restore the content of a
+ * {@link TranscriptionCache}.
+ * <p>
+ * This class is immutable.
+ */
+public final class CacheEntry {
+
+	/**
+	 * Orders the entries by descending frequency.
+	 */
+	static final Comparator<CacheEntry> BY_DESCENDING_FREQUENCY = new Comparator<CacheEntry>() {
+
+		@Override
+		public int compare(final CacheEntry first, final CacheEntry second) {
+			return Integer.compare(second.frequency, first.frequency);
+		}
+	};
+
+	private final Locale locale;
+
+	private final NumberDecomposition number;
+
+	private final String words;
+
+	private final int frequency;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param locale
+	 *            - the language of the words. Not <code>null</code>.
+	 * @param number
+	 *            - the number. Not <code>null</code>.
+	 * @param words
+	 *            - the transcription of the number. Not <code>null</code>.
+	 * @param frequency
+	 *            - the estimated number of recent lookups of the number. Equal or greater than 0.
+	 */
+	public CacheEntry(final Locale locale, final NumberDecomposition number, final String words, final int frequency) {
+		this.locale = Objects.requireNonNull(locale);
+		this.number = Objects.requireNonNull(number);
+		this.words = Objects.requireNonNull(words);
+		this.frequency = frequency;
+	}
+
+	/**
+	 * @return the language of the words.
+	 */
+	public Locale getLocale() {
+		return locale;
+	}
+
+	/**
+	 * @return the number.
+	 */
+	public NumberDecomposition getNumber() {
+		return number;
+	}
+
+	/**
+	 * @return the transcription of the number.
+	 */
+	public String getWords() {
+		return words;
+	}
+
+	/**
+	 * @return the estimated number of recent lookups of the number.
+	 */
+	public int getFrequency() {
+		return frequency;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "CacheEntry [locale=" + locale + ", number=" + number + ", words=" + words + ", frequency="
+				+ frequency + "]";
+	}
+}
@@ -0,0 +1,340 @@
+package com.mambu.number2words.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+
+/**
+ * Saves the most frequently used entries of a {@link TranscriptionCache} to a local file and loads them back, so that
+ * a restarted process does not start with an empty cache.
+ * <p>
+ * The file is a compact binary format: a header with a magic number, a version and the locales of the entries, each
+ * with the fingerprint of its words ({@link NumberTranscriberFactory#getMappingsFingerprint(Locale)}), followed by the
+ * entries (locale, number, frequency and words). Only the languages of the snapshot are fingerprinted, so the other
+ * language modules are not loaded. The entries of a language whose words changed since the snapshot was taken are
+ * ignored when loaded, as are the entries larger than {@link #MAX_ENTRY_BYTES}.
+ * <p>
+ * The snapshots can be taken on a timer and at shutdown with the {@link Runnable} returned by
+ * {@link #snapshotTask(TranscriptionCache, int, Path)}:
+ *
+ * <pre>
+ * Runnable task = CacheSnapshots.snapshotTask(cache, 100000, path);
+ *
+ * scheduler.scheduleAtFixedRate(task, 10, 10, TimeUnit.MINUTES);
+ * Runtime.getRuntime().addShutdownHook(new Thread(task));
+ * </pre>
+ */
+public final class CacheSnapshots {
+
+	/**
+	 * The maximum size of the number and of the words of an entry, in bytes. Larger entries are not saved.
+	 */
+	public static final int MAX_ENTRY_BYTES = 1 << 20;
+
+	/**
+	 * The first bytes of a snapshot ("N2WC").
+	 */
+	private static final int MAGIC = 0x4e325743;
+
+	/**
+	 * The version of the format.
+	 */
+	private static final int VERSION = 3;
+
+	/**
+	 * Private constructor. No instances allowed.
+	 */
+	private CacheSnapshots() {
+		// utilities class
+	}
+
+	/**
+	 * Writes the most frequently used entries of the cache to a file. The file is written next to the target and then
+	 * moved over it, so a snapshot that is being written is never loaded. The entries of unsupported locales and the
+	 * entries larger than {@link #MAX_ENTRY_BYTES} are skipped.
+	 *
+	 * @param cache
+	 *            - the cache. Not <code>null</code>.
+	 * @param maxEntries
+	 *            - the maximum number of entries to save. Equal or greater than 0.
+	 * @param file
+	 *            - the snapshot file. Not <code>null</code>.
+	 * @return the number of saved entries.
+	 * @throws IOException
+	 *             if the file can not be written.
+	 */
+	public static int write(final TranscriptionCache cache, final int maxEntries, final Path file) throws IOException {
+
+		final Map<Locale, Integer> localeIndexes = new LinkedHashMap<>();
+		final List<Long> fingerprints = new ArrayList<>();
+
+		final List<CacheEntry> entries = new ArrayList<>();
+		final List<byte[]> words = new ArrayList<>();
+
+		for (final CacheEntry entry : cache.getHottestEntries(maxEntries)) {
+
+			final NumberDecomposition number = entry.getNumber();
+			final byte[] bytes = entry.getWords().getBytes(StandardCharsets.UTF_8);
+
+			if (bytes.length > MAX_ENTRY_BYTES || byteLength(number.toBigInteger()) > MAX_ENTRY_BYTES
+					|| number.hasFraction() && byteLength(number.getFraction().toBigInteger()) > MAX_ENTRY_BYTES) {
+				continue;
+			}
+
+			if (!localeIndexes.containsKey(entry.getLocale())) {
+
+				try {
+					fingerprints.add(NumberTranscriberFactory.getMappingsFingerprint(entry.getLocale()));
+				} catch (final IllegalArgumentException e) {
+					// not transcribed by the factory: the entry could not be checked when loaded
+					continue;
+				}
+
+				localeIndexes.put(entry.getLocale(), localeIndexes.size());
+			}
+
+			entries.add(entry);
+			words.add(bytes);
+		}
+
+		final Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+
+		try (final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+				Files.newOutputStream(temporary)))) {
+
+			output.writeInt(MAGIC);
+			output.writeInt(VERSION);
+			output.writeInt(localeIndexes.size());
+
+			for (final Map.Entry<Locale, Integer> locale : localeIndexes.entrySet()) {
+				output.writeUTF(locale.getKey().toLanguageTag());
+				output.writeLong(fingerprints.get(locale.getValue()));
+			}
+
+			output.writeInt(entries.size());
+
+			for (int i = 0; i < entries.size(); ++i) {
+
+				final CacheEntry entry = entries.get(i);
+				final NumberDecomposition number = entry.getNumber();
+
+				output.writeInt(localeIndexes.get(entry.getLocale()));
+				writeBigInteger(output, number.toBigInteger());
+
+				output.writeInt(number.getFractionDigitCount());
+
+				if (number.hasFraction()) {
+					writeBigInteger(output, number.getFraction().toBigInteger());
+				}
+
+				output.writeByte(Math.min(entry.getFrequency(), 0xFF));
+				output.writeInt(words.get(i).length);
+				output.write(words.get(i));
+			}
+		}
+
+		Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		return entries.size();
+	}
+
+	/**
+	 * Loads a snapshot into the cache. The entries are subject to the admission rules of the cache.
+	 *
+	 * @param cache
+	 *            - the cache. Not <code>null</code>.
+	 * @param file
+	 *            - the snapshot file. Not <code>null</code>.
+	 * @return the number of loaded entries, 0 if the file does not exist or was written by another version. The
+	 *         entries of the languages whose words have changed are not loaded.
+	 * @throws IOException
+	 *             if the file can not be read or is not a snapshot.
+	 */
+	public static int load(final TranscriptionCache cache, final Path file) throws IOException {
+
+		if (!Files.exists(file)) {
+			return 0;
+		}
+
+		try (final DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+
+			if (input.readInt() != MAGIC) {
+				throw new IOException("Not a cache snapshot: " + file);
+			}
+
+			if (input.readInt() != VERSION) {
+				// stale snapshot
+				return 0;
+			}
+
+			final int localeCount = input.readInt();
+
+			if (localeCount < 0) {
+				throw new IOException("Corrupted cache snapshot: " + file);
+			}
+
+			// null for the locales whose words changed
+			final Locale[] locales = new Locale[localeCount];
+
+			for (int i = 0; i < localeCount; ++i) {
+				locales[i] = currentLocale(input.readUTF(), input.readLong());
+			}
+
+			final int count = input.readInt();
+			int loaded = 0;
+
+			for (int i = 0; i < count; ++i) {
+
+				final int localeIndex = input.readInt();
+
+				if (localeIndex < 0 || localeIndex >= localeCount) {
+					throw new IOException("Corrupted cache snapshot: " + file);
+				}
+
+				final BigInteger integer = readBigInteger(input);
+				final int fractionDigits = checkLength(input.readInt());
+				final BigInteger fraction = fractionDigits > 0 ? readBigInteger(input) : null;
+				final int frequency = input.readUnsignedByte();
+				final byte[] words = readBytes(input);
+
+				if (locales[localeIndex] == null) {
+					continue;
+				}
+
+				final NumberDecomposition number = NumberDecomposition.parse(fraction == null ? integer.toString()
+						: integer + "." + withLeadingZeroes(fraction, fractionDigits));
+
+				cache.restore(new CacheEntry(locales[localeIndex], number, new String(words, StandardCharsets.UTF_8),
+						frequency));
+				++loaded;
+			}
+
+			return loaded;
+		}
+	}
+
+	/**
+	 * Returns a task that writes a snapshot of the cache, to be scheduled on a timer or run at shutdown.
+	 *
+	 * @param cache
+	 *            - the cache. Not <code>null</code>.
+	 * @param maxEntries
+	 *            - the maximum number of entries to save. Equal or greater than 0.
+	 * @param file
+	 *            - the snapshot file. Not <code>null</code>.
+	 * @return a {@link Runnable} instance. It throws {@link IllegalStateException} if the snapshot can not be
+	 *         written.
+	 */
+	public static Runnable snapshotTask(final TranscriptionCache cache, final int maxEntries, final Path file) {
+
+		return new Runnable() {
+
+			@Override
+			public void run() {
+				try {
+					write(cache, maxEntries, file);
+				} catch (final IOException e) {
+					throw new IllegalStateException("Could not write the cache snapshot " + file, e);
+				}
+			}
+		};
+	}
+
+	/**
+	 * The digits of a fractional part, with the leading zeroes up to its digit count.
+	 */
+	private static String withLeadingZeroes(final BigInteger fraction, final int count) {
+
+		final String value = fraction.toString();
+		final StringBuilder digits = new StringBuilder(count);
+
+		for (int i = value.length(); i < count; ++i) {
+			digits.append('0');
+		}
+
+		return digits.append(value).toString();
+	}
+
+	/**
+	 * The locale of a language tag of a snapshot, <code>null</code> if it is not supported anymore or its words have
+	 * changed.
+	 */
+	private static Locale currentLocale(final String tag, final long fingerprint) {
+
+		final Locale locale = Locale.forLanguageTag(tag);
+
+		try {
+			return NumberTranscriberFactory.getMappingsFingerprint(locale) == fingerprint ? locale : null;
+		} catch (final IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * The number of bytes of a {@link BigInteger} written by {@link #writeBigInteger(DataOutputStream, BigInteger)}.
+	 */
+	private static int byteLength(final BigInteger value) {
+		return value.bitLength() / 8 + 1;
+	}
+
+	private static void writeBigInteger(final DataOutputStream output, final BigInteger value) throws IOException {
+
+		if (value.bitLength() < 64) {
+			output.writeInt(0);
+			output.writeLong(value.longValue());
+		} else {
+			final byte[] bytes = value.toByteArray();
+			output.writeInt(bytes.length);
+			output.write(bytes);
+		}
+	}
+
+	private static BigInteger readBigInteger(final DataInputStream input) throws IOException {
+
+		final int length = input.readInt();
+
+		if (length == 0) {
+			return BigInteger.valueOf(input.readLong());
+		}
+
+		final byte[] bytes = new byte[checkLength(length)];
+		input.readFully(bytes);
+
+		return new BigInteger(bytes);
+	}
+
+	private static byte[] readBytes(final DataInputStream input) throws IOException {
+
+		final byte[] bytes = new byte[checkLength(input.readInt())];
+		input.readFully(bytes);
+
+		return bytes;
+	}
+
+	/**
+	 * Checks the length of a value of an entry, so that a corrupted snapshot does not allocate huge arrays.
+	 */
+	private static int checkLength(final int length) throws IOException {
+
+		if (length < 0 || length > MAX_ENTRY_BYTES) {
+			throw new IOException("Corrupted cache snapshot, invalid length: " + length);
+		}
+
+		return length;
+	}
+}
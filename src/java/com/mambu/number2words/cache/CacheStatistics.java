@@ -0,0 +1,127 @@
+package com.mambu.number2words.cache;
+
+/**
+ * Snapshot of the counters of a {@link TranscriptionCache}.
+ * <p>
+ * This class is immutable.
+ */
+public final class CacheStatistics {
+
+	/**
+	 * The number of lookups that found the words.
+	 */
+	private final long hitCount;
+
+	/**
+	 * The number of lookups that did not find the words.
+	 */
+	private final long missCount;
+
+	/**
+	 * The number of entries removed to make room for more frequent ones.
+	 */
+	private final long evictionCount;
+
+	/**
+	 * The number of entries not admitted, as they were less frequent than the ones they would have replaced.
+	 */
+	private final long rejectionCount;
+
+	/**
+	 * The number of cached entries.
+	 */
+	private final long size;
+
+	/**
+	 * The estimated memory used by the cached entries, in bytes.
+	 */
+	private final long weight;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param hitCount
+	 *            - the number of lookups that found the words.
+	 * @param missCount
+	 *            - the number of lookups that did not find the words.
+	 * @param evictionCount
+	 *            - the number of evicted entries.
+	 * @param rejectionCount
+	 *            - the number of entries that were not admitted.
+	 * @param size
+	 *            - the number of cached entries.
+	 * @param weight
+	 *            - the estimated memory used by the cached entries, in bytes.
+	 */
+	public CacheStatistics(final long hitCount, final long missCount, final long evictionCount,
+			final long rejectionCount, final long size, final long weight) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+		this.rejectionCount = rejectionCount;
+		this.size = size;
+		this.weight = weight;
+	}
+
+	/**
+	 * @return the number of lookups that found the words.
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return the number of lookups that did not find the words.
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return the number of entries removed to make room for more frequent ones.
+	 */
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * @return the number of entries that were not admitted, as they were less frequent than the ones they would have
+	 *         replaced.
+	 */
+	public long getRejectionCount() {
+		return rejectionCount;
+	}
+
+	/**
+	 * @return the number of cached entries.
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * @return the estimated memory used by the cached entries, in bytes.
+	 */
+	public long getWeight() {
+		return weight;
+	}
+
+	/**
+	 * @return the ratio of lookups that found the words, or 0 if there were no lookups.
+	 */
+	public double getHitRate() {
+
+		final long lookups = hitCount + missCount;
+
+		return lookups == 0 ? 0.0 : (double) hitCount / lookups;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "CacheStatistics [hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount
+				+ ", rejections=" + rejectionCount + ", size=" + size + ", weight=" + weight + "]";
+	}
+}
@@ -0,0 +1,131 @@
+package com.mambu.number2words.cache;
+
+/**
+ * Count-min sketch that estimates how often keys were seen, using 4 bit counters (saturating at 15) packed into
+ * <code>long</code>s. Each key increments one counter in each of 4 rows and its frequency is the minimum of them.
+ * <p>
+ * After a number of increments proportional to the table size all the counters are halved, so that the keys that
+ * were popular a long time ago are eventually forgotten.
+ * <p>
+ * Not thread safe.
+ */
+final class FrequencySketch {
+
+	/**
+	 * The largest value of a counter.
+	 */
+	private static final int MAX_COUNT = 15;
+
+	/**
+	 * Mask that clears the highest bit of every counter, used to halve them.
+	 */
+	private static final long HALVING_MASK = 0x7777777777777777L;
+
+	/**
+	 * The seeds used to compute the index of the counter in each row.
+	 */
+	private static final int[] SEEDS = { 0x97cb3127, 0xbf58476d, 0x94d049bb, 0x2545f491 };
+
+	/**
+	 * The counters: 16 counters of 4 bits for each <code>long</code>.
+	 */
+	private final long[] table;
+
+	/**
+	 * The number of increments after which the counters are halved.
+	 */
+	private final int sampleSize;
+
+	/**
+	 * The number of increments since the counters were last halved.
+	 */
+	private int size = 0;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param expectedKeys
+	 *            - the number of keys expected to be stored in the cache. Greater than 0.
+	 */
+	FrequencySketch(final int expectedKeys) {
+
+		int length = 16;
+
+		while (length < expectedKeys && length < (1 << 24)) {
+			length <<= 1;
+		}
+
+		this.table = new long[length];
+		this.sampleSize = 10 * length;
+	}
+
+	/**
+	 * Returns the estimated number of times the key was seen, up to 15.
+	 * 
+	 * @param hash
+	 *            - the hash of the key.
+	 * @return the estimated frequency.
+	 */
+	int frequency(final int hash) {
+
+		int frequency = MAX_COUNT;
+
+		for (int row = 0; row < SEEDS.length; ++row) {
+
+			final int index = index(hash, row);
+
+			frequency = Math.min(frequency, (int) ((table[index >>> 4] >>> ((index & 15) << 2)) & MAX_COUNT));
+		}
+
+		return frequency;
+	}
+
+	/**
+	 * Records one more occurrence of the key.
+	 * 
+	 * @param hash
+	 *            - the hash of the key.
+	 */
+	void increment(final int hash) {
+
+		boolean incremented = false;
+
+		for (int row = 0; row < SEEDS.length; ++row) {
+
+			final int index = index(hash, row);
+			final int shift = (index & 15) << 2;
+
+			if (((table[index >>> 4] >>> shift) & MAX_COUNT) != MAX_COUNT) {
+				table[index >>> 4] += 1L << shift;
+				incremented = true;
+			}
+		}
+
+		if (incremented && ++size == sampleSize) {
+			halve();
+		}
+	}
+
+	/**
+	 * Halves all the counters.
+	 */
+	private void halve() {
+
+		for (int i = 0; i < table.length; ++i) {
+			table[i] = (table[i] >>> 1) & HALVING_MASK;
+		}
+
+		size /= 2;
+	}
+
+	/**
+	 * The index of the counter of the key in a row, in the range of all the counters of the table.
+	 */
+	private int index(final int hash, final int row) {
+
+		int h = hash * SEEDS[row];
+		h ^= h >>> 16;
+
+		return h & ((table.length << 4) - 1);
+	}
+}
@@ -0,0 +1,718 @@
+package com.mambu.number2words.cache;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.mambu.number2words.api.NumberDecomposition;
+
+/**
+ * {@link TranscriptionCache} that keeps the words outside of the heap, so that large working sets (millions of
+ * amounts) do not add to the garbage collection pauses.
+ * <p>
+ * The entries are stored as fixed size records in direct {@link ByteBuffer} slabs, one slab for each independently
+ * locked segment. Each slab is an open addressing table (with linear probing) of records holding the primitive key
+ * (the integer part, the fractional part, its number of digits and the id of the locale), the UTF-8 length and bytes
+ * of the words, and a
+ * referenced bit. When a segment is full, a clock hand sweeps the records, clearing the referenced bits, and evicts the
+ * first record that was not used since the previous sweep.
+ * <p>
+ * Only the numbers whose integer and fractional parts fit into a <code>long</code> (up to
+ * {@link NumberDecomposition#MAX_LONG_DIGITS} digits each) and whose words fit into the record are cached; the others
+ * are rejected. As the records have a fixed size, the maximum length of the words should be close to the length of the
+ * expected amounts (i.e. 128 bytes hold the English words of all the amounts below a billion with 2 decimals).
+ * <p>
+ * Hits are decoded straight into the caller's {@link StringBuilder}, or copied as UTF-8 bytes into a {@link ByteBuffer}
+ * with {@link #copyTo(ByteBuffer, Locale, NumberDecomposition)}.
+ * <p>
+ * This class is thread safe.
+ */
+public final class OffHeapTranscriptionCache implements TranscriptionCache {
+
+	/**
+	 * The default maximum length of the words, in UTF-8 bytes.
+	 */
+	public static final int DEFAULT_MAX_WORD_BYTES = 232;
+
+	/*
+	 * Record layout: the header, followed by the UTF-8 bytes of the words.
+	 */
+	private static final int INTEGER_OFFSET = 0;
+	private static final int FRACTION_OFFSET = 8;
+	private static final int LOCALE_OFFSET = 16;
+	private static final int LENGTH_OFFSET = 18;
+	private static final int REFERENCED_OFFSET = 20;
+	private static final int FRACTION_DIGITS_OFFSET = 21;
+	private static final int HEADER_SIZE = 24;
+
+	/**
+	 * The value of the fractional part for numbers without one.
+	 */
+	private static final long NO_FRACTION = -1L;
+
+	/**
+	 * The largest slab of a segment. Larger caches use more segments.
+	 */
+	private static final long MAX_SLAB_SIZE = 1L << 30;
+
+	/**
+	 * The ids of the locales (starting from 1, as 0 marks the empty records).
+	 */
+	private final ConcurrentMap<Locale, Integer> localeIds = new ConcurrentHashMap<>();
+
+	/**
+	 * The size of the records, a multiple of 8.
+	 */
+	private final int recordSize;
+
+	/**
+	 * The segments. Their number is a power of two.
+	 */
+	private final Segment[] segments;
+
+	/**
+	 * Creates a cache with the default maximum length of the words and several segments for each available processor.
+	 *
+	 * @param maximumBytes
+	 *            - the size of the direct memory used by the cache, in bytes. Greater than 0.
+	 */
+	public OffHeapTranscriptionCache(final long maximumBytes) {
+		this(maximumBytes, DEFAULT_MAX_WORD_BYTES, 4 * Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates a cache.
+	 *
+	 * @param maximumBytes
+	 *            - the size of the direct memory used by the cache, in bytes. Greater than 0.
+	 * @param maxWordBytes
+	 *            - the maximum length of the cached words, in UTF-8 bytes. Between 1 and 65535.
+	 * @param concurrencyLevel
+	 *            - the expected number of concurrent threads, rounded up to a power of two to get the number of
+	 *            segments. Greater than 0.
+	 */
+	public OffHeapTranscriptionCache(final long maximumBytes, final int maxWordBytes, final int concurrencyLevel) {
+
+		if (maxWordBytes <= 0 || maxWordBytes > 0xFFFF) {
+			throw new IllegalArgumentException("Invalid maximum length of the words: " + maxWordBytes);
+		}
+
+		if (concurrencyLevel <= 0) {
+			throw new IllegalArgumentException("Invalid concurrency level: " + concurrencyLevel);
+		}
+
+		this.recordSize = (HEADER_SIZE + maxWordBytes + 7) & ~7;
+
+		if (maximumBytes < 2L * recordSize) {
+			throw new IllegalArgumentException("Invalid size: " + maximumBytes);
+		}
+
+		int count = 1;
+
+		while ((count < concurrencyLevel || maximumBytes / count > MAX_SLAB_SIZE) && count < (1 << 16)) {
+			count <<= 1;
+		}
+
+		// the number of records of a segment is a power of two, at least 2
+		long capacity = 2L;
+
+		while (capacity * 2 * recordSize <= maximumBytes / count) {
+			capacity *= 2;
+		}
+
+		this.segments = new Segment[count];
+
+		for (int i = 0; i < count; ++i) {
+			segments[i] = new Segment((int) capacity, recordSize);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean appendTo(final StringBuilder builder, final Locale locale, final NumberDecomposition number) {
+		return lookup(locale, number, builder, null) >= 0;
+	}
+
+	/**
+	 * Copies the cached UTF-8 bytes of the words of the number to the buffer, if present.
+	 *
+	 * @param target
+	 *            - the buffer to which the bytes are copied, from its position. Not <code>null</code>.
+	 * @param locale
+	 *            - the language of the words. Not <code>null</code>.
+	 * @param number
+	 *            - the number. Not <code>null</code>.
+	 * @return the number of copied bytes, or -1 if the words are not cached.
+	 * @throws BufferOverflowException
+	 *             if the words do not fit into the remaining bytes of the buffer.
+	 */
+	public int copyTo(final ByteBuffer target, final Locale locale, final NumberDecomposition number) {
+		return lookup(locale, number, null, target);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void put(final Locale locale, final NumberDecomposition number, final CharSequence words) {
+		put(locale, number, words, false);
+	}
+
+	/**
+	 * Adds the words of a number, marking them as referenced or not.
+	 */
+	private void put(final Locale locale, final NumberDecomposition number, final CharSequence words,
+			final boolean referenced) {
+
+		final long integer = integerKey(number);
+		final long fraction = fractionKey(number);
+		final int fractionDigits = number.getFractionDigitCount();
+
+		final int localeId = localeId(locale);
+		final long hash = hash(integer, fraction, fractionDigits, localeId);
+
+		final Segment segment = segmentFor(hash);
+
+		if (integer < 0 || fraction < NO_FRACTION) {
+			segment.reject();
+			return;
+		}
+
+		segment.put(integer, fraction, fractionDigits, localeId, hash, words, referenced);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * As the cache only tracks whether the entries were used since the last pass of the clock hand, the frequencies
+	 * are 2 for those entries and 1 for the others.
+	 */
+	@Override
+	public List<CacheEntry> getHottestEntries(final int maxCount) {
+
+		final Locale[] locales = new Locale[localeIds.size() + 1];
+
+		for (final Map.Entry<Locale, Integer> entry : localeIds.entrySet()) {
+			if (entry.getValue() < locales.length) {
+				locales[entry.getValue()] = entry.getKey();
+			}
+		}
+
+		final List<CacheEntry> entries = new ArrayList<>();
+
+		for (final Segment segment : segments) {
+			segment.collect(locales, entries);
+		}
+
+		Collections.sort(entries, CacheEntry.BY_DESCENDING_FREQUENCY);
+
+		return entries.size() > maxCount ? new ArrayList<>(entries.subList(0, maxCount)) : entries;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void restore(final CacheEntry entry) {
+		put(entry.getLocale(), entry.getNumber(), entry.getWords(), entry.getFrequency() > 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The weight is the size of the records in use.
+	 */
+	@Override
+	public CacheStatistics getStatistics() {
+
+		long hits = 0L;
+		long misses = 0L;
+		long evictions = 0L;
+		long rejections = 0L;
+		long size = 0L;
+
+		for (final Segment segment : segments) {
+			synchronized (segment) {
+				hits += segment.hitCount;
+				misses += segment.missCount;
+				evictions += segment.evictionCount;
+				rejections += segment.rejectionCount;
+				size += segment.size;
+			}
+		}
+
+		return new CacheStatistics(hits, misses, evictions, rejections, size, size * recordSize);
+	}
+
+	/**
+	 * Looks the number up and copies its words to the builder or to the buffer.
+	 *
+	 * @return the length of the words in bytes, or -1 if they are not cached.
+	 */
+	private int lookup(final Locale locale, final NumberDecomposition number, final StringBuilder builder,
+			final ByteBuffer target) {
+
+		final long integer = integerKey(number);
+		final long fraction = fractionKey(number);
+		final int fractionDigits = number.getFractionDigitCount();
+
+		final int localeId = localeId(locale);
+		final long hash = hash(integer, fraction, fractionDigits, localeId);
+
+		final Segment segment = segmentFor(hash);
+
+		if (integer < 0 || fraction < NO_FRACTION) {
+			segment.miss();
+			return -1;
+		}
+
+		return segment.get(integer, fraction, fractionDigits, localeId, hash, builder, target);
+	}
+
+	/**
+	 * The id of a locale, assigned on first use.
+	 */
+	private int localeId(final Locale locale) {
+
+		Integer id = localeIds.get(locale);
+
+		if (id == null) {
+
+			synchronized (localeIds) {
+
+				id = localeIds.get(locale);
+
+				if (id == null) {
+
+					if (localeIds.size() == 0xFFFE) {
+						throw new IllegalStateException("Too many locales");
+					}
+
+					id = localeIds.size() + 1;
+					localeIds.put(locale, id);
+				}
+			}
+		}
+
+		return id;
+	}
+
+	/**
+	 * Selects the segment of a key.
+	 */
+	private Segment segmentFor(final long hash) {
+		// the low bits select the record in the segment
+		return segments[(int) (hash >>> 40) & (segments.length - 1)];
+	}
+
+	/**
+	 * The integer part of the key, or -1 if it does not fit into a <code>long</code>.
+	 */
+	private static long integerKey(final NumberDecomposition number) {
+
+		if (number.getDigitCount() > NumberDecomposition.MAX_LONG_DIGITS) {
+			return -1L;
+		}
+
+		return number.getGroup(0, number.getDigitCount());
+	}
+
+	/**
+	 * The fractional part of the key, {@link #NO_FRACTION} if there is none, or -2 if it does not fit into a
+	 * <code>long</code>. The leading zeroes of the fractional part are kept by its digit count, which is also part of
+	 * the key (1.05 and 1.5 are different keys).
+	 */
+	private static long fractionKey(final NumberDecomposition number) {
+
+		if (!number.hasFraction()) {
+			return NO_FRACTION;
+		}
+
+		return number.getFractionDigitCount() > NumberDecomposition.MAX_LONG_DIGITS ? -2L : integerKey(number
+				.getFraction());
+	}
+
+	/**
+	 * Mixes the parts of the key.
+	 */
+	private static long hash(final long integer, final long fraction, final int fractionDigits, final int localeId) {
+
+		long h = integer * 0x9e3779b97f4a7c15L + fraction;
+		h = (h ^ (h >>> 32)) * 0xd6e8feb86659fd93L + fractionDigits;
+		h = (h ^ (h >>> 32)) * 0xd6e8feb86659fd93L + localeId;
+		h = (h ^ (h >>> 32)) * 0xd6e8feb86659fd93L;
+
+		return h ^ (h >>> 32);
+	}
+
+	/**
+	 * A part of the cache, with its own lock, slab and clock hand.
+	 */
+	private static final class Segment {
+
+		/**
+		 * The records.
+		 */
+		private final ByteBuffer slab;
+
+		/**
+		 * The size of a record.
+		 */
+		private final int recordSize;
+
+		/**
+		 * The number of records minus 1 (the number of records is a power of two).
+		 */
+		private final int mask;
+
+		/**
+		 * The maximum number of used records, keeping the probe sequences short.
+		 */
+		private final int maximumSize;
+
+		/**
+		 * The next record checked for eviction.
+		 */
+		private int clockHand = 0;
+
+		/*
+		 * Counters. Guarded by the segment lock.
+		 */
+		private int size = 0;
+		private long hitCount = 0L;
+		private long missCount = 0L;
+		private long evictionCount = 0L;
+		private long rejectionCount = 0L;
+
+		Segment(final int capacity, final int recordSize) {
+			this.slab = ByteBuffer.allocateDirect(capacity * recordSize);
+			this.recordSize = recordSize;
+			this.mask = capacity - 1;
+			this.maximumSize = capacity - capacity / 4;
+		}
+
+		synchronized void miss() {
+			++missCount;
+		}
+
+		synchronized void reject() {
+			++rejectionCount;
+		}
+
+		synchronized int get(final long integer, final long fraction, final int fractionDigits, final int localeId,
+				final long hash, final StringBuilder builder, final ByteBuffer target) {
+
+			final int record = find(integer, fraction, fractionDigits, localeId, hash);
+
+			if (record < 0) {
+				++missCount;
+				return -1;
+			}
+
+			++hitCount;
+
+			final int offset = record * recordSize;
+			final int length = slab.getShort(offset + LENGTH_OFFSET) & 0xFFFF;
+
+			slab.put(offset + REFERENCED_OFFSET, (byte) 1);
+
+			if (target != null) {
+
+				if (target.remaining() < length) {
+					throw new BufferOverflowException();
+				}
+
+				for (int i = 0; i < length; ++i) {
+					target.put(slab.get(offset + HEADER_SIZE + i));
+				}
+
+			} else {
+				decode(offset + HEADER_SIZE, length, builder);
+			}
+
+			return length;
+		}
+
+		synchronized void collect(final Locale[] locales, final List<CacheEntry> result) {
+
+			final StringBuilder builder = new StringBuilder();
+
+			for (int record = 0; record <= mask; ++record) {
+
+				final int offset = record * recordSize;
+				final int localeId = slab.getShort(offset + LOCALE_OFFSET) & 0xFFFF;
+
+				// entries of locales registered after the array was built are skipped
+				if (localeId == 0 || localeId >= locales.length) {
+					continue;
+				}
+
+				final long integer = slab.getLong(offset + INTEGER_OFFSET);
+				final long fraction = slab.getLong(offset + FRACTION_OFFSET);
+
+				final NumberDecomposition number = fraction == NO_FRACTION ? NumberDecomposition.ofInteger(integer)
+						: NumberDecomposition.parse(integer + "." + fractionDigits(fraction, slab.get(offset
+								+ FRACTION_DIGITS_OFFSET)));
+
+				builder.setLength(0);
+				decode(offset + HEADER_SIZE, slab.getShort(offset + LENGTH_OFFSET) & 0xFFFF, builder);
+
+				result.add(new CacheEntry(locales[localeId], number, builder.toString(),
+						slab.get(offset + REFERENCED_OFFSET) != 0 ? 2 : 1));
+			}
+		}
+
+		synchronized void put(final long integer, final long fraction, final int fractionDigits, final int localeId,
+				final long hash, final CharSequence words, final boolean referenced) {
+
+			if (find(integer, fraction, fractionDigits, localeId, hash) >= 0) {
+				// added by another thread
+				return;
+			}
+
+			if (words.length() > recordSize - HEADER_SIZE) {
+				// the UTF-8 bytes are at least as many as the characters
+				++rejectionCount;
+				return;
+			}
+
+			if (size == maximumSize) {
+				evict();
+			}
+
+			int record = (int) hash & mask;
+
+			while (isUsed(record)) {
+				record = (record + 1) & mask;
+			}
+
+			final int offset = record * recordSize;
+			final int length = encode(words, offset + HEADER_SIZE, recordSize - HEADER_SIZE);
+
+			if (length < 0) {
+				++rejectionCount;
+				return;
+			}
+
+			slab.putLong(offset + INTEGER_OFFSET, integer);
+			slab.putLong(offset + FRACTION_OFFSET, fraction);
+			slab.put(offset + FRACTION_DIGITS_OFFSET, (byte) fractionDigits);
+			slab.putShort(offset + LENGTH_OFFSET, (short) length);
+			slab.put(offset + REFERENCED_OFFSET, (byte) (referenced ? 1 : 0));
+			slab.putShort(offset + LOCALE_OFFSET, (short) localeId);
+
+			++size;
+		}
+
+		/**
+		 * Finds the record of the key.
+		 *
+		 * @return the index of the record, or -1 if the key is not cached.
+		 */
+		private int find(final long integer, final long fraction, final int fractionDigits, final int localeId,
+				final long hash) {
+
+			int record = (int) hash & mask;
+
+			while (isUsed(record)) {
+
+				final int offset = record * recordSize;
+
+				if (slab.getLong(offset + INTEGER_OFFSET) == integer
+						&& slab.getLong(offset + FRACTION_OFFSET) == fraction
+						&& slab.get(offset + FRACTION_DIGITS_OFFSET) == fractionDigits
+						&& (slab.getShort(offset + LOCALE_OFFSET) & 0xFFFF) == localeId) {
+					return record;
+				}
+
+				record = (record + 1) & mask;
+			}
+
+			return -1;
+		}
+
+		/**
+		 * The digits of a fractional part, with its leading zeroes.
+		 */
+		private static String fractionDigits(final long fraction, final int count) {
+
+			final StringBuilder digits = new StringBuilder(count);
+			final String value = Long.toString(fraction);
+
+			for (int i = value.length(); i < count; ++i) {
+				digits.append('0');
+			}
+
+			return digits.append(value).toString();
+		}
+
+		private boolean isUsed(final int record) {
+			return slab.getShort(record * recordSize + LOCALE_OFFSET) != 0;
+		}
+
+		/**
+		 * Moves the clock hand until it finds a record that was not referenced since its last pass, and removes it.
+		 */
+		private void evict() {
+
+			while (true) {
+
+				final int record = clockHand;
+
+				clockHand = (clockHand + 1) & mask;
+
+				if (isUsed(record)) {
+
+					final int offset = record * recordSize + REFERENCED_OFFSET;
+
+					if (slab.get(offset) == 0) {
+						remove(record);
+						++evictionCount;
+						return;
+					}
+
+					slab.put(offset, (byte) 0);
+				}
+			}
+		}
+
+		/**
+		 * Removes a record, moving back the following records of the probe sequence so that they can still be found.
+		 */
+		private void remove(final int record) {
+
+			int hole = record;
+			int next = record;
+
+			while (true) {
+
+				next = (next + 1) & mask;
+
+				if (!isUsed(next)) {
+					break;
+				}
+
+				final int offset = next * recordSize;
+				final int home = (int) hash(slab.getLong(offset + INTEGER_OFFSET),
+						slab.getLong(offset + FRACTION_OFFSET), slab.get(offset + FRACTION_DIGITS_OFFSET),
+						slab.getShort(offset + LOCALE_OFFSET) & 0xFFFF) & mask;
+
+				// the record can fill the hole if its home is not in the (hole, next] cyclic interval
+				final boolean movable = hole <= next ? home <= hole || home > next : home <= hole && home > next;
+
+				if (movable) {
+					copyRecord(next, hole);
+					hole = next;
+				}
+			}
+
+			slab.putShort(hole * recordSize + LOCALE_OFFSET, (short) 0);
+
+			--size;
+		}
+
+		private void copyRecord(final int from, final int to) {
+
+			final int source = from * recordSize;
+			final int destination = to * recordSize;
+
+			for (int i = 0; i < recordSize; i += 8) {
+				slab.putLong(destination + i, slab.getLong(source + i));
+			}
+		}
+
+		/**
+		 * Encodes the words as UTF-8 into the slab.
+		 *
+		 * @return the number of bytes, or -1 if they do not fit.
+		 */
+		private int encode(final CharSequence words, final int offset, final int capacity) {
+
+			int position = offset;
+			final int end = offset + capacity;
+
+			for (int i = 0; i < words.length(); ++i) {
+
+				final char c = words.charAt(i);
+
+				if (c < 0x80) {
+
+					if (position + 1 > end) {
+						return -1;
+					}
+
+					slab.put(position++, (byte) c);
+
+				} else if (c < 0x800) {
+
+					if (position + 2 > end) {
+						return -1;
+					}
+
+					slab.put(position++, (byte) (0xC0 | (c >> 6)));
+					slab.put(position++, (byte) (0x80 | (c & 0x3F)));
+
+				} else if (Character.isHighSurrogate(c) && i + 1 < words.length()
+						&& Character.isLowSurrogate(words.charAt(i + 1))) {
+
+					if (position + 4 > end) {
+						return -1;
+					}
+
+					final int codePoint = Character.toCodePoint(c, words.charAt(++i));
+
+					slab.put(position++, (byte) (0xF0 | (codePoint >> 18)));
+					slab.put(position++, (byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+					slab.put(position++, (byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+					slab.put(position++, (byte) (0x80 | (codePoint & 0x3F)));
+
+				} else {
+
+					if (position + 3 > end) {
+						return -1;
+					}
+
+					slab.put(position++, (byte) (0xE0 | (c >> 12)));
+					slab.put(position++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+					slab.put(position++, (byte) (0x80 | (c & 0x3F)));
+				}
+			}
+
+			return position - offset;
+		}
+
+		/**
+		 * Decodes UTF-8 bytes of the slab, written by {@link #encode(CharSequence, int, int)}, into the builder.
+		 */
+		private void decode(final int offset, final int length, final StringBuilder builder) {
+
+			int position = offset;
+			final int end = offset + length;
+
+			while (position < end) {
+
+				final int b = slab.get(position++) & 0xFF;
+
+				if (b < 0x80) {
+					builder.append((char) b);
+				} else if (b < 0xE0) {
+					builder.append((char) (((b & 0x1F) << 6) | (slab.get(position++) & 0x3F)));
+				} else if (b < 0xF0) {
+					builder.append((char) (((b & 0x0F) << 12) | ((slab.get(position++) & 0x3F) << 6) | (slab
+							.get(position++) & 0x3F)));
+				} else {
+					builder.appendCodePoint(((b & 0x07) << 18) | ((slab.get(position++) & 0x3F) << 12)
+							| ((slab.get(position++) & 0x3F) << 6) | (slab.get(position++) & 0x3F));
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,346 @@
+package com.mambu.number2words.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import com.mambu.number2words.api.NumberDecomposition;
+
+/**
+ * On-heap {@link TranscriptionCache} bounded by the estimated memory of its entries.
+ * <p>
+ * The entries are split into independently locked segments (several per processor), selected by the hash of the key,
+ * so there is no global lock. Each segment keeps its entries in least-recently-used order, holds an equal share of the
+ * memory limit and estimates the frequency of its keys with a {@link FrequencySketch}. When a new entry does not fit,
+ * it is only admitted if it was seen more often than all the least recently used entries it would replace; this keeps
+ * the values that are requested once (i.e. the amounts of a single report) from evicting the popular ones.
+ * <p>
+ * This class is thread safe.
+ */
+public final class StripedTranscriptionCache implements TranscriptionCache {
+
+	/**
+	 * The estimated memory used by an entry besides its digits and words: the key, the decomposition, the string and
+	 * the map entry.
+	 */
+	private static final int ENTRY_OVERHEAD = 160;
+
+	/**
+	 * The expected average memory used by an entry, to size the frequency sketches.
+	 */
+	private static final int AVERAGE_ENTRY_WEIGHT = 256;
+
+	/**
+	 * The segments. Their number is a power of two.
+	 */
+	private final Segment[] segments;
+
+	/**
+	 * Creates a cache with several segments for each available processor.
+	 *
+	 * @param maximumWeight
+	 *            - the estimated memory that the entries can use, in bytes. Greater than 0.
+	 */
+	public StripedTranscriptionCache(final long maximumWeight) {
+		this(maximumWeight, 4 * Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates a cache with the passed number of segments.
+	 *
+	 * @param maximumWeight
+	 *            - the estimated memory that the entries can use, in bytes. Greater than 0.
+	 * @param concurrencyLevel
+	 *            - the expected number of concurrent threads, rounded up to a power of two to get the number of
+	 *            segments. Greater than 0.
+	 */
+	public StripedTranscriptionCache(final long maximumWeight, final int concurrencyLevel) {
+
+		if (maximumWeight <= 0) {
+			throw new IllegalArgumentException("Invalid maximum weight: " + maximumWeight);
+		}
+
+		if (concurrencyLevel <= 0) {
+			throw new IllegalArgumentException("Invalid concurrency level: " + concurrencyLevel);
+		}
+
+		int count = 1;
+
+		while (count < concurrencyLevel && count < (1 << 16)) {
+			count <<= 1;
+		}
+
+		final long segmentWeight = Math.max(1L, maximumWeight / count);
+
+		this.segments = new Segment[count];
+
+		for (int i = 0; i < count; ++i) {
+			segments[i] = new Segment(segmentWeight);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean appendTo(final StringBuilder builder, final Locale locale, final NumberDecomposition number) {
+
+		final Key key = new Key(locale, number);
+		final String words = segmentFor(key.hash).get(key);
+
+		if (words == null) {
+			return false;
+		}
+
+		builder.append(words);
+
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void put(final Locale locale, final NumberDecomposition number, final CharSequence words) {
+
+		final Key key = new Key(locale, number);
+
+		segmentFor(key.hash).put(key, words.toString());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The frequencies are the estimates of the frequency sketches.
+	 */
+	@Override
+	public List<CacheEntry> getHottestEntries(final int maxCount) {
+
+		final List<CacheEntry> entries = new ArrayList<>();
+
+		for (final Segment segment : segments) {
+			segment.collect(entries);
+		}
+
+		Collections.sort(entries, CacheEntry.BY_DESCENDING_FREQUENCY);
+
+		return entries.size() > maxCount ? new ArrayList<>(entries.subList(0, maxCount)) : entries;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void restore(final CacheEntry entry) {
+
+		final Key key = new Key(entry.getLocale(), entry.getNumber());
+
+		segmentFor(key.hash).restore(key, entry.getWords(), entry.getFrequency());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public CacheStatistics getStatistics() {
+
+		long hits = 0L;
+		long misses = 0L;
+		long evictions = 0L;
+		long rejections = 0L;
+		long size = 0L;
+		long weight = 0L;
+
+		for (final Segment segment : segments) {
+			synchronized (segment) {
+				hits += segment.hitCount;
+				misses += segment.missCount;
+				evictions += segment.evictionCount;
+				rejections += segment.rejectionCount;
+				size += segment.entries.size();
+				weight += segment.weight;
+			}
+		}
+
+		return new CacheStatistics(hits, misses, evictions, rejections, size, weight);
+	}
+
+	/**
+	 * Selects the segment of a key.
+	 */
+	private Segment segmentFor(final int hash) {
+		// the low bits are used by the hash map of the segment
+		return segments[(hash >>> 16) & (segments.length - 1)];
+	}
+
+	/**
+	 * The estimated memory used by an entry.
+	 */
+	private static long weightOf(final Key key, final String words) {
+		return ENTRY_OVERHEAD + key.number.getDigitCount()
+				+ (key.number.hasFraction() ? key.number.getFraction().getDigitCount() : 0) + 2L * words.length();
+	}
+
+	/**
+	 * The key of an entry: the language and the decomposed value.
+	 */
+	private static final class Key {
+
+		private final Locale locale;
+
+		private final NumberDecomposition number;
+
+		private final int hash;
+
+		Key(final Locale locale, final NumberDecomposition number) {
+
+			this.locale = Objects.requireNonNull(locale);
+			this.number = Objects.requireNonNull(number);
+
+			// spreading the bits, as the segment is selected by the high ones
+			final int h = 31 * locale.hashCode() + number.hashCode();
+
+			this.hash = h ^ (h >>> 16) ^ (h * 0x9e3779b9);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+
+			final Key other = (Key) obj;
+
+			return hash == other.hash && locale.equals(other.locale) && number.equals(other.number);
+		}
+	}
+
+	/**
+	 * A part of the cache, with its own lock, memory limit and frequency sketch.
+	 */
+	private static final class Segment {
+
+		/**
+		 * The entries, in least-recently-used order.
+		 */
+		private final LinkedHashMap<Key, String> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+		/**
+		 * The frequencies of the keys looked up in this segment.
+		 */
+		private final FrequencySketch sketch;
+
+		/**
+		 * The estimated memory the entries of this segment can use.
+		 */
+		private final long maximumWeight;
+
+		/*
+		 * Counters. Guarded by the segment lock.
+		 */
+		private long weight = 0L;
+		private long hitCount = 0L;
+		private long missCount = 0L;
+		private long evictionCount = 0L;
+		private long rejectionCount = 0L;
+
+		Segment(final long maximumWeight) {
+			this.maximumWeight = maximumWeight;
+			this.sketch = new FrequencySketch((int) Math.min(1 << 24, maximumWeight / AVERAGE_ENTRY_WEIGHT + 1));
+		}
+
+		synchronized String get(final Key key) {
+
+			sketch.increment(key.hash);
+
+			final String words = entries.get(key);
+
+			if (words == null) {
+				++missCount;
+			} else {
+				++hitCount;
+			}
+
+			return words;
+		}
+
+		synchronized void collect(final List<CacheEntry> result) {
+			for (final Map.Entry<Key, String> entry : entries.entrySet()) {
+				final Key key = entry.getKey();
+				result.add(new CacheEntry(key.locale, key.number, entry.getValue(), sketch.frequency(key.hash)));
+			}
+		}
+
+		synchronized void restore(final Key key, final String words, final int frequency) {
+
+			for (int i = 0; i < frequency && sketch.frequency(key.hash) < frequency; ++i) {
+				sketch.increment(key.hash);
+			}
+
+			put(key, words);
+		}
+
+		synchronized void put(final Key key, final String words) {
+
+			if (entries.containsKey(key)) {
+				// added by another thread
+				return;
+			}
+
+			final long entryWeight = weightOf(key, words);
+
+			if (entryWeight > maximumWeight) {
+				++rejectionCount;
+				return;
+			}
+
+			// checking that all the victims are less frequent, before evicting any of them
+
+			final int frequency = sketch.frequency(key.hash);
+
+			long freed = 0L;
+			int victims = 0;
+
+			for (final Iterator<Map.Entry<Key, String>> it = entries.entrySet().iterator(); it.hasNext()
+					&& weight - freed + entryWeight > maximumWeight;) {
+
+				final Map.Entry<Key, String> victim = it.next();
+
+				if (sketch.frequency(victim.getKey().hash) >= frequency) {
+					++rejectionCount;
+					return;
+				}
+
+				freed += weightOf(victim.getKey(), victim.getValue());
+				++victims;
+			}
+
+			final Iterator<Map.Entry<Key, String>> it = entries.entrySet().iterator();
+
+			for (int i = 0; i < victims; ++i) {
+				it.next();
+				it.remove();
+			}
+
+			evictionCount += victims;
+			weight += entryWeight - freed;
+
+			entries.put(key, words);
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.mambu.number2words.cache;
+
+import java.util.List;
+import java.util.Locale;
+
+import com.mambu.number2words.api.NumberDecomposition;
+
+/**
+ * Implementations of this interface will store the transcriptions of numbers, so that the frequent values are not
+ * transcribed again.
+ * <p>
+ * The entries are keyed by the {@link Locale} of the transcription and the {@link NumberDecomposition} of the value,
+ * which is the same for all the representations of a number that have the same words (i.e. <code>"12.50"</code>,
+ * <code>BigDecimal.valueOf(1250, 2)</code> and 1250 minor units with scale 2). The same cache can be shared by the
+ * transcribers of several languages.
+ * <p>
+ * Implementations must be thread safe.
+ */
+public interface TranscriptionCache {
+
+	/**
+	 * Appends the cached words of the number to the StringBuilder instance, if present.
+	 * 
+	 * @param builder
+	 *            - StringBuilder instance to which the words will be appended. Not <code>null</code>.
+	 * @param locale
+	 *            - the language of the words. Not <code>null</code>.
+	 * @param number
+	 *            - the number. Not <code>null</code>.
+	 * @return <code>true</code> if the words were cached and appended, <code>false</code> otherwise.
+	 */
+	boolean appendTo(final StringBuilder builder, final Locale locale, final NumberDecomposition number);
+
+	/**
+	 * Offers the words of a number to the cache. The cache may decide not to keep them (i.e. if they are less frequent
+	 * than the entries that would have to be evicted).
+	 * 
+	 * @param locale
+	 *            - the language of the words. Not <code>null</code>.
+	 * @param number
+	 *            - the number. Not <code>null</code>.
+	 * @param words
+	 *            - the transcription of the number. Not <code>null</code>.
+	 */
+	void put(final Locale locale, final NumberDecomposition number, final CharSequence words);
+
+	/**
+	 * Returns the most frequently used entries, to be saved (see {@link CacheSnapshots}).
+	 * 
+	 * @param maxCount
+	 *            - the maximum number of entries to return. Equal or greater than 0.
+	 * @return the entries, in descending order of their frequency. Never <code>null</code>.
+	 */
+	List<CacheEntry> getHottestEntries(final int maxCount);
+
+	/**
+	 * Adds a saved entry, with its frequency, to the cache. The entry is subject to the same admission rules as the
+	 * new transcriptions.
+	 * 
+	 * @param entry
+	 *            - the entry. Not <code>null</code>.
+	 */
+	void restore(final CacheEntry entry);
+
+	/**
+	 * Returns the counters of the cache.
+	 * 
+	 * @return a {@link CacheStatistics} instance. Never <code>null</code>.
+	 */
+	CacheStatistics getStatistics();
+
+}
@@ -2,12 +2,16 @@ package com.mambu.number2words.internal.common;
 
 import java.math.BigDecimal;
 
-import com.mambu.number2words.api.NumberTranscriber;
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.api.NumberSequence;
+import com.mambu.number2words.internal.common.mapping.LeadingWordContext;
+import com.mambu.number2words.parsing.interfaces.DecompositionTokenizer;
 import com.mambu.number2words.parsing.interfaces.NumberTokenizer;
 import com.mambu.number2words.parsing.interfaces.TranscriptionContext;
 import com.mambu.number2words.parsing.interfaces.ValueMapping;
 import com.mambu.number2words.parsing.interfaces.ValueToken;
 import com.mambu.number2words.parsing.interfaces.Visitor;
+import com.mambu.number2words.parsing.interfaces.WordOutput;
 
 /**
  * <p>
@@ -24,7 +28,7 @@ import com.mambu.number2words.parsing.interfaces.Visitor;
  *            {@link Enum} type that implements {@link ValueMapping} interface, providing a 1-1 mapping between certain
  *            numbers and string literals (i.e., for English: 1 -> "one", 11 -> "eleven", 100 -> "hundred", etc.)
  */
-public abstract class AbstractNumberTranscriber implements NumberTranscriber {
+public abstract class AbstractNumberTranscriber extends AbstractWordTranscriber {
 
 	/**
 	 * The tokenizer for a specific language.
@@ -35,49 +39,74 @@ public abstract class AbstractNumberTranscriber implements NumberTranscriber {
 	 */
 	private final TranscriptionContext context;
 
+	/**
+	 * Evaluation context of the first word of each transcription, <code>null</code> if it is the same as the others.
+	 */
+	private final TranscriptionContext leadingContext;
+
 	/**
 	 * Default constructor.
 	 */
 	protected AbstractNumberTranscriber(final NumberTokenizer numberTokenizer,
 			final TranscriptionContext transcriptionContext) {
+		this(numberTokenizer, transcriptionContext, null);
+	}
+
+	/**
+	 * Constructor with a different context for the first word of each transcription (i.e. the capitalized words, for
+	 * sentence case).
+	 * <p>
+	 * The words of the values of a {@link NumberSequence} are then always transcribed in full, since the lowest group
+	 * does not start the words of the number (see {@link #isFirstWordStyled()}).
+	 * 
+	 * @param numberTokenizer
+	 *            - the tokenizer. Not <code>null</code>.
+	 * @param transcriptionContext
+	 *            - the context of the words. Not <code>null</code>.
+	 * @param leadingContext
+	 *            - the context of the first word, <code>null</code> if it is the same.
+	 */
+	protected AbstractNumberTranscriber(final NumberTokenizer numberTokenizer,
+			final TranscriptionContext transcriptionContext, final TranscriptionContext leadingContext) {
 		this.tokenizer = numberTokenizer;
 		this.context = transcriptionContext;
+		this.leadingContext = leadingContext;
 	}
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * The number is tokenized and the tokens are visited with {@link #getTokenVisitor(WordOutput,
+	 * TranscriptionContext)}. The tokenizers that are not {@link DecompositionTokenizer}s are given the number as a
+	 * {@link BigDecimal}.
 	 */
 	@Override
-	public String toWords(final BigDecimal number) {
-
-		final StringBuilder sb = new StringBuilder();
+	protected void transcribe(final NumberDecomposition number, final WordOutput output) {
 
-		appendWords(sb, number);
+		final ValueToken root = tokenizer instanceof DecompositionTokenizer ? ((DecompositionTokenizer) tokenizer)
+				.tokenize(number) : tokenizer.tokenize(number.toBigDecimal());
 
-		return sb.toString();
+		root.accept(getTokenVisitor(output,
+				leadingContext == null ? context : new LeadingWordContext(leadingContext, context)));
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public final void appendWords(final StringBuilder builder, final BigDecimal number) {
-
-		final ValueToken root = tokenizer.tokenize(number);
-
-		root.accept(getTokenVisitor(builder, context));
-
+	protected boolean isFirstWordStyled() {
+		return leadingContext != null;
 	}
 
 	/**
 	 * Factory method for the custom token {@link Visitor} implementation.
 	 * 
-	 * @param builder
-	 *            - the builder the visitor uses to output the results. Not <code>null</code>.
+	 * @param output
+	 *            - the output the visitor uses to write the results. Not <code>null</code>.
 	 * @param context
 	 *            - the {@link TranscriptionContext} used for token evaluation. Not <code>null</code>.
 	 * @return {@link Visitor Visitor&lt;Void&gt;} implementation. Never <code>null</code>.
 	 */
-	protected abstract Visitor<?> getTokenVisitor(final StringBuilder builder, final TranscriptionContext context);
+	protected abstract Visitor<?> getTokenVisitor(final WordOutput output, final TranscriptionContext context);
 
 }
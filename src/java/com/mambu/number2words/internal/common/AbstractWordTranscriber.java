@@ -0,0 +1,252 @@
+package com.mambu.number2words.internal.common;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.api.NumberSequence;
+import com.mambu.number2words.api.NumberTranscriber;
+import com.mambu.number2words.parsing.interfaces.WordOutput;
+import com.mambu.number2words.parsing.visitors.ComparingOutput;
+import com.mambu.number2words.parsing.visitors.StringBuilderOutput;
+
+/**
+ * <p>
+ * Abstract transcriber that implements the {@link NumberTranscriber} entry points (words, comparisons, amounts and
+ * sequences) on top of a single method writing the words of a {@link NumberDecomposition} to a {@link WordOutput}.
+ * <p>
+ * It makes no assumption on how the words are produced: {@link AbstractNumberTranscriber} visits the tokens of the
+ * number, while the rule-based transcribers read the digits directly.
+ */
+public abstract class AbstractWordTranscriber implements ExtendedNumberTranscriber {
+
+	/**
+	 * The largest scale for which the words of all the fractional values are precomputed (10<sup>4</sup> values).
+	 */
+	protected static final int MAX_FRACTION_TABLE_SCALE = 4;
+
+	/**
+	 * The words of the fractional values, by scale (see {@link #appendAmount(StringBuilder, long, int)}).
+	 */
+	private final AtomicReferenceArray<String[]> fractionWords = new AtomicReferenceArray<>(
+			MAX_FRACTION_TABLE_SCALE + 1);
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toWords(final BigDecimal number) {
+
+		final StringBuilder sb = new StringBuilder();
+
+		appendWords(sb, number);
+
+		return sb.toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toWords(final CharSequence number) {
+
+		final StringBuilder sb = new StringBuilder();
+
+		appendWords(sb, NumberDecomposition.parse(number));
+
+		return sb.toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final void appendWords(final StringBuilder builder, final BigDecimal number) {
+
+		appendWords(builder, NumberDecomposition.of(number));
+
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final void appendWords(final StringBuilder builder, final NumberDecomposition number) {
+
+		transcribe(number, new StringBuilderOutput(builder));
+
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean matches(final BigDecimal number, final CharSequence expected) {
+		return mismatch(NumberDecomposition.of(number), expected) < 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int mismatch(final NumberDecomposition number, final CharSequence expected) {
+
+		final ComparingOutput output = new ComparingOutput(expected);
+
+		transcribe(number, output);
+
+		return output.getMismatch();
+	}
+
+	/**
+	 * Writes the words of a number to an output. All the transcriptions and comparisons go through this method.
+	 * 
+	 * @param number
+	 *            - the number to transcribe. Not <code>null</code>.
+	 * @param output
+	 *            - the output of the words. Not <code>null</code>.
+	 */
+	protected abstract void transcribe(final NumberDecomposition number, final WordOutput output);
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * For scales up to {@link #MAX_FRACTION_TABLE_SCALE}, the integer part is transcribed and the words of the
+	 * fractional part are taken from a table holding all the values of that scale.
+	 */
+	@Override
+	public void appendAmount(final StringBuilder builder, final long minorUnits, final int scale) {
+
+		if (scale < 1 || scale > MAX_FRACTION_TABLE_SCALE) {
+			appendWords(builder, NumberDecomposition.ofMinorUnits(minorUnits, scale));
+			return;
+		}
+
+		if (minorUnits < 0) {
+			throw new IllegalArgumentException("Negative numbers are not supported");
+		}
+
+		appendWords(builder, NumberDecomposition.ofInteger(DecimalDivision.divide(minorUnits, scale)));
+
+		builder.append(getFractionWords(scale)[(int) DecimalDivision.remainder(minorUnits, scale)]);
+	}
+
+	/**
+	 * Gets the words appended after the integer part for all the fractional values of a scale. Lazily computed.
+	 * <p>
+	 * The words of the fractional value <code>m</code> are the transcription of <code>0.m</code> without the words of
+	 * zero (i.e. " and five" for English).
+	 * 
+	 * @param scale
+	 *            - the scale. Between 1 and {@link #MAX_FRACTION_TABLE_SCALE}.
+	 * @return the table of words, indexed by fractional value. Never <code>null</code>.
+	 */
+	private String[] getFractionWords(final int scale) {
+
+		String[] words = fractionWords.get(scale);
+
+		if (words == null) {
+
+			final String zero = toWords(BigDecimal.ZERO);
+
+			words = new String[(int) NumberDecomposition.powerOfTen(scale)];
+
+			for (int value = 0; value < words.length; ++value) {
+
+				final String amount = toWords(BigDecimal.valueOf(value, scale));
+
+				if (!amount.startsWith(zero)) {
+					throw new IllegalStateException("Fractional words can not be separated for " + amount);
+				}
+
+				words[value] = amount.substring(zero.length());
+			}
+
+			// concurrent initializations compute the same table
+			fractionWords.set(scale, words);
+		}
+
+		return words;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void appendPacked(final StringBuilder builder, final ByteBuffer buffer, final int offset,
+			final int length, final int scale) {
+		appendWords(builder, NumberDecomposition.parsePacked(buffer, offset, length, scale));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NumberSequence sequence(final long from, final long to) {
+		return new IncrementalNumberSequence(this, from, to);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NumberSequence sequence(final long[] values) {
+		return new IncrementalNumberSequence(this, values);
+	}
+
+	/**
+	 * The value of the lowest group quantifier (i.e. 1000 for English) used to split the values of a
+	 * {@link NumberSequence} into the high groups, which are reused between values, and the lowest group.
+	 * <p>
+	 * By default this returns 0, meaning that each value of a sequence is transcribed in full.
+	 * <p>
+	 * Override this, together with {@link #getSequenceJunction(long, long)}, if the words of a number are always the
+	 * words of its high part, followed by the junction, followed by the words of its lowest group.
+	 *
+	 * @return the size of the lowest group, or 0.
+	 */
+	protected long getSequenceGroupSize() {
+		return 0L;
+	}
+
+	/**
+	 * Whether the first word of each transcription is written differently from the same word elsewhere (i.e.
+	 * capitalized, for sentence case). The words of the values of a {@link NumberSequence} are then always transcribed
+	 * in full, since the lowest group does not start the words of the number.
+	 * <p>
+	 * By default this returns <code>false</code>.
+	 *
+	 * @return <code>true</code> if the first word is written differently.
+	 */
+	protected boolean isFirstWordStyled() {
+		return false;
+	}
+
+	/**
+	 * The group size used by {@link IncrementalNumberSequence}: {@link #getSequenceGroupSize()}, or 0 if the first word
+	 * is written differently.
+	 *
+	 * @return the size of the lowest group, or 0.
+	 */
+	final long getIncrementalGroupSize() {
+		return isFirstWordStyled() ? 0L : getSequenceGroupSize();
+	}
+
+	/**
+	 * The text between the words of the high part and the words of the lowest group of a number, when both are non
+	 * zero.
+	 * <p>
+	 * By default this returns a space.
+	 *
+	 * @param high
+	 *            - the value of the high part (a multiple of {@link #getSequenceGroupSize()}, greater than 0).
+	 * @param low
+	 *            - the value of the lowest group (greater than 0).
+	 * @return a {@link String} instance. Never <code>null</code>.
+	 */
+	protected String getSequenceJunction(final long high, final long low) {
+		return " ";
+	}
+}
@@ -0,0 +1,167 @@
+package com.mambu.number2words.internal.common;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.Objects;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.api.NumberSequence;
+import com.mambu.number2words.api.NumberTranscriber;
+import com.mambu.number2words.cache.TranscriptionCache;
+
+/**
+ * {@link NumberTranscriber} decorator that looks up the words of each number in a {@link TranscriptionCache} before
+ * transcribing it, and offers the new transcriptions to the cache.
+ * <p>
+ * All the inputs are decomposed first, so equal values share the cache entry whatever their representation. Sequences
+ * and comparisons are passed to the decorated transcriber, as they do not build the words of single values.
+ * <p>
+ * This class is thread safe if the transcriber and the cache are.
+ */
+public class CachingNumberTranscriber implements ExtendedNumberTranscriber {
+
+	/**
+	 * The decorated transcriber.
+	 */
+	private final ExtendedNumberTranscriber transcriber;
+
+	/**
+	 * The language of the transcriber, part of the cache keys.
+	 */
+	private final Locale locale;
+
+	/**
+	 * The cache, possibly shared with the transcribers of other languages.
+	 */
+	private final TranscriptionCache cache;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param transcriber
+	 *            - the decorated transcriber. Not <code>null</code>.
+	 * @param locale
+	 *            - the language of the transcriber. Not <code>null</code>.
+	 * @param cache
+	 *            - the cache. Not <code>null</code>.
+	 */
+	public CachingNumberTranscriber(final ExtendedNumberTranscriber transcriber, final Locale locale,
+			final TranscriptionCache cache) {
+		this.transcriber = Objects.requireNonNull(transcriber, "Transcriber can not be null");
+		this.locale = Objects.requireNonNull(locale, "Locale can not be null");
+		this.cache = Objects.requireNonNull(cache, "Cache can not be null");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toWords(final BigDecimal number) {
+
+		final StringBuilder sb = new StringBuilder();
+
+		appendWords(sb, NumberDecomposition.of(number));
+
+		return sb.toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toWords(final CharSequence number) {
+
+		final StringBuilder sb = new StringBuilder();
+
+		appendWords(sb, NumberDecomposition.parse(number));
+
+		return sb.toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void appendWords(final StringBuilder builder, final BigDecimal number) {
+		appendWords(builder, NumberDecomposition.of(number));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void appendWords(final StringBuilder builder, final NumberDecomposition number) {
+
+		if (!cache.appendTo(builder, locale, number)) {
+
+			final int start = builder.length();
+
+			transcriber.appendWords(builder, number);
+
+			cache.put(locale, number, builder.subSequence(start, builder.length()));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void appendAmount(final StringBuilder builder, final long minorUnits, final int scale) {
+
+		final NumberDecomposition number = NumberDecomposition.ofMinorUnits(minorUnits, scale);
+
+		if (!cache.appendTo(builder, locale, number)) {
+
+			final int start = builder.length();
+
+			// keeping the fast path of the transcriber
+			transcriber.appendAmount(builder, minorUnits, scale);
+
+			cache.put(locale, number, builder.subSequence(start, builder.length()));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void appendPacked(final StringBuilder builder, final ByteBuffer buffer, final int offset,
+			final int length, final int scale) {
+		appendWords(builder, NumberDecomposition.parsePacked(buffer, offset, length, scale));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean matches(final BigDecimal number, final CharSequence expected) {
+		return transcriber.matches(number, expected);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int mismatch(final NumberDecomposition number, final CharSequence expected) {
+		return transcriber.mismatch(number, expected);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NumberSequence sequence(final long from, final long to) {
+		return transcriber.sequence(from, to);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NumberSequence sequence(final long[] values) {
+		return transcriber.sequence(values);
+	}
+
+}
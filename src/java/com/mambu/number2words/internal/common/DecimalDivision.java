@@ -0,0 +1,56 @@
+package com.mambu.number2words.internal.common;
+
+import com.mambu.number2words.api.NumberDecomposition;
+
+/**
+ * Utilities class that divides non-negative values by powers of ten that are only known at run time (i.e. splitting an
+ * amount in minor units at its scale).
+ */
+public final class DecimalDivision {
+
+	/**
+	 * The powers of ten, by exponent.
+	 */
+	private static final long[] POWERS = new long[NumberDecomposition.MAX_LONG_DIGITS + 1];
+
+	static {
+		POWERS[0] = 1L;
+
+		for (int i = 1; i < POWERS.length; ++i) {
+			POWERS[i] = POWERS[i - 1] * 10;
+		}
+	}
+
+	/**
+	 * Private constructor. No instances allowed.
+	 */
+	private DecimalDivision() {
+		// utilities class
+	}
+
+	/**
+	 * Divides a value by 10<sup>power</sup>.
+	 *
+	 * @param dividend
+	 *            - the value. Equal or greater than 0.
+	 * @param power
+	 *            - the power of ten. Between 0 and {@link NumberDecomposition#MAX_LONG_DIGITS}.
+	 * @return the quotient.
+	 */
+	public static long divide(final long dividend, final int power) {
+		return dividend / POWERS[power];
+	}
+
+	/**
+	 * The remainder of the division of a value by 10<sup>power</sup> (i.e. its lowest <code>power</code> digits).
+	 *
+	 * @param dividend
+	 *            - the value. Equal or greater than 0.
+	 * @param power
+	 *            - the power of ten. Between 0 and {@link NumberDecomposition#MAX_LONG_DIGITS}.
+	 * @return the remainder.
+	 */
+	public static long remainder(final long dividend, final int power) {
+		return dividend - divide(dividend, power) * POWERS[power];
+	}
+}
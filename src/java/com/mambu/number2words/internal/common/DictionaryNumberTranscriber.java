@@ -0,0 +1,143 @@
+package com.mambu.number2words.internal.common;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.api.NumberSequence;
+import com.mambu.number2words.api.NumberTranscriber;
+import com.mambu.number2words.cache.AmountDictionary;
+
+/**
+ * {@link NumberTranscriber} that reads the words of the amounts in the range of an {@link AmountDictionary} from the
+ * mapped file, and transcribes the other numbers with the decorated transcriber.
+ * <p>
+ * Sequences and comparisons are passed to the decorated transcriber, as they do not build the words of single values.
+ * <p>
+ * This class is thread safe if the transcriber is.
+ */
+public class DictionaryNumberTranscriber implements ExtendedNumberTranscriber {
+
+	/**
+	 * The transcriber of the numbers out of the range of the dictionary.
+	 */
+	private final ExtendedNumberTranscriber transcriber;
+
+	/**
+	 * The precomputed words.
+	 */
+	private final AmountDictionary dictionary;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param transcriber
+	 *            - the transcriber of the language of the dictionary. Not <code>null</code>.
+	 * @param dictionary
+	 *            - the dictionary. Not <code>null</code>.
+	 */
+	public DictionaryNumberTranscriber(final ExtendedNumberTranscriber transcriber, final AmountDictionary dictionary) {
+		this.transcriber = Objects.requireNonNull(transcriber, "Transcriber can not be null");
+		this.dictionary = Objects.requireNonNull(dictionary, "Dictionary can not be null");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toWords(final BigDecimal number) {
+
+		final StringBuilder sb = new StringBuilder();
+
+		appendWords(sb, NumberDecomposition.of(number));
+
+		return sb.toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toWords(final CharSequence number) {
+
+		final StringBuilder sb = new StringBuilder();
+
+		appendWords(sb, NumberDecomposition.parse(number));
+
+		return sb.toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void appendWords(final StringBuilder builder, final BigDecimal number) {
+		appendWords(builder, NumberDecomposition.of(number));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void appendWords(final StringBuilder builder, final NumberDecomposition number) {
+
+		if (!dictionary.appendTo(builder, dictionary.indexOf(number))) {
+			transcriber.appendWords(builder, number);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void appendAmount(final StringBuilder builder, final long minorUnits, final int scale) {
+
+		if (scale != dictionary.getScale() || !dictionary.appendTo(builder, minorUnits)) {
+			transcriber.appendAmount(builder, minorUnits, scale);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void appendPacked(final StringBuilder builder, final ByteBuffer buffer, final int offset,
+			final int length, final int scale) {
+		appendWords(builder, NumberDecomposition.parsePacked(buffer, offset, length, scale));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean matches(final BigDecimal number, final CharSequence expected) {
+		return transcriber.matches(number, expected);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int mismatch(final NumberDecomposition number, final CharSequence expected) {
+		return transcriber.mismatch(number, expected);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NumberSequence sequence(final long from, final long to) {
+		return transcriber.sequence(from, to);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NumberSequence sequence(final long[] values) {
+		return transcriber.sequence(values);
+	}
+
+}
@@ -0,0 +1,221 @@
+package com.mambu.number2words.internal.common;
+
+import java.math.BigDecimal;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import com.mambu.number2words.api.NumberSequence;
+
+/**
+ * {@link NumberSequence} that splits each value into a <i>high</i> part (all the groups but the lowest) and a
+ * <i>low</i> part (the lowest group) and transcribes them separately:
+ * <ul>
+ * <li>the words of the high part are kept until a value with a different high part is reached (once every 1000 values
+ * for consecutive English numbers).
+ * <li>the words of the low part are cached by value (at most one group worth of values).
+ * </ul>
+ * The two are joined with {@link AbstractWordTranscriber#getSequenceJunction(long, long)}, which makes the result
+ * identical to {@link AbstractWordTranscriber#toWords(BigDecimal)}.
+ * <p>
+ * If the transcriber does not support incremental transcription (its
+ * {@link AbstractWordTranscriber#getSequenceGroupSize()} is 0, or its first word is styled differently), every value
+ * is transcribed in full.
+ */
+class IncrementalNumberSequence implements NumberSequence {
+
+	/**
+	 * The transcriber of the high and low parts.
+	 */
+	private final AbstractWordTranscriber transcriber;
+
+	/**
+	 * The value of the lowest group quantifier (i.e. 1000 for English), or 0 if the values are transcribed in full.
+	 */
+	private final long groupSize;
+
+	/**
+	 * The values of the sequence, or <code>null</code> for ranges.
+	 */
+	private final long[] values;
+
+	/**
+	 * The index of the next value in {@link #values}.
+	 */
+	private int index;
+
+	/**
+	 * The last value of the range.
+	 */
+	private final long to;
+
+	/**
+	 * If there are more values in the range.
+	 */
+	private boolean hasNext;
+
+	/**
+	 * If {@link #next()} was called at least once.
+	 */
+	private boolean started = false;
+
+	/**
+	 * The current value.
+	 */
+	private long current;
+
+	/**
+	 * The high part for which {@link #highWords} were rendered, -1 if none.
+	 */
+	private long high = -1L;
+
+	/**
+	 * The words of {@link #high}.
+	 */
+	private final StringBuilder highWords = new StringBuilder();
+
+	/**
+	 * The words of the low parts, by value. Lazily created and filled.
+	 */
+	private String[] lowWords;
+
+	/**
+	 * Creates a sequence over the <code>[from, to]</code> range.
+	 */
+	IncrementalNumberSequence(final AbstractWordTranscriber transcriber, final long from, final long to) {
+
+		if (from < 0) {
+			throw new IllegalArgumentException("Negative numbers are not supported");
+		}
+
+		this.transcriber = transcriber;
+		this.groupSize = transcriber.getIncrementalGroupSize();
+		this.values = null;
+		this.to = to;
+		this.current = from;
+		this.hasNext = from <= to;
+	}
+
+	/**
+	 * Creates a sequence over the passed values.
+	 */
+	IncrementalNumberSequence(final AbstractWordTranscriber transcriber, final long[] values) {
+
+		this.transcriber = transcriber;
+		this.groupSize = transcriber.getIncrementalGroupSize();
+		this.values = Objects.requireNonNull(values);
+		this.to = 0L;
+		this.index = 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasNext() {
+		return values == null ? hasNext : index < values.length;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		if (values != null) {
+
+			final long value = values[index];
+
+			if (value < 0) {
+				throw new IllegalArgumentException("Negative numbers are not supported");
+			}
+
+			++index;
+			current = value;
+
+		} else if (started) {
+			++current;
+		}
+
+		if (values == null) {
+			hasNext = current < to;
+		}
+
+		started = true;
+
+		return current;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void appendWords(final StringBuilder builder) {
+
+		Objects.requireNonNull(builder);
+
+		if (!started) {
+			throw new IllegalStateException("next() was not called");
+		}
+
+		if (groupSize == 0) {
+			transcriber.appendWords(builder, BigDecimal.valueOf(current));
+			return;
+		}
+
+		final long low = current % groupSize;
+		final long currentHigh = current - low;
+
+		if (currentHigh == 0) {
+			builder.append(lowWords(low));
+			return;
+		}
+
+		if (currentHigh != high) {
+			highWords.setLength(0);
+			transcriber.appendWords(highWords, BigDecimal.valueOf(currentHigh));
+			high = currentHigh;
+		}
+
+		builder.append(highWords);
+
+		if (low > 0) {
+			builder.append(transcriber.getSequenceJunction(currentHigh, low)).append(lowWords(low));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toWords() {
+
+		final StringBuilder sb = new StringBuilder();
+
+		appendWords(sb);
+
+		return sb.toString();
+	}
+
+	/**
+	 * Gets the (cached) words of a low part.
+	 */
+	private String lowWords(final long low) {
+
+		if (lowWords == null) {
+			lowWords = new String[(int) groupSize];
+		}
+
+		String words = lowWords[(int) low];
+
+		if (words == null) {
+			words = transcriber.toWords(BigDecimal.valueOf(low));
+			lowWords[(int) low] = words;
+		}
+
+		return words;
+	}
+}
@@ -0,0 +1,119 @@
+package com.mambu.number2words.internal.common;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.MultiLocaleTranscriber;
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.api.NumberTranscriber;
+
+/**
+ * {@link MultiLocaleTranscriber} that decomposes each number once and passes the decomposition to the
+ * {@link NumberTranscriber} of every locale.
+ * <p>
+ * This class is thread safe if the transcribers are.
+ */
+public class MultiLocaleNumberTranscriber implements MultiLocaleTranscriber {
+
+	/**
+	 * The locales, in order.
+	 */
+	private final List<Locale> locales;
+
+	/**
+	 * The transcribers, in the order of {@link #locales}.
+	 */
+	private final ExtendedNumberTranscriber[] transcribers;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param locales
+	 *            - the locales. Not <code>null</code>, not empty.
+	 * @param transcribers
+	 *            - the transcribers, one for each locale, in the same order. Not <code>null</code>.
+	 */
+	public MultiLocaleNumberTranscriber(final List<Locale> locales,
+			final List<ExtendedNumberTranscriber> transcribers) {
+
+		if (locales.isEmpty() || locales.size() != transcribers.size()) {
+			throw new IllegalArgumentException("There must be one transcriber for each locale");
+		}
+
+		this.locales = Collections.unmodifiableList(new ArrayList<>(locales));
+		this.transcribers = transcribers.toArray(new ExtendedNumberTranscriber[transcribers.size()]);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<Locale> getLocales() {
+		return locales;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String[] toWords(final BigDecimal number) {
+
+		final StringBuilder[] builders = new StringBuilder[transcribers.length];
+
+		for (int i = 0; i < builders.length; ++i) {
+			builders[i] = new StringBuilder();
+		}
+
+		appendWords(builders, number);
+
+		final String[] words = new String[builders.length];
+
+		for (int i = 0; i < words.length; ++i) {
+			words[i] = builders[i].toString();
+		}
+
+		return words;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void appendWords(final StringBuilder[] builders, final BigDecimal number) {
+
+		if (builders.length != transcribers.length) {
+			throw new IllegalArgumentException("There must be one builder for each locale");
+		}
+
+		final NumberDecomposition decomposition = NumberDecomposition.of(number);
+
+		for (int i = 0; i < transcribers.length; ++i) {
+			transcribers[i].appendWords(builders[i], decomposition);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void appendWords(final StringBuilder builder, final BigDecimal number, final String separator) {
+
+		Objects.requireNonNull(separator);
+
+		final NumberDecomposition decomposition = NumberDecomposition.of(number);
+
+		for (int i = 0; i < transcribers.length; ++i) {
+
+			if (i > 0) {
+				builder.append(separator);
+			}
+
+			transcribers[i].appendWords(builder, decomposition);
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package com.mambu.number2words.internal.common;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.api.NumberParser;
+import com.mambu.number2words.api.NumberSequence;
+
+/**
+ * Utilities class that runs a transcriber (and its parser) over generated numbers, so that its classes are loaded, its
+ * tables are filled and its code is compiled before the first real requests.
+ * <p>
+ * The numbers have 1 to 16 integer digits (all the group sizes and the values above 10<sup>12</sup>), mostly zeros
+ * and ones (skipped groups, zero marks, singular and shortened words), with and without fractional parts. They go
+ * through all the entry points: text, minor units, comparisons and sequences.
+ */
+public final class TranscriberWarmUp {
+
+	/**
+	 * The largest number of integer digits.
+	 */
+	private static final int MAX_DIGITS = 16;
+
+	/**
+	 * The digits, by frequency.
+	 */
+	private static final String DIGITS = "00000111123456789";
+
+	/**
+	 * Private constructor. No instances allowed.
+	 */
+	private TranscriberWarmUp() {
+		// utilities class
+	}
+
+	/**
+	 * Warms up a transcriber.
+	 *
+	 * @param transcriber
+	 *            - the transcriber. Not <code>null</code>.
+	 * @param parser
+	 *            - the parser of the same language, <code>null</code> to skip the parsing.
+	 * @param iterations
+	 *            - the number of generated numbers. Greater than 0.
+	 * @param amountScale
+	 *            - the largest scale of the amounts in minor units. Between 0 and
+	 *            {@link AbstractWordTranscriber#MAX_FRACTION_TABLE_SCALE}.
+	 * @return the number of transcriptions done.
+	 */
+	public static long run(final ExtendedNumberTranscriber transcriber, final NumberParser parser, final int iterations,
+			final int amountScale) {
+
+		final StringBuilder text = new StringBuilder();
+		final StringBuilder builder = new StringBuilder();
+
+		long count = 0L;
+		long seed = 0x9E3779B97F4A7C15L;
+
+		for (int scale = 1; scale <= amountScale; ++scale) {
+			// fills the table of the fractional words of the scale
+			transcriber.appendAmount(builder, 1L, scale);
+			++count;
+		}
+
+		for (int i = 0; i < iterations; ++i) {
+
+			text.setLength(0);
+
+			long integer = 0L;
+
+			for (int digit = 1 + i % MAX_DIGITS; digit > 0; --digit) {
+
+				seed = next(seed);
+
+				final char value = text.length() == 0 ? DIGITS.charAt(5 + (int) ((seed >>> 33) % (DIGITS.length() - 5)))
+						: DIGITS.charAt((int) ((seed >>> 33) % DIGITS.length()));
+
+				text.append(value);
+				integer = integer * 10 + (value - '0');
+			}
+
+			final int fractionDigits = i % 3 == 1 ? 1 + i % 4 : 0;
+
+			if (fractionDigits > 0) {
+
+				text.append('.');
+
+				for (int digit = 0; digit < fractionDigits; ++digit) {
+					seed = next(seed);
+					text.append(DIGITS.charAt((int) ((seed >>> 33) % DIGITS.length())));
+				}
+			}
+
+			final String words = transcriber.toWords(text);
+
+			if (transcriber.mismatch(NumberDecomposition.parse(text), words) >= 0) {
+				throw new IllegalStateException("Inconsistent transcription of " + text + ": " + words);
+			}
+
+			builder.setLength(0);
+			transcriber.appendAmount(builder, integer, amountScale == 0 ? 0 : 1 + i % amountScale);
+
+			count += 3;
+
+			if (parser != null) {
+				parser.parse(words);
+			}
+		}
+
+		// crosses the thousands and the millions
+		final long from = Math.max(0L, 1000000L - iterations / 20);
+		final NumberSequence sequence = transcriber.sequence(from, from + iterations / 10);
+
+		while (sequence.hasNext()) {
+			sequence.next();
+			builder.setLength(0);
+			sequence.appendWords(builder);
+			++count;
+		}
+
+		return count;
+	}
+
+	/**
+	 * The next value of a xorshift generator.
+	 *
+	 * @param seed
+	 *            - the previous value. Not 0.
+	 * @return the next value.
+	 */
+	private static long next(final long seed) {
+
+		long value = seed ^ seed << 13;
+		value ^= value >>> 7;
+
+		return value ^ value << 17;
+	}
+}
@@ -0,0 +1,57 @@
+package com.mambu.number2words.internal.common.mapping;
+
+import com.mambu.number2words.parsing.interfaces.TranscriptionContext;
+import com.mambu.number2words.parsing.interfaces.WordValue.GrammaticalNumber;
+import com.mambu.number2words.parsing.interfaces.WordValue.WordForm;
+
+/**
+ * {@link TranscriptionContext} that reads the first word of a transcription from a different context (i.e. a table with
+ * the capitalized words, for sentence case) and the other words from the regular one.
+ * <p>
+ * Not thread safe: one instance is used per transcription.
+ */
+public final class LeadingWordContext implements TranscriptionContext {
+
+	/**
+	 * The context of the first word.
+	 */
+	private final TranscriptionContext leading;
+
+	/**
+	 * The context of the other words.
+	 */
+	private final TranscriptionContext context;
+
+	/**
+	 * Whether the first word was read.
+	 */
+	private boolean started;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param leading
+	 *            - the context of the first word. Not <code>null</code>.
+	 * @param context
+	 *            - the context of the other words. Not <code>null</code>.
+	 */
+	public LeadingWordContext(final TranscriptionContext leading, final TranscriptionContext context) {
+		this.leading = leading;
+		this.context = context;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String asWord(final Long value, final GrammaticalNumber number, final WordForm form) {
+
+		if (started) {
+			return context.asWord(value, number, form);
+		}
+
+		started = true;
+
+		return leading.asWord(value, number, form);
+	}
+}
@@ -0,0 +1,95 @@
+package com.mambu.number2words.internal.common.mapping;
+
+import com.mambu.number2words.parsing.interfaces.ValueMapping;
+import com.mambu.number2words.parsing.interfaces.WordValue.GrammaticalNumber;
+import com.mambu.number2words.parsing.interfaces.WordValue.WordForm;
+
+/**
+ * Utilities class that computes a 64 bit fingerprint (FNV-1a) of the words of a language, so that data derived from
+ * them (i.e. cache snapshots) can be checked to still match.
+ * <p>
+ * The fingerprint covers the values, the types and all the word forms of each {@link ValueMapping}, in the order of
+ * the {@link Enum} constants.
+ */
+public class MappingFingerprint {
+
+	/**
+	 * The initial value of a fingerprint.
+	 */
+	public static final long INITIAL = 0xcbf29ce484222325L;
+
+	/**
+	 * The FNV-1a prime.
+	 */
+	private static final long PRIME = 0x100000001b3L;
+
+	/**
+	 * Private constructor. No instances allowed.
+	 */
+	private MappingFingerprint() {
+		// utilities class
+	}
+
+	/**
+	 * Adds the mappings of an {@link Enum} to the fingerprint.
+	 * 
+	 * @param fingerprint
+	 *            - the fingerprint so far (starting with {@link #INITIAL}).
+	 * @param enumClass
+	 *            - the {@link ValueMapping} {@link Enum} type. Not <code>null</code>.
+	 * @return the updated fingerprint.
+	 */
+	public static <T extends Enum<T> & ValueMapping> long update(final long fingerprint, final Class<T> enumClass) {
+
+		long result = update(fingerprint, enumClass.getName());
+
+		for (final T mapping : enumClass.getEnumConstants()) {
+
+			result = update(result, mapping.getValue());
+			result = update(result, mapping.isGroupQuantifier() ? 2L : mapping.isSubGroupQuantifier() ? 1L : 0L);
+
+			for (final GrammaticalNumber number : GrammaticalNumber.values()) {
+				for (final WordForm form : WordForm.values()) {
+					result = update(result, mapping.getWordValue().getWord(number, form));
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Adds a word (i.e. a decimal separator) to the fingerprint.
+	 * 
+	 * @param fingerprint
+	 *            - the fingerprint so far (starting with {@link #INITIAL}).
+	 * @param word
+	 *            - the word. Not <code>null</code>.
+	 * @return the updated fingerprint.
+	 */
+	public static long update(final long fingerprint, final String word) {
+
+		long result = fingerprint;
+
+		for (int i = 0; i < word.length(); ++i) {
+			result = (result ^ word.charAt(i)) * PRIME;
+		}
+
+		// separating the words, so that "ab" + "c" differs from "a" + "bc"
+		return (result ^ 0xFFFF) * PRIME;
+	}
+
+	/**
+	 * Adds a value to the fingerprint.
+	 */
+	private static long update(final long fingerprint, final long value) {
+
+		long result = fingerprint;
+
+		for (int shift = 0; shift < 64; shift += 8) {
+			result = (result ^ ((value >>> shift) & 0xFF)) * PRIME;
+		}
+
+		return result;
+	}
+}
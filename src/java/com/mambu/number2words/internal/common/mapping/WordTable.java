@@ -0,0 +1,199 @@
+package com.mambu.number2words.internal.common.mapping;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import com.mambu.number2words.api.factories.OutputStyle.LetterCase;
+import com.mambu.number2words.api.factories.WordOverlay;
+import com.mambu.number2words.parsing.interfaces.TranscriptionContext;
+import com.mambu.number2words.parsing.interfaces.ValueMapping;
+import com.mambu.number2words.parsing.interfaces.WordValue.GrammaticalNumber;
+import com.mambu.number2words.parsing.interfaces.WordValue.WordForm;
+
+/**
+ * The words of a {@link ValueMapping} enumeration as flat arrays, so a lookup is an index computation and an array
+ * read. The base tables wrap the arrays of the generated <code>*MappingTables</code> classes.
+ * <p>
+ * The tables with the words of a {@link WordOverlay} share the values and the unchanged {@link String}s of their base
+ * table: each one only costs an array of references. The tables with the words in a different letter case are
+ * computed once, when a styled transcriber is created.
+ * <p>
+ * Immutable, thread safe.
+ */
+public final class WordTable implements TranscriptionContext {
+
+	/**
+	 * The number of word forms.
+	 */
+	private static final int FORMS = WordForm.values().length;
+
+	/**
+	 * The number of words of each value: one per grammatical number and word form.
+	 */
+	private static final int WORDS_PER_VALUE = GrammaticalNumber.values().length * FORMS;
+
+	/**
+	 * The mapped values, in ascending order. Shared with the overlays.
+	 */
+	private final long[] values;
+
+	/**
+	 * The values from 0 up to this one are all mapped, so they are their own index.
+	 */
+	private final long denseLimit;
+
+	/**
+	 * The words of each value, by grammatical number and word form.
+	 */
+	private final String[] words;
+
+	/**
+	 * Private constructor.
+	 *
+	 * @param values
+	 *            - the mapped values, in ascending order.
+	 * @param denseLimit
+	 *            - the largest value that is its own index.
+	 * @param words
+	 *            - the words of each value.
+	 */
+	private WordTable(final long[] values, final long denseLimit, final String[] words) {
+		this.values = values;
+		this.denseLimit = denseLimit;
+		this.words = words;
+	}
+
+	/**
+	 * Creates a table over the arrays of a generated <code>*MappingTables</code> class. The arrays are shared, not
+	 * copied, and must not be modified.
+	 *
+	 * @param values
+	 *            - the mapped values, in ascending order. Not <code>null</code>.
+	 * @param denseLimit
+	 *            - the largest value that is its own index, -1 if none.
+	 * @param words
+	 *            - the words of each value, by grammatical number and word form. Not <code>null</code>.
+	 * @return a {@link WordTable} instance. Never <code>null</code>.
+	 * @throws IllegalArgumentException
+	 *             if the words do not match the values.
+	 */
+	public static WordTable of(final long[] values, final long denseLimit, final String[] words) {
+
+		if (words.length != values.length * WORDS_PER_VALUE) {
+			throw new IllegalArgumentException("Expected " + WORDS_PER_VALUE + " words for each of the "
+					+ values.length + " values, got " + words.length);
+		}
+
+		return new WordTable(values, denseLimit, words);
+	}
+
+	/**
+	 * Creates a table with the words of an overlay on top of the words of this one.
+	 *
+	 * @param overlay
+	 *            - the changes. Not <code>null</code>.
+	 * @return a {@link WordTable} instance. Never <code>null</code>.
+	 * @throws IllegalArgumentException
+	 *             if the overlay changes a value that is not mapped.
+	 */
+	public WordTable overlay(final WordOverlay overlay) {
+
+		final String[] overlaid = words.clone();
+
+		for (final Long value : overlay.getValues()) {
+
+			final int index = indexOf(value);
+
+			if (index < 0) {
+				throw new IllegalArgumentException("Value is not mapped: " + value);
+			}
+
+			for (final GrammaticalNumber number : GrammaticalNumber.values()) {
+				for (final WordForm form : WordForm.values()) {
+
+					final String word = overlay.getWord(value, number, form);
+
+					if (word != null) {
+						overlaid[index * WORDS_PER_VALUE + number.ordinal() * FORMS + form.ordinal()] = word;
+					}
+				}
+			}
+		}
+
+		return new WordTable(values, denseLimit, overlaid);
+	}
+
+	/**
+	 * Creates a table with the words of this one in a different letter case.
+	 *
+	 * @param letterCase
+	 *            - the case applied to each word. Not <code>null</code>.
+	 * @param locale
+	 *            - the locale of the case rules. Not <code>null</code>.
+	 * @return a {@link WordTable} instance, this one for {@link LetterCase#DEFAULT}. Never <code>null</code>.
+	 */
+	public WordTable withCase(final LetterCase letterCase, final Locale locale) {
+
+		if (letterCase == LetterCase.DEFAULT) {
+			return this;
+		}
+
+		final String[] styled = new String[words.length];
+
+		for (int i = 0; i < words.length; ++i) {
+			styled[i] = words[i] == null ? null : letterCase.apply(words[i], locale);
+		}
+
+		return new WordTable(values, denseLimit, styled);
+	}
+
+	/**
+	 * Returns the position of a value in the order of the mapping.
+	 *
+	 * @param value
+	 *            - the value.
+	 * @return the ordinal of the mapping of the value, -1 if the value is not mapped.
+	 */
+	public int indexOf(final long value) {
+
+		if (value >= 0 && value <= denseLimit) {
+			return (int) value;
+		}
+
+		final int index = Arrays.binarySearch(values, value);
+
+		return index >= 0 ? index : -1;
+	}
+
+	/**
+	 * Returns the word of a value.
+	 *
+	 * @param value
+	 *            - the value.
+	 * @param number
+	 *            - the <i>grammatical</i> number. Not <code>null</code>.
+	 * @param form
+	 *            - the <i>word form</i>. Not <code>null</code>.
+	 * @return the word. Never <code>null</code>.
+	 * @throws NullPointerException
+	 *             if the value is not mapped.
+	 */
+	public String getWord(final long value, final GrammaticalNumber number, final WordForm form) {
+
+		final int index = indexOf(value);
+
+		if (index < 0) {
+			throw new NullPointerException("Value is not mapped: " + value);
+		}
+
+		return words[index * WORDS_PER_VALUE + number.ordinal() * FORMS + form.ordinal()];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String asWord(final Long value, final GrammaticalNumber number, final WordForm form) {
+		return getWord(value, number, form);
+	}
+}
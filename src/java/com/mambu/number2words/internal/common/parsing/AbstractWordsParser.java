@@ -0,0 +1,834 @@
+package com.mambu.number2words.internal.common.parsing;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.api.NumberParser;
+import com.mambu.number2words.parsing.interfaces.ValueMapping;
+import com.mambu.number2words.parsing.interfaces.WordValue.GrammaticalNumber;
+import com.mambu.number2words.parsing.interfaces.WordValue.WordForm;
+
+/**
+ * Abstract class that defines a common way to parse words back into numbers, using the same {@link ValueMapping}
+ * {@link Enum} as the transcription.
+ * <p>
+ * All the word forms of the mappings (for all the {@link GrammaticalNumber} and {@link WordForm} combinations), the
+ * decimal separator and the ignored words (i.e. conjunctions) are compiled into a flat trie when the parser is
+ * created. Parsing is a single left to right pass: at each position the longest word of the trie is matched and applied
+ * to an accumulator:
+ * <ul>
+ * <li>simple values (one, twenty, 伍) are added to the current group.
+ * <li>sub-group quantifiers that are powers of ten (hundred, 拾, 佰, 仟) multiply the simple values before them, if
+ * those are smaller (two hundred), and are added otherwise (ten, cien).
+ * <li>group quantifiers (thousand, million, 万) multiply the current group together with all the previous groups that
+ * have smaller quantifiers (i.e. "doscientos mil millones", or the overflowing "one million trillion").
+ * </ul>
+ * Values are accumulated in <code>long</code>s and switch to {@link BigInteger}s only if they overflow.
+ * <p>
+ * This class is thread safe as the trie is immutable and all the parsing state is local to the call.
+ *
+ * @param <T>
+ *            the {@link ValueMapping} {@link Enum} type from which the words are retrieved.
+ */
+public abstract class AbstractWordsParser<T extends Enum<T> & ValueMapping> implements NumberParser {
+
+	/*
+	 * Token types.
+	 */
+	private static final byte SIMPLE = 0;
+	private static final byte MULTIPLIER = 1;
+	private static final byte GROUP = 2;
+	private static final byte DECIMAL_SEPARATOR = 3;
+	private static final byte IGNORED = 4;
+
+	/**
+	 * Marks trie nodes that do not end a word and missing children/siblings.
+	 */
+	private static final int NONE = -1;
+
+	/**
+	 * The character of each trie node (the root has none).
+	 */
+	private final char[] labels;
+
+	/**
+	 * The first child of each trie node, or {@link #NONE}.
+	 */
+	private final int[] firstChild;
+
+	/**
+	 * The next sibling of each trie node, or {@link #NONE}.
+	 */
+	private final int[] nextSibling;
+
+	/**
+	 * The index of the token ending at each trie node, or {@link #NONE}.
+	 */
+	private final int[] nodeTokens;
+
+	/**
+	 * The value of each token.
+	 */
+	private final long[] tokenValues;
+
+	/**
+	 * The type of each token.
+	 */
+	private final byte[] tokenTypes;
+
+	/**
+	 * If <code>true</code>, the words must be separated by white space. Otherwise they are written one after the other
+	 * (i.e. Chinese).
+	 */
+	private final boolean spaceSeparated;
+
+	/**
+	 * If <code>true</code>, the fractional part is a sequence of digits (i.e. Chinese). Otherwise, it is transcribed as
+	 * an integer.
+	 */
+	private final boolean sequentialFraction;
+
+	/**
+	 * The largest group quantifier, repeated by the transcription of values that overflow it.
+	 */
+	private final long maxGroupQuantifier;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param enumClass
+	 *            - the {@link ValueMapping} {@link Enum} type from which to retrieve the words. Not <code>null</code>.
+	 * @param decimalSeparator
+	 *            - the word separating the integer and the fractional parts. Not <code>null</code>.
+	 * @param spaceSeparated
+	 *            - <code>true</code> if the words are separated by white space.
+	 * @param sequentialFraction
+	 *            - <code>true</code> if the fractional part is transcribed as a sequence of digits.
+	 * @param ignoredWords
+	 *            - words that are skipped (i.e. the Spanish conjunction "y"). Not <code>null</code>.
+	 * @throws IllegalStateException
+	 *             if the same word is mapped to different values.
+	 */
+	protected AbstractWordsParser(final Class<T> enumClass, final String decimalSeparator,
+			final boolean spaceSeparated, final boolean sequentialFraction, final String... ignoredWords) {
+
+		this.spaceSeparated = spaceSeparated;
+		this.sequentialFraction = sequentialFraction;
+
+		final TrieBuilder trie = new TrieBuilder();
+
+		long maxGroup = 0L;
+
+		for (final T mapping : enumClass.getEnumConstants()) {
+
+			final long value = mapping.getValue();
+
+			byte type = SIMPLE;
+
+			if (mapping.isGroupQuantifier()) {
+				type = GROUP;
+				maxGroup = Math.max(maxGroup, value);
+			} else if (mapping.isSubGroupQuantifier() && isPowerOfTen(value)) {
+				type = MULTIPLIER;
+			}
+
+			for (final GrammaticalNumber number : GrammaticalNumber.values()) {
+				for (final WordForm form : WordForm.values()) {
+					trie.add(mapping.getWordValue().getWord(number, form), value, type);
+				}
+			}
+		}
+
+		trie.add(Objects.requireNonNull(decimalSeparator), 0L, DECIMAL_SEPARATOR);
+
+		for (final String word : ignoredWords) {
+			trie.add(word, 0L, IGNORED);
+		}
+
+		this.maxGroupQuantifier = maxGroup;
+		this.labels = trie.labels();
+		this.firstChild = trie.firstChild();
+		this.nextSibling = trie.nextSibling();
+		this.nodeTokens = trie.nodeTokens();
+		this.tokenValues = trie.tokenValues();
+		this.tokenTypes = trie.tokenTypes();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public BigDecimal parse(final CharSequence words) {
+
+		final Parse parse = read(words);
+
+		if (!parse.hasFraction) {
+			return new BigDecimal(parse.integer.bigValue());
+		}
+
+		final BigInteger fraction = parse.fractionValue();
+		final int scale = sequentialFraction ? parse.fractionDigits.length() : fraction.toString().length();
+
+		return new BigDecimal(parse.integer.bigValue().multiply(BigInteger.TEN.pow(scale)).add(fraction), scale);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public BigDecimal parse(final CharSequence words, final int scale) {
+
+		if (scale < 0) {
+			throw new IllegalArgumentException("Unsupported scale: " + scale);
+		}
+
+		final Parse parse = read(words);
+
+		final BigInteger multiplier = BigInteger.TEN.pow(scale);
+		BigInteger fraction = BigInteger.ZERO;
+
+		if (parse.hasFraction) {
+
+			// the fractional part is the unscaled value, as its leading zeroes are not transcribed
+			fraction = parse.fractionValue();
+
+			if (fraction.compareTo(multiplier) >= 0) {
+				throw new NumberFormatException("Fractional part does not fit scale " + scale + ": " + words);
+			}
+		}
+
+		return new BigDecimal(parse.integer.bigValue().multiply(multiplier).add(fraction), scale);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long parseLong(final CharSequence words) {
+
+		final Parse parse = read(words);
+
+		if (parse.hasFraction) {
+			throw new NumberFormatException("Not an integer: " + words);
+		}
+
+		return parse.integer.longValue();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long parseMinorUnits(final CharSequence words, final int scale) {
+
+		final long multiplier = NumberDecomposition.powerOfTen(scale);
+
+		final Parse parse = read(words);
+
+		final long fraction = parse.hasFraction ? parse.fractionValue(multiplier) : 0L;
+
+		if (fraction < 0) {
+			throw new NumberFormatException("Fractional part does not fit scale " + scale + ": " + words);
+		}
+
+		final long integer = parse.integer.longValue();
+
+		if (integer > (Long.MAX_VALUE - fraction) / multiplier) {
+			throw new ArithmeticException("Value does not fit into a long");
+		}
+
+		return integer * multiplier + fraction;
+	}
+
+	/**
+	 * Reads all the words and accumulates their values.
+	 *
+	 * @param words
+	 *            - the words to read. Not <code>null</code>.
+	 * @return the parsing state. Never <code>null</code>.
+	 * @throws NumberFormatException
+	 *             if the words are not a valid number.
+	 */
+	private Parse read(final CharSequence words) {
+
+		final Parse parse = new Parse();
+		final int length = words.length();
+
+		int position = 0;
+
+		while (true) {
+
+			while (position < length && Character.isWhitespace(words.charAt(position))) {
+				++position;
+			}
+
+			if (position == length) {
+				break;
+			}
+
+			final int token = match(words, position, parse);
+
+			if (token == NONE) {
+				throw new NumberFormatException("Unknown word at position " + position + ": " + words);
+			}
+
+			if (!apply(parse, token)) {
+				throw new NumberFormatException("Unexpected word at position " + position + ": " + words);
+			}
+
+			position = parse.matchEnd;
+		}
+
+		// a zero fractional part is transcribed as nothing when read digit by digit (i.e. 壹点)
+		if (parse.integer.isEmpty() || (parse.hasFraction && !sequentialFraction && parse.fraction.isEmpty())) {
+			throw new NumberFormatException("Incomplete number: " + words);
+		}
+
+		return parse;
+	}
+
+	/**
+	 * Applies a token to the parsing state.
+	 *
+	 * @return <code>false</code> if the token is not valid in the current state.
+	 */
+	private boolean apply(final Parse parse, final int token) {
+
+		final long value = tokenValues[token];
+
+		switch (tokenTypes[token]) {
+
+		case DECIMAL_SEPARATOR:
+
+			if (parse.hasFraction || parse.integer.isEmpty()) {
+				return false;
+			}
+
+			parse.startFraction(sequentialFraction);
+
+			return true;
+
+		case IGNORED:
+			return true;
+
+		case SIMPLE:
+
+			if (parse.hasFraction && sequentialFraction) {
+
+				if (value > 9) {
+					return false;
+				}
+
+				parse.fractionDigits.append((char) ('0' + value));
+
+				return true;
+			}
+
+			return parse.current().simple(value);
+
+		case MULTIPLIER:
+			return !(parse.hasFraction && sequentialFraction) && parse.current().multiplier(value);
+
+		case GROUP:
+			return !(parse.hasFraction && sequentialFraction)
+					&& parse.current().group(value, value == maxGroupQuantifier);
+		}
+
+		return false;
+	}
+
+	/**
+	 * Matches the longest word starting at the passed position. For space separated languages, the word must end at a
+	 * white space or at the end of the text.
+	 *
+	 * @return the index of the matched token, or {@link #NONE}. The end of the match is stored in the parse state.
+	 */
+	private int match(final CharSequence words, final int start, final Parse parse) {
+
+		final int length = words.length();
+
+		int node = 0;
+		int token = NONE;
+
+		for (int position = start; position < length; ++position) {
+
+			final char c = Character.toLowerCase(words.charAt(position));
+
+			int child = firstChild[node];
+
+			while (child != NONE && labels[child] != c) {
+				child = nextSibling[child];
+			}
+
+			if (child == NONE) {
+				break;
+			}
+
+			node = child;
+
+			final boolean wordEnd = !spaceSeparated || position + 1 == length
+					|| Character.isWhitespace(words.charAt(position + 1));
+
+			if (nodeTokens[node] != NONE && wordEnd) {
+				token = nodeTokens[node];
+				parse.matchEnd = position + 1;
+			}
+		}
+
+		return token;
+	}
+
+	/**
+	 * Checks if the value is 10, 100, 1000, etc...
+	 */
+	private static boolean isPowerOfTen(final long value) {
+
+		long power = 10L;
+
+		while (power < value && power <= Long.MAX_VALUE / 10) {
+			power *= 10;
+		}
+
+		return power == value;
+	}
+
+	/**
+	 * The state of a single parse.
+	 */
+	private static final class Parse {
+
+		/**
+		 * The integer part.
+		 */
+		final Accumulator integer = new Accumulator();
+
+		/**
+		 * If the decimal separator was read.
+		 */
+		boolean hasFraction = false;
+
+		/**
+		 * The fractional part, for languages that transcribe it as an integer.
+		 */
+		Accumulator fraction;
+
+		/**
+		 * The fractional part, for languages that transcribe it as a sequence of digits.
+		 */
+		StringBuilder fractionDigits;
+
+		/**
+		 * The end of the last matched word.
+		 */
+		int matchEnd;
+
+		void startFraction(final boolean sequential) {
+
+			hasFraction = true;
+
+			if (sequential) {
+				fractionDigits = new StringBuilder();
+			} else {
+				fraction = new Accumulator();
+			}
+		}
+
+		Accumulator current() {
+			return hasFraction ? fraction : integer;
+		}
+
+		BigInteger fractionValue() {
+			if (fraction != null) {
+				return fraction.bigValue();
+			}
+
+			return fractionDigits.length() == 0 ? BigInteger.ZERO : new BigInteger(fractionDigits.toString());
+		}
+
+		/**
+		 * Returns the value of the fractional part if it is smaller than the limit, or -1 otherwise.
+		 */
+		long fractionValue(final long limit) {
+
+			long value;
+
+			if (fraction != null) {
+				value = fraction.exactValue();
+			} else {
+
+				value = 0L;
+
+				for (int i = 0; i < fractionDigits.length() && value >= 0; ++i) {
+					// the limit is at most 10^18, so the values below it can be multiplied by 10 without overflowing
+					value = value < limit / 10 + 1 ? value * 10 + (fractionDigits.charAt(i) - '0') : -1L;
+				}
+			}
+
+			return value < limit ? value : -1L;
+		}
+	}
+
+	/**
+	 * Accumulates the value of a sequence of words. Groups are kept on a stack, in descending order of their
+	 * quantifiers, until a larger quantifier multiplies them.
+	 */
+	private static final class Accumulator {
+
+		/**
+		 * The quantifiers of the groups on the stack.
+		 */
+		private long[] quantifiers = new long[4];
+
+		/**
+		 * The values of the groups on the stack (quantifier included).
+		 */
+		private long[] values = new long[4];
+
+		/**
+		 * The values of the groups on the stack, once a value overflowed. <code>null</code> until then.
+		 */
+		private BigInteger[] bigValues;
+
+		/**
+		 * The number of groups on the stack.
+		 */
+		private int size = 0;
+
+		/**
+		 * The value of the current group (since the last group quantifier).
+		 */
+		private long current = 0L;
+
+		/**
+		 * The simple values since the last quantifier (they can still be multiplied by a sub-group quantifier).
+		 */
+		private long pending = 0L;
+
+		/**
+		 * If no words were accumulated.
+		 */
+		private boolean empty = true;
+
+		boolean isEmpty() {
+			return empty;
+		}
+
+		boolean simple(final long value) {
+
+			if (current > Long.MAX_VALUE - value) {
+				return false;
+			}
+
+			current += value;
+			pending += value;
+			empty = false;
+
+			return true;
+		}
+
+		boolean multiplier(final long value) {
+
+			final long added = pending > 0 && pending < value ? pending * (value - 1) : value;
+
+			if (current > Long.MAX_VALUE - added) {
+				return false;
+			}
+
+			current += added;
+			pending = 0L;
+			empty = false;
+
+			return true;
+		}
+
+		/**
+		 * Applies a group quantifier to the current group and the previous groups with smaller quantifiers.
+		 *
+		 * @param quantifier
+		 *            - the value of the group quantifier.
+		 * @param repeatable
+		 *            - <code>true</code> if the quantifier also multiplies the previous groups with the same
+		 *            quantifier. This is the case of the largest quantifier, which is repeated for values that overflow it (i.e.
+		 *            "one trillion trillion").
+		 * @return <code>false</code> if the quantifier is not valid.
+		 */
+		boolean group(final long quantifier, final boolean repeatable) {
+
+			int remaining = size;
+
+			if (bigValues == null) {
+
+				long group = current;
+
+				while (remaining > 0 && isMultiplied(remaining - 1, quantifier, repeatable)
+						&& group <= Long.MAX_VALUE - values[remaining - 1]) {
+					group += values[--remaining];
+				}
+
+				if (remaining > 0 && quantifiers[remaining - 1] == quantifier) {
+					// the same quantifier twice (i.e. "one thousand two thousand")
+					return false;
+				}
+
+				final boolean fits = remaining == 0 || !isMultiplied(remaining - 1, quantifier, repeatable);
+
+				if (group == 0) {
+					// the group quantifier alone (i.e. "mil")
+					group = 1;
+				}
+
+				if (fits && group <= Long.MAX_VALUE / quantifier) {
+					push(remaining, quantifier, group * quantifier, null);
+					return true;
+				}
+
+				// overflow: continue with big values
+				bigValues = new BigInteger[values.length];
+
+				for (int i = 0; i < size; ++i) {
+					bigValues[i] = BigInteger.valueOf(values[i]);
+				}
+
+				remaining = size;
+			}
+
+			BigInteger group = BigInteger.valueOf(current);
+
+			while (remaining > 0 && isMultiplied(remaining - 1, quantifier, repeatable)) {
+				group = group.add(bigValues[--remaining]);
+			}
+
+			if (remaining > 0 && quantifiers[remaining - 1] == quantifier) {
+				return false;
+			}
+
+			if (group.signum() == 0) {
+				group = BigInteger.ONE;
+			}
+
+			push(remaining, quantifier, 0L, group.multiply(BigInteger.valueOf(quantifier)));
+
+			return true;
+		}
+
+		/**
+		 * Checks if the group at <code>index</code> on the stack is multiplied by the quantifier.
+		 */
+		private boolean isMultiplied(final int index, final long quantifier, final boolean repeatable) {
+			return quantifiers[index] < quantifier || (repeatable && quantifiers[index] == quantifier);
+		}
+
+		/**
+		 * Replaces the groups on the stack from <code>index</code> with a new group.
+		 */
+		private void push(final int index, final long quantifier, final long value, final BigInteger bigValue) {
+
+			if (index == quantifiers.length) {
+				quantifiers = Arrays.copyOf(quantifiers, index * 2);
+				values = Arrays.copyOf(values, index * 2);
+
+				if (bigValues != null) {
+					bigValues = Arrays.copyOf(bigValues, index * 2);
+				}
+			}
+
+			quantifiers[index] = quantifier;
+			values[index] = value;
+
+			if (bigValues != null) {
+				bigValues[index] = bigValue;
+			}
+
+			size = index + 1;
+			current = 0L;
+			pending = 0L;
+			empty = false;
+		}
+
+		long longValue() {
+
+			final long value = exactValue();
+
+			if (value < 0) {
+				throw new ArithmeticException("Value does not fit into a long");
+			}
+
+			return value;
+		}
+
+		/**
+		 * Returns the accumulated value, or -1 if it does not fit into a <code>long</code>.
+		 */
+		long exactValue() {
+
+			if (bigValues != null) {
+				return -1L;
+			}
+
+			long total = current;
+
+			for (int i = 0; i < size; ++i) {
+
+				if (total > Long.MAX_VALUE - values[i]) {
+					return -1L;
+				}
+
+				total += values[i];
+			}
+
+			return total;
+		}
+
+		BigInteger bigValue() {
+
+			if (bigValues == null) {
+
+				long total = current;
+
+				for (int i = 0; i < size; ++i) {
+
+					if (total > Long.MAX_VALUE - values[i]) {
+						return bigSum();
+					}
+
+					total += values[i];
+				}
+
+				return BigInteger.valueOf(total);
+			}
+
+			return bigSum();
+		}
+
+		private BigInteger bigSum() {
+
+			BigInteger total = BigInteger.valueOf(current);
+
+			for (int i = 0; i < size; ++i) {
+				total = total.add(bigValues != null ? bigValues[i] : BigInteger.valueOf(values[i]));
+			}
+
+			return total;
+		}
+	}
+
+	/**
+	 * Builds the flat trie arrays.
+	 */
+	private static final class TrieBuilder {
+
+		private final StringBuilder labels = new StringBuilder().append('\0');
+		private final List<Integer> firstChild = new ArrayList<>(Arrays.asList(NONE));
+		private final List<Integer> nextSibling = new ArrayList<>(Arrays.asList(NONE));
+		private final List<Integer> nodeTokens = new ArrayList<>(Arrays.asList(NONE));
+		private final List<Long> tokenValues = new ArrayList<>();
+		private final List<Byte> tokenTypes = new ArrayList<>();
+
+		void add(final String word, final long value, final byte type) {
+
+			final String lowerCase = word.toLowerCase(Locale.ROOT);
+
+			int node = 0;
+
+			for (int i = 0; i < lowerCase.length(); ++i) {
+				node = child(node, lowerCase.charAt(i));
+			}
+
+			final Integer existing = nodeTokens.get(node);
+
+			if (existing != NONE) {
+
+				if (tokenValues.get(existing) != value || tokenTypes.get(existing) != type) {
+					throw new IllegalStateException("Word '" + word + "' is mapped to different values");
+				}
+
+				return;
+			}
+
+			nodeTokens.set(node, tokenValues.size());
+			tokenValues.add(value);
+			tokenTypes.add(type);
+		}
+
+		private int child(final int node, final char c) {
+
+			int child = firstChild.get(node);
+
+			while (child != NONE) {
+
+				if (labels.charAt(child) == c) {
+					return child;
+				}
+
+				child = nextSibling.get(child);
+			}
+
+			// new node, added as the first child
+			final int created = labels.length();
+
+			labels.append(c);
+			firstChild.add(NONE);
+			nextSibling.add(firstChild.get(node));
+			nodeTokens.add(NONE);
+
+			firstChild.set(node, created);
+
+			return created;
+		}
+
+		char[] labels() {
+			return labels.toString().toCharArray();
+		}
+
+		int[] firstChild() {
+			return toArray(firstChild);
+		}
+
+		int[] nextSibling() {
+			return toArray(nextSibling);
+		}
+
+		int[] nodeTokens() {
+			return toArray(nodeTokens);
+		}
+
+		long[] tokenValues() {
+
+			final long[] result = new long[tokenValues.size()];
+
+			for (int i = 0; i < result.length; ++i) {
+				result[i] = tokenValues.get(i);
+			}
+
+			return result;
+		}
+
+		byte[] tokenTypes() {
+
+			final byte[] result = new byte[tokenTypes.size()];
+
+			for (int i = 0; i < result.length; ++i) {
+				result[i] = tokenTypes.get(i);
+			}
+
+			return result;
+		}
+
+		private static int[] toArray(final List<Integer> list) {
+
+			final int[] result = new int[list.size()];
+
+			for (int i = 0; i < result.length; ++i) {
+				result[i] = list.get(i);
+			}
+
+			return result;
+		}
+	}
+}
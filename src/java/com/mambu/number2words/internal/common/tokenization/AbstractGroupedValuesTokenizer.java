@@ -8,8 +8,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
+import com.mambu.number2words.api.NumberDecomposition;
 import com.mambu.number2words.internal.common.mapping.QuantifyingMappingsHelper;
-import com.mambu.number2words.parsing.interfaces.NumberTokenizer;
+import com.mambu.number2words.parsing.interfaces.DecompositionTokenizer;
 import com.mambu.number2words.parsing.interfaces.ValueMapping;
 import com.mambu.number2words.parsing.interfaces.ValueMapping.MappingType;
 import com.mambu.number2words.parsing.interfaces.ValueToken;
@@ -28,7 +29,8 @@ import com.mambu.number2words.parsing.tokenization.SuffixedValueToken;
  *            the {@link ValueMapping} {@link Enum} type from group, sub-group and mapping information will be
  *            retrieved.
  */
-public abstract class AbstractGroupedValuesTokenizer<T extends Enum<T> & ValueMapping> implements NumberTokenizer {
+public abstract class AbstractGroupedValuesTokenizer<T extends Enum<T> & ValueMapping>
+		implements DecompositionTokenizer {
 
 	/**
 	 * Maximum number for the group index (0 based). In English, for example, 3 would represent billions (if that is the
@@ -66,9 +68,19 @@ public abstract class AbstractGroupedValuesTokenizer<T extends Enum<T> & ValueMa
 	private final List<T> subGroupQuantifiers;
 
 	/**
-	 * {@link Enum} class instance used to map numbers to words. This is required to gather group divisor information.
+	 * The values of the group quantifiers in descending order. Used to compute the group divisors.
 	 */
-	private Class<T> enumClass;
+	private final long[] groupQuantifiers;
+
+	/**
+	 * Cache of {@link #getGroupingDivisor(int)} values, by group index. Lazily initialized.
+	 */
+	private volatile long[] groupingDivisors;
+
+	/**
+	 * The number of digits (power of ten) of each of the {@link #groupingDivisors}. Lazily initialized.
+	 */
+	private volatile int[] groupingDigits;
 
 	/**
 	 * Default constructor.
@@ -82,22 +94,95 @@ public abstract class AbstractGroupedValuesTokenizer<T extends Enum<T> & ValueMa
 	 */
 	protected AbstractGroupedValuesTokenizer(final Class<T> enumClass, final String decimalPointSeparator) {
 
+		this(enumClass, valuesOf(QuantifyingMappingsHelper.groupQuantifiers(enumClass)), valuesOf(
+				QuantifyingMappingsHelper.subGroupQuantifiers(enumClass)), QuantifyingMappingsHelper
+				.largestConsecutiveMapping(enumClass).getValue(), decimalPointSeparator);
+
+		// the largest mapping must be a group quantifier
+		QuantifyingMappingsHelper.maxGroupQuantifier(enumClass);
+	}
+
+	/**
+	 * Constructor for the mappings validated at build time (see the generated <code>*MappingTables</code> classes):
+	 * the group structure is passed in, so the {@link Enum} is not checked again.
+	 * 
+	 * @param enumClass
+	 *            - the {@link ValueMapping} {@link Enum} type of the sub-group quantifiers. Not <code>null</code>.
+	 * @param groupQuantifiers
+	 *            - the values of the group quantifiers, in descending order. Not <code>null</code>, not empty.
+	 * @param subGroupQuantifiers
+	 *            - the values of the sub-group quantifiers, in descending order. Not <code>null</code>.
+	 * @param largestConsecutiveMapping
+	 *            - the largest value such that all the values from 0 to it are mapped.
+	 * @param decimalPointSeparator
+	 *            - a {@link String} that will be used to separate different <i>words</i>. Not <code>null</code>.
+	 * @throws IllegalArgumentException
+	 *             if there are no group quantifiers or a sub-group quantifier is not mapped by the {@link Enum}.
+	 */
+	protected AbstractGroupedValuesTokenizer(final Class<T> enumClass, final long[] groupQuantifiers,
+			final long[] subGroupQuantifiers, final long largestConsecutiveMapping,
+			final String decimalPointSeparator) {
+
+		if (groupQuantifiers.length == 0) {
+			throw new IllegalArgumentException(enumClass.getSimpleName() + " does not contain any group quantifiers");
+		}
+
 		this.decimalPointSeparator = Objects.requireNonNull(decimalPointSeparator);
 
-		this.enumClass = enumClass;
+		this.groupQuantifiers = groupQuantifiers.clone();
+
+		this.maximumGroupIndex = groupQuantifiers.length;
 
-		// initialize the values that are dependent on the value mappings
+		this.groupingDivisor = BigInteger.valueOf(groupQuantifiers[groupQuantifiers.length - 1]);
 
-		this.maximumGroupIndex = QuantifyingMappingsHelper.groupQuantifiers(enumClass).size();
+		this.largestGroupQuantifier = BigInteger.valueOf(groupQuantifiers[0]);
 
-		this.groupingDivisor = BigInteger.valueOf(QuantifyingMappingsHelper.minGroupQuantifier(enumClass).getValue());
+		this.largestConsecutiveMapping = largestConsecutiveMapping;
 
-		this.largestGroupQuantifier = BigInteger.valueOf(QuantifyingMappingsHelper.maxGroupQuantifier(enumClass)
-				.getValue());
+		this.subGroupQuantifiers = mappingsOf(enumClass, subGroupQuantifiers);
+	}
+
+	/**
+	 * Returns the values of a list of mappings.
+	 */
+	private static long[] valuesOf(final List<? extends ValueMapping> mappings) {
+
+		final long[] values = new long[mappings.size()];
 
-		this.largestConsecutiveMapping = QuantifyingMappingsHelper.largestConsecutiveMapping(enumClass).getValue();
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = mappings.get(i).getValue();
+		}
 
-		this.subGroupQuantifiers = QuantifyingMappingsHelper.subGroupQuantifiers(enumClass);
+		return values;
+	}
+
+	/**
+	 * Returns the mappings of a list of values, in the same order.
+	 */
+	private static <T extends Enum<T> & ValueMapping> List<T> mappingsOf(final Class<T> enumClass,
+			final long[] values) {
+
+		final List<T> result = new ArrayList<>(values.length);
+
+		for (final long value : values) {
+			result.add(mappingOf(enumClass, value));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the mapping of a value.
+	 */
+	private static <T extends Enum<T> & ValueMapping> T mappingOf(final Class<T> enumClass, final long value) {
+
+		for (final T mapping : enumClass.getEnumConstants()) {
+			if (mapping.getValue() == value) {
+				return mapping;
+			}
+		}
+
+		throw new IllegalArgumentException(enumClass.getSimpleName() + " does not map " + value);
 	}
 
 	/**
@@ -144,7 +229,7 @@ public abstract class AbstractGroupedValuesTokenizer<T extends Enum<T> & ValueMa
 		if (currentGroupIndex == 0 || currentGroupIndex >= maximumGroupIndex) {
 			// the first group is the minimum
 
-			return BigInteger.valueOf(QuantifyingMappingsHelper.minGroupQuantifier(enumClass).getValue());
+			return groupingDivisor;
 
 		} else {
 
@@ -153,12 +238,10 @@ public abstract class AbstractGroupedValuesTokenizer<T extends Enum<T> & ValueMa
 			// for example, in Spanish, after 1 million (10^6) the next group is 1 billion (10^12)
 
 			// quantifiers are in reverse order
-			final List<T> quantifiers = QuantifyingMappingsHelper.groupQuantifiers(enumClass);
-
-			final int lastGroupIndex = quantifiers.size() - 1;
+			final int lastGroupIndex = groupQuantifiers.length - 1;
 
-			final Long currentGroupQuantifier = quantifiers.get(lastGroupIndex - currentGroupIndex + 1).getValue();
-			final Long nextGroupQuantifier = quantifiers.get(lastGroupIndex - currentGroupIndex).getValue();
+			final long currentGroupQuantifier = groupQuantifiers[lastGroupIndex - currentGroupIndex + 1];
+			final long nextGroupQuantifier = groupQuantifiers[lastGroupIndex - currentGroupIndex];
 
 			return BigInteger.valueOf(nextGroupQuantifier / currentGroupQuantifier);
 		}
@@ -245,25 +328,26 @@ public abstract class AbstractGroupedValuesTokenizer<T extends Enum<T> & ValueMa
 	 */
 	@Override
 	public ValueToken tokenize(final BigDecimal number) {
+		return tokenize(NumberDecomposition.of(number));
+	}
 
-		if (BigDecimal.ZERO.compareTo(number) > 0) {
-			// negative number
-			throw new IllegalArgumentException("Negative numbers are not supported");
-		}
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ValueToken tokenize(final NumberDecomposition number) {
 
-		// to tokenize the value we need to separate the number at the decimal point
+		// the number is already separated at the decimal point
 
 		// 1. tokenize the integer left of the decimal point
-		final BigInteger integerPart = number.toBigInteger();
-		ValueToken integerPartToken = tokenize(integerPart);
+		final ValueToken integerPartToken = tokenizeInteger(number);
 
 		ValueToken result = integerPartToken;
 
-		if (number.scale() > 0) {
+		if (number.hasFraction()) {
 
 			// 2. if there are digits to the right of the decimal point, tokenize them
-			final BigInteger fractionalPart = getFractional(number, integerPart);
-			final ValueToken fractionalPartToken = tokenizeFractionalPart(fractionalPart);
+			final ValueToken fractionalPartToken = tokenizeFractionalPart(number.getFraction());
 
 			// 3. merge the two parts with the decimal separator in-between
 			final ValueToken[] tokensForDecimalValue = new ValueToken[] { integerPartToken,
@@ -277,31 +361,33 @@ public abstract class AbstractGroupedValuesTokenizer<T extends Enum<T> & ValueMa
 	}
 
 	/**
-	 * Tokenizes the fractional part of the number passed to {@link #tokenize(BigDecimal)}.
+	 * Tokenizes the fractional part of the number passed to {@link #tokenize(NumberDecomposition)}.
 	 * <p>
 	 * By default the same process of tokenization used for the integer part is used for the fractional part as well.
 	 * <p>
 	 * Override this if a special tokenizing process is required for the digits after the decimal point.
 	 * 
 	 * @param number
-	 *            - the number to tokenize. Not <code>null</code>.
+	 *            - the fractional part, as an integer (0.20 will be sent as 20, 0.200 as 200, etc..). Not
+	 *            <code>null</code>.
 	 * @return a {@link ValueToken} instance. Never <code>null</code>.
 	 */
-	protected ValueToken tokenizeFractionalPart(final BigInteger number) {
-		return tokenize(number);
+	protected ValueToken tokenizeFractionalPart(final NumberDecomposition number) {
+		return tokenizeInteger(number);
 	}
 
 	/**
-	 * Tokenizez an integer >= 0.
+	 * Tokenizes the integer part of a number.
 	 * 
 	 * @param number
+	 *            - the number to tokenize. Not <code>null</code>.
 	 * @return a {@link ValueToken} instance. Never <code>null</code>.
 	 */
-	private ValueToken tokenize(final BigInteger number) {
+	private ValueToken tokenizeInteger(final NumberDecomposition number) {
 
 		List<ValueToken> groups;
 
-		if (number.equals(BigInteger.ZERO)) {
+		if (number.isZero()) {
 			// tokenize zero
 			groups = Collections.singletonList(mappedValue(0));
 		} else {
@@ -320,7 +406,7 @@ public abstract class AbstractGroupedValuesTokenizer<T extends Enum<T> & ValueMa
 	 *            - the number to tokenize.
 	 * @return a list of tokens. Never <code>null</code>.
 	 */
-	private List<ValueToken> tokenizeNonZeroValue(final BigInteger number) {
+	private List<ValueToken> tokenizeNonZeroValue(final NumberDecomposition number) {
 
 		final List<ValueToken> groups = parseLargeValue(number);
 
@@ -335,59 +421,109 @@ public abstract class AbstractGroupedValuesTokenizer<T extends Enum<T> & ValueMa
 
 	/**
 	 * Parses a number (>0) and returns the list of tokens (in reverse order) that resulted.
+	 * <p>
+	 * The grouping divisors are powers of ten, so each group is read directly from the digits of the number.
 	 * 
 	 * @param number
-	 *            - the {@link BigInteger} to parse. Not <code>null</code>.
+	 *            - the number to parse. Not <code>null</code>.
 	 * @return a list of {@link ValueToken}s in reverse order. Never <code>null</code>.
 	 */
-	private List<ValueToken> parseLargeValue(final BigInteger number) {
+	private List<ValueToken> parseLargeValue(final NumberDecomposition number) {
 
 		final List<ValueToken> groups = new ArrayList<ValueToken>();
 
-		BigInteger toTokenize = number;
+		final long[] divisors = getGroupingDivisors();
+		final int[] digits = getGroupingDigits();
+
+		final long minimumDivisor = divisors[0];
 
+		int power = 0; // the power of ten of the lowest digit in the current group
 		int currentGroup = 0; // group index
 		long currentGroupQuantifier = 1; // group quantifier {1, 1_000, 1_000_000, etc...}
 
-		BigInteger localGroupingDivisor = getGroupingDivisor(currentGroup);
-		long longGroupDivisor = localGroupingDivisor.longValue();
+		while (power < number.getDigitCount()) {
 
-		while (!toTokenize.equals(BigInteger.ZERO)) {
+			final int groupDigits = digits[currentGroup];
 
-			if (currentGroup == getMaximumGroupIndex() && toTokenize.compareTo(localGroupingDivisor) >= 0) {
+			if (currentGroup == getMaximumGroupIndex() && number.getDigitCount() - power > groupDigits) {
 				// the number overflows over 999,999,999,999
 				// re-tokenize the overflow
-				addOverflowingNumberTokens(groups, toTokenize);
+				addOverflowingNumberTokens(groups, number.dropLowDigits(power));
 
 				break;
 			} else {
-				// tokenize the current group and prepare the rest of the number for tokenization
-
-				// values[0] -> next number to tokenize
-				// values[1] -> the current group value (3 digits maximum)
-				BigInteger[] values = toTokenize.divideAndRemainder(localGroupingDivisor);
+				// tokenize the current group (3 digits maximum)
+				final long groupValue = number.getGroup(power, groupDigits);
 
-				toTokenize = values[0];
-				BigInteger groupValue = values[1];
-
-				if (groupValue.compareTo(groupingDivisor) >= 0) {
+				if (groupValue >= minimumDivisor) {
 					// this is for groups that are larger than the default
-					groups.add(suffixValue(tokenize(groupValue), longGroupDivisor));
+					groups.add(suffixValue(tokenizeInteger(NumberDecomposition.ofInteger(groupValue)),
+							divisors[currentGroup]));
 				} else {
-					groups.add(parseGroup(groupValue.longValue(), currentGroupQuantifier));
+					groups.add(parseGroup(groupValue, currentGroupQuantifier));
 				}
 
+				currentGroupQuantifier *= divisors[currentGroup];
+				power += groupDigits;
 				++currentGroup;
-				currentGroupQuantifier *= longGroupDivisor;
-
-				// update the divisor
-				localGroupingDivisor = getGroupingDivisor(currentGroup);
-				longGroupDivisor = localGroupingDivisor.longValue();
 			}
 		}
 		return groups;
 	}
 
+	/**
+	 * The values of {@link #getGroupingDivisor(int)} for all the group indexes up to {@link #getMaximumGroupIndex()}.
+	 * 
+	 * @return the grouping divisors. Never <code>null</code>.
+	 */
+	private long[] getGroupingDivisors() {
+
+		if (groupingDivisors == null) {
+			initializeGroupingDivisors();
+		}
+
+		return groupingDivisors;
+	}
+
+	/**
+	 * The number of digits in each of the {@link #getGroupingDivisors()} groups.
+	 * 
+	 * @return the number of digits of each group. Never <code>null</code>.
+	 */
+	private int[] getGroupingDigits() {
+
+		if (groupingDigits == null) {
+			initializeGroupingDivisors();
+		}
+
+		return groupingDigits;
+	}
+
+	/**
+	 * Computes the grouping divisors once. This is idempotent, so concurrent initialization is harmless.
+	 */
+	private void initializeGroupingDivisors() {
+
+		final long[] divisors = new long[getMaximumGroupIndex() + 1];
+		final int[] digits = new int[divisors.length];
+
+		for (int i = 0; i < divisors.length; ++i) {
+
+			final BigInteger divisor = getGroupingDivisor(i);
+
+			digits[i] = divisor.toString().length() - 1;
+
+			if (!BigInteger.TEN.pow(digits[i]).equals(divisor) || digits[i] > NumberDecomposition.MAX_LONG_DIGITS) {
+				throw new IllegalStateException("Grouping divisor " + divisor + " is not a power of ten");
+			}
+
+			divisors[i] = divisor.longValue();
+		}
+
+		this.groupingDigits = digits;
+		this.groupingDivisors = divisors;
+	}
+
 	/**
 	 * Post processes a list of tokens representing groups before being returned as a {@link GroupListToken}. This
 	 * happens as a result of parsing a non-zero positive integer value.
@@ -412,34 +548,11 @@ public abstract class AbstractGroupedValuesTokenizer<T extends Enum<T> & ValueMa
 	 * @param toTokenize
 	 *            - the number to tokenize.
 	 */
-	private void addOverflowingNumberTokens(final List<ValueToken> groups, BigInteger toTokenize) {
+	private void addOverflowingNumberTokens(final List<ValueToken> groups, final NumberDecomposition toTokenize) {
 		// since the groups are added in reverse order
 		// the "trillion" token needs to be added before the rest of the number
 		groups.add(mappedValue(getMaximumGroupQuantifier().longValue()));
-		groups.add(tokenize(toTokenize));
-	}
-
-	/**
-	 * For a {@link BigDecimal}, gets the value to the right of the decimal point.
-	 * 
-	 * @param number
-	 *            - the number for which to get the fractional part.
-	 * @param integerPart
-	 *            - the integer part of {@code number}.
-	 * @return the fractional part of the number as a {@link BigInteger}
-	 */
-	private static BigInteger getFractional(BigDecimal number, final BigInteger integerPart) {
-
-		final BigDecimal fractional = number.subtract(new BigDecimal(integerPart)).abs();
-
-		if (fractional.scale() > 0) {
-
-			// the fractional part must be parsed as a normal number
-			// 0.20 will be sent as 20, 0.200 as 200, etc..
-			return fractional.unscaledValue();
-		}
-
-		return BigInteger.ZERO;
+		groups.add(tokenizeInteger(toTokenize));
 	}
 
 	/**
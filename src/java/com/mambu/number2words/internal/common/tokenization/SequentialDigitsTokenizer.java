@@ -1,39 +1,33 @@
 package com.mambu.number2words.internal.common.tokenization;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
-import com.mambu.number2words.parsing.interfaces.NumberTokenizer;
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.parsing.interfaces.DecompositionTokenizer;
 import com.mambu.number2words.parsing.interfaces.ValueToken;
 import com.mambu.number2words.parsing.tokenization.GroupListToken;
 import com.mambu.number2words.parsing.tokenization.MappedValueToken;
 
-public class SequentialDigitsTokenizer implements NumberTokenizer {
+public class SequentialDigitsTokenizer implements DecompositionTokenizer {
 
 	@Override
 	public ValueToken tokenize(BigDecimal number) {
-		final BigInteger integer = number.toBigIntegerExact();
+		return tokenize(NumberDecomposition.of(new BigDecimal(number.toBigIntegerExact())));
+	}
 
-		BigInteger toTokenize = integer;
+	@Override
+	public ValueToken tokenize(NumberDecomposition number) {
 
 		final List<ValueToken> tokens = new ArrayList<>();
 
-		while (toTokenize.compareTo(BigInteger.ZERO) != 0) {
-
-			final BigInteger[] values = toTokenize.divideAndRemainder(BigInteger.TEN);
-
-			toTokenize = values[0];
-
-			final BigInteger currentDigit = values[1];
-
-			tokens.add(new MappedValueToken(currentDigit.longValue()));
+		if (!number.isZero()) {
+			for (int power = number.getDigitCount() - 1; power >= 0; --power) {
+				tokens.add(new MappedValueToken(number.getDigit(power)));
+			}
 		}
 
-		Collections.reverse(tokens);
-
 		return new GroupListToken(tokens);
 	}
 
@@ -0,0 +1,120 @@
+package com.mambu.number2words.internal.english;
+
+import java.util.Locale;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberParser;
+import com.mambu.number2words.api.factories.LanguageModule;
+import com.mambu.number2words.api.factories.OutputStyle;
+import com.mambu.number2words.api.factories.OutputStyle.LetterCase;
+import com.mambu.number2words.api.factories.OutputStyleSupport;
+import com.mambu.number2words.api.factories.WordOverlay;
+import com.mambu.number2words.api.factories.WordOverlaySupport;
+import com.mambu.number2words.internal.common.mapping.MappingFingerprint;
+import com.mambu.number2words.internal.common.mapping.WordTable;
+import com.mambu.number2words.internal.english.mapping.EnglishMappingTables;
+import com.mambu.number2words.internal.english.mapping.EnglishNumberMapping;
+import com.mambu.number2words.internal.english.parsing.EnglishWordsParser;
+import com.mambu.number2words.internal.english.tokenization.EnglishNumberTokenizer;
+import com.mambu.number2words.internal.english.visitors.EnglishTokenVisitor;
+import com.mambu.number2words.parsing.interfaces.NumberTokenizer;
+import com.mambu.number2words.parsing.interfaces.TranscriptionContext;
+
+/**
+ * {@link LanguageModule} of the English language. The tokenizer and context are created with the first transcriber.
+ */
+public final class EnglishLanguageModule implements LanguageModule, WordOverlaySupport, OutputStyleSupport {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getLanguage() {
+		return "en";
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ExtendedNumberTranscriber newTranscriber(final Locale locale) {
+		return new EnglishNumberTranscriber(Tables.TOKENIZER, Tables.CONTEXT);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The tokenizer is only created if the decimal separator changes.
+	 */
+	@Override
+	public ExtendedNumberTranscriber newTranscriber(final Locale locale, final WordOverlay overlay) {
+
+		final NumberTokenizer tokenizer = overlay.getDecimalSeparator() == null ? Tables.TOKENIZER
+				: new EnglishNumberTokenizer(overlay.getDecimalSeparator());
+
+		return new EnglishNumberTranscriber(tokenizer, Overlays.WORDS.overlay(overlay));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The decimal separator is styled too. For sentence case, the first word is read from a table of capitalized words.
+	 */
+	@Override
+	public ExtendedNumberTranscriber newTranscriber(final Locale locale, final WordOverlay overlay,
+			final OutputStyle style) {
+
+		final LetterCase wordCase = style.getWordCase();
+		final WordTable words = Overlays.WORDS.overlay(overlay);
+
+		final String decimalSeparator = overlay.getDecimalSeparator() == null
+				? EnglishNumberTokenizer.DECIMAL_POINT_SEPARATOR : overlay.getDecimalSeparator();
+		final NumberTokenizer tokenizer = new EnglishNumberTokenizer(wordCase.apply(decimalSeparator, locale));
+
+		final WordTable leadingWords = style.getLetterCase() == LetterCase.SENTENCE
+				? words.withCase(LetterCase.SENTENCE, locale) : null;
+		final String wordSeparator = style.getWordSeparator(EnglishTokenVisitor.WORD_SEPARATOR);
+
+		return new EnglishNumberTranscriber(tokenizer, words.withCase(wordCase, locale), leadingWords, wordSeparator,
+				style.isHyphenatedTens() ? "-" : wordSeparator);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NumberParser newParser(final Locale locale) {
+		return new EnglishWordsParser();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long updateFingerprint(final long fingerprint) {
+
+		long result = MappingFingerprint.update(fingerprint, EnglishNumberMapping.class);
+
+		result = MappingFingerprint.update(result, EnglishNumberTokenizer.DECIMAL_POINT_SEPARATOR);
+
+		return result;
+	}
+
+	/**
+	 * The state-less, thread safe tokenizer and context shared by all the transcribers. Initialized on first use.
+	 */
+	private static final class Tables {
+
+		private static final NumberTokenizer TOKENIZER = new EnglishNumberTokenizer();
+
+		private static final TranscriptionContext CONTEXT = new EnglishNumberTranscriptionContext();
+	}
+
+	/**
+	 * The words of the mapping, on top of which the overlays are applied. Initialized on first use.
+	 */
+	private static final class Overlays {
+
+		private static final WordTable WORDS = EnglishMappingTables.asWordTable();
+	}
+}
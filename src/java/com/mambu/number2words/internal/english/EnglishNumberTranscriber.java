@@ -1,10 +1,13 @@
 package com.mambu.number2words.internal.english;
 
+import java.util.Objects;
+
 import com.mambu.number2words.internal.common.AbstractNumberTranscriber;
 import com.mambu.number2words.internal.english.visitors.EnglishTokenVisitor;
 import com.mambu.number2words.parsing.interfaces.NumberTokenizer;
 import com.mambu.number2words.parsing.interfaces.TranscriptionContext;
 import com.mambu.number2words.parsing.interfaces.Visitor;
+import com.mambu.number2words.parsing.interfaces.WordOutput;
 
 /**
  * Number transcriber for the English language.
@@ -14,6 +17,16 @@ import com.mambu.number2words.parsing.interfaces.Visitor;
  */
 public class EnglishNumberTranscriber extends AbstractNumberTranscriber {
 
+	/**
+	 * The string placed between words.
+	 */
+	private final String wordSeparator;
+
+	/**
+	 * The string placed between the tens and the units.
+	 */
+	private final String tensSeparator;
+
 	/**
 	 * Constructor that is used to initialize this transcriber with a tokenizer and context.
 	 * 
@@ -23,15 +36,55 @@ public class EnglishNumberTranscriber extends AbstractNumberTranscriber {
 	 *            - evaluation context when transcribing tokens. Not <code>null</code>.
 	 */
 	public EnglishNumberTranscriber(final NumberTokenizer tokenizer, final TranscriptionContext context) {
-		super(tokenizer, context);
+		this(tokenizer, context, null, EnglishTokenVisitor.WORD_SEPARATOR, EnglishTokenVisitor.WORD_SEPARATOR);
+	}
+
+	/**
+	 * Constructor of a styled transcriber (see {@link com.mambu.number2words.api.factories.OutputStyle OutputStyle}).
+	 * 
+	 * @param tokenizer
+	 *            - tokenizer for English. Not <code>null</code>.
+	 * @param context
+	 *            - evaluation context when transcribing tokens. Not <code>null</code>.
+	 * @param leadingContext
+	 *            - evaluation context of the first word, <code>null</code> if it is the same.
+	 * @param wordSeparator
+	 *            - the string placed between words. Not <code>null</code>.
+	 * @param tensSeparator
+	 *            - the string placed between the tens and the units. Not <code>null</code>.
+	 */
+	public EnglishNumberTranscriber(final NumberTokenizer tokenizer, final TranscriptionContext context,
+			final TranscriptionContext leadingContext, final String wordSeparator, final String tensSeparator) {
+		super(tokenizer, context, leadingContext);
+		this.wordSeparator = Objects.requireNonNull(wordSeparator);
+		this.tensSeparator = Objects.requireNonNull(tensSeparator);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Visitor<Void> getTokenVisitor(final WordOutput output, final TranscriptionContext context) {
+		return new EnglishTokenVisitor(output, context, wordSeparator, tensSeparator);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * In English the lowest group is always appended to the words of the higher groups (i.e. "one million" + " " +
+	 * "twenty").
+	 */
+	@Override
+	protected long getSequenceGroupSize() {
+		return 1000L;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	protected Visitor<Void> getTokenVisitor(final StringBuilder builder, final TranscriptionContext context) {
-		return new EnglishTokenVisitor(builder, context);
+	protected String getSequenceJunction(final long high, final long low) {
+		return wordSeparator;
 	}
 
 }
@@ -1,6 +1,6 @@
 package com.mambu.number2words.internal.english;
 
-import com.mambu.number2words.internal.english.mapping.EnglishNumberMapping;
+import com.mambu.number2words.internal.english.mapping.EnglishMappingTables;
 import com.mambu.number2words.parsing.interfaces.TranscriptionContext;
 import com.mambu.number2words.parsing.interfaces.WordValue.WordForm;
 import com.mambu.number2words.parsing.interfaces.WordValue.GrammaticalNumber;
@@ -21,7 +21,7 @@ public class EnglishNumberTranscriptionContext implements TranscriptionContext {
 	 */
 	@Override
 	public String asWord(Long value, GrammaticalNumber number, WordForm form) {
-		return EnglishNumberMapping.fromNumber(value).getWordValue().getWord(number, form);
+		return EnglishMappingTables.getWord(value, number, form);
 	}
 
 }
@@ -1,7 +1,6 @@
 package com.mambu.number2words.internal.english.mapping;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Objects;
 
 import com.mambu.number2words.internal.common.mapping.WordValueFactory;
@@ -39,14 +38,18 @@ public enum EnglishNumberMapping implements ValueMapping {
 	TRILLION(1_000_000_000_000L, "trillion", MappingType.GROUP_QUANTIFIER);
 
 	/**
-	 * Holds the direct mappings from value to enum instance.
+	 * The instances, in ascending order of their values (checked by the build).
 	 */
-	private static final Map<Long, EnglishNumberMapping> WORD_MAPPING = new HashMap<>();
+	private static final EnglishNumberMapping[] MAPPINGS = values();
+
+	/**
+	 * The values of the {@link #MAPPINGS}, to look them up by binary search.
+	 */
+	private static final long[] VALUES = new long[MAPPINGS.length];
 
 	static {
-		// store the Long -> Enum mapping for faster fetching.
-		for (EnglishNumberMapping sm : EnglishNumberMapping.values()) {
-			WORD_MAPPING.put(sm.getValue(), sm);
+		for (int i = 0; i < MAPPINGS.length; ++i) {
+			VALUES[i] = MAPPINGS[i].value;
 		}
 	}
 
@@ -133,6 +136,8 @@ public enum EnglishNumberMapping implements ValueMapping {
 	 *             if the value could not be mapped.
 	 */
 	public static EnglishNumberMapping fromNumber(Long value) {
-		return Objects.requireNonNull(WORD_MAPPING.get(value));
+		final int index = Arrays.binarySearch(VALUES, value);
+
+		return Objects.requireNonNull(index < 0 ? null : MAPPINGS[index]);
 	}
 }
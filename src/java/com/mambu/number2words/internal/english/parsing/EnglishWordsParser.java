@@ -0,0 +1,20 @@
+package com.mambu.number2words.internal.english.parsing;
+
+import com.mambu.number2words.internal.common.parsing.AbstractWordsParser;
+import com.mambu.number2words.internal.english.mapping.EnglishNumberMapping;
+import com.mambu.number2words.internal.english.tokenization.EnglishNumberTokenizer;
+
+/**
+ * Parses numbers transcribed into English words (i.e. "one hundred twenty three and five").
+ * <p>
+ * This class is thread safe.
+ */
+public class EnglishWordsParser extends AbstractWordsParser<EnglishNumberMapping> {
+
+	/**
+	 * Default constructor.
+	 */
+	public EnglishWordsParser() {
+		super(EnglishNumberMapping.class, EnglishNumberTokenizer.DECIMAL_POINT_SEPARATOR, true, false);
+	}
+}
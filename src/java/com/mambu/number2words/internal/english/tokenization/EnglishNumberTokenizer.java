@@ -1,6 +1,7 @@
 package com.mambu.number2words.internal.english.tokenization;
 
 import com.mambu.number2words.internal.common.tokenization.AbstractGroupedValuesTokenizer;
+import com.mambu.number2words.internal.english.mapping.EnglishMappingTables;
 import com.mambu.number2words.internal.english.mapping.EnglishNumberMapping;
 import com.mambu.number2words.parsing.interfaces.ValueToken;
 import com.mambu.number2words.parsing.tokenization.PrefixedValueToken;
@@ -24,13 +25,25 @@ public class EnglishNumberTokenizer extends AbstractGroupedValuesTokenizer<Engli
 	/**
 	 * String used to separate the numbers before and after the decimal point.
 	 */
-	private static final String DECIMAL_POINT_SEPARATOR = "and";
+	public static final String DECIMAL_POINT_SEPARATOR = "and";
 
 	/**
 	 * Default constructor.
 	 */
 	public EnglishNumberTokenizer() {
-		super(EnglishNumberMapping.class, DECIMAL_POINT_SEPARATOR);
+		this(DECIMAL_POINT_SEPARATOR);
+	}
+
+	/**
+	 * Constructor with a different decimal separator.
+	 * 
+	 * @param decimalSeparator
+	 *            - the word between the integer and the fractional part. Not <code>null</code>.
+	 */
+	public EnglishNumberTokenizer(final String decimalSeparator) {
+		super(EnglishNumberMapping.class, EnglishMappingTables.getGroupQuantifiers(),
+				EnglishMappingTables.getSubGroupQuantifiers(), EnglishMappingTables.getLargestConsecutiveValue(),
+				decimalSeparator);
 	}
 
 	/**
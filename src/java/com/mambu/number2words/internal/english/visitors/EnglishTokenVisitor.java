@@ -2,7 +2,11 @@ package com.mambu.number2words.internal.english.visitors;
 
 import com.mambu.number2words.parsing.interfaces.TranscriptionContext;
 import com.mambu.number2words.parsing.interfaces.ValueToken;
+import com.mambu.number2words.parsing.interfaces.WordOutput;
+import com.mambu.number2words.parsing.tokenization.MappedValueToken;
+import com.mambu.number2words.parsing.tokenization.PrefixedValueToken;
 import com.mambu.number2words.parsing.visitors.AbstractTranscribingVisitor;
+import com.mambu.number2words.parsing.visitors.StringBuilderOutput;
 
 /**
  * {@link ValueToken} visitor for English numbers. It will build or print a {@link String} representation of a tree of
@@ -18,11 +22,48 @@ public class EnglishTokenVisitor extends AbstractTranscribingVisitor {
 	/**
 	 * Word separator for English.
 	 */
-	private static final String WORD_SEPARATOR = " ";
+	public static final String WORD_SEPARATOR = " ";
+
+	/**
+	 * Separator between the tens and the units (i.e. "twenty" and "two").
+	 */
+	private final String tensSeparator;
 
 	/**
 	 * Default constructor.
 	 * 
+	 * @param output
+	 *            - {@link WordOutput} the {@link ValueToken} word representation will be appended.
+	 * 
+	 * @param context
+	 *            - the context that holds the number to word mapping information.
+	 * 
+	 */
+	public EnglishTokenVisitor(WordOutput output, TranscriptionContext context) {
+		this(output, context, WORD_SEPARATOR, WORD_SEPARATOR);
+	}
+
+	/**
+	 * Constructor with different separators.
+	 * 
+	 * @param output
+	 *            - {@link WordOutput} the {@link ValueToken} word representation will be appended.
+	 * @param context
+	 *            - the context that holds the number to word mapping information.
+	 * @param wordSeparator
+	 *            - the string that should be placed between words. Not <code>null</code>.
+	 * @param tensSeparator
+	 *            - the string that should be placed between the tens and the units (i.e. "-"). Not <code>null</code>.
+	 */
+	public EnglishTokenVisitor(final WordOutput output, final TranscriptionContext context, final String wordSeparator,
+			final String tensSeparator) {
+		super(context, output, wordSeparator);
+		this.tensSeparator = tensSeparator;
+	}
+
+	/**
+	 * Constructor that appends the words to a {@link StringBuilder}.
+	 * 
 	 * @param builder
 	 *            - {@link StringBuilder} the {@link ValueToken} word representation will be appended.
 	 * 
@@ -31,7 +72,27 @@ public class EnglishTokenVisitor extends AbstractTranscribingVisitor {
 	 * 
 	 */
 	public EnglishTokenVisitor(StringBuilder builder, TranscriptionContext context) {
-		super(context, builder, WORD_SEPARATOR);
+		this(new StringBuilderOutput(builder), context);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The tens are the only prefixes that are mapped values (the hundreds are suffixed values): they are followed by
+	 * the tens separator.
+	 */
+	@Override
+	public Void visitPrefixedValue(final PrefixedValueToken token) {
+
+		if (!(token.getPrefixToken() instanceof MappedValueToken)) {
+			return super.visitPrefixedValue(token);
+		}
+
+		token.getPrefixToken().accept(this);
+		getOutput().append(tensSeparator);
+		token.getValueToken().accept(this);
+
+		return null;
 	}
 
 }
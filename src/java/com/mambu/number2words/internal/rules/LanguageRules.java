@@ -0,0 +1,370 @@
+package com.mambu.number2words.internal.rules;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import com.mambu.number2words.api.NumberDecomposition;
+
+/**
+ * The spelling rules of a language, compiled from a declarative definition into flat tables: the words of every group
+ * value (i.e. 0 to 999) and the words of the scales (thousand, million, etc..). These are run by
+ * {@link RuleBasedNumberTranscriber}.
+ * <p>
+ * The definition is a properties file (UTF-8) with the keys:
+ * <ul>
+ * <li><code>separator</code> - the text between words (<code>&#92;u0020</code> for a space, empty for none).</li>
+ * <li><code>decimal.separator</code> - the word between the integer and the fractional part.</li>
+ * <li><code>fraction</code> - <code>number</code> to spell the fractional digits as an integer (the default), or
+ * <code>digits</code> to spell them one by one.</li>
+ * <li><code>group.digits</code> - the number of digits of a group (3 for thousands, 4 for ten thousands).</li>
+ * <li><code>word.&lt;value&gt;</code> - the word of a value of a group. The digits 0 to 9 are required; the other
+ * values are composed from the largest place (10, 100, etc..) they contain.</li>
+ * <li><code>compound.&lt;value&gt;</code> - the word of a value when followed by a lower part ("ciento" in "ciento
+ * uno", but "cien" alone).</li>
+ * <li><code>place.&lt;value&gt;</code> - the word after the digit of a place that has no word of its own ("one
+ * hundred").</li>
+ * <li><code>conjunction.&lt;value&gt;</code> - the word between a place and the lower part ("treinta y uno").</li>
+ * <li><code>zero.mark</code> - the word written once for the zeros skipped before a non-zero digit (i.e. "零").</li>
+ * <li><code>scale.&lt;power&gt;</code> - the word of the group quantifier 10<sup>power</sup>. The digits above the
+ * largest scale are spelled as a number of their own, followed by the largest scale.</li>
+ * <li><code>scale.&lt;power&gt;.plural</code> - the word of the scale after group values greater than 1.</li>
+ * <li><code>scale.&lt;power&gt;.one</code> - the words of the group value 1 before the scale ("un millon"), empty to
+ * only write the scale ("mil").</li>
+ * </ul>
+ * When the difference between two scales is larger than a group (i.e. Spanish millions are followed by billions), the
+ * values of the larger group are spelled as numbers of their own ("mil millones").
+ * <p>
+ * Immutable, thread safe.
+ */
+public final class LanguageRules {
+
+	/**
+	 * The folder of the rules of the bundled languages (named by language code, i.e. <code>en.properties</code>).
+	 */
+	private static final String BUNDLED_RULES = "/com/mambu/number2words/internal/rules/";
+
+	/**
+	 * The largest supported {@link #groupDigits}.
+	 */
+	private static final int MAX_GROUP_DIGITS = 4;
+
+	/**
+	 * The text between words.
+	 */
+	final String separator;
+
+	/**
+	 * The word between the integer and the fractional part.
+	 */
+	final String decimalSeparator;
+
+	/**
+	 * Whether the fractional digits are spelled one by one.
+	 */
+	final boolean digitFractions;
+
+	/**
+	 * The word of the skipped zeros, <code>null</code> if they are not marked.
+	 */
+	final String zeroMark;
+
+	/**
+	 * The number of digits of a group.
+	 */
+	final int groupDigits;
+
+	/**
+	 * The words of all the group values (10<sup>{@link #groupDigits}</sup> of them), by value.
+	 */
+	final String[] groupWords;
+
+	/**
+	 * The powers of ten of the scales, in ascending order. The first is 0 (the units).
+	 */
+	final int[] scalePowers;
+
+	/**
+	 * The words of the scales (singular), by index of {@link #scalePowers}.
+	 */
+	final String[] scaleWords;
+
+	/**
+	 * The words of the scales after group values greater than 1, by index of {@link #scalePowers}.
+	 */
+	final String[] pluralScaleWords;
+
+	/**
+	 * The words of the group value 1, by index of {@link #scalePowers}.
+	 */
+	final String[] oneWords;
+
+	/**
+	 * Compiles the rules.
+	 *
+	 * @param definition
+	 *            - the definition. Not <code>null</code>.
+	 * @throws IllegalArgumentException
+	 *             if the definition is not valid.
+	 */
+	private LanguageRules(final Properties definition) {
+
+		final Map<String, String> keys = new HashMap<>();
+
+		for (final String key : definition.stringPropertyNames()) {
+			keys.put(key, definition.getProperty(key));
+		}
+
+		this.separator = required(keys, "separator");
+		this.decimalSeparator = required(keys, "decimal.separator");
+
+		final String fraction = optional(keys, "fraction", "number");
+
+		if (!"number".equals(fraction) && !"digits".equals(fraction)) {
+			throw new IllegalArgumentException("Invalid fraction: " + fraction);
+		}
+
+		this.digitFractions = "digits".equals(fraction);
+		this.zeroMark = optional(keys, "zero.mark", null);
+		this.groupDigits = parseInt(required(keys, "group.digits"), 1, MAX_GROUP_DIGITS);
+
+		final int groupSize = (int) NumberDecomposition.powerOfTen(groupDigits);
+
+		final String[] words = new String[groupSize];
+		final String[] compounds = new String[groupSize];
+		final String[] places = new String[groupSize];
+		final String[] conjunctions = new String[groupSize];
+
+		final TreeMap<Integer, String> scales = new TreeMap<>();
+
+		for (final String key : keys.keySet().toArray(new String[keys.size()])) {
+
+			final int dot = key.lastIndexOf('.');
+			final String prefix = dot < 0 ? key : key.substring(0, dot);
+
+			if ("word".equals(prefix)) {
+				words[parseInt(key.substring(dot + 1), 0, groupSize - 1)] = keys.remove(key);
+			} else if ("compound".equals(prefix)) {
+				compounds[parseInt(key.substring(dot + 1), 1, groupSize - 1)] = keys.remove(key);
+			} else if ("place".equals(prefix)) {
+				places[parsePlace(key.substring(dot + 1), groupSize)] = keys.remove(key);
+			} else if ("conjunction".equals(prefix)) {
+				conjunctions[parsePlace(key.substring(dot + 1), groupSize)] = keys.remove(key);
+			} else if ("scale".equals(prefix)) {
+				scales.put(parseInt(key.substring(dot + 1), groupDigits, NumberDecomposition.MAX_LONG_DIGITS), keys
+						.remove(key));
+			}
+		}
+
+		for (int digit = 0; digit < 10; ++digit) {
+			if (words[digit] == null) {
+				throw new IllegalArgumentException("Missing word." + digit);
+			}
+		}
+
+		if (scales.isEmpty()) {
+			throw new IllegalArgumentException("Missing scale.<power>");
+		}
+
+		this.groupWords = new String[groupSize];
+
+		for (int value = 0; value < groupSize; ++value) {
+			groupWords[value] = compose(value, words, compounds, places, conjunctions);
+		}
+
+		this.scalePowers = new int[scales.size() + 1];
+		this.scaleWords = new String[scalePowers.length];
+		this.pluralScaleWords = new String[scalePowers.length];
+		this.oneWords = new String[scalePowers.length];
+
+		oneWords[0] = groupWords[1];
+
+		int index = 0;
+
+		for (final Map.Entry<Integer, String> scale : scales.entrySet()) {
+
+			++index;
+
+			if (scale.getKey() - scalePowers[index - 1] < groupDigits) {
+				throw new IllegalArgumentException("scale." + scale.getKey() + " is less than a group above the "
+						+ "previous scale");
+			}
+
+			scalePowers[index] = scale.getKey();
+			scaleWords[index] = scale.getValue();
+			pluralScaleWords[index] = optional(keys, "scale." + scale.getKey() + ".plural", scale.getValue());
+			oneWords[index] = optional(keys, "scale." + scale.getKey() + ".one", groupWords[1]);
+		}
+
+		if (!keys.isEmpty()) {
+			throw new IllegalArgumentException("Unknown keys: " + keys.keySet());
+		}
+	}
+
+	/**
+	 * Composes the words of a group value.
+	 *
+	 * @param value
+	 *            - the value. Equal or greater than 0.
+	 * @param words
+	 *            - the words of the values, by value.
+	 * @param compounds
+	 *            - the words of the values followed by a lower part, by value.
+	 * @param places
+	 *            - the words of the places, by place value.
+	 * @param conjunctions
+	 *            - the conjunctions after the places, by place value.
+	 * @return the words.
+	 * @throws IllegalArgumentException
+	 *             if there is no rule for the value.
+	 */
+	private String compose(final int value, final String[] words, final String[] compounds, final String[] places,
+			final String[] conjunctions) {
+
+		if (words[value] != null) {
+			return words[value];
+		}
+
+		int place = 10;
+
+		while (place * 10 <= value) {
+			place *= 10;
+		}
+
+		final int rest = value % place;
+		final int head = value - rest;
+
+		final StringBuilder builder = new StringBuilder();
+
+		if (rest > 0 && compounds[head] != null) {
+			builder.append(compounds[head]);
+		} else if (words[head] != null) {
+			builder.append(words[head]);
+		} else if (places[place] != null) {
+			builder.append(compose(head / place, words, compounds, places, conjunctions)).append(separator).append(
+					places[place]);
+		} else {
+			throw new IllegalArgumentException("No word." + head + " or place." + place + " for " + value);
+		}
+
+		if (rest > 0) {
+
+			if (conjunctions[place] != null) {
+				builder.append(separator).append(conjunctions[place]);
+			}
+
+			if (zeroMark != null && rest < place / 10) {
+				builder.append(separator).append(zeroMark);
+			}
+
+			builder.append(separator).append(compose(rest, words, compounds, places, conjunctions));
+		}
+
+		return builder.toString();
+	}
+
+	private static String required(final Map<String, String> keys, final String key) {
+
+		final String value = keys.remove(key);
+
+		if (value == null) {
+			throw new IllegalArgumentException("Missing " + key);
+		}
+
+		return value;
+	}
+
+	private static String optional(final Map<String, String> keys, final String key, final String defaultValue) {
+
+		final String value = keys.remove(key);
+
+		return value == null ? defaultValue : value;
+	}
+
+	private static int parseInt(final String text, final int min, final int max) {
+
+		final int value;
+
+		try {
+			value = Integer.parseInt(text);
+		} catch (final NumberFormatException e) {
+			throw new IllegalArgumentException("Not a number: " + text, e);
+		}
+
+		if (value < min || value > max) {
+			throw new IllegalArgumentException(value + " is not between " + min + " and " + max);
+		}
+
+		return value;
+	}
+
+	private static int parsePlace(final String text, final int groupSize) {
+
+		final int place = parseInt(text, 10, groupSize / 10);
+
+		if (NumberDecomposition.powerOfTen(Integer.toString(place).length() - 1) != place) {
+			throw new IllegalArgumentException(place + " is not a power of ten");
+		}
+
+		return place;
+	}
+
+	/**
+	 * Compiles a definition.
+	 *
+	 * @param definition
+	 *            - the definition (see the class documentation). Not <code>null</code>.
+	 * @return a {@link LanguageRules} instance. Never <code>null</code>.
+	 * @throws IOException
+	 *             if the definition could not be read.
+	 * @throws IllegalArgumentException
+	 *             if the definition is not valid.
+	 */
+	public static LanguageRules compile(final Reader definition) throws IOException {
+
+		final Properties properties = new Properties();
+
+		properties.load(definition);
+
+		return new LanguageRules(properties);
+	}
+
+	/**
+	 * Compiles the definition of a bundled language.
+	 *
+	 * @param language
+	 *            - the language code, as returned by {@link java.util.Locale#getLanguage()}. Not <code>null</code>.
+	 * @return a {@link LanguageRules} instance. Never <code>null</code>.
+	 * @throws IllegalArgumentException
+	 *             if there is no definition for the language.
+	 */
+	public static LanguageRules bundled(final String language) {
+
+		final InputStream stream = LanguageRules.class.getResourceAsStream(BUNDLED_RULES + language + ".properties");
+
+		if (stream == null) {
+			throw new IllegalArgumentException("No rules for language: " + language);
+		}
+
+		try (final Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+			return compile(reader);
+		} catch (final IOException e) {
+			throw new IllegalStateException("Could not read the rules of " + language, e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "LanguageRules[scales=" + Arrays.toString(scalePowers) + ", groupDigits=" + groupDigits + "]";
+	}
+}
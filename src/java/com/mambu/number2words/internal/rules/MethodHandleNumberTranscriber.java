@@ -0,0 +1,481 @@
+package com.mambu.number2words.internal.rules;
+
+import static com.mambu.number2words.internal.rules.RuleBasedNumberTranscriber.MARKABLE;
+import static com.mambu.number2words.internal.rules.RuleBasedNumberTranscriber.SKIPPED_ZEROS;
+import static com.mambu.number2words.internal.rules.RuleBasedNumberTranscriber.WRITTEN;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.parsing.interfaces.WordOutput;
+
+/**
+ * Number transcriber for a language defined by {@link LanguageRules}, that runs a pipeline of {@link MethodHandle}s
+ * built for the language: each scale is a step with its words, powers and the separator bound in, and the steps are
+ * chained in the order of the scales. The words are the same as the ones of {@link RuleBasedNumberTranscriber}.
+ * <p>
+ * Each bundled language has its own subclass (see {@link #forLanguage(String)}), holding the pipeline of the language
+ * in a <code>static final</code> field and invoking it from its own call site. The pipeline is then a constant at that
+ * call site: the JIT can inline the whole chain of handles there and fold the bound words and powers, so the steps are
+ * compiled separately for each language instead of sharing the profile of all of them. The pipelines of other rules
+ * ({@link #forRules(LanguageRules)}) are held in instance fields and are not specialized.
+ * <p>
+ * Thread safe.
+ */
+public abstract class MethodHandleNumberTranscriber extends RuleBasedNumberTranscriber {
+
+	/**
+	 * The type of the handles that append the words of some of the digits of a number:
+	 * <code>(state, output, number, from, to) -&gt; state</code> (see
+	 * {@link #group(MethodHandle, String, String, String[], int, int, int, String, String, String, int, WordOutput,
+	 * NumberDecomposition, int, int)}).
+	 */
+	private static final MethodType DIGITS_TYPE = MethodType.methodType(int.class, int.class, WordOutput.class,
+			NumberDecomposition.class, int.class, int.class);
+
+	/**
+	 * The type of the handles that append the words of a whole number: <code>(state, output, number) -&gt;
+	 * state</code>.
+	 */
+	private static final MethodType NUMBER_TYPE = MethodType.methodType(int.class, int.class, WordOutput.class,
+			NumberDecomposition.class);
+
+	/**
+	 * Private constructor. Use the factory methods.
+	 *
+	 * @param rules
+	 *            - the compiled rules of the language. Not <code>null</code>.
+	 */
+	private MethodHandleNumberTranscriber(final LanguageRules rules) {
+		super(rules);
+	}
+
+	/**
+	 * Creates the transcriber of a bundled language, with the pipeline of the language in a constant.
+	 *
+	 * @param language
+	 *            - the language code, as returned by {@link java.util.Locale#getLanguage()}. Not <code>null</code>.
+	 * @return a {@link MethodHandleNumberTranscriber} instance. Never <code>null</code>.
+	 * @throws IllegalArgumentException
+	 *             if the language is not bundled.
+	 */
+	public static MethodHandleNumberTranscriber forLanguage(final String language) {
+
+		switch (language) {
+		case "en":
+			return new English();
+		case "es":
+			return new Spanish();
+		case "zh":
+			return new Chinese();
+		default:
+			throw new IllegalArgumentException("No rules for language: " + language);
+		}
+	}
+
+	/**
+	 * Creates a transcriber for custom rules. Its pipeline is not a constant, so it is not specialized.
+	 *
+	 * @param rules
+	 *            - the compiled rules of the language. Not <code>null</code>.
+	 * @return a {@link MethodHandleNumberTranscriber} instance. Never <code>null</code>.
+	 */
+	public static MethodHandleNumberTranscriber forRules(final LanguageRules rules) {
+		return new Custom(rules);
+	}
+
+	/**
+	 * Wraps the checked exceptions declared by {@link MethodHandle#invokeExact(Object...)}.
+	 *
+	 * @param e
+	 *            - the exception thrown by a pipeline. Not <code>null</code>.
+	 * @return the exception to throw. Never <code>null</code>.
+	 */
+	private static RuntimeException unchecked(final Throwable e) {
+
+		if (e instanceof RuntimeException) {
+			return (RuntimeException) e;
+		}
+
+		if (e instanceof Error) {
+			throw (Error) e;
+		}
+
+		// the steps do not throw checked exceptions
+		return new IllegalStateException(e);
+	}
+
+	/**
+	 * The English transcriber, with its own constant pipeline.
+	 */
+	private static final class English extends MethodHandleNumberTranscriber {
+
+		private static final LanguageRules RULES = LanguageRules.bundled("en");
+
+		private static final MethodHandle PIPELINE = build(RULES);
+
+		English() {
+			super(RULES);
+		}
+
+		@Override
+		protected void transcribe(final NumberDecomposition number, final WordOutput output) {
+			try {
+				PIPELINE.invokeExact(output, number);
+			} catch (final Throwable e) {
+				throw unchecked(e);
+			}
+		}
+	}
+
+	/**
+	 * The Spanish transcriber, with its own constant pipeline.
+	 */
+	private static final class Spanish extends MethodHandleNumberTranscriber {
+
+		private static final LanguageRules RULES = LanguageRules.bundled("es");
+
+		private static final MethodHandle PIPELINE = build(RULES);
+
+		Spanish() {
+			super(RULES);
+		}
+
+		@Override
+		protected void transcribe(final NumberDecomposition number, final WordOutput output) {
+			try {
+				PIPELINE.invokeExact(output, number);
+			} catch (final Throwable e) {
+				throw unchecked(e);
+			}
+		}
+	}
+
+	/**
+	 * The Simplified Chinese transcriber, with its own constant pipeline.
+	 */
+	private static final class Chinese extends MethodHandleNumberTranscriber {
+
+		private static final LanguageRules RULES = LanguageRules.bundled("zh");
+
+		private static final MethodHandle PIPELINE = build(RULES);
+
+		Chinese() {
+			super(RULES);
+		}
+
+		@Override
+		protected void transcribe(final NumberDecomposition number, final WordOutput output) {
+			try {
+				PIPELINE.invokeExact(output, number);
+			} catch (final Throwable e) {
+				throw unchecked(e);
+			}
+		}
+	}
+
+	/**
+	 * The transcriber of custom rules, with the pipeline in an instance field.
+	 */
+	private static final class Custom extends MethodHandleNumberTranscriber {
+
+		private final MethodHandle pipeline;
+
+		Custom(final LanguageRules rules) {
+			super(rules);
+
+			this.pipeline = build(rules);
+		}
+
+		@Override
+		protected void transcribe(final NumberDecomposition number, final WordOutput output) {
+			try {
+				pipeline.invokeExact(output, number);
+			} catch (final Throwable e) {
+				throw unchecked(e);
+			}
+		}
+	}
+
+	/**
+	 * Builds the transcription pipeline of a language.
+	 *
+	 * @param rules
+	 *            - the rules of the language. Not <code>null</code>.
+	 * @return the handle of type <code>(output, number) -&gt; void</code>.
+	 */
+	private static MethodHandle build(final LanguageRules rules) {
+
+		final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+		try {
+			// the groups wider than a group and the digits above the largest scale call the chain again
+			final MutableCallSite digits = new MutableCallSite(DIGITS_TYPE);
+			final MethodHandle recursion = digits.dynamicInvoker();
+
+			final MethodHandle group = lookup.findStatic(MethodHandleNumberTranscriber.class, "group", MethodType
+					.methodType(int.class, MethodHandle.class, String.class, String.class, String[].class, int.class,
+							int.class, int.class, String.class, String.class, String.class, int.class,
+							WordOutput.class, NumberDecomposition.class, int.class, int.class));
+
+			final int[] powers = rules.scalePowers;
+
+			MethodHandle chain = null;
+
+			for (int scale = powers.length - 1; scale >= 0; --scale) {
+
+				final MethodHandle step = MethodHandles.insertArguments(group, 0, recursion, rules.separator,
+						rules.zeroMark, rules.groupWords, rules.groupDigits, powers[scale],
+						scale < powers.length - 1 ? powers[scale + 1] : -1, rules.oneWords[scale],
+						rules.scaleWords[scale], rules.pluralScaleWords[scale]);
+
+				// the state returned by the previous step replaces the state passed to the chain
+				chain = chain == null ? step : MethodHandles.foldArguments(MethodHandles.dropArguments(step, 1,
+						int.class), chain);
+			}
+
+			digits.setTarget(MethodHandles.filterReturnValue(chain, lookup.findStatic(
+					MethodHandleNumberTranscriber.class, "endDigits", MethodType.methodType(int.class, int.class))));
+			MutableCallSite.syncAll(new MutableCallSite[] { digits });
+
+			final MethodHandle integer = MethodHandles.insertArguments(lookup.findStatic(
+					MethodHandleNumberTranscriber.class, "integer", NUMBER_TYPE.insertParameterTypes(0,
+							MethodHandle.class, String.class, String.class)), 0, recursion, rules.separator,
+					rules.groupWords[0]);
+
+			final MethodHandle fractionDigits = rules.digitFractions ? MethodHandles.insertArguments(lookup
+					.findStatic(MethodHandleNumberTranscriber.class, "spellDigits", NUMBER_TYPE.insertParameterTypes(
+							0, String.class, String[].class)), 0, rules.separator, rules.groupWords) : integer;
+
+			final MethodHandle fraction = MethodHandles.insertArguments(lookup.findStatic(
+					MethodHandleNumberTranscriber.class, "fraction", NUMBER_TYPE.insertParameterTypes(0,
+							MethodHandle.class, String.class, String.class)), 0, fractionDigits, rules.separator,
+					rules.decimalSeparator);
+
+			final MethodHandle number = MethodHandles.foldArguments(MethodHandles.dropArguments(fraction, 1,
+					int.class), integer);
+
+			return MethodHandles.insertArguments(number, 0, 0).asType(MethodType.methodType(void.class,
+					WordOutput.class, NumberDecomposition.class));
+
+		} catch (final ReflectiveOperationException e) {
+			throw new IllegalStateException("Could not build the transcription pipeline", e);
+		}
+	}
+
+	/**
+	 * Pipeline step: appends the words of the group of a scale, from the digits of a number.
+	 *
+	 * @param digits
+	 *            - the handle of the whole chain, for the groups that are spelled as numbers of their own.
+	 * @param separator
+	 *            - the text between words.
+	 * @param zeroMark
+	 *            - the word of the skipped zeros, <code>null</code> if they are not marked.
+	 * @param groupWords
+	 *            - the words of the group values.
+	 * @param groupDigits
+	 *            - the number of digits of a group.
+	 * @param power
+	 *            - the power of ten of the scale.
+	 * @param nextPower
+	 *            - the power of ten of the next scale, -1 for the largest scale.
+	 * @param one
+	 *            - the words of the group value 1.
+	 * @param singular
+	 *            - the word of the scale, <code>null</code> for the units.
+	 * @param plural
+	 *            - the word of the scale after group values greater than 1.
+	 * @param state
+	 *            - the state flags.
+	 * @param output
+	 *            - the output.
+	 * @param number
+	 *            - the number.
+	 * @param from
+	 *            - the power of ten of the lowest digit (inclusive).
+	 * @param to
+	 *            - the power of ten above the highest digit (exclusive).
+	 * @return the new state flags.
+	 * @throws Throwable
+	 *             never, declared by {@link MethodHandle#invokeExact(Object...)}.
+	 */
+	private static int group(final MethodHandle digits, final String separator, final String zeroMark,
+			final String[] groupWords, final int groupDigits, final int power, final int nextPower, final String one,
+			final String singular, final String plural, final int state, final WordOutput output,
+			final NumberDecomposition number, final int from, final int to) throws Throwable {
+
+		final int groupFrom = from + power;
+
+		if (groupFrom >= to) {
+			return state;
+		}
+
+		int result = state;
+
+		if (nextPower < 0 && to - groupFrom > groupDigits) {
+			// the digits above the largest scale are spelled as a number of their own ("one thousand trillion")
+			result = (int) digits.invokeExact(result, output, number, groupFrom, to);
+
+			return word(separator, plural, result, output);
+		}
+
+		final int groupTo = nextPower < 0 ? to : Math.min(to, from + nextPower);
+		final long value = number.getGroup(groupFrom, groupTo - groupFrom);
+
+		if (value == 0L) {
+			return (result & MARKABLE) != 0 ? result | SKIPPED_ZEROS : result;
+		}
+
+		if (zeroMark != null && (result & MARKABLE) != 0
+				&& ((result & SKIPPED_ZEROS) != 0 || number.getDigit(groupTo - 1) == 0)) {
+			result = word(separator, zeroMark, result, output);
+		}
+
+		if (value < groupWords.length) {
+
+			final String words = value == 1L ? one : groupWords[(int) value];
+
+			if (!words.isEmpty()) {
+				result = word(separator, words, result, output);
+			}
+		} else {
+			// a group wider than the others ("mil millones")
+			result = (int) digits.invokeExact(result, output, number, groupFrom, groupTo);
+		}
+
+		if (singular != null) {
+			result = word(separator, value > 1L ? plural : singular, result, output);
+		}
+
+		return (result | MARKABLE) & ~SKIPPED_ZEROS;
+	}
+
+	/**
+	 * Pipeline step: ends the digits of a number.
+	 *
+	 * @param state
+	 *            - the state flags.
+	 * @return the new state flags.
+	 */
+	private static int endDigits(final int state) {
+		// the zeros at the end are not marked
+		return state & ~SKIPPED_ZEROS;
+	}
+
+	/**
+	 * Pipeline step: appends the words of the integer part of a number.
+	 *
+	 * @param digits
+	 *            - the handle of the chain of the scales.
+	 * @param separator
+	 *            - the text between words.
+	 * @param zero
+	 *            - the word of zero.
+	 * @param state
+	 *            - the state flags.
+	 * @param output
+	 *            - the output.
+	 * @param number
+	 *            - the number.
+	 * @return the new state flags.
+	 * @throws Throwable
+	 *             never, declared by {@link MethodHandle#invokeExact(Object...)}.
+	 */
+	private static int integer(final MethodHandle digits, final String separator, final String zero,
+			final int state, final WordOutput output, final NumberDecomposition number) throws Throwable {
+
+		if (number.isZero()) {
+			return word(separator, zero, state, output);
+		}
+
+		return (int) digits.invokeExact(state & ~(MARKABLE | SKIPPED_ZEROS), output, number, 0, number
+				.getDigitCount());
+	}
+
+	/**
+	 * Pipeline step: appends the decimal separator and the words of the fractional part of a number, if any.
+	 *
+	 * @param fractionDigits
+	 *            - the handle that appends the words of the fractional part.
+	 * @param separator
+	 *            - the text between words.
+	 * @param decimalSeparator
+	 *            - the word between the integer and the fractional part.
+	 * @param state
+	 *            - the state flags.
+	 * @param output
+	 *            - the output.
+	 * @param number
+	 *            - the number.
+	 * @return the new state flags.
+	 * @throws Throwable
+	 *             never, declared by {@link MethodHandle#invokeExact(Object...)}.
+	 */
+	private static int fraction(final MethodHandle fractionDigits, final String separator,
+			final String decimalSeparator, final int state, final WordOutput output, final NumberDecomposition number)
+			throws Throwable {
+
+		if (!number.hasFraction()) {
+			return state;
+		}
+
+		return (int) fractionDigits.invokeExact(word(separator, decimalSeparator, state, output), output, number
+				.getFraction());
+	}
+
+	/**
+	 * Pipeline step: appends the words of the digits of a fraction, one by one.
+	 *
+	 * @param separator
+	 *            - the text between words.
+	 * @param digitWords
+	 *            - the words of the digits.
+	 * @param state
+	 *            - the state flags.
+	 * @param output
+	 *            - the output.
+	 * @param fraction
+	 *            - the fractional digits.
+	 * @return the new state flags.
+	 */
+	private static int spellDigits(final String separator, final String[] digitWords, final int state,
+			final WordOutput output, final NumberDecomposition fraction) {
+
+		int result = state;
+
+		// a zero fraction has no digits to spell
+		for (int power = fraction.isZero() ? -1 : fraction.getDigitCount() - 1; power >= 0; --power) {
+			result = word(separator, digitWords[fraction.getDigit(power)], result, output);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Appends a word, after the separator if other words were written.
+	 *
+	 * @param separator
+	 *            - the text between words.
+	 * @param word
+	 *            - the word.
+	 * @param state
+	 *            - the state flags.
+	 * @param output
+	 *            - the output.
+	 * @return the new state flags.
+	 */
+	private static int word(final String separator, final String word, final int state, final WordOutput output) {
+
+		if ((state & WRITTEN) != 0 && !separator.isEmpty()) {
+			output.append(separator);
+		}
+
+		output.append(word);
+
+		return state | WRITTEN;
+	}
+}
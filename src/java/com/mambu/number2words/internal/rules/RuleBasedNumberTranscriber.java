@@ -0,0 +1,208 @@
+package com.mambu.number2words.internal.rules;
+
+import java.util.Objects;
+
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.internal.common.AbstractWordTranscriber;
+import com.mambu.number2words.parsing.interfaces.WordOutput;
+
+/**
+ * Number transcriber for a language defined by {@link LanguageRules}. The same engine runs all the rule-based
+ * languages: the groups of digits are read from the {@link NumberDecomposition} and their words are looked up in the
+ * compiled tables. No tokens are created and nothing is allocated besides the output.
+ * <p>
+ * Thread safe.
+ */
+public class RuleBasedNumberTranscriber extends AbstractWordTranscriber {
+
+	/**
+	 * State flag: words were written, so the next word is preceded by the separator.
+	 */
+	static final int WRITTEN = 1;
+
+	/**
+	 * State flag: a group of the current integer was written, so skipped zeros are marked.
+	 */
+	static final int MARKABLE = 2;
+
+	/**
+	 * State flag: empty groups were skipped since the last written group.
+	 */
+	static final int SKIPPED_ZEROS = 4;
+
+	/**
+	 * The rules of the language.
+	 */
+	private final LanguageRules rules;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param rules
+	 *            - the compiled rules of the language. Not <code>null</code>.
+	 */
+	public RuleBasedNumberTranscriber(final LanguageRules rules) {
+		this.rules = Objects.requireNonNull(rules);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void transcribe(final NumberDecomposition number, final WordOutput output) {
+
+		int state = appendInteger(output, number, 0);
+
+		if (number.hasFraction()) {
+
+			state = append(output, rules.decimalSeparator, state);
+
+			final NumberDecomposition fraction = number.getFraction();
+
+			if (rules.digitFractions) {
+				// a zero fraction has no digits to spell
+				for (int power = fraction.isZero() ? -1 : fraction.getDigitCount() - 1; power >= 0; --power) {
+					state = append(output, rules.groupWords[fraction.getDigit(power)], state);
+				}
+			} else {
+				appendInteger(output, fraction, state);
+			}
+		}
+	}
+
+	/**
+	 * Appends the words of the integer part of a number.
+	 *
+	 * @param output
+	 *            - the output. Not <code>null</code>.
+	 * @param number
+	 *            - the number. Not <code>null</code>.
+	 * @param state
+	 *            - the state flags.
+	 * @return the new state flags.
+	 */
+	private int appendInteger(final WordOutput output, final NumberDecomposition number, final int state) {
+
+		if (number.isZero()) {
+			return append(output, rules.groupWords[0], state);
+		}
+
+		return appendDigits(output, number, 0, number.getDigitCount(), state & ~(MARKABLE | SKIPPED_ZEROS));
+	}
+
+	/**
+	 * Appends the words of the integer made of some of the digits of a number.
+	 *
+	 * @param output
+	 *            - the output. Not <code>null</code>.
+	 * @param number
+	 *            - the number. Not <code>null</code>.
+	 * @param from
+	 *            - the power of ten of the lowest digit (inclusive).
+	 * @param to
+	 *            - the power of ten above the highest digit (exclusive). The digits must not all be zero.
+	 * @param state
+	 *            - the state flags.
+	 * @return the new state flags.
+	 */
+	private int appendDigits(final WordOutput output, final NumberDecomposition number, final int from, final int to,
+			final int state) {
+
+		final int[] powers = rules.scalePowers;
+
+		int top = powers.length - 1;
+		int result = state;
+
+		if (to - from > powers[top] + rules.groupDigits) {
+			// the digits above the largest scale are spelled as a number of their own ("one thousand trillion")
+			result = appendDigits(output, number, from + powers[top], to, result);
+			result = append(output, rules.pluralScaleWords[top], result);
+			--top;
+		}
+
+		for (int scale = top; scale >= 0; --scale) {
+
+			final int groupFrom = from + powers[scale];
+
+			if (groupFrom >= to) {
+				continue;
+			}
+
+			final int groupTo = scale < powers.length - 1 ? Math.min(to, from + powers[scale + 1]) : to;
+			final long value = number.getGroup(groupFrom, groupTo - groupFrom);
+
+			if (value == 0L) {
+				if ((result & MARKABLE) != 0) {
+					result |= SKIPPED_ZEROS;
+				}
+				continue;
+			}
+
+			if (rules.zeroMark != null && (result & MARKABLE) != 0
+					&& ((result & SKIPPED_ZEROS) != 0 || number.getDigit(groupTo - 1) == 0)) {
+				result = append(output, rules.zeroMark, result);
+			}
+
+			if (value < rules.groupWords.length) {
+
+				final String words = value == 1L ? rules.oneWords[scale] : rules.groupWords[(int) value];
+
+				if (!words.isEmpty()) {
+					result = append(output, words, result);
+				}
+			} else {
+				// a group wider than the others ("mil millones")
+				result = appendDigits(output, number, groupFrom, groupTo, result);
+			}
+
+			if (scale > 0) {
+				result = append(output, value > 1L ? rules.pluralScaleWords[scale] : rules.scaleWords[scale], result);
+			}
+
+			result = (result | MARKABLE) & ~SKIPPED_ZEROS;
+		}
+
+		// the zeros at the end are not marked
+		return result & ~SKIPPED_ZEROS;
+	}
+
+	/**
+	 * Appends a word, after the separator if other words were written.
+	 *
+	 * @param output
+	 *            - the output. Not <code>null</code>.
+	 * @param word
+	 *            - the word. Not <code>null</code>.
+	 * @param state
+	 *            - the state flags.
+	 * @return the new state flags.
+	 */
+	private int append(final WordOutput output, final String word, final int state) {
+
+		if ((state & WRITTEN) != 0 && !rules.separator.isEmpty()) {
+			output.append(rules.separator);
+		}
+
+		output.append(word);
+
+		return state | WRITTEN;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Without zero marks, the words of the lowest group never change the words of the higher groups.
+	 */
+	@Override
+	protected long getSequenceGroupSize() {
+		return rules.zeroMark == null ? NumberDecomposition.powerOfTen(rules.scalePowers[1]) : 0L;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String getSequenceJunction(final long high, final long low) {
+		return rules.separator;
+	}
+}
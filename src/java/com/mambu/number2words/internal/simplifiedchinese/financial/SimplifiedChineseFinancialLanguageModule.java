@@ -0,0 +1,124 @@
+package com.mambu.number2words.internal.simplifiedchinese.financial;
+
+import java.util.Locale;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberParser;
+import com.mambu.number2words.api.factories.LanguageModule;
+import com.mambu.number2words.api.factories.OutputStyle;
+import com.mambu.number2words.api.factories.OutputStyle.LetterCase;
+import com.mambu.number2words.api.factories.OutputStyleSupport;
+import com.mambu.number2words.api.factories.WordOverlay;
+import com.mambu.number2words.api.factories.WordOverlaySupport;
+import com.mambu.number2words.internal.common.mapping.MappingFingerprint;
+import com.mambu.number2words.internal.common.mapping.WordTable;
+import com.mambu.number2words.internal.simplifiedchinese.financial.mapping.SimplifiedChineseFinancialMappingTables;
+import com.mambu.number2words.internal.simplifiedchinese.financial.mapping.SimplifiedChineseFinancialNumberMapping;
+import com.mambu.number2words.internal.simplifiedchinese.financial.parsing.SimplifiedChineseFinancialWordsParser;
+import com.mambu.number2words.internal.simplifiedchinese.financial.tokenization.SimplifiedChineseFinancialNumberTokenizer;
+import com.mambu.number2words.internal.simplifiedchinese.visitors.SimplifiedChineseTokenVisitor;
+import com.mambu.number2words.parsing.interfaces.NumberTokenizer;
+import com.mambu.number2words.parsing.interfaces.TranscriptionContext;
+
+/**
+ * {@link LanguageModule} of the Simplified Chinese language (financial numerals). The tokenizer and context are created
+ * with the first transcriber.
+ */
+public final class SimplifiedChineseFinancialLanguageModule implements LanguageModule, WordOverlaySupport,
+		OutputStyleSupport {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getLanguage() {
+		return "zh";
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ExtendedNumberTranscriber newTranscriber(final Locale locale) {
+		// for Simplified Chinese we use the financial numerals
+		return new SimplifiedChineseFinancialNumberTranscriber(Tables.TOKENIZER, Tables.CONTEXT);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The tokenizer is only created if the decimal separator changes.
+	 */
+	@Override
+	public ExtendedNumberTranscriber newTranscriber(final Locale locale, final WordOverlay overlay) {
+
+		final NumberTokenizer tokenizer = overlay.getDecimalSeparator() == null ? Tables.TOKENIZER
+				: new SimplifiedChineseFinancialNumberTokenizer(overlay.getDecimalSeparator());
+
+		return new SimplifiedChineseFinancialNumberTranscriber(tokenizer, Overlays.WORDS.overlay(overlay));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The decimal separator is styled too. For sentence case, the first word is read from a table of capitalized words.
+	 */
+	@Override
+	public ExtendedNumberTranscriber newTranscriber(final Locale locale, final WordOverlay overlay,
+			final OutputStyle style) {
+
+		final LetterCase wordCase = style.getWordCase();
+		final WordTable words = Overlays.WORDS.overlay(overlay);
+
+		final String decimalSeparator = overlay.getDecimalSeparator() == null
+				? SimplifiedChineseFinancialNumberTokenizer.DECIMAL_POINT_SEPARATOR : overlay.getDecimalSeparator();
+		final NumberTokenizer tokenizer = new SimplifiedChineseFinancialNumberTokenizer(
+				wordCase.apply(decimalSeparator, locale));
+
+		final WordTable leadingWords = style.getLetterCase() == LetterCase.SENTENCE
+				? words.withCase(LetterCase.SENTENCE, locale) : null;
+		final String wordSeparator = style.getWordSeparator(SimplifiedChineseTokenVisitor.WORD_SEPARATOR);
+
+		return new SimplifiedChineseFinancialNumberTranscriber(tokenizer, words.withCase(wordCase, locale),
+				leadingWords, wordSeparator);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NumberParser newParser(final Locale locale) {
+		return new SimplifiedChineseFinancialWordsParser();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long updateFingerprint(final long fingerprint) {
+
+		long result = MappingFingerprint.update(fingerprint, SimplifiedChineseFinancialNumberMapping.class);
+
+		result = MappingFingerprint.update(result, SimplifiedChineseFinancialNumberTokenizer.DECIMAL_POINT_SEPARATOR);
+
+		return result;
+	}
+
+	/**
+	 * The state-less, thread safe tokenizer and context shared by all the transcribers. Initialized on first use.
+	 */
+	private static final class Tables {
+
+		private static final NumberTokenizer TOKENIZER = new SimplifiedChineseFinancialNumberTokenizer();
+
+		private static final TranscriptionContext CONTEXT = new SimplifiedChineseFinancialNumberTranscriptionContext();
+	}
+
+	/**
+	 * The words of the mapping, on top of which the overlays are applied. Initialized on first use.
+	 */
+	private static final class Overlays {
+
+		private static final WordTable WORDS = SimplifiedChineseFinancialMappingTables.asWordTable();
+	}
+}
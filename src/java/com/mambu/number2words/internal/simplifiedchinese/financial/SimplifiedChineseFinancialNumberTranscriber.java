@@ -1,10 +1,13 @@
 package com.mambu.number2words.internal.simplifiedchinese.financial;
 
+import java.util.Objects;
+
 import com.mambu.number2words.internal.common.AbstractNumberTranscriber;
 import com.mambu.number2words.internal.simplifiedchinese.visitors.SimplifiedChineseTokenVisitor;
 import com.mambu.number2words.parsing.interfaces.NumberTokenizer;
 import com.mambu.number2words.parsing.interfaces.TranscriptionContext;
 import com.mambu.number2words.parsing.interfaces.Visitor;
+import com.mambu.number2words.parsing.interfaces.WordOutput;
 
 /**
  * Number transcriber for the Simplified Chinese language using Financial numerals.
@@ -14,6 +17,21 @@ import com.mambu.number2words.parsing.interfaces.Visitor;
  */
 public class SimplifiedChineseFinancialNumberTranscriber extends AbstractNumberTranscriber {
 
+	/**
+	 * The size of the groups (万).
+	 */
+	private static final long GROUP_SIZE = 10000L;
+
+	/**
+	 * The zero written between groups.
+	 */
+	private static final String ZERO = "零";
+
+	/**
+	 * The string placed between words.
+	 */
+	private final String wordSeparator;
+
 	/**
 	 * Constructor that is used to initialize this transcriber with a tokenizer and context.
 	 * 
@@ -24,15 +42,60 @@ public class SimplifiedChineseFinancialNumberTranscriber extends AbstractNumberT
 	 */
 	public SimplifiedChineseFinancialNumberTranscriber(final NumberTokenizer tokenizer,
 			final TranscriptionContext context) {
-		super(tokenizer, context);
+		this(tokenizer, context, null, SimplifiedChineseTokenVisitor.WORD_SEPARATOR);
+	}
+
+	/**
+	 * Constructor of a styled transcriber (see {@link com.mambu.number2words.api.factories.OutputStyle OutputStyle}).
+	 * 
+	 * @param tokenizer
+	 *            - tokenizer for Simplified Chinese. Not <code>null</code>.
+	 * @param context
+	 *            - evaluation context when transcribing tokens. Not <code>null</code>.
+	 * @param leadingContext
+	 *            - evaluation context of the first word, <code>null</code> if it is the same.
+	 * @param wordSeparator
+	 *            - the string placed between words. Not <code>null</code>.
+	 */
+	public SimplifiedChineseFinancialNumberTranscriber(final NumberTokenizer tokenizer,
+			final TranscriptionContext context, final TranscriptionContext leadingContext,
+			final String wordSeparator) {
+		super(tokenizer, context, leadingContext);
+		this.wordSeparator = Objects.requireNonNull(wordSeparator);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Visitor<Void> getTokenVisitor(final WordOutput output, final TranscriptionContext context) {
+		return new SimplifiedChineseTokenVisitor(output, context, wordSeparator);
 	}
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * The values are transcribed in full if the words are separated, since the junctions are not.
 	 */
 	@Override
-	protected Visitor<Void> getTokenVisitor(final StringBuilder builder, final TranscriptionContext context) {
-		return new SimplifiedChineseTokenVisitor(builder, context);
+	protected long getSequenceGroupSize() {
+		return wordSeparator.isEmpty() ? GROUP_SIZE : 0L;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * A zero (零) is written between the groups if the lowest group has less than 4 digits (i.e. 壹万[零]壹) or if the group
+	 * before it is empty (i.e. 壹億[零]壹仟).
+	 */
+	@Override
+	protected String getSequenceJunction(final long high, final long low) {
+
+		if (low < GROUP_SIZE / 10 || (high / GROUP_SIZE) % GROUP_SIZE == 0) {
+			return ZERO;
+		}
+
+		return "";
 	}
 
 }
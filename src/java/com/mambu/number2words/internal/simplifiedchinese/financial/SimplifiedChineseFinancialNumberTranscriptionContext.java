@@ -1,6 +1,6 @@
 package com.mambu.number2words.internal.simplifiedchinese.financial;
 
-import com.mambu.number2words.internal.simplifiedchinese.financial.mapping.SimplifiedChineseFinancialNumberMapping;
+import com.mambu.number2words.internal.simplifiedchinese.financial.mapping.SimplifiedChineseFinancialMappingTables;
 import com.mambu.number2words.parsing.interfaces.TranscriptionContext;
 import com.mambu.number2words.parsing.interfaces.WordValue.GrammaticalNumber;
 import com.mambu.number2words.parsing.interfaces.WordValue.WordForm;
@@ -21,7 +21,7 @@ public class SimplifiedChineseFinancialNumberTranscriptionContext implements Tra
 	 */
 	@Override
 	public String asWord(Long value, GrammaticalNumber number, WordForm form) {
-		return SimplifiedChineseFinancialNumberMapping.fromNumber(value).getWordValue().getWord(number, form);
+		return SimplifiedChineseFinancialMappingTables.getWord(value, number, form);
 	}
 
 }
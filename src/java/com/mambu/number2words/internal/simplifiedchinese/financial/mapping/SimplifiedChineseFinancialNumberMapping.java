@@ -1,7 +1,6 @@
 package com.mambu.number2words.internal.simplifiedchinese.financial.mapping;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Objects;
 
 import com.mambu.number2words.internal.common.mapping.WordValueFactory;
@@ -32,14 +31,18 @@ public enum SimplifiedChineseFinancialNumberMapping implements ValueMapping {
 	THOUSAND_BILLION(1_0000_0000_0000L, "兆", MappingType.GROUP_QUANTIFIER);
 
 	/**
-	 * Holds the direct mappings from value to enum instance.
+	 * The instances, in ascending order of their values (checked by the build).
 	 */
-	private static final Map<Long, SimplifiedChineseFinancialNumberMapping> WORD_MAPPING = new HashMap<>();
+	private static final SimplifiedChineseFinancialNumberMapping[] MAPPINGS = values();
+
+	/**
+	 * The values of the {@link #MAPPINGS}, to look them up by binary search.
+	 */
+	private static final long[] VALUES = new long[MAPPINGS.length];
 
 	static {
-		// store the Long -> Enum mapping for faster fetching.
-		for (SimplifiedChineseFinancialNumberMapping sm : SimplifiedChineseFinancialNumberMapping.values()) {
-			WORD_MAPPING.put(sm.getValue(), sm);
+		for (int i = 0; i < MAPPINGS.length; ++i) {
+			VALUES[i] = MAPPINGS[i].value;
 		}
 	}
 
@@ -120,7 +123,9 @@ public enum SimplifiedChineseFinancialNumberMapping implements ValueMapping {
 	 *             if the value could not be mapped.
 	 */
 	public static SimplifiedChineseFinancialNumberMapping fromNumber(Long value) {
-		return Objects.requireNonNull(WORD_MAPPING.get(value));
+		final int index = Arrays.binarySearch(VALUES, value);
+
+		return Objects.requireNonNull(index < 0 ? null : MAPPINGS[index]);
 	}
 
 	@Override
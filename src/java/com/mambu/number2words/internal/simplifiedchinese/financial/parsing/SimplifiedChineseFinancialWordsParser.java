@@ -0,0 +1,23 @@
+package com.mambu.number2words.internal.simplifiedchinese.financial.parsing;
+
+import com.mambu.number2words.internal.common.parsing.AbstractWordsParser;
+import com.mambu.number2words.internal.simplifiedchinese.financial.mapping.SimplifiedChineseFinancialNumberMapping;
+import com.mambu.number2words.internal.simplifiedchinese.financial.tokenization.SimplifiedChineseFinancialNumberTokenizer;
+
+/**
+ * Parses numbers transcribed into Simplified Chinese financial numerals (i.e. 壹佰贰拾叁点伍). The words are not
+ * separated and the fractional part is read digit by digit.
+ * <p>
+ * This class is thread safe.
+ */
+public class SimplifiedChineseFinancialWordsParser extends
+		AbstractWordsParser<SimplifiedChineseFinancialNumberMapping> {
+
+	/**
+	 * Default constructor.
+	 */
+	public SimplifiedChineseFinancialWordsParser() {
+		super(SimplifiedChineseFinancialNumberMapping.class,
+				SimplifiedChineseFinancialNumberTokenizer.DECIMAL_POINT_SEPARATOR, false, true);
+	}
+}
@@ -1,13 +1,13 @@
 package com.mambu.number2words.internal.simplifiedchinese.financial.tokenization;
 
-import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
+import com.mambu.number2words.api.NumberDecomposition;
 import com.mambu.number2words.internal.common.tokenization.AbstractGroupedValuesTokenizer;
 import com.mambu.number2words.internal.common.tokenization.SequentialDigitsTokenizer;
+import com.mambu.number2words.internal.simplifiedchinese.financial.mapping.SimplifiedChineseFinancialMappingTables;
 import com.mambu.number2words.internal.simplifiedchinese.financial.mapping.SimplifiedChineseFinancialNumberMapping;
 import com.mambu.number2words.parsing.interfaces.ValueMapping;
 import com.mambu.number2words.parsing.interfaces.ValueToken;
@@ -35,7 +35,7 @@ public class SimplifiedChineseFinancialNumberTokenizer extends
 	/**
 	 * String used to separate the numbers before and after the decimal point.
 	 */
-	private static final String DECIMAL_POINT_SEPARATOR = "点";
+	public static final String DECIMAL_POINT_SEPARATOR = "点";
 
 	/**
 	 * Helper tokenizer that deals with tokenizing the fractional part of the number.
@@ -46,7 +46,20 @@ public class SimplifiedChineseFinancialNumberTokenizer extends
 	 * Default constructor.
 	 */
 	public SimplifiedChineseFinancialNumberTokenizer() {
-		super(SimplifiedChineseFinancialNumberMapping.class, DECIMAL_POINT_SEPARATOR);
+		this(DECIMAL_POINT_SEPARATOR);
+	}
+
+	/**
+	 * Constructor with a different decimal separator.
+	 * 
+	 * @param decimalSeparator
+	 *            - the word between the integer and the fractional part. Not <code>null</code>.
+	 */
+	public SimplifiedChineseFinancialNumberTokenizer(final String decimalSeparator) {
+		super(SimplifiedChineseFinancialNumberMapping.class,
+				SimplifiedChineseFinancialMappingTables.getGroupQuantifiers(),
+				SimplifiedChineseFinancialMappingTables.getSubGroupQuantifiers(),
+				SimplifiedChineseFinancialMappingTables.getLargestConsecutiveValue(), decimalSeparator);
 
 		// the fractional part just needs the digits in a sequence
 		this.fractionalPartTokenizer = new SequentialDigitsTokenizer();
@@ -58,8 +71,8 @@ public class SimplifiedChineseFinancialNumberTokenizer extends
 	 * In Simplified Chinese all digits after the decimal point are just listed in the order they appear.
 	 */
 	@Override
-	protected ValueToken tokenizeFractionalPart(final BigInteger number) {
-		return fractionalPartTokenizer.tokenize(new BigDecimal(number));
+	protected ValueToken tokenizeFractionalPart(final NumberDecomposition number) {
+		return fractionalPartTokenizer.tokenize(number);
 	}
 
 	/**
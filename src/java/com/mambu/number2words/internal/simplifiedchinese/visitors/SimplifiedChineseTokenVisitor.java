@@ -2,11 +2,14 @@ package com.mambu.number2words.internal.simplifiedchinese.visitors;
 
 import com.mambu.number2words.parsing.interfaces.TranscriptionContext;
 import com.mambu.number2words.parsing.interfaces.ValueToken;
+import com.mambu.number2words.parsing.interfaces.WordOutput;
 import com.mambu.number2words.parsing.interfaces.WordValue.GrammaticalNumber;
 import com.mambu.number2words.parsing.interfaces.WordValue.WordForm;
 import com.mambu.number2words.parsing.tokenization.MappedValueToken;
 import com.mambu.number2words.parsing.tokenization.NullValueToken;
+import com.mambu.number2words.parsing.tokenization.PrefixedValueToken;
 import com.mambu.number2words.parsing.visitors.AbstractTranscribingVisitor;
+import com.mambu.number2words.parsing.visitors.StringBuilderOutput;
 
 /**
  * {@link ValueToken} visitor for Simplified Chinese numbers. It will build or print a {@link String} representation of
@@ -29,7 +32,7 @@ public class SimplifiedChineseTokenVisitor extends AbstractTranscribingVisitor {
 	/**
 	 * There is no word separator for Simplified Chinese.
 	 */
-	private static final String WORD_SEPARATOR = "";
+	public static final String WORD_SEPARATOR = "";
 
 	/**
 	 * Flag that will be true until after the first printable token is visited.
@@ -45,6 +48,35 @@ public class SimplifiedChineseTokenVisitor extends AbstractTranscribingVisitor {
 	/**
 	 * Default constructor.
 	 * 
+	 * @param output
+	 *            - {@link WordOutput} the {@link ValueToken} word representation will be appended.
+	 * 
+	 * @param context
+	 *            - the context that holds the number to word mapping information.
+	 * 
+	 */
+	public SimplifiedChineseTokenVisitor(final WordOutput output, final TranscriptionContext context) {
+		this(output, context, WORD_SEPARATOR);
+	}
+
+	/**
+	 * Constructor with a different word separator.
+	 * 
+	 * @param output
+	 *            - {@link WordOutput} the {@link ValueToken} word representation will be appended.
+	 * @param context
+	 *            - the context that holds the number to word mapping information.
+	 * @param wordSeparator
+	 *            - the string that should be placed between words. Not <code>null</code>.
+	 */
+	public SimplifiedChineseTokenVisitor(final WordOutput output, final TranscriptionContext context,
+			final String wordSeparator) {
+		super(context, output, wordSeparator);
+	}
+
+	/**
+	 * Constructor that appends the words to a {@link StringBuilder}.
+	 * 
 	 * @param builder
 	 *            - {@link StringBuilder} the {@link ValueToken} word representation will be appended.
 	 * 
@@ -53,7 +85,7 @@ public class SimplifiedChineseTokenVisitor extends AbstractTranscribingVisitor {
 	 * 
 	 */
 	public SimplifiedChineseTokenVisitor(final StringBuilder builder, final TranscriptionContext context) {
-		super(context, builder, WORD_SEPARATOR);
+		this(new StringBuilderOutput(builder), context);
 	}
 
 	/**
@@ -72,12 +104,33 @@ public class SimplifiedChineseTokenVisitor extends AbstractTranscribingVisitor {
 			isFirstPrintableToken = false;
 			lastPrintWasNull = true;
 
-			builder.append(context.asWord(NULL_TOKEN_VALUE, GrammaticalNumber.SINGULAR, WordForm.DEFAULT));
+			getOutput().append(context.asWord(NULL_TOKEN_VALUE, GrammaticalNumber.SINGULAR, WordForm.DEFAULT));
 		}
 
 		return null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The separator is only appended if the prefix was printed (the zero marks are not printed at the start).
+	 */
+	@Override
+	public Void visitPrefixedValue(final PrefixedValueToken token) {
+
+		final int length = getOutput().length();
+
+		token.getPrefixToken().accept(this);
+
+		if (getOutput().length() != length) {
+			getOutput().append(wordSeparator);
+		}
+
+		token.getValueToken().accept(this);
+
+		return null;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
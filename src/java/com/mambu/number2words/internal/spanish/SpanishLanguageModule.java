@@ -0,0 +1,122 @@
+package com.mambu.number2words.internal.spanish;
+
+import java.util.Locale;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberParser;
+import com.mambu.number2words.api.factories.LanguageModule;
+import com.mambu.number2words.api.factories.OutputStyle;
+import com.mambu.number2words.api.factories.OutputStyle.LetterCase;
+import com.mambu.number2words.api.factories.OutputStyleSupport;
+import com.mambu.number2words.api.factories.WordOverlay;
+import com.mambu.number2words.api.factories.WordOverlaySupport;
+import com.mambu.number2words.internal.common.mapping.MappingFingerprint;
+import com.mambu.number2words.internal.common.mapping.WordTable;
+import com.mambu.number2words.internal.spanish.mapping.SpanishMappingTables;
+import com.mambu.number2words.internal.spanish.mapping.SpanishNumberMapping;
+import com.mambu.number2words.internal.spanish.parsing.SpanishWordsParser;
+import com.mambu.number2words.internal.spanish.tokenization.SpanishNumberTokenizer;
+import com.mambu.number2words.internal.spanish.visitors.SpanishTokenVisitor;
+import com.mambu.number2words.parsing.interfaces.NumberTokenizer;
+import com.mambu.number2words.parsing.interfaces.TranscriptionContext;
+
+/**
+ * {@link LanguageModule} of the Spanish language. The tokenizer and context are created with the first transcriber.
+ */
+public final class SpanishLanguageModule implements LanguageModule, WordOverlaySupport, OutputStyleSupport {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getLanguage() {
+		return "es";
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ExtendedNumberTranscriber newTranscriber(final Locale locale) {
+		return new SpanishNumberTranscriber(Tables.TOKENIZER, Tables.CONTEXT);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The tokenizer is only created if the decimal separator changes.
+	 */
+	@Override
+	public ExtendedNumberTranscriber newTranscriber(final Locale locale, final WordOverlay overlay) {
+
+		final NumberTokenizer tokenizer = overlay.getDecimalSeparator() == null ? Tables.TOKENIZER
+				: new SpanishNumberTokenizer(overlay.getDecimalSeparator());
+
+		return new SpanishNumberTranscriber(tokenizer, Overlays.WORDS.overlay(overlay));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The decimal separator and the conjunction are styled too. For sentence case, the first word is read from a table
+	 * of capitalized words.
+	 */
+	@Override
+	public ExtendedNumberTranscriber newTranscriber(final Locale locale, final WordOverlay overlay,
+			final OutputStyle style) {
+
+		final LetterCase wordCase = style.getWordCase();
+		final WordTable words = Overlays.WORDS.overlay(overlay);
+
+		final String decimalSeparator = overlay.getDecimalSeparator() == null
+				? SpanishNumberTokenizer.DECIMAL_SEPARATOR : overlay.getDecimalSeparator();
+		final NumberTokenizer tokenizer = new SpanishNumberTokenizer(wordCase.apply(decimalSeparator, locale),
+				wordCase.apply(SpanishNumberTokenizer.NUMBER_CONJUNCTION, locale));
+
+		final WordTable leadingWords = style.getLetterCase() == LetterCase.SENTENCE
+				? words.withCase(LetterCase.SENTENCE, locale) : null;
+		final String wordSeparator = style.getWordSeparator(SpanishTokenVisitor.WORD_SEPARATOR);
+
+		return new SpanishNumberTranscriber(tokenizer, words.withCase(wordCase, locale), leadingWords, wordSeparator);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NumberParser newParser(final Locale locale) {
+		return new SpanishWordsParser();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long updateFingerprint(final long fingerprint) {
+
+		long result = MappingFingerprint.update(fingerprint, SpanishNumberMapping.class);
+
+		result = MappingFingerprint.update(result, SpanishNumberTokenizer.DECIMAL_SEPARATOR);
+		result = MappingFingerprint.update(result, SpanishNumberTokenizer.NUMBER_CONJUNCTION);
+
+		return result;
+	}
+
+	/**
+	 * The state-less, thread safe tokenizer and context shared by all the transcribers. Initialized on first use.
+	 */
+	private static final class Tables {
+
+		private static final NumberTokenizer TOKENIZER = new SpanishNumberTokenizer();
+
+		private static final TranscriptionContext CONTEXT = new SpanishNumberTranscriptionContext();
+	}
+
+	/**
+	 * The words of the mapping, on top of which the overlays are applied. Initialized on first use.
+	 */
+	private static final class Overlays {
+
+		private static final WordTable WORDS = SpanishMappingTables.asWordTable();
+	}
+}
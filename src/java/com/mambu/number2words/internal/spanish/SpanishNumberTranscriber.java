@@ -1,10 +1,13 @@
 package com.mambu.number2words.internal.spanish;
 
+import java.util.Objects;
+
 import com.mambu.number2words.internal.common.AbstractNumberTranscriber;
 import com.mambu.number2words.internal.spanish.visitors.SpanishTokenVisitor;
 import com.mambu.number2words.parsing.interfaces.NumberTokenizer;
 import com.mambu.number2words.parsing.interfaces.TranscriptionContext;
 import com.mambu.number2words.parsing.interfaces.Visitor;
+import com.mambu.number2words.parsing.interfaces.WordOutput;
 
 /**
  * Number transcriber for the Spanish language.
@@ -14,6 +17,11 @@ import com.mambu.number2words.parsing.interfaces.Visitor;
  */
 public class SpanishNumberTranscriber extends AbstractNumberTranscriber {
 
+	/**
+	 * The string placed between words.
+	 */
+	private final String wordSeparator;
+
 	/**
 	 * Constructor that is used to initialize this transcriber with a tokenizer and context.
 	 * 
@@ -23,15 +31,51 @@ public class SpanishNumberTranscriber extends AbstractNumberTranscriber {
 	 *            - evaluation context when transcribing tokens. Not <code>null</code>.
 	 */
 	public SpanishNumberTranscriber(final NumberTokenizer tokenizer, final TranscriptionContext context) {
-		super(tokenizer, context);
+		this(tokenizer, context, null, SpanishTokenVisitor.WORD_SEPARATOR);
+	}
+
+	/**
+	 * Constructor of a styled transcriber (see {@link com.mambu.number2words.api.factories.OutputStyle OutputStyle}).
+	 * 
+	 * @param tokenizer
+	 *            - tokenizer for Spanish. Not <code>null</code>.
+	 * @param context
+	 *            - evaluation context when transcribing tokens. Not <code>null</code>.
+	 * @param leadingContext
+	 *            - evaluation context of the first word, <code>null</code> if it is the same.
+	 * @param wordSeparator
+	 *            - the string placed between words. Not <code>null</code>.
+	 */
+	public SpanishNumberTranscriber(final NumberTokenizer tokenizer, final TranscriptionContext context,
+			final TranscriptionContext leadingContext, final String wordSeparator) {
+		super(tokenizer, context, leadingContext);
+		this.wordSeparator = Objects.requireNonNull(wordSeparator);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Visitor<Void> getTokenVisitor(final WordOutput output, final TranscriptionContext context) {
+		return new SpanishTokenVisitor(output, context, wordSeparator);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * In Spanish the units never change the words of the higher groups (i.e. "un millon" + " " + "uno").
+	 */
+	@Override
+	protected long getSequenceGroupSize() {
+		return 1000L;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	protected Visitor<Void> getTokenVisitor(final StringBuilder builder, final TranscriptionContext context) {
-		return new SpanishTokenVisitor(builder, context);
+	protected String getSequenceJunction(final long high, final long low) {
+		return wordSeparator;
 	}
 
 }
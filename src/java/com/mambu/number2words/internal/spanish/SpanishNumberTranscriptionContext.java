@@ -1,6 +1,6 @@
 package com.mambu.number2words.internal.spanish;
 
-import com.mambu.number2words.internal.spanish.mapping.SpanishNumberMapping;
+import com.mambu.number2words.internal.spanish.mapping.SpanishMappingTables;
 import com.mambu.number2words.parsing.interfaces.TranscriptionContext;
 import com.mambu.number2words.parsing.interfaces.WordValue.WordForm;
 import com.mambu.number2words.parsing.interfaces.WordValue.GrammaticalNumber;
@@ -21,7 +21,7 @@ public class SpanishNumberTranscriptionContext implements TranscriptionContext {
 	 */
 	@Override
 	public String asWord(Long value, GrammaticalNumber number, WordForm form) {
-		return SpanishNumberMapping.fromNumber(value).getWordValue().getWord(number, form);
+		return SpanishMappingTables.getWord(value, number, form);
 	}
 
 }
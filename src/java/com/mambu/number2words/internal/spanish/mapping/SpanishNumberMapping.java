@@ -7,8 +7,7 @@ import static com.mambu.number2words.parsing.interfaces.WordValue.GrammaticalNum
 import static com.mambu.number2words.parsing.interfaces.WordValue.WordForm.DEFAULT;
 import static com.mambu.number2words.parsing.interfaces.WordValue.WordForm.SHORTENED;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Objects;
 
 import com.mambu.number2words.parsing.interfaces.ValueMapping;
@@ -76,14 +75,18 @@ public enum SpanishNumberMapping implements ValueMapping {
 			MappingType.GROUP_QUANTIFIER);
 
 	/**
-	 * Holds the direct mappings from value to enum instance.
+	 * The instances, in ascending order of their values (checked by the build).
 	 */
-	private static final Map<Long, SpanishNumberMapping> WORD_MAPPING = new HashMap<>();
+	private static final SpanishNumberMapping[] MAPPINGS = values();
+
+	/**
+	 * The values of the {@link #MAPPINGS}, to look them up by binary search.
+	 */
+	private static final long[] VALUES = new long[MAPPINGS.length];
 
 	static {
-		// store the Long -> Enum mapping for faster fetching.
-		for (SpanishNumberMapping sm : SpanishNumberMapping.values()) {
-			WORD_MAPPING.put(sm.getValue(), sm);
+		for (int i = 0; i < MAPPINGS.length; ++i) {
+			VALUES[i] = MAPPINGS[i].value;
 		}
 	}
 
@@ -178,7 +181,9 @@ public enum SpanishNumberMapping implements ValueMapping {
 	 *             if the value could not be mapped.
 	 */
 	public static SpanishNumberMapping fromNumber(Long value) {
-		return Objects.requireNonNull(WORD_MAPPING.get(value));
+		final int index = Arrays.binarySearch(VALUES, value);
+
+		return Objects.requireNonNull(index < 0 ? null : MAPPINGS[index]);
 	}
 
 }
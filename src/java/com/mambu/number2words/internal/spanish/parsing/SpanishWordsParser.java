@@ -0,0 +1,21 @@
+package com.mambu.number2words.internal.spanish.parsing;
+
+import com.mambu.number2words.internal.common.parsing.AbstractWordsParser;
+import com.mambu.number2words.internal.spanish.mapping.SpanishNumberMapping;
+import com.mambu.number2words.internal.spanish.tokenization.SpanishNumberTokenizer;
+
+/**
+ * Parses numbers transcribed into Spanish words (i.e. "ciento veintitres coma cinco"). The conjunction "y" is skipped.
+ * <p>
+ * This class is thread safe.
+ */
+public class SpanishWordsParser extends AbstractWordsParser<SpanishNumberMapping> {
+
+	/**
+	 * Default constructor.
+	 */
+	public SpanishWordsParser() {
+		super(SpanishNumberMapping.class, SpanishNumberTokenizer.DECIMAL_SEPARATOR, true, false,
+				SpanishNumberTokenizer.NUMBER_CONJUNCTION);
+	}
+}
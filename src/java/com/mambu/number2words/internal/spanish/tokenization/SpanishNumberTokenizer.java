@@ -1,6 +1,9 @@
 package com.mambu.number2words.internal.spanish.tokenization;
 
+import java.util.Objects;
+
 import com.mambu.number2words.internal.common.tokenization.AbstractGroupedValuesTokenizer;
+import com.mambu.number2words.internal.spanish.mapping.SpanishMappingTables;
 import com.mambu.number2words.internal.spanish.mapping.SpanishNumberMapping;
 import com.mambu.number2words.parsing.interfaces.ValueMapping.MappingType;
 import com.mambu.number2words.parsing.interfaces.ValueToken;
@@ -27,22 +30,48 @@ public class SpanishNumberTokenizer extends AbstractGroupedValuesTokenizer<Spani
 	/**
 	 * Conjunction used between certain numbers (for example 32 is "treinta " + "y" + " tres")
 	 */
-	private static final String NUMBER_CONJUNCTION = "y";
+	public static final String NUMBER_CONJUNCTION = "y";
+
 	/**
-	 * Static literal for {@link #NUMBER_CONJUNCTION}.
+	 * Decimal separator for Spanish.
 	 */
-	private static final LiteralValueToken NUMBER_CONJUNCTION_LITERAL = new LiteralValueToken(NUMBER_CONJUNCTION);
+	public static final String DECIMAL_SEPARATOR = "coma";
 
 	/**
-	 * Decimal separator for Spanish.
+	 * Literal for the conjunction (see {@link #NUMBER_CONJUNCTION}).
 	 */
-	private static final String DECIMAL_SEPARATOR = "coma";
+	private final LiteralValueToken conjunctionLiteral;
 
 	/**
 	 * Default constructor.
 	 */
 	public SpanishNumberTokenizer() {
-		super(SpanishNumberMapping.class, DECIMAL_SEPARATOR);
+		this(DECIMAL_SEPARATOR);
+	}
+
+	/**
+	 * Constructor with a different decimal separator.
+	 * 
+	 * @param decimalSeparator
+	 *            - the word between the integer and the fractional part. Not <code>null</code>.
+	 */
+	public SpanishNumberTokenizer(final String decimalSeparator) {
+		this(decimalSeparator, NUMBER_CONJUNCTION);
+	}
+
+	/**
+	 * Constructor with a different decimal separator and conjunction (i.e. in upper case).
+	 * 
+	 * @param decimalSeparator
+	 *            - the word between the integer and the fractional part. Not <code>null</code>.
+	 * @param conjunction
+	 *            - the word between the tens and the units. Not <code>null</code>.
+	 */
+	public SpanishNumberTokenizer(final String decimalSeparator, final String conjunction) {
+		super(SpanishNumberMapping.class, SpanishMappingTables.getGroupQuantifiers(),
+				SpanishMappingTables.getSubGroupQuantifiers(), SpanishMappingTables.getLargestConsecutiveValue(),
+				decimalSeparator);
+		this.conjunctionLiteral = new LiteralValueToken(Objects.requireNonNull(conjunction));
 	}
 
 	/**
@@ -107,7 +136,7 @@ public class SpanishNumberTokenizer extends AbstractGroupedValuesTokenizer<Spani
 				// this will contain the last digits in the sub group
 				// for example: "y dos", where "y" is the NUMBER_CONJUNCTION constant
 
-				prefixedValue = new PrefixedValueToken(NUMBER_CONJUNCTION_LITERAL, parseGroupValue(lastDigits));
+				prefixedValue = new PrefixedValueToken(conjunctionLiteral, parseGroupValue(lastDigits));
 
 			} else {
 				// values that do not require "y"
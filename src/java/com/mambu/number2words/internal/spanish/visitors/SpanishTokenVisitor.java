@@ -4,6 +4,7 @@ import java.util.Objects;
 
 import com.mambu.number2words.parsing.interfaces.TranscriptionContext;
 import com.mambu.number2words.parsing.interfaces.ValueToken;
+import com.mambu.number2words.parsing.interfaces.WordOutput;
 import com.mambu.number2words.parsing.interfaces.WordValue.GrammaticalNumber;
 import com.mambu.number2words.parsing.interfaces.WordValue.WordForm;
 import com.mambu.number2words.parsing.tokenization.GroupListToken;
@@ -12,6 +13,7 @@ import com.mambu.number2words.parsing.tokenization.PrefixedValueToken;
 import com.mambu.number2words.parsing.tokenization.SuffixedValueToken;
 import com.mambu.number2words.parsing.visitors.AbstractTranscribingVisitor;
 import com.mambu.number2words.parsing.visitors.MaximumAccumulator;
+import com.mambu.number2words.parsing.visitors.StringBuilderOutput;
 
 /**
  * {@link ValueToken} visitor for Spanish numbers. It will build or print a {@link String} representation of a tree of
@@ -27,7 +29,7 @@ public class SpanishTokenVisitor extends AbstractTranscribingVisitor {
 	/**
 	 * Word separator for Spanish.
 	 */
-	private static final String WORD_SEPARATOR = " ";
+	public static final String WORD_SEPARATOR = " ";
 
 	/**
 	 * Visitor used to determine the maximum value on a ValueToken tree.
@@ -48,6 +50,36 @@ public class SpanishTokenVisitor extends AbstractTranscribingVisitor {
 	/**
 	 * Default constructor.
 	 * 
+	 * @param output
+	 *            - {@link WordOutput} the {@link ValueToken} word representation will be appended.
+	 * 
+	 * @param context
+	 *            - the context that holds the number to word mapping information.
+	 * 
+	 */
+	public SpanishTokenVisitor(WordOutput output, TranscriptionContext context) {
+		this(output, context, WORD_SEPARATOR);
+	}
+
+	/**
+	 * Constructor with a different word separator.
+	 * 
+	 * @param output
+	 *            - {@link WordOutput} the {@link ValueToken} word representation will be appended.
+	 * @param context
+	 *            - the context that holds the number to word mapping information.
+	 * @param wordSeparator
+	 *            - the string that should be placed between words. Not <code>null</code>.
+	 */
+	public SpanishTokenVisitor(final WordOutput output, final TranscriptionContext context,
+			final String wordSeparator) {
+		super(context, output, wordSeparator);
+		this.maxAccumulator = new MaximumAccumulator();
+	}
+
+	/**
+	 * Constructor that appends the words to a {@link StringBuilder}.
+	 * 
 	 * @param builder
 	 *            - {@link StringBuilder} the {@link ValueToken} word representation will be appended.
 	 * 
@@ -56,8 +88,7 @@ public class SpanishTokenVisitor extends AbstractTranscribingVisitor {
 	 * 
 	 */
 	public SpanishTokenVisitor(StringBuilder builder, TranscriptionContext context) {
-		super(context, builder, WORD_SEPARATOR);
-		this.maxAccumulator = new MaximumAccumulator();
+		this(new StringBuilderOutput(builder), context);
 	}
 
 	/**
@@ -82,7 +113,7 @@ public class SpanishTokenVisitor extends AbstractTranscribingVisitor {
 		// for all tokens in the list
 		for (final ValueToken gr : token.getList()) {
 
-			final int oldLength = builder.length();
+			final int oldLength = getOutput().length();
 
 			final Long currentMax = maximum(gr);
 
@@ -92,17 +123,17 @@ public class SpanishTokenVisitor extends AbstractTranscribingVisitor {
 			// accept the visitor
 			accept(gr, determineNumberForQuantifier(previousMax), determineFormForGroup(gr, currentMax));
 
-			// if the builder was modified, append a separator
-			if (oldLength != builder.length()) {
-				builder.append(wordSeparator);
+			// if the output was modified, append a separator
+			if (oldLength != getOutput().length()) {
+				getOutput().append(wordSeparator);
 			}
 
 			previousMax = currentMax;
 		}
 
-		if (builder.length() > 0 && wordSeparator.length() > 0) {
+		if (getOutput().length() > 0 && wordSeparator.length() > 0) {
 			// remove last separator
-			builder.setLength(builder.length() - wordSeparator.length());
+			getOutput().setLength(getOutput().length() - wordSeparator.length());
 		}
 
 		return null;
@@ -116,7 +147,7 @@ public class SpanishTokenVisitor extends AbstractTranscribingVisitor {
 
 		final String word = context.asWord(token.getMappedValue(), wordNumber, wordForm);
 
-		builder.append(word);
+		getOutput().append(word);
 
 		return null;
 	}
@@ -135,7 +166,7 @@ public class SpanishTokenVisitor extends AbstractTranscribingVisitor {
 		acceptWithForm(token.getPrefixToken(), determinePrefixForm(maxValue, maxPrefixValue));
 
 		// write separator
-		builder.append(wordSeparator);
+		getOutput().append(wordSeparator);
 
 		// write value
 		// handling "ciento uno" ("uno" could have been shortened to "un" before this)
@@ -157,7 +188,7 @@ public class SpanishTokenVisitor extends AbstractTranscribingVisitor {
 		acceptWithForm(token.getValueToken(), determineValueFormBasedOnSuffix(maxValue, maxSuffixValue));
 
 		// write separator
-		builder.append(wordSeparator);
+		getOutput().append(wordSeparator);
 
 		// write suffix
 		acceptWithNumber(token.getSuffixToken(), determineNumberForQuantifier(maxValue));
@@ -0,0 +1,20 @@
+package com.mambu.number2words.parsing.interfaces;
+
+import com.mambu.number2words.api.NumberDecomposition;
+
+/**
+ * {@link NumberTokenizer} that also tokenizes numbers already decomposed into digits, without going through a
+ * {@link java.math.BigDecimal BigDecimal}.
+ */
+public interface DecompositionTokenizer extends NumberTokenizer {
+
+	/**
+	 * Tokenizes a number that was already decomposed into digits.
+	 * 
+	 * @param number
+	 *            - the decomposed number to tokenize. Not <code>null</code>.
+	 * @return a {@link ValueToken} instance. Never <code>null</code>.
+	 */
+	ValueToken tokenize(final NumberDecomposition number);
+
+}
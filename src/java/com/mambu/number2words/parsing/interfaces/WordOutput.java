@@ -0,0 +1,35 @@
+package com.mambu.number2words.parsing.interfaces;
+
+/**
+ * The output of the transcribing visitors. The words are appended one by one and the visitors may remove the last
+ * separator they appended.
+ * <p>
+ * This allows the transcription to be written into a {@link StringBuilder} or to be compared on the fly with an
+ * expected text, without being built.
+ */
+public interface WordOutput {
+
+	/**
+	 * Appends a word or a separator.
+	 * 
+	 * @param text
+	 *            - the text to append. Not <code>null</code>.
+	 */
+	void append(final String text);
+
+	/**
+	 * Returns the number of characters written so far.
+	 * 
+	 * @return the length of the output.
+	 */
+	int length();
+
+	/**
+	 * Removes the characters written after the passed length.
+	 * 
+	 * @param length
+	 *            - the new length. Between 0 and {@link #length()}.
+	 */
+	void setLength(final int length);
+
+}
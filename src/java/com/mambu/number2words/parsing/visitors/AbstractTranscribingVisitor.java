@@ -5,6 +5,7 @@ import java.util.Objects;
 import com.mambu.number2words.parsing.interfaces.TranscriptionContext;
 import com.mambu.number2words.parsing.interfaces.ValueToken;
 import com.mambu.number2words.parsing.interfaces.Visitor;
+import com.mambu.number2words.parsing.interfaces.WordOutput;
 import com.mambu.number2words.parsing.interfaces.WordValue.GrammaticalNumber;
 import com.mambu.number2words.parsing.interfaces.WordValue.WordForm;
 import com.mambu.number2words.parsing.tokenization.GroupListToken;
@@ -15,7 +16,8 @@ import com.mambu.number2words.parsing.tokenization.PrefixedValueToken;
 import com.mambu.number2words.parsing.tokenization.SuffixedValueToken;
 
 /**
- * Adaptor for visitors that use {@link StringBuilder} instances to transcribe {@link ValueToken}s.
+ * Adaptor for visitors that use {@link WordOutput} instances (i.e. {@link StringBuilder}s) to transcribe
+ * {@link ValueToken}s.
  * 
  * @author aatasiei
  *
@@ -23,10 +25,16 @@ import com.mambu.number2words.parsing.tokenization.SuffixedValueToken;
 public abstract class AbstractTranscribingVisitor implements Visitor<Void> {
 
 	/**
-	 * String builder to which the {@link ValueToken} word representation will be appended.
+	 * String builder to which the {@link ValueToken} word representation will be appended. <code>null</code> if the
+	 * visitor was created with a {@link WordOutput}: the subclasses should append through {@link #getOutput()}.
 	 */
 	protected final StringBuilder builder;
 
+	/**
+	 * Output to which the {@link ValueToken} word representation will be appended.
+	 */
+	private final WordOutput output;
+
 	/**
 	 * String separator to be appended between words.
 	 */
@@ -42,6 +50,25 @@ public abstract class AbstractTranscribingVisitor implements Visitor<Void> {
 	 * 
 	 * @param context
 	 *            - the context that holds the number to word mapping information. Not <code>null</code>.
+	 * @param output
+	 *            - {@link WordOutput} the {@link ValueToken} word representation will be appended. Not
+	 *            <code>null</code>.
+	 * 
+	 * @param wordSeparator
+	 *            - the string that should be placed between words. Not <code>null</code>.
+	 * 
+	 */
+	protected AbstractTranscribingVisitor(final TranscriptionContext context, final WordOutput output,
+			final String wordSeparator) {
+
+		this(context, null, output, wordSeparator);
+	}
+
+	/**
+	 * Constructor that appends the words to a {@link StringBuilder}.
+	 * 
+	 * @param context
+	 *            - the context that holds the number to word mapping information. Not <code>null</code>.
 	 * @param builder
 	 *            - {@link StringBuilder} the {@link ValueToken} word representation will be appended. Not
 	 *            <code>null</code>.
@@ -52,14 +79,31 @@ public abstract class AbstractTranscribingVisitor implements Visitor<Void> {
 	 */
 	protected AbstractTranscribingVisitor(final TranscriptionContext context, final StringBuilder builder,
 			final String wordSeparator) {
+		this(context, Objects.requireNonNull(builder, "Builder can not be null"), new StringBuilderOutput(builder),
+				wordSeparator);
+	}
+
+	/**
+	 * Private constructor.
+	 */
+	private AbstractTranscribingVisitor(final TranscriptionContext context, final StringBuilder builder,
+			final WordOutput output, final String wordSeparator) {
 
 		this.context = Objects.requireNonNull(context, "Transcription context can not be null.");
-		this.builder = Objects.requireNonNull(builder, "Builder can not be null");
+		this.builder = builder;
+		this.output = Objects.requireNonNull(output, "Output can not be null");
 
 		this.wordSeparator = Objects.requireNonNull(wordSeparator,
 				"Word separator can not be null (can be set to empty)");
 	}
 
+	/**
+	 * @return the output to which the words are appended. Never <code>null</code>.
+	 */
+	protected final WordOutput getOutput() {
+		return output;
+	}
+
 	/**
 	 * Visits the {@link GroupListToken} tokens.
 	 * <p>
@@ -72,20 +116,20 @@ public abstract class AbstractTranscribingVisitor implements Visitor<Void> {
 
 		// for all tokens in the list
 		for (ValueToken gr : token.getList()) {
-			int oldLength = builder.length();
+			int oldLength = output.length();
 
 			// accept the visitor
 			gr.accept(this);
 
-			// if the builder was modified, append a separator
-			if (oldLength != builder.length()) {
-				builder.append(wordSeparator);
+			// if the output was modified, append a separator
+			if (oldLength != output.length()) {
+				output.append(wordSeparator);
 			}
 		}
 
-		if (builder.length() > 0 && wordSeparator.length() > 0) {
+		if (output.length() > 0 && wordSeparator.length() > 0) {
 			// remove last separator
-			builder.setLength(builder.length() - wordSeparator.length());
+			output.setLength(output.length() - wordSeparator.length());
 		}
 
 		return null;
@@ -104,7 +148,7 @@ public abstract class AbstractTranscribingVisitor implements Visitor<Void> {
 		// mapped value tokens should be represented by a single string
 		final String word = context.asWord(token.getMappedValue(), GrammaticalNumber.SINGULAR, WordForm.DEFAULT);
 
-		builder.append(word);
+		output.append(word);
 
 		return null;
 	}
@@ -122,7 +166,7 @@ public abstract class AbstractTranscribingVisitor implements Visitor<Void> {
 		// write prefix
 		token.getPrefixToken().accept(this);
 		// write separator
-		builder.append(wordSeparator);
+		output.append(wordSeparator);
 		// write value
 		token.getValueToken().accept(this);
 
@@ -142,7 +186,7 @@ public abstract class AbstractTranscribingVisitor implements Visitor<Void> {
 		// write value
 		token.getValueToken().accept(this);
 		// write separator
-		builder.append(wordSeparator);
+		output.append(wordSeparator);
 		// write suffix
 		token.getSuffixToken().accept(this);
 
@@ -157,13 +201,13 @@ public abstract class AbstractTranscribingVisitor implements Visitor<Void> {
 	@Override
 	public Void visitLiteral(LiteralValueToken literalValueToken) {
 
-		builder.append(literalValueToken.getValue());
+		output.append(literalValueToken.getValue());
 
 		return null;
 	}
 
 	/**
-	 * Visits {@link NullValueToken} tokens. This will append nothing to the builder.
+	 * Visits {@link NullValueToken} tokens. This will append nothing to the output.
 	 */
 	@Override
 	public Void visitNullValue(final NullValueToken token) {
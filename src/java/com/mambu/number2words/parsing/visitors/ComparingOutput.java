@@ -0,0 +1,121 @@
+package com.mambu.number2words.parsing.visitors;
+
+import java.util.Objects;
+
+import com.mambu.number2words.parsing.interfaces.WordOutput;
+
+/**
+ * {@link WordOutput} that compares the words with an expected text as they are appended, without storing them.
+ * <p>
+ * Once a difference is found, the following words are no longer compared, only counted. As the visitors may remove
+ * the last separator they appended, a difference found in the removed characters is discarded; all the characters
+ * before it are known to match, so the comparison resumes from there.
+ * <p>
+ * Not thread safe. Instances can be reused by calling {@link #reset(CharSequence)}.
+ */
+public class ComparingOutput implements WordOutput {
+
+	/**
+	 * The text the words are compared with.
+	 */
+	private CharSequence expected;
+
+	/**
+	 * The number of characters written so far.
+	 */
+	private int length;
+
+	/**
+	 * The index of the first difference, or -1.
+	 */
+	private int mismatch;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param expected
+	 *            - the text the words are compared with. Not <code>null</code>.
+	 */
+	public ComparingOutput(final CharSequence expected) {
+		reset(expected);
+	}
+
+	/**
+	 * Starts a new comparison.
+	 * 
+	 * @param expected
+	 *            - the text the words are compared with. Not <code>null</code>.
+	 */
+	public void reset(final CharSequence expected) {
+		this.expected = Objects.requireNonNull(expected, "Expected text can not be null");
+		this.length = 0;
+		this.mismatch = -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void append(final String text) {
+
+		if (mismatch < 0) {
+
+			final int textLength = text.length();
+			final int available = Math.min(textLength, expected.length() - length);
+
+			int i = 0;
+
+			while (i < available && text.charAt(i) == expected.charAt(length + i)) {
+				++i;
+			}
+
+			if (i < textLength) {
+				mismatch = length + i;
+			}
+		}
+
+		length += text.length();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setLength(final int length) {
+
+		if (length < 0 || length > this.length) {
+			throw new IndexOutOfBoundsException("Invalid length: " + length);
+		}
+
+		this.length = length;
+
+		if (mismatch >= length) {
+			mismatch = -1;
+		}
+	}
+
+	/**
+	 * Returns the index of the first character of the expected text that differs from the words written so far.
+	 * 
+	 * @return the index of the first difference (equal to the length of the expected text if the words continue after
+	 *         its end, or to the length of the words if the expected text continues after them), or -1 if the words
+	 *         are equal to the expected text.
+	 */
+	public int getMismatch() {
+
+		if (mismatch >= 0) {
+			return mismatch;
+		}
+
+		return length == expected.length() ? -1 : length;
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.mambu.number2words.parsing.visitors;
+
+import java.util.Objects;
+
+import com.mambu.number2words.parsing.interfaces.WordOutput;
+
+/**
+ * {@link WordOutput} that appends the words to a {@link StringBuilder}.
+ * <p>
+ * The length is relative to the length of the builder when this output was created, so the words are only ever
+ * removed from the part that was written by the transcription.
+ */
+public class StringBuilderOutput implements WordOutput {
+
+	/**
+	 * The builder to which the words are appended.
+	 */
+	private final StringBuilder builder;
+
+	/**
+	 * The length of the builder before the transcription.
+	 */
+	private final int start;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param builder
+	 *            - the builder to which the words will be appended. Not <code>null</code>.
+	 */
+	public StringBuilderOutput(final StringBuilder builder) {
+		this.builder = Objects.requireNonNull(builder, "Builder can not be null");
+		this.start = builder.length();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void append(final String text) {
+		builder.append(text);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int length() {
+		return builder.length() - start;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setLength(final int length) {
+		builder.setLength(start + length);
+	}
+
+}
@@ -0,0 +1,361 @@
+package com.mambu.number2words.text;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberTranscriber;
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+import com.mambu.number2words.api.factories.OutputStyle;
+import com.mambu.number2words.api.factories.OutputStyle.LetterCase;
+
+/**
+ * Document template with amount slots, compiled once and rendered many times (i.e. for cheques and payment letters).
+ * <p>
+ * A template is plain text in which <code>{index}</code> or <code>{index,option=value,...}</code> marks a slot that is
+ * replaced with the words of the amount with that (zero based) index. <code>{{</code> and <code>}}</code> are used for
+ * literal braces. The supported options are:
+ * <ul>
+ * <li><code>locale</code> - language tag of the words (i.e. <code>es</code>). Defaults to the template locale.
+ * <li><code>width</code> - the minimum width of the slot, up to {@value #MAX_WIDTH}. Shorter transcriptions are padded,
+ * longer ones are left unchanged.
+ * <li><code>pad</code> - the padding character, which can also be a comma (i.e. <code>pad=,</code>). Defaults to a
+ * space.
+ * <li><code>align</code> - <code>left</code> (default), <code>right</code> or <code>center</code>.
+ * <li><code>case</code> - <code>upper</code>, <code>title</code> or <code>sentence</code> letter case of the words (see
+ * {@link OutputStyle.LetterCase}).
+ * </ul>
+ * For example:
+ *
+ * <pre>
+ * AmountTemplate cheque = AmountTemplate.compile("Pay {0,width=40,pad=*,align=center} only", Locale.ENGLISH);
+ *
+ * cheque.render(builder, new BigDecimal("1200")); // "Pay ********one thousand two hundred******** only"
+ * </pre>
+ * <p>
+ * Compiling splits the template into literal segments and slots and resolves the transcribers, so rendering only
+ * appends to the caller's {@link StringBuilder} (see {@link NumberTranscriber#appendWords(StringBuilder, BigDecimal)}).
+ * Reusing the same builder for many records avoids any intermediate strings.
+ * <p>
+ * Instances are immutable and thread safe.
+ */
+public final class AmountTemplate {
+
+	/**
+	 * Largest slot width. The padding of a slot is allocated when the template is compiled.
+	 */
+	public static final int MAX_WIDTH = 1024;
+
+	/**
+	 * Alignment of the words inside a padded slot.
+	 */
+	public enum Alignment {
+		LEFT, RIGHT, CENTER;
+	}
+
+	/**
+	 * A compiled part of the template: either a literal or a slot.
+	 */
+	private interface Segment {
+
+		void render(StringBuilder builder, BigDecimal[] amounts);
+	}
+
+	/**
+	 * A literal segment.
+	 */
+	private static final class Literal implements Segment {
+
+		private final String text;
+
+		Literal(final String text) {
+			this.text = text;
+		}
+
+		@Override
+		public void render(final StringBuilder builder, final BigDecimal[] amounts) {
+			builder.append(text);
+		}
+	}
+
+	/**
+	 * An amount slot.
+	 */
+	private static final class Slot implements Segment {
+
+		private final int index;
+		private final ExtendedNumberTranscriber transcriber;
+		private final int width;
+		private final Alignment alignment;
+
+		/**
+		 * Pre-filled padding (<code>width</code> padding characters).
+		 */
+		private final char[] padding;
+
+		Slot(final int index, final ExtendedNumberTranscriber transcriber, final int width, final char pad,
+				final Alignment alignment) {
+
+			this.index = index;
+			this.transcriber = transcriber;
+			this.width = width;
+			this.alignment = alignment;
+
+			this.padding = new char[width];
+			Arrays.fill(padding, pad);
+		}
+
+		@Override
+		public void render(final StringBuilder builder, final BigDecimal[] amounts) {
+
+			if (index >= amounts.length) {
+				throw new IllegalArgumentException("No amount for slot " + index);
+			}
+
+			final int start = builder.length();
+
+			transcriber.appendWords(builder, Objects.requireNonNull(amounts[index], "Amount can not be null"));
+
+			final int missing = width - (builder.length() - start);
+
+			if (missing <= 0) {
+				return;
+			}
+
+			switch (alignment) {
+			case LEFT:
+				builder.append(padding, 0, missing);
+				break;
+			case RIGHT:
+				builder.insert(start, padding, 0, missing);
+				break;
+			case CENTER:
+				builder.insert(start, padding, 0, missing / 2);
+				builder.append(padding, 0, missing - missing / 2);
+				break;
+			}
+		}
+	}
+
+	/**
+	 * The compiled segments, in order.
+	 */
+	private final Segment[] segments;
+
+	/**
+	 * Number of amounts required for rendering (largest slot index + 1).
+	 */
+	private final int amountCount;
+
+	/**
+	 * Private constructor. Use {@link #compile(String, Locale)}.
+	 */
+	private AmountTemplate(final Segment[] segments, final int amountCount) {
+		this.segments = segments;
+		this.amountCount = amountCount;
+	}
+
+	/**
+	 * Compiles a template.
+	 *
+	 * @param template
+	 *            - the template text. Not <code>null</code>.
+	 * @param defaultLocale
+	 *            - the locale of the slots that do not specify one. Not <code>null</code>.
+	 * @return the compiled template. Never <code>null</code>.
+	 * @throws IllegalArgumentException
+	 *             if the template is malformed or uses unsupported locales.
+	 */
+	public static AmountTemplate compile(final String template, final Locale defaultLocale) {
+
+		Objects.requireNonNull(defaultLocale);
+
+		final List<Segment> segments = new ArrayList<>();
+		final StringBuilder literal = new StringBuilder();
+
+		int amountCount = 0;
+		int i = 0;
+
+		while (i < template.length()) {
+
+			final char c = template.charAt(i);
+
+			if ((c == '{' || c == '}') && i + 1 < template.length() && template.charAt(i + 1) == c) {
+				// escaped brace
+				literal.append(c);
+				i += 2;
+
+			} else if (c == '{') {
+
+				final int end = template.indexOf('}', i);
+
+				if (end < 0) {
+					throw new IllegalArgumentException("Unclosed slot at position " + i);
+				}
+
+				if (literal.length() > 0) {
+					segments.add(new Literal(literal.toString()));
+					literal.setLength(0);
+				}
+
+				final Slot slot = parseSlot(template.substring(i + 1, end), defaultLocale, i);
+
+				segments.add(slot);
+				amountCount = Math.max(amountCount, slot.index + 1);
+
+				i = end + 1;
+
+			} else if (c == '}') {
+				throw new IllegalArgumentException("Unexpected '}' at position " + i);
+
+			} else {
+				literal.append(c);
+				++i;
+			}
+		}
+
+		if (literal.length() > 0) {
+			segments.add(new Literal(literal.toString()));
+		}
+
+		return new AmountTemplate(segments.toArray(new Segment[segments.size()]), amountCount);
+	}
+
+	/**
+	 * Parses the content of a slot: <code>index[,option=value]*</code>.
+	 */
+	private static Slot parseSlot(final String content, final Locale defaultLocale, final int position) {
+
+		// the options are read one at a time, as the padding character can be a comma
+		int optionStart = content.indexOf(',');
+
+		try {
+			final int index = Integer.parseInt((optionStart < 0 ? content : content.substring(0, optionStart)).trim());
+
+			if (index < 0) {
+				throw new IllegalArgumentException("Negative slot index at position " + position);
+			}
+
+			Locale locale = defaultLocale;
+			int width = 0;
+			char pad = ' ';
+			Alignment alignment = Alignment.LEFT;
+			LetterCase letterCase = LetterCase.DEFAULT;
+
+			while (optionStart >= 0) {
+
+				++optionStart;
+
+				final int nextComma = content.indexOf(',', optionStart);
+				final int separator = content.indexOf('=', optionStart);
+
+				if (separator < 0 || (nextComma >= 0 && nextComma < separator)) {
+					throw new IllegalArgumentException("Invalid slot option '" + content.substring(optionStart,
+							nextComma < 0 ? content.length() : nextComma) + "' at position " + position);
+				}
+
+				final String key = content.substring(optionStart, separator).trim();
+
+				int valueEnd;
+
+				if ("pad".equals(key)) {
+					// the padding is always a single character, even a comma
+					valueEnd = Math.min(separator + 2, content.length());
+				} else {
+					valueEnd = content.indexOf(',', separator + 1);
+					valueEnd = valueEnd < 0 ? content.length() : valueEnd;
+				}
+
+				final String value = content.substring(separator + 1, valueEnd);
+
+				optionStart = valueEnd < content.length() ? valueEnd : -1;
+
+				switch (key) {
+				case "locale":
+					locale = Locale.forLanguageTag(value.trim());
+					break;
+				case "width":
+					width = Integer.parseInt(value.trim());
+					if (width > MAX_WIDTH) {
+						throw new IllegalArgumentException("Slot width larger than " + MAX_WIDTH + " at position "
+								+ position);
+					}
+					break;
+				case "pad":
+					if (value.length() != 1 || (optionStart >= 0 && content.charAt(optionStart) != ',')) {
+						throw new IllegalArgumentException("Padding must be a single character at position "
+								+ position);
+					}
+					pad = value.charAt(0);
+					break;
+				case "align":
+					alignment = Alignment.valueOf(value.trim().toUpperCase(Locale.ROOT));
+					break;
+				case "case":
+					letterCase = LetterCase.valueOf(value.trim().toUpperCase(Locale.ROOT));
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown slot option '" + key + "' at position " + position);
+				}
+			}
+
+			final ExtendedNumberTranscriber transcriber = letterCase == LetterCase.DEFAULT ? NumberTranscriberFactory
+					.getTranscriber(locale) : NumberTranscriberFactory.newTranscriber(locale,
+					OutputStyle.DEFAULT.withLetterCase(letterCase));
+
+			return new Slot(index, transcriber, Math.max(width, 0), pad, alignment);
+
+		} catch (final NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid slot '" + content + "' at position " + position, e);
+		}
+	}
+
+	/**
+	 * Number of amounts needed to render this template (the largest slot index + 1).
+	 *
+	 * @return the number of amounts.
+	 */
+	public int getAmountCount() {
+		return amountCount;
+	}
+
+	/**
+	 * Renders the template, appending the result to the builder.
+	 *
+	 * @param builder
+	 *            - the builder to which the result is appended. Not <code>null</code>.
+	 * @param amounts
+	 *            - the amounts, indexed by slot index. Not <code>null</code>, at least {@link #getAmountCount()}
+	 *            values.
+	 * @throws IllegalArgumentException
+	 *             if there are not enough amounts or the amounts can not be transcribed.
+	 */
+	public void render(final StringBuilder builder, final BigDecimal... amounts) {
+
+		Objects.requireNonNull(builder);
+
+		for (final Segment segment : segments) {
+			segment.render(builder, amounts);
+		}
+	}
+
+	/**
+	 * Renders the template into a new {@link String}.
+	 *
+	 * @param amounts
+	 *            - the amounts, indexed by slot index. Not <code>null</code>.
+	 * @return the rendered template. Never <code>null</code>.
+	 */
+	public String render(final BigDecimal... amounts) {
+
+		final StringBuilder builder = new StringBuilder();
+
+		render(builder, amounts);
+
+		return builder.toString();
+	}
+}
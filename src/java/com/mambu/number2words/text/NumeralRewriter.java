@@ -0,0 +1,474 @@
+package com.mambu.number2words.text;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberDecomposition;
+
+/**
+ * Streaming rewriter that replaces the numeric literals found in a text with their transcription into words.
+ * <p>
+ * The text is scanned once, character by character, by a hand-written state machine. A numeric literal is a sequence
+ * of digits, optionally split in groups of exactly 3 digits by the grouping separator, optionally followed by the
+ * decimal separator and more digits. For example, with <code>','</code> and <code>'.'</code> as separators:
+ *
+ * <pre>
+ * "Pay 1,250.50 EUR."      -> "Pay one thousand two hundred fifty and fifty EUR."
+ * "Items 1, 2 and 3."      -> "Items one, two and three."
+ * "Ref A12 or 12b"         -> "Ref A12 or 12b"   (digits that are part of a word are left unchanged)
+ * </pre>
+ * <p>
+ * Separators that can not continue a literal (a grouping separator not followed by 3 digits, a decimal separator at the
+ * end of a sentence, etc...) are left in the text. Literals longer than {@link #MAX_LITERAL_LENGTH} characters are not
+ * replaced, so the memory used while rewriting is bounded regardless of the input.
+ * <p>
+ * This class is thread safe: all the state of a rewrite is local to the call.
+ */
+public class NumeralRewriter {
+
+	/**
+	 * Maximum length of a numeric literal (including separators). Longer digit sequences are copied unchanged.
+	 */
+	public static final int MAX_LITERAL_LENGTH = 64;
+
+	/**
+	 * Size of the read and write buffers.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * Marks that no grouping separator is used.
+	 */
+	public static final char NO_GROUPING = '\0';
+
+	/**
+	 * The transcriber used for the replacements.
+	 */
+	private final ExtendedNumberTranscriber transcriber;
+
+	/**
+	 * The character separating the digit groups of the integer part, or {@link #NO_GROUPING}.
+	 */
+	private final char groupingSeparator;
+
+	/**
+	 * The character separating the integer part from the fractional part.
+	 */
+	private final char decimalSeparator;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param transcriber
+	 *            - the transcriber used for the replacements. Not <code>null</code>.
+	 * @param groupingSeparator
+	 *            - the character separating digit groups (i.e. <code>','</code>), or {@link #NO_GROUPING}.
+	 * @param decimalSeparator
+	 *            - the decimal separator (i.e. <code>'.'</code>). Must be different from the grouping separator.
+	 */
+	public NumeralRewriter(final ExtendedNumberTranscriber transcriber, final char groupingSeparator,
+			final char decimalSeparator) {
+
+		if (groupingSeparator == decimalSeparator || Character.isLetterOrDigit(decimalSeparator)
+				|| Character.isLetterOrDigit(groupingSeparator)) {
+			throw new IllegalArgumentException("Invalid separators: '" + groupingSeparator + "', '"
+					+ decimalSeparator + "'");
+		}
+
+		this.transcriber = Objects.requireNonNull(transcriber);
+		this.groupingSeparator = groupingSeparator;
+		this.decimalSeparator = decimalSeparator;
+	}
+
+	/**
+	 * Rewrites all the text from the reader to the writer. Neither stream is closed, the writer is flushed.
+	 *
+	 * @param reader
+	 *            - the source text. Not <code>null</code>.
+	 * @param writer
+	 *            - the destination of the rewritten text. Not <code>null</code>.
+	 * @throws IOException
+	 *             if the streams could not be read or written.
+	 */
+	public void rewrite(final Reader reader, final Writer writer) throws IOException {
+
+		final Session session = new Session(writer);
+		final char[] buffer = new char[BUFFER_SIZE];
+
+		int read;
+
+		while ((read = reader.read(buffer)) >= 0) {
+			for (int i = 0; i < read; ++i) {
+				session.accept(buffer[i]);
+			}
+		}
+
+		session.finish();
+	}
+
+	/**
+	 * Rewrites the remaining characters of the buffer to the writer. The buffer position is moved to its limit, the
+	 * writer is flushed but not closed.
+	 *
+	 * @param text
+	 *            - the source text. Not <code>null</code>.
+	 * @param writer
+	 *            - the destination of the rewritten text. Not <code>null</code>.
+	 * @throws IOException
+	 *             if the writer failed.
+	 */
+	public void rewrite(final CharBuffer text, final Writer writer) throws IOException {
+
+		final Session session = new Session(writer);
+
+		while (text.hasRemaining()) {
+			session.accept(text.get());
+		}
+
+		session.finish();
+	}
+
+	/**
+	 * Rewrites a string.
+	 *
+	 * @param text
+	 *            - the source text. Not <code>null</code>.
+	 * @return the text with the numeric literals replaced. Never <code>null</code>.
+	 */
+	public String rewrite(final CharSequence text) {
+
+		final StringWriter writer = new StringWriter(text.length() * 2);
+
+		try {
+			rewrite(CharBuffer.wrap(text), writer);
+		} catch (final IOException e) {
+			// StringWriter does not throw
+			throw new IllegalStateException(e);
+		}
+
+		return writer.toString();
+	}
+
+	/**
+	 * States of the scanner.
+	 */
+	private enum State {
+		/**
+		 * Outside of a literal.
+		 */
+		TEXT,
+		/**
+		 * Inside a word (digits found here are not literals).
+		 */
+		WORD,
+		/**
+		 * In the integer part of a literal.
+		 */
+		INTEGER,
+		/**
+		 * In the fractional part of a literal.
+		 */
+		FRACTION,
+		/**
+		 * Inside a digit sequence that was too long to be a literal.
+		 */
+		SKIP
+	}
+
+	/**
+	 * The state of a single rewrite.
+	 */
+	private final class Session {
+
+		private final Writer writer;
+
+		/**
+		 * Output buffer, so the writer gets large writes.
+		 */
+		private final char[] output = new char[BUFFER_SIZE];
+		private int outputLength = 0;
+
+		/**
+		 * The raw characters of the literal being scanned (digits and separators).
+		 */
+		private final char[] literal = new char[MAX_LITERAL_LENGTH];
+		private int literalLength = 0;
+
+		/**
+		 * Length of the longest prefix of {@link #literal} that is a complete numeric literal.
+		 */
+		private int validLength = 0;
+
+		/**
+		 * Number of grouping separators in the integer part.
+		 */
+		private int groups = 0;
+
+		/**
+		 * Digits since the last separator.
+		 */
+		private int segmentDigits = 0;
+
+		/**
+		 * The value of {@link #validLength} before the last grouping separator.
+		 */
+		private int validBeforeGroup = 0;
+
+		/**
+		 * The last separator scanned, if it was the last character of the literal. Zero otherwise.
+		 */
+		private char pendingSeparator = 0;
+
+		private State state = State.TEXT;
+
+		/**
+		 * Reusable buffers for the transcription.
+		 */
+		private final StringBuilder digits = new StringBuilder(MAX_LITERAL_LENGTH);
+		private final StringBuilder words = new StringBuilder(256);
+
+		/**
+		 * The characters scanned again after a literal, used as a stack as scanning them might end another literal.
+		 */
+		private char[] rest = new char[2 * MAX_LITERAL_LENGTH];
+		private int restLength = 0;
+
+		Session(final Writer writer) {
+			this.writer = Objects.requireNonNull(writer);
+		}
+
+		/**
+		 * Advances the state machine by one character.
+		 */
+		void accept(final char c) throws IOException {
+
+			final boolean isDigit = c >= '0' && c <= '9';
+
+			switch (state) {
+
+			case TEXT:
+				if (isDigit) {
+					startLiteral(c);
+				} else {
+					write(c);
+					state = isWordCharacter(c) ? State.WORD : State.TEXT;
+				}
+				break;
+
+			case WORD:
+				write(c);
+				state = isWordCharacter(c) || isDigit ? State.WORD : State.TEXT;
+				break;
+
+			case INTEGER:
+			case FRACTION:
+				if (isDigit) {
+					addDigit(c);
+				} else if (c == groupingSeparator && groupingSeparator != NO_GROUPING && state == State.INTEGER
+						&& pendingSeparator == 0 && (groups == 0 ? segmentDigits <= 3 : segmentDigits == 3)) {
+					addSeparator(c);
+				} else if (c == decimalSeparator && state == State.INTEGER && pendingSeparator == 0) {
+					addSeparator(c);
+				} else {
+					endLiteral(c, true);
+				}
+				break;
+
+			case SKIP:
+				if (isDigit || c == groupingSeparator || c == decimalSeparator) {
+					write(c);
+				} else {
+					state = State.TEXT;
+					accept(c);
+				}
+				break;
+			}
+		}
+
+		private void startLiteral(final char c) throws IOException {
+			state = State.INTEGER;
+			literalLength = 0;
+			validLength = 0;
+			groups = 0;
+			segmentDigits = 0;
+			pendingSeparator = 0;
+
+			addDigit(c);
+		}
+
+		private void addDigit(final char c) throws IOException {
+
+			if (!append(c)) {
+				return;
+			}
+
+			++segmentDigits;
+
+			if (pendingSeparator == groupingSeparator && groupingSeparator != NO_GROUPING) {
+				++groups;
+			} else if (pendingSeparator == decimalSeparator) {
+				state = State.FRACTION;
+			}
+			pendingSeparator = 0;
+
+			if (state == State.FRACTION || groups == 0 || segmentDigits == 3) {
+				validLength = literalLength;
+			} else if (segmentDigits > 3) {
+				// the last group is too long: the literal ends before the last grouping separator
+				validLength = validBeforeGroup;
+				endLiteral(c, false);
+				return;
+			}
+		}
+
+		private void addSeparator(final char c) throws IOException {
+
+			if (append(c)) {
+				segmentDigits = 0;
+				pendingSeparator = c;
+				validBeforeGroup = validLength;
+			}
+		}
+
+		/**
+		 * Appends a character to the literal. If the literal gets too long, it is written unchanged and the scanner
+		 * skips the rest of the digits.
+		 *
+		 * @return <code>true</code> if the character was added to the literal.
+		 */
+		private boolean append(final char c) throws IOException {
+
+			if (literalLength == literal.length) {
+				write(literal, 0, literalLength);
+				write(c);
+				state = State.SKIP;
+				return false;
+			}
+
+			literal[literalLength++] = c;
+
+			return true;
+		}
+
+		/**
+		 * Ends the current literal: the valid prefix is transcribed and the rest of the characters are scanned again.
+		 * <p>
+		 * The valid prefix is only a numeral if the character after it is not a word character ("12b" is a word).
+		 *
+		 * @param next
+		 *            - the character that ended the literal. Ignored if <code>hasNext</code> is <code>false</code>.
+		 * @param hasNext
+		 *            - <code>false</code> if the literal ended because of the end of the input or of an invalid group
+		 *            (in which case the character that ended it is already part of the literal).
+		 */
+		private void endLiteral(final char next, final boolean hasNext) throws IOException {
+
+			// the characters after the valid prefix, and the one that ended the literal, are scanned again: they are
+			// copied first, as scanning them might start a new literal
+			final int restStart = restLength;
+			final int restEnd = restStart + literalLength - validLength + (hasNext ? 1 : 0);
+
+			if (restEnd > rest.length) {
+				rest = Arrays.copyOf(rest, Math.max(restEnd, 2 * rest.length));
+			}
+
+			System.arraycopy(literal, validLength, rest, restStart, literalLength - validLength);
+
+			if (hasNext) {
+				rest[restEnd - 1] = next;
+			}
+
+			restLength = restEnd;
+
+			final boolean bounded = restEnd == restStart || !isWordCharacter(rest[restStart]);
+
+			if (bounded && validLength > 0) {
+				transcribe();
+			} else {
+				// digits followed by letters ("12b"): part of a word
+				write(literal, 0, validLength);
+			}
+
+			state = bounded ? State.TEXT : State.WORD;
+
+			literalLength = 0;
+			validLength = 0;
+
+			// the array may be replaced while scanning, so it is read again for every character
+			for (int i = restStart; i < restEnd; ++i) {
+				accept(rest[i]);
+			}
+
+			restLength = restStart;
+		}
+
+		/**
+		 * Writes the transcription of the valid prefix of the literal.
+		 */
+		private void transcribe() throws IOException {
+
+			digits.setLength(0);
+
+			for (int i = 0; i < validLength; ++i) {
+
+				final char c = literal[i];
+
+				if (c == decimalSeparator) {
+					digits.append('.');
+				} else if (c != groupingSeparator) {
+					digits.append(c);
+				}
+			}
+
+			words.setLength(0);
+			transcriber.appendWords(words, NumberDecomposition.parse(digits));
+
+			for (int i = 0; i < words.length(); ++i) {
+				write(words.charAt(i));
+			}
+		}
+
+		/**
+		 * Ends the rewrite: the last literal is transcribed and the output is flushed.
+		 */
+		void finish() throws IOException {
+
+			// scanning the rest of a literal may start a new one
+			while (state == State.INTEGER || state == State.FRACTION) {
+				endLiteral(Character.MIN_VALUE, false);
+			}
+
+			writer.write(output, 0, outputLength);
+			writer.flush();
+		}
+
+		private void write(final char c) throws IOException {
+
+			if (outputLength == output.length) {
+				writer.write(output, 0, outputLength);
+				outputLength = 0;
+			}
+
+			output[outputLength++] = c;
+		}
+
+		private void write(final char[] chars, final int from, final int to) throws IOException {
+			for (int i = from; i < to; ++i) {
+				write(chars[i]);
+			}
+		}
+	}
+
+	/**
+	 * Characters that make digits next to them part of a word instead of a literal.
+	 */
+	private static boolean isWordCharacter(final char c) {
+		return Character.isLetter(c) || c == '_';
+	}
+}
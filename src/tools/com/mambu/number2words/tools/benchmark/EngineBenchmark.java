@@ -0,0 +1,177 @@
+package com.mambu.number2words.tools.benchmark;
+
+import java.util.Locale;
+import java.util.Random;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+
+/**
+ * Command-line tool that compares the throughput of the transcription engines: the tokenizing transcribers (tokens
+ * and visitors), the rule-based transcribers (flat tables) and the specialized transcribers (method handle pipelines).
+ * <p>
+ * The transcribers of all the languages are used in turns in the same JVM, as in a service transcribing for several
+ * countries, so the calls shared by the languages see several targets. The amounts are random, with 2 decimals. After
+ * the warm-up rounds, the average time per transcription of each engine and language is printed.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * java com.mambu.number2words.tools.benchmark.EngineBenchmark [--values 10000] [--warmup 10] [--rounds 10]
+ * </pre>
+ */
+public final class EngineBenchmark {
+
+	/**
+	 * The names of the engines, in the order of their results.
+	 */
+	static final String[] ENGINES = { "visitor", "rules", "handles" };
+
+	/**
+	 * The languages of the transcriptions.
+	 */
+	static final Locale[] LOCALES = { Locale.ENGLISH, Locale.forLanguageTag("es"), Locale.SIMPLIFIED_CHINESE };
+
+	/**
+	 * Prevents the transcriptions from being removed as dead code.
+	 */
+	private static long sink;
+
+	/**
+	 * Private constructor. No instances allowed.
+	 */
+	private EngineBenchmark() {
+		// command-line tool
+	}
+
+	/**
+	 * Entry point.
+	 *
+	 * @param args
+	 *            - the command line arguments (see the class documentation).
+	 */
+	public static void main(final String[] args) {
+
+		int values = 10000;
+		int warmup = 10;
+		int rounds = 10;
+
+		for (int i = 0; i + 1 < args.length; i += 2) {
+
+			switch (args[i]) {
+			case "--values":
+				values = Integer.parseInt(args[i + 1]);
+				break;
+			case "--warmup":
+				warmup = Integer.parseInt(args[i + 1]);
+				break;
+			case "--rounds":
+				rounds = Integer.parseInt(args[i + 1]);
+				break;
+			default:
+				usage();
+			}
+		}
+
+		if (args.length % 2 != 0) {
+			usage();
+		}
+
+		final double[][] results = measure(amounts(values, new Random(47L)), warmup, rounds);
+
+		System.out.println(String.format("%-8s %12s %12s %12s", "ns/op", LOCALES[0], LOCALES[1], LOCALES[2]));
+
+		for (int engine = 0; engine < ENGINES.length; ++engine) {
+			System.out.println(String.format("%-8s %12.1f %12.1f %12.1f", ENGINES[engine], results[engine][0],
+					results[engine][1], results[engine][2]));
+		}
+	}
+
+	/**
+	 * Creates random amounts with 2 decimals, of up to 12 integer digits.
+	 *
+	 * @param count
+	 *            - the number of amounts. Greater than 0.
+	 * @param random
+	 *            - the source of the digits. Not <code>null</code>.
+	 * @return the decomposed amounts.
+	 */
+	static NumberDecomposition[] amounts(final int count, final Random random) {
+
+		final NumberDecomposition[] amounts = new NumberDecomposition[count];
+
+		for (int i = 0; i < count; ++i) {
+
+			final long bound = NumberDecomposition.powerOfTen(1 + random.nextInt(12)) * 100L;
+
+			amounts[i] = NumberDecomposition.ofMinorUnits((random.nextLong() >>> 1) % bound, 2);
+		}
+
+		return amounts;
+	}
+
+	/**
+	 * Measures the average time of the transcriptions of each engine and language.
+	 *
+	 * @param amounts
+	 *            - the amounts to transcribe. Not <code>null</code>, not empty.
+	 * @param warmup
+	 *            - the number of rounds that are not measured.
+	 * @param rounds
+	 *            - the number of measured rounds. Greater than 0.
+	 * @return the nanoseconds per transcription, by engine (see {@link #ENGINES}) and language (see {@link #LOCALES}).
+	 */
+	static double[][] measure(final NumberDecomposition[] amounts, final int warmup, final int rounds) {
+
+		final ExtendedNumberTranscriber[][] transcribers =
+				new ExtendedNumberTranscriber[ENGINES.length][LOCALES.length];
+
+		for (int locale = 0; locale < LOCALES.length; ++locale) {
+			transcribers[0][locale] = NumberTranscriberFactory.getTranscriber(LOCALES[locale]);
+			transcribers[1][locale] = NumberTranscriberFactory.newRuleBasedTranscriber(LOCALES[locale]);
+			transcribers[2][locale] = NumberTranscriberFactory.newSpecializedTranscriber(LOCALES[locale]);
+		}
+
+		final long[][] nanos = new long[ENGINES.length][LOCALES.length];
+		final StringBuilder builder = new StringBuilder();
+
+		for (int round = 0; round < warmup + rounds; ++round) {
+			for (int engine = 0; engine < ENGINES.length; ++engine) {
+				for (int locale = 0; locale < LOCALES.length; ++locale) {
+
+					final ExtendedNumberTranscriber transcriber = transcribers[engine][locale];
+					final long start = System.nanoTime();
+
+					for (final NumberDecomposition amount : amounts) {
+						builder.setLength(0);
+						transcriber.appendWords(builder, amount);
+						sink += builder.length();
+					}
+
+					if (round >= warmup) {
+						nanos[engine][locale] += System.nanoTime() - start;
+					}
+				}
+			}
+		}
+
+		final double[][] results = new double[ENGINES.length][LOCALES.length];
+
+		for (int engine = 0; engine < ENGINES.length; ++engine) {
+			for (int locale = 0; locale < LOCALES.length; ++locale) {
+				results[engine][locale] = nanos[engine][locale] / ((double) rounds * amounts.length);
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Prints the usage and exits.
+	 */
+	private static void usage() {
+		System.err.println("Usage: EngineBenchmark [--values 10000] [--warmup 10] [--rounds 10]");
+		System.exit(2);
+	}
+}
@@ -0,0 +1,627 @@
+package com.mambu.number2words.tools.bulk;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+import com.mambu.number2words.tools.pipeline.OrderedPipeline;
+import com.mambu.number2words.tools.pipeline.OrderedPipeline.ResultSink;
+
+/**
+ * Command-line tool that enriches large delimited (TSV/CSV) or fixed-width files with an <i>amount in words</i> column.
+ * <p>
+ * The input file is memory-mapped and split into chunks on line boundaries. Each chunk is transcribed by a worker
+ * thread: the amount column is parsed directly from the mapped bytes and every line is copied to the output followed by
+ * the column delimiter and the transcribed amount. Chunks are written in their original order through a bounded
+ * {@link OrderedPipeline}, so the memory usage depends on the chunk size and number of workers, not on the file size.
+ * <p>
+ * Lines that are empty or start with <code>#</code> can be copied unchanged (see {@link Options#skipComments}), and
+ * lines whose amount can not be parsed or transcribed get <code>#ERROR</code> followed by the reason as the words
+ * column.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * java com.mambu.number2words.tools.bulk.BulkFileTranscriber --input FILE --output FILE [--locale en]
+ *     [--delimiter TAB] [--column 0 | --fixed START:LENGTH] [--decimal-separator .] [--grouping-separator ,]
+ *     [--skip-comments] [--workers N] [--chunk-size BYTES]
+ * </pre>
+ */
+public final class BulkFileTranscriber {
+
+	/**
+	 * Prefix of the words column when a line could not be transcribed.
+	 */
+	static final String ERROR_MARKER = "#ERROR ";
+
+	/**
+	 * Configuration of a {@link BulkFileTranscriber} run.
+	 */
+	public static final class Options {
+
+		/**
+		 * Language of the words column.
+		 */
+		public Locale locale = Locale.ENGLISH;
+
+		/**
+		 * Byte separating the columns (in the input and before the appended words column).
+		 */
+		public byte delimiter = '\t';
+
+		/**
+		 * Zero-based index of the amount column for delimited files.
+		 */
+		public int column = 0;
+
+		/**
+		 * Zero-based byte offset of the amount field for fixed-width files. Negative for delimited files.
+		 */
+		public int fixedStart = -1;
+
+		/**
+		 * Byte length of the amount field for fixed-width files.
+		 */
+		public int fixedLength = 0;
+
+		/**
+		 * Byte separating the integer and fractional parts of the amount.
+		 */
+		public byte decimalSeparator = '.';
+
+		/**
+		 * Byte that can separate digit groups in the integer part of the amount. Zero if grouping is not used.
+		 */
+		public byte groupingSeparator = 0;
+
+		/**
+		 * If <code>true</code>, empty lines and lines starting with <code>#</code> are copied unchanged.
+		 */
+		public boolean skipComments = false;
+
+		/**
+		 * Number of transcription threads.
+		 */
+		public int workers = Runtime.getRuntime().availableProcessors();
+
+		/**
+		 * Preferred chunk size, in bytes. Chunks are extended to the end of the last line.
+		 */
+		public int chunkSize = 4 << 20;
+	}
+
+	/**
+	 * The run configuration.
+	 */
+	private final Options options;
+
+	/**
+	 * The (thread safe) transcriber shared by all the workers.
+	 */
+	private final ExtendedNumberTranscriber transcriber;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param options
+	 *            - the run configuration. Not <code>null</code>.
+	 * @throws IllegalArgumentException
+	 *             if the locale is not supported.
+	 */
+	public BulkFileTranscriber(final Options options) {
+		this.options = Objects.requireNonNull(options);
+		this.transcriber = NumberTranscriberFactory.getTranscriber(options.locale);
+	}
+
+	/**
+	 * Entry point.
+	 *
+	 * @param args
+	 *            - the command line arguments (see the class documentation).
+	 * @throws Exception
+	 *             if the files could not be read or written.
+	 */
+	public static void main(final String[] args) throws Exception {
+
+		final Options options = new Options();
+
+		File input = null;
+		File output = null;
+
+		for (int i = 0; i < args.length; ++i) {
+
+			if ("--skip-comments".equals(args[i])) {
+				options.skipComments = true;
+				continue;
+			}
+
+			if (i + 1 == args.length) {
+				usage();
+			}
+
+			final String value = args[++i];
+
+			switch (args[i - 1]) {
+			case "--input":
+				input = new File(value);
+				break;
+			case "--output":
+				output = new File(value);
+				break;
+			case "--locale":
+				options.locale = Locale.forLanguageTag(value);
+				break;
+			case "--delimiter":
+				options.delimiter = "TAB".equals(value) ? (byte) '\t' : singleByte(value);
+				break;
+			case "--column":
+				options.column = Integer.parseInt(value);
+				break;
+			case "--fixed":
+				try {
+					setFixedField(options, value);
+				} catch (final IllegalArgumentException e) {
+					System.err.println(e.getMessage());
+					usage();
+				}
+				break;
+			case "--decimal-separator":
+				options.decimalSeparator = singleByte(value);
+				break;
+			case "--grouping-separator":
+				options.groupingSeparator = singleByte(value);
+				break;
+			case "--workers":
+				options.workers = Integer.parseInt(value);
+				break;
+			case "--chunk-size":
+				options.chunkSize = Integer.parseInt(value);
+				break;
+			default:
+				usage();
+			}
+		}
+
+		if (input == null || output == null) {
+			usage();
+		}
+
+		final long start = System.nanoTime();
+		final long lines = new BulkFileTranscriber(options).transcribe(input, output);
+
+		System.err.println(lines + " lines transcribed in " + (System.nanoTime() - start) / 1_000_000L + " ms");
+	}
+
+	/**
+	 * Transcribes the amounts in the input file and writes the enriched lines to the output file.
+	 *
+	 * @param input
+	 *            - the input file. Not <code>null</code>.
+	 * @param output
+	 *            - the output file (will be overwritten). Not <code>null</code>.
+	 * @return the number of lines processed.
+	 * @throws IOException
+	 *             if the files could not be read or written.
+	 * @throws InterruptedException
+	 *             if interrupted while waiting for the pipeline.
+	 */
+	public long transcribe(final File input, final File output) throws IOException, InterruptedException {
+
+		try (final RandomAccessFile file = new RandomAccessFile(input, "r");
+				final FileChannel channel = file.getChannel();
+				final OutputStream out = new FileOutputStream(output)) {
+
+			final long[] lineCount = new long[1];
+
+			final OrderedPipeline<Chunk> pipeline = new OrderedPipeline<>(options.workers, 2 * options.workers,
+					new ResultSink<Chunk>() {
+
+						@Override
+						public void accept(final Chunk chunk) throws IOException {
+							out.write(chunk.bytes, 0, chunk.length);
+							lineCount[0] += chunk.lines;
+						}
+
+						@Override
+						public void idle() {
+							// the file stream is not buffered
+						}
+					});
+
+			try {
+				final long size = channel.size();
+				long position = 0;
+
+				while (position < size) {
+
+					final MappedByteBuffer chunk = mapChunk(channel, position, size);
+					position += chunk.limit();
+
+					pipeline.submit(new Callable<Chunk>() {
+
+						@Override
+						public Chunk call() {
+							return transcribeChunk(chunk);
+						}
+					});
+				}
+
+			} finally {
+				pipeline.finish();
+			}
+
+			return lineCount[0];
+		}
+	}
+
+	/**
+	 * Maps the next chunk of the file. The chunk ends after a line feed (or at the end of the file).
+	 *
+	 * @param channel
+	 *            - the input file channel.
+	 * @param position
+	 *            - the chunk start.
+	 * @param size
+	 *            - the file size.
+	 * @return the mapped chunk. Its limit is the chunk length.
+	 * @throws IOException
+	 *             if the file could not be mapped.
+	 */
+	private MappedByteBuffer mapChunk(final FileChannel channel, final long position, final long size)
+			throws IOException {
+
+		long length = Math.min(Math.max(options.chunkSize, 1), size - position);
+
+		while (true) {
+
+			final MappedByteBuffer mapped = channel.map(MapMode.READ_ONLY, position, length);
+
+			if (position + length == size) {
+				return mapped;
+			}
+
+			for (int i = (int) length - 1; i >= 0; --i) {
+				if (mapped.get(i) == '\n') {
+					mapped.limit(i + 1);
+					return mapped;
+				}
+			}
+
+			// a single line longer than the chunk: try again with a larger chunk
+			if (length >= Integer.MAX_VALUE / 2) {
+				throw new IOException("Line longer than " + length + " bytes at offset " + position);
+			}
+			length = Math.min(2 * length, size - position);
+		}
+	}
+
+	/**
+	 * Transcribes all the lines in a chunk.
+	 *
+	 * @param chunk
+	 *            - the mapped chunk. Not <code>null</code>.
+	 * @return the output bytes. Never <code>null</code>.
+	 */
+	Chunk transcribeChunk(final ByteBuffer chunk) {
+
+		final int end = chunk.limit();
+		final Chunk result = new Chunk((int) Math.min(end + (long) end / 2, Chunk.MAX_CAPACITY));
+		final StringBuilder words = new StringBuilder(128);
+
+		int lineStart = 0;
+
+		while (lineStart < end) {
+
+			int lineEnd = lineStart;
+
+			while (lineEnd < end && chunk.get(lineEnd) != '\n') {
+				++lineEnd;
+			}
+
+			// content without the line terminator
+			final int contentEnd = lineEnd > lineStart && chunk.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+
+			result.put(chunk, lineStart, contentEnd);
+
+			if (!options.skipComments || (contentEnd > lineStart && chunk.get(lineStart) != '#')) {
+
+				words.setLength(0);
+				transcribeLine(chunk, lineStart, contentEnd, words);
+
+				result.put(options.delimiter);
+				result.put(words);
+			}
+
+			// copy the original line terminator (if any)
+			result.put(chunk, contentEnd, Math.min(lineEnd + 1, end));
+
+			++result.lines;
+			lineStart = lineEnd + 1;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Finds, parses and transcribes the amount of a line.
+	 *
+	 * @param line
+	 *            - the buffer holding the line.
+	 * @param start
+	 *            - the line start.
+	 * @param end
+	 *            - the line end (without the line terminator).
+	 * @param words
+	 *            - the builder to which the words (or the error) will be appended.
+	 */
+	private void transcribeLine(final ByteBuffer line, final int start, final int end, final StringBuilder words) {
+
+		int fieldStart;
+		int fieldEnd;
+
+		if (options.fixedStart >= 0) {
+
+			fieldStart = Math.min(start + options.fixedStart, end);
+			fieldEnd = Math.min(fieldStart + options.fixedLength, end);
+
+		} else {
+
+			fieldStart = start;
+
+			for (int column = 0; column < options.column && fieldStart <= end; ++column) {
+				while (fieldStart < end && line.get(fieldStart) != options.delimiter) {
+					++fieldStart;
+				}
+				++fieldStart;
+			}
+
+			fieldStart = Math.min(fieldStart, end);
+			fieldEnd = fieldStart;
+
+			while (fieldEnd < end && line.get(fieldEnd) != options.delimiter) {
+				++fieldEnd;
+			}
+		}
+
+		try {
+			transcriber.appendWords(words, parseAmount(line, fieldStart, fieldEnd));
+
+		} catch (final RuntimeException e) {
+			words.setLength(0);
+			words.append(ERROR_MARKER).append(e.getMessage() != null ? e.getMessage() : e.toString());
+		}
+	}
+
+	/**
+	 * Parses an amount directly from ASCII bytes. Leading and trailing spaces are ignored.
+	 *
+	 * @param bytes
+	 *            - the buffer holding the amount.
+	 * @param start
+	 *            - the first byte of the field.
+	 * @param end
+	 *            - the end of the field (exclusive).
+	 * @return the parsed amount. Never <code>null</code>.
+	 * @throws NumberFormatException
+	 *             if the field is not a valid non-negative amount.
+	 */
+	NumberDecomposition parseAmount(final ByteBuffer bytes, int start, int end) {
+
+		while (start < end && bytes.get(start) == ' ') {
+			++start;
+		}
+		while (end > start && bytes.get(end - 1) == ' ') {
+			--end;
+		}
+
+		try {
+			return NumberDecomposition.parseAscii(bytes, start, end - start, (char) (options.decimalSeparator & 0xFF),
+					(char) (options.groupingSeparator & 0xFF));
+
+		} catch (final NumberFormatException e) {
+			throw new NumberFormatException("Invalid amount: " + ascii(bytes, start, end));
+		}
+	}
+
+	/**
+	 * Decodes ASCII bytes, for error messages.
+	 */
+	private static String ascii(final ByteBuffer bytes, final int start, final int end) {
+
+		final StringBuilder builder = new StringBuilder(end - start);
+
+		for (int i = start; i < end; ++i) {
+			builder.append((char) (bytes.get(i) & 0xFF));
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Sets the amount field of fixed-width files from a <code>START:LENGTH</code> command line value.
+	 *
+	 * @param options
+	 *            - the options to update. Not <code>null</code>.
+	 * @param value
+	 *            - the command line value. Not <code>null</code>.
+	 * @throws IllegalArgumentException
+	 *             if the value is not two non-negative integers separated by a colon, or if the length is zero.
+	 */
+	static void setFixedField(final Options options, final String value) {
+
+		final String[] field = value.split(":", -1);
+
+		final int start;
+		final int length;
+
+		try {
+			if (field.length != 2) {
+				throw new NumberFormatException();
+			}
+
+			start = Integer.parseInt(field[0]);
+			length = Integer.parseInt(field[1]);
+
+		} catch (final NumberFormatException e) {
+			throw new IllegalArgumentException("Expected START:LENGTH: " + value, e);
+		}
+
+		if (start < 0 || length <= 0) {
+			throw new IllegalArgumentException("Expected START:LENGTH: " + value);
+		}
+
+		options.fixedStart = start;
+		options.fixedLength = length;
+	}
+
+	/**
+	 * Returns the only byte of a command line value.
+	 */
+	private static byte singleByte(final String value) {
+
+		if (value.length() != 1) {
+			throw new IllegalArgumentException("Expected a single character: " + value);
+		}
+
+		return (byte) value.charAt(0);
+	}
+
+	/**
+	 * Prints the usage and exits.
+	 */
+	private static void usage() {
+		System.err.println("Usage: BulkFileTranscriber --input FILE --output FILE [--locale en] [--delimiter TAB] "
+				+ "[--column 0 | --fixed START:LENGTH] [--decimal-separator .] [--grouping-separator ,] "
+				+ "[--skip-comments] [--workers N] [--chunk-size BYTES]");
+		System.exit(2);
+	}
+
+	/**
+	 * Growable output buffer of a chunk.
+	 */
+	static final class Chunk {
+
+		/**
+		 * The largest array size the JVMs can allocate.
+		 */
+		static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+		/**
+		 * Encodes the words of all the lines of the chunk.
+		 */
+		private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+		private byte[] bytes;
+		private int length;
+		private long lines;
+
+		/**
+		 * View of {@link #bytes}, the target of the {@link #encoder}.
+		 */
+		private ByteBuffer target;
+
+		/**
+		 * Copy of the characters being encoded, as the encoder only reads from buffers.
+		 */
+		private char[] chars = new char[128];
+		private CharBuffer source = CharBuffer.wrap(chars);
+
+		Chunk(final int capacity) {
+			this.bytes = new byte[Math.max(capacity, 16)];
+			this.target = ByteBuffer.wrap(bytes);
+		}
+
+		/**
+		 * Computes the capacity of a buffer that has to hold a number of bytes: at least double the current capacity,
+		 * bounded by {@link #MAX_CAPACITY}.
+		 *
+		 * @param capacity
+		 *            - the current capacity.
+		 * @param required
+		 *            - the number of bytes to hold.
+		 * @return the new capacity.
+		 * @throws IllegalStateException
+		 *             if more than {@link #MAX_CAPACITY} bytes are required.
+		 */
+		static int grownCapacity(final int capacity, final long required) {
+
+			if (required > MAX_CAPACITY) {
+				throw new IllegalStateException("Chunk output larger than " + MAX_CAPACITY + " bytes, use a smaller"
+						+ " --chunk-size");
+			}
+
+			return (int) Math.min(Math.max(2L * capacity, required), MAX_CAPACITY);
+		}
+
+		private void ensureCapacity(final int extra) {
+			if ((long) length + extra > bytes.length) {
+				final byte[] grown = new byte[grownCapacity(bytes.length, (long) length + extra)];
+				System.arraycopy(bytes, 0, grown, 0, length);
+				bytes = grown;
+				target = ByteBuffer.wrap(bytes);
+			}
+		}
+
+		void put(final byte value) {
+			ensureCapacity(1);
+			bytes[length++] = value;
+		}
+
+		void put(final StringBuilder text) {
+
+			final int count = text.length();
+
+			if (count > chars.length) {
+				chars = new char[Math.max(count, 2 * chars.length)];
+				source = CharBuffer.wrap(chars);
+			}
+
+			text.getChars(0, count, chars, 0);
+			source.clear();
+			source.limit(count);
+
+			// at most 3 bytes per UTF-16 unit, so a single pass can not overflow
+			ensureCapacity(3 * count);
+			target.limit(bytes.length);
+			target.position(length);
+
+			encoder.reset();
+			encoder.encode(source, target, true);
+			encoder.flush(target);
+
+			length = target.position();
+		}
+
+		void put(final ByteBuffer source, final int start, final int end) {
+			ensureCapacity(end - start);
+			for (int i = start; i < end; ++i) {
+				bytes[length++] = source.get(i);
+			}
+		}
+
+		/**
+		 * @return the output as a (UTF-8) string. Used by tests.
+		 */
+		@Override
+		public String toString() {
+			return new String(bytes, 0, length, StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package com.mambu.number2words.tools.dictionary;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+import com.mambu.number2words.cache.AmountDictionary;
+
+/**
+ * Command-line tool that precomputes the words of every amount up to a maximum into an {@link AmountDictionary} file,
+ * to be mapped by all the processes of a host (see
+ * {@link NumberTranscriberFactory#newDictionaryTranscriber(AmountDictionary)}).
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * java com.mambu.number2words.tools.dictionary.AmountDictionaryBuilder --output FILE [--locale en] [--max 99999.99]
+ * </pre>
+ *
+ * The scale of the dictionary is the number of decimals of the maximum amount.
+ */
+public final class AmountDictionaryBuilder {
+
+	/**
+	 * Private constructor. No instances allowed.
+	 */
+	private AmountDictionaryBuilder() {
+		// command-line tool
+	}
+
+	/**
+	 * Entry point.
+	 *
+	 * @param args
+	 *            - the command line arguments (see the class documentation).
+	 * @throws Exception
+	 *             if the file could not be written.
+	 */
+	public static void main(final String[] args) throws Exception {
+
+		Locale locale = Locale.ENGLISH;
+		String max = "99999.99";
+		Path output = null;
+
+		for (int i = 0; i + 1 < args.length; i += 2) {
+
+			switch (args[i]) {
+			case "--output":
+				output = Paths.get(args[i + 1]);
+				break;
+			case "--locale":
+				locale = Locale.forLanguageTag(args[i + 1]);
+				break;
+			case "--max":
+				max = args[i + 1];
+				break;
+			default:
+				usage();
+			}
+		}
+
+		if (output == null || args.length % 2 != 0) {
+			usage();
+		}
+
+		final int separator = max.indexOf('.');
+		final int scale = separator < 0 ? 0 : max.length() - separator - 1;
+		final long maxMinorUnits = Long.parseLong(separator < 0 ? max : max.substring(0, separator)
+				+ max.substring(separator + 1));
+
+		final long start = System.nanoTime();
+		final long size = AmountDictionary.build(NumberTranscriberFactory.getTranscriber(locale), locale, maxMinorUnits,
+				scale, output);
+
+		System.err.println((maxMinorUnits + 1) + " amounts up to " + max + " written (" + size + " bytes) in "
+				+ (System.nanoTime() - start) / 1_000_000L + " ms");
+	}
+
+	/**
+	 * Prints the usage and exits.
+	 */
+	private static void usage() {
+		System.err.println("Usage: AmountDictionaryBuilder --output FILE [--locale en] [--max 99999.99]");
+		System.exit(2);
+	}
+}
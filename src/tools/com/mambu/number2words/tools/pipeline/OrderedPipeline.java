@@ -0,0 +1,249 @@
+package com.mambu.number2words.tools.pipeline;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Three stage pipeline: the caller thread produces tasks, a pool of workers executes them and a single writer thread
+ * consumes the results <b>in the order the tasks were submitted</b>.
+ * <p>
+ * The number of tasks in flight is bounded by the window size. When the window is full {@link #submit(Callable)} blocks
+ * until the writer catches up, so memory usage does not depend on the size of the input.
+ * <p>
+ * Results are reordered by keeping the pending {@link Future}s in a FIFO queue: the writer always waits for the oldest
+ * task, while the newer ones are already being executed by the other workers.
+ *
+ * @param <R>
+ *            the type of the results produced by the tasks.
+ */
+public final class OrderedPipeline<R> {
+
+	/**
+	 * Consumer for the results of the pipeline. Only called from the writer thread.
+	 *
+	 * @param <R>
+	 *            the type of the results.
+	 */
+	public interface ResultSink<R> {
+
+		/**
+		 * Consumes the next result (in submission order).
+		 *
+		 * @param result
+		 *            - the result of a task. May be <code>null</code> if the task returned <code>null</code>.
+		 * @throws IOException
+		 *             if the result could not be written. This stops the pipeline.
+		 */
+		void accept(R result) throws IOException;
+
+		/**
+		 * Called when there are no more completed results waiting to be consumed. This is a good moment to flush any
+		 * buffered output.
+		 *
+		 * @throws IOException
+		 *             if the output could not be flushed. This stops the pipeline.
+		 */
+		void idle() throws IOException;
+	}
+
+	/**
+	 * Marks the end of the submitted tasks.
+	 */
+	private final Future<R> endOfInput = new FutureTask<>(new Callable<R>() {
+
+		@Override
+		public R call() {
+			return null;
+		}
+	});
+
+	/**
+	 * Pending tasks, in submission order.
+	 */
+	private final BlockingQueue<Future<R>> pending;
+
+	/**
+	 * Executes the tasks.
+	 */
+	private final ExecutorService workers;
+
+	/**
+	 * Consumes the results.
+	 */
+	private final Thread writer;
+
+	/**
+	 * The first failure of the writer thread (either from a task or from the sink).
+	 */
+	private volatile Throwable failure;
+
+	/**
+	 * Default constructor. Starts the worker and writer threads.
+	 *
+	 * @param workerCount
+	 *            - the number of threads executing tasks. Greater than 0.
+	 * @param window
+	 *            - the maximum number of tasks that are submitted, but whose results were not consumed yet. Greater
+	 *            than 0.
+	 * @param sink
+	 *            - the consumer of the results. Not <code>null</code>.
+	 */
+	public OrderedPipeline(final int workerCount, final int window, final ResultSink<R> sink) {
+
+		if (workerCount <= 0 || window <= 0) {
+			throw new IllegalArgumentException("Worker count and window size must be positive");
+		}
+
+		Objects.requireNonNull(sink);
+
+		this.pending = new ArrayBlockingQueue<>(window);
+		this.workers = Executors.newFixedThreadPool(workerCount, new NamedThreadFactory("number2words-worker"));
+		this.writer = new NamedThreadFactory("number2words-writer").newThread(new Runnable() {
+
+			@Override
+			public void run() {
+				drain(sink);
+			}
+		});
+
+		this.writer.start();
+	}
+
+	/**
+	 * Submits a new task. Blocks while the window is full.
+	 *
+	 * @param task
+	 *            - the task to execute. Not <code>null</code>.
+	 * @throws IOException
+	 *             if the pipeline was stopped because of a previous failure.
+	 * @throws InterruptedException
+	 *             if interrupted while waiting for room in the window.
+	 */
+	public void submit(final Callable<R> task) throws IOException, InterruptedException {
+
+		checkFailure();
+
+		final Future<R> future = workers.submit(Objects.requireNonNull(task));
+
+		// the writer might stop (and stop consuming) at any time, so don't block indefinitely
+		while (!pending.offer(future, 100, TimeUnit.MILLISECONDS)) {
+			if (failure != null || !writer.isAlive()) {
+				future.cancel(true);
+				checkFailure();
+				throw new IOException("Pipeline writer stopped");
+			}
+		}
+	}
+
+	/**
+	 * Signals the end of the input and waits for all the results to be consumed. The worker threads are stopped
+	 * afterwards.
+	 *
+	 * @throws IOException
+	 *             if the pipeline failed while executing or consuming the tasks.
+	 * @throws InterruptedException
+	 *             if interrupted while waiting.
+	 */
+	public void finish() throws IOException, InterruptedException {
+
+		try {
+			// the writer might stop (and stop consuming) at any time, so don't block indefinitely
+			while (failure == null && writer.isAlive() && !pending.offer(endOfInput, 100, TimeUnit.MILLISECONDS)) {
+				// wait for room in the window
+			}
+
+			writer.join();
+
+		} finally {
+			workers.shutdownNow();
+		}
+
+		checkFailure();
+	}
+
+	/**
+	 * Writer loop. Consumes the results in submission order until {@link #endOfInput} is found.
+	 *
+	 * @param sink
+	 *            - the consumer of the results.
+	 */
+	private void drain(final ResultSink<R> sink) {
+
+		try {
+			Future<R> next;
+
+			while ((next = pending.take()) != endOfInput) {
+
+				sink.accept(next.get());
+
+				if (pending.isEmpty()) {
+					sink.idle();
+				}
+			}
+
+			sink.idle();
+
+		} catch (final ExecutionException e) {
+			failure = e.getCause();
+		} catch (final Throwable e) {
+			// errors of the sink too: the producer must not wait for a dead writer
+			failure = e;
+		}
+
+		if (failure != null) {
+			// unblock the producer, nothing else will be consumed
+			pending.clear();
+		}
+	}
+
+	/**
+	 * Re-throws the failure of the writer thread, if any.
+	 *
+	 * @throws IOException
+	 *             if the writer thread failed.
+	 */
+	private void checkFailure() throws IOException {
+
+		final Throwable cause = failure;
+
+		if (cause instanceof IOException) {
+			throw (IOException) cause;
+		}
+		if (cause != null) {
+			throw new IOException("Pipeline failed", cause);
+		}
+	}
+
+	/**
+	 * Creates daemon threads with a common name prefix.
+	 */
+	private static final class NamedThreadFactory implements ThreadFactory {
+
+		private final String prefix;
+		private final AtomicInteger counter = new AtomicInteger();
+
+		NamedThreadFactory(final String prefix) {
+			this.prefix = prefix;
+		}
+
+		@Override
+		public Thread newThread(final Runnable runnable) {
+
+			final Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,499 @@
+package com.mambu.number2words.tools.sidecar;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+import com.mambu.number2words.tools.pipeline.OrderedPipeline;
+import com.mambu.number2words.tools.pipeline.OrderedPipeline.ResultSink;
+
+/**
+ * Sidecar process that transcribes numbers received as length-prefixed binary frames on <code>stdin</code> and writes
+ * the results as length-prefixed frames on <code>stdout</code>. It is meant to be used by non-JVM processes that need
+ * a cheap way to call the transcribers, without a network stack.
+ * <p>
+ * All integers are big-endian.
+ *
+ * <pre>
+ * <u>REQUEST FRAME</u>
+ * | int32   | payload length (not counting these 4 bytes)
+ * | uint8   | length of the language tag (L)
+ * | L bytes | ASCII language tag, as accepted by {@link Locale#forLanguageTag(String)} (i.e. "en", "zh-CN", "es")
+ * | int32   | scale, from 0 to {@link NumberDecomposition#MAX_LONG_DIGITS}
+ * | N bytes | unscaled value, two's complement (see {@link BigInteger#toByteArray()}). N = payload length - L - 5.
+ *
+ * <u>RESPONSE FRAME</u>
+ * | int32   | payload length (not counting these 4 bytes)
+ * | uint8   | status: {@link #STATUS_OK} or {@link #STATUS_ERROR}
+ * | M bytes | UTF-8 words (or the error message). M = payload length - 1.
+ * </pre>
+ * <p>
+ * Responses are written in the same order as the requests were read. Reading, transcription and writing run as
+ * separate pipelined stages (see {@link OrderedPipeline}); consecutive requests are transcribed in batches by a single
+ * task. The process stops when <code>stdin</code> is closed.
+ * <p>
+ * Usage: <code>java com.mambu.number2words.tools.sidecar.TranscriptionSidecar [--workers N] [--window M]</code>
+ */
+public final class TranscriptionSidecar {
+
+	/**
+	 * Status byte for successful transcriptions.
+	 */
+	public static final byte STATUS_OK = 0;
+
+	/**
+	 * Status byte for failed transcriptions (unsupported locale, negative value, malformed payload, etc...).
+	 */
+	public static final byte STATUS_ERROR = 1;
+
+	/**
+	 * Frames larger than this are rejected, as they can only be the result of a corrupted stream.
+	 */
+	private static final int MAX_FRAME_LENGTH = 1 << 20;
+
+	/**
+	 * Upper bound of the number of requests transcribed by a single task.
+	 */
+	private static final int MAX_BATCH_FRAMES = 64;
+
+	/**
+	 * A batch is submitted once its payloads reach this size, whatever its number of requests.
+	 */
+	private static final int MAX_BATCH_BYTES = 1 << 16;
+
+	/**
+	 * Encoding of the language tags.
+	 */
+	private static final Charset ASCII = StandardCharsets.US_ASCII;
+
+	/**
+	 * Encoding of the responses.
+	 */
+	private static final Charset UTF_8 = StandardCharsets.UTF_8;
+
+	/**
+	 * Number of transcription threads.
+	 */
+	private final int workers;
+
+	/**
+	 * Maximum number of frames in flight.
+	 */
+	private final int window;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param workers
+	 *            - number of transcription threads. Greater than 0.
+	 * @param window
+	 *            - maximum number of frames read but not yet written. Greater than 0.
+	 */
+	public TranscriptionSidecar(final int workers, final int window) {
+
+		if (workers <= 0 || window <= 0) {
+			throw new IllegalArgumentException("Worker count and window size must be positive");
+		}
+
+		this.workers = workers;
+		this.window = window;
+	}
+
+	/**
+	 * Entry point.
+	 *
+	 * @param args
+	 *            - optional <code>--workers N</code> and <code>--window M</code>.
+	 * @throws Exception
+	 *             if the streams could not be read or written.
+	 */
+	public static void main(final String[] args) throws Exception {
+
+		int workers = Runtime.getRuntime().availableProcessors();
+		int window = 1024;
+
+		for (int i = 0; i < args.length; ++i) {
+
+			if ("--workers".equals(args[i]) && i + 1 < args.length) {
+				workers = Integer.parseInt(args[++i]);
+			} else if ("--window".equals(args[i]) && i + 1 < args.length) {
+				window = Integer.parseInt(args[++i]);
+			} else {
+				System.err.println("Usage: TranscriptionSidecar [--workers N] [--window M]");
+				System.exit(2);
+			}
+		}
+
+		new TranscriptionSidecar(workers, window).run(System.in, System.out);
+	}
+
+	/**
+	 * Reads all the request frames from the input and writes the response frames to the output.
+	 *
+	 * @param in
+	 *            - the stream of request frames. Not <code>null</code>.
+	 * @param out
+	 *            - the stream to which response frames are written. Not <code>null</code>.
+	 * @throws IOException
+	 *             if the input is truncated or malformed, or if the output could not be written.
+	 * @throws InterruptedException
+	 *             if interrupted while waiting for the pipeline.
+	 */
+	public void run(final InputStream in, final OutputStream out) throws IOException, InterruptedException {
+
+		final DataInputStream input = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+		final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+
+		// small enough batches for every worker to get one while the window is full
+		final int batchFrames = Math.max(1, Math.min(MAX_BATCH_FRAMES, window / workers));
+
+		final OrderedPipeline<byte[]> pipeline = new OrderedPipeline<>(workers, Math.max(1, window / batchFrames),
+				new ResultSink<byte[]>() {
+
+					@Override
+					public void accept(final byte[] frames) throws IOException {
+						output.write(frames);
+					}
+
+					@Override
+					public void idle() throws IOException {
+						// nothing else is ready: the client might be waiting for these
+						output.flush();
+					}
+				});
+
+		Batch batch = new Batch();
+
+		try {
+			while (batch.read(input)) {
+
+				// a short batch is submitted as soon as the input runs dry, the client might be waiting for it
+				if (batch.size() == batchFrames || batch.length() >= MAX_BATCH_BYTES || input.available() == 0) {
+					submit(pipeline, batch);
+					batch = new Batch();
+				}
+			}
+
+		} finally {
+			try {
+				// answer everything that was read, even if the input ended badly
+				if (batch.size() > 0) {
+					submit(pipeline, batch);
+				}
+			} finally {
+				pipeline.finish();
+			}
+		}
+	}
+
+	/**
+	 * Submits the transcription of a batch of requests.
+	 *
+	 * @param pipeline
+	 *            - the pipeline. Not <code>null</code>.
+	 * @param batch
+	 *            - the requests, not modified afterwards. Not <code>null</code>.
+	 * @throws IOException
+	 *             if the pipeline has failed.
+	 * @throws InterruptedException
+	 *             if interrupted while waiting for room in the window.
+	 */
+	private void submit(final OrderedPipeline<byte[]> pipeline, final Batch batch) throws IOException,
+			InterruptedException {
+
+		pipeline.submit(new Callable<byte[]>() {
+
+			@Override
+			public byte[] call() {
+				return process(batch);
+			}
+		});
+	}
+
+	/**
+	 * Transcribes a batch of request payloads into response frames. Never throws: failures are reported as
+	 * {@link #STATUS_ERROR} frames.
+	 *
+	 * @param batch
+	 *            - the request payloads. Not <code>null</code>.
+	 * @return the complete response frames (including the length prefixes), in the order of the requests. Never
+	 *         <code>null</code>.
+	 */
+	byte[] process(final Batch batch) {
+
+		final byte[] data = batch.data;
+		final FrameEncoder encoder = new FrameEncoder(batch.length());
+		final StringBuilder words = new StringBuilder(128);
+
+		// consecutive requests usually have the same language, so its tag is only decoded when it changes
+		int lastTagOffset = -1;
+		int lastTagLength = -1;
+		ExtendedNumberTranscriber transcriber = null;
+
+		for (int i = 0, offset = 0; i < batch.size(); offset = batch.ends[i++]) {
+
+			final int length = batch.ends[i] - offset;
+
+			words.setLength(0);
+
+			try {
+				final int tagLength = length > 0 ? data[offset] & 0xFF : -1;
+				final int tagOffset = offset + 1;
+				final int scaleOffset = tagOffset + tagLength;
+				final int valueOffset = scaleOffset + 4;
+				final int valueLength = offset + length - valueOffset;
+
+				if (tagLength < 0 || valueLength <= 0) {
+					encoder.write(STATUS_ERROR, "Malformed request frame");
+					continue;
+				}
+
+				final int scale = ((data[scaleOffset] & 0xFF) << 24) | ((data[scaleOffset + 1] & 0xFF) << 16)
+						| ((data[scaleOffset + 2] & 0xFF) << 8) | (data[scaleOffset + 3] & 0xFF);
+
+				if (scale < 0 || scale > NumberDecomposition.MAX_LONG_DIGITS) {
+					// a corrupted scale would otherwise expand the value to billions of digits
+					encoder.write(STATUS_ERROR, "Unsupported scale: " + scale);
+					continue;
+				}
+
+				if (lastTagOffset < 0 || !sameBytes(data, lastTagOffset, lastTagLength, tagOffset, tagLength)) {
+
+					transcriber = null;
+					lastTagOffset = tagOffset;
+					lastTagLength = tagLength;
+
+					// the registry caches the resolution, so no map of the client tags is kept here
+					transcriber = NumberTranscriberFactory.getTranscriber(Locale.forLanguageTag(new String(data,
+							tagOffset, tagLength, ASCII)));
+				}
+
+				if (valueLength <= Long.SIZE / Byte.SIZE) {
+
+					// sign extension of the first byte, as in BigInteger
+					long unscaled = data[valueOffset];
+
+					for (int j = valueOffset + 1; j < valueOffset + valueLength; ++j) {
+						unscaled = (unscaled << Byte.SIZE) | (data[j] & 0xFF);
+					}
+
+					transcriber.appendWords(words, NumberDecomposition.ofMinorUnits(unscaled, scale));
+
+				} else {
+					final byte[] unscaled = Arrays.copyOfRange(data, valueOffset, valueOffset + valueLength);
+
+					transcriber.appendWords(words, new BigDecimal(new BigInteger(unscaled), scale));
+				}
+
+				encoder.write(STATUS_OK, words);
+
+			} catch (final RuntimeException e) {
+
+				if (transcriber == null) {
+					// the tag could not be resolved, don't skip it for the next request
+					lastTagOffset = -1;
+				}
+
+				encoder.write(STATUS_ERROR, e.getMessage() != null ? e.getMessage() : e.toString());
+			}
+		}
+
+		return encoder.toByteArray();
+	}
+
+	/**
+	 * Compares two ranges of the same array.
+	 */
+	private static boolean sameBytes(final byte[] data, final int first, final int firstLength, final int second,
+			final int secondLength) {
+
+		if (firstLength != secondLength) {
+			return false;
+		}
+
+		for (int i = 0; i < firstLength; ++i) {
+			if (data[first + i] != data[second + i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Request payloads read back to back into a single array.
+	 */
+	static final class Batch {
+
+		/**
+		 * The payloads, without their length prefixes.
+		 */
+		private byte[] data = new byte[4096];
+
+		/**
+		 * The end offset of each payload in {@link #data}.
+		 */
+		private int[] ends = new int[16];
+
+		private int size;
+
+		/**
+		 * Reads the payload of the next frame.
+		 *
+		 * @param input
+		 *            - the input stream. Not <code>null</code>.
+		 * @return <code>false</code> if the end of the stream was reached.
+		 * @throws IOException
+		 *             if the frame is truncated or too large.
+		 */
+		boolean read(final DataInputStream input) throws IOException {
+
+			final int first = input.read();
+
+			if (first < 0) {
+				// clean end of stream
+				return false;
+			}
+
+			final int length = (first << 24) | (input.readUnsignedByte() << 16) | (input.readUnsignedShort());
+
+			if (length < 0 || length > MAX_FRAME_LENGTH) {
+				throw new IOException("Invalid frame length: " + length);
+			}
+
+			final int start = length();
+
+			if (start + length > data.length) {
+				data = Arrays.copyOf(data, Math.max(start + length, data.length * 2));
+			}
+
+			try {
+				input.readFully(data, start, length);
+			} catch (final EOFException e) {
+				throw new IOException("Truncated frame", e);
+			}
+
+			if (size == ends.length) {
+				ends = Arrays.copyOf(ends, size * 2);
+			}
+
+			ends[size++] = start + length;
+
+			return true;
+		}
+
+		/**
+		 * @return the number of payloads.
+		 */
+		int size() {
+			return size;
+		}
+
+		/**
+		 * @return the total length of the payloads.
+		 */
+		int length() {
+			return size == 0 ? 0 : ends[size - 1];
+		}
+	}
+
+	/**
+	 * Encodes response frames back to back, straight from the characters to the frame buffer.
+	 */
+	private static final class FrameEncoder {
+
+		private final CharsetEncoder encoder = UTF_8.newEncoder().onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+		private ByteBuffer frames;
+
+		private char[] chars = new char[128];
+
+		private CharBuffer input = CharBuffer.wrap(chars);
+
+		/**
+		 * Default constructor.
+		 *
+		 * @param capacity
+		 *            - the initial capacity of the frame buffer.
+		 */
+		FrameEncoder(final int capacity) {
+			frames = ByteBuffer.allocate(Math.max(capacity, 256));
+		}
+
+		/**
+		 * Appends a response frame.
+		 *
+		 * @param status
+		 *            - the status byte.
+		 * @param text
+		 *            - the words or the error message. Not <code>null</code>.
+		 */
+		void write(final byte status, final CharSequence text) {
+
+			final int length = text.length();
+
+			if (length > chars.length) {
+				chars = new char[Math.max(length, chars.length * 2)];
+				input = CharBuffer.wrap(chars);
+			}
+
+			if (text instanceof StringBuilder) {
+				((StringBuilder) text).getChars(0, length, chars, 0);
+			} else {
+				text.toString().getChars(0, length, chars, 0);
+			}
+
+			// at most 3 bytes per UTF-16 unit, so a single pass can not overflow
+			final int required = 5 + 3 * length;
+
+			if (frames.remaining() < required) {
+				final int capacity = Math.max(frames.capacity() * 2, frames.position() + required);
+				final ByteBuffer grown = ByteBuffer.allocate(capacity);
+
+				frames.flip();
+				frames = grown.put(frames);
+			}
+
+			final int start = frames.position();
+
+			frames.position(start + 5);
+
+			input.clear();
+			input.limit(length);
+
+			encoder.reset();
+			encoder.encode(input, frames, true);
+			encoder.flush(frames);
+
+			frames.putInt(start, frames.position() - start - 4);
+			frames.put(start + 4, status);
+		}
+
+		/**
+		 * @return the frames written so far. Never <code>null</code>.
+		 */
+		byte[] toByteArray() {
+			return Arrays.copyOf(frames.array(), frames.position());
+		}
+	}
+}
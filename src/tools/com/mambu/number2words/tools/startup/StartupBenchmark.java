@@ -0,0 +1,202 @@
+package com.mambu.number2words.tools.startup;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Command-line tool that measures the time to the first transcription of new JVMs, with and without a
+ * class-data-sharing archive of the library, so that regressions of the initialization cost can be seen.
+ * <p>
+ * Each run launches a {@link StartupProbe} process and records the time until the process ended and the time the probe
+ * took from its <code>main</code> method to the end of its first transcription. The runs of both configurations are
+ * interleaved, so that the load of the host affects them equally. The medians and 90th percentiles are printed.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * java com.mambu.number2words.tools.startup.StartupBenchmark --classpath number2words.jar [--archive FILE]
+ *     [--runs 20] [--locale en]
+ * </pre>
+ *
+ * The archive is created by the training run of {@link StartupProbe} (see the <code>createCdsArchive</code> Gradle
+ * task), and must be used with the same class path.
+ */
+public final class StartupBenchmark {
+
+	/**
+	 * Private constructor. No instances allowed.
+	 */
+	private StartupBenchmark() {
+		// command-line tool
+	}
+
+	/**
+	 * Entry point.
+	 *
+	 * @param args
+	 *            - the command line arguments (see the class documentation).
+	 * @throws Exception
+	 *             if a probe could not be run.
+	 */
+	public static void main(final String[] args) throws Exception {
+
+		String classpath = null;
+		String archive = null;
+		String locale = "en";
+		int runs = 20;
+
+		for (int i = 0; i + 1 < args.length; i += 2) {
+
+			switch (args[i]) {
+			case "--classpath":
+				classpath = args[i + 1];
+				break;
+			case "--archive":
+				archive = args[i + 1];
+				break;
+			case "--runs":
+				runs = Integer.parseInt(args[i + 1]);
+				break;
+			case "--locale":
+				locale = args[i + 1];
+				break;
+			default:
+				usage();
+			}
+		}
+
+		if (classpath == null || args.length % 2 != 0) {
+			usage();
+		}
+
+		final long[][] baseline = new long[2][runs];
+		final long[][] shared = new long[2][runs];
+
+		// warming up the file system cache
+		probe(classpath, null, locale);
+
+		for (int i = 0; i < runs; ++i) {
+
+			store(baseline, i, probe(classpath, null, locale));
+
+			if (archive != null) {
+				store(shared, i, probe(classpath, archive, locale));
+			}
+		}
+
+		System.out.println(summary("default", baseline));
+
+		if (archive != null) {
+			System.out.println(summary("archive", shared));
+		}
+	}
+
+	private static void store(final long[][] results, final int run, final long[] result) {
+		results[0][run] = result[0];
+		results[1][run] = result[1];
+	}
+
+	/**
+	 * Runs a probe process.
+	 *
+	 * @param classpath
+	 *            - the class path of the library. Not <code>null</code>.
+	 * @param archive
+	 *            - the class-data-sharing archive, <code>null</code> for the default of the JVM.
+	 * @param locale
+	 *            - the language tag of the transcription. Not <code>null</code>.
+	 * @return the time until the process ended and the time reported by the probe, in microseconds.
+	 * @throws IOException
+	 *             if the process could not be run or did not report its time.
+	 * @throws InterruptedException
+	 *             if interrupted while waiting for the process.
+	 */
+	static long[] probe(final String classpath, final String archive, final String locale) throws IOException,
+			InterruptedException {
+
+		final List<String> command = new ArrayList<>();
+
+		command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+
+		if (archive != null) {
+			command.add("-XX:SharedArchiveFile=" + archive);
+		}
+
+		command.addAll(Arrays.asList("-cp", classpath, StartupProbe.class.getName(), locale));
+
+		final long start = System.nanoTime();
+		final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+
+		long reported = -1L;
+
+		try (final BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(),
+				StandardCharsets.UTF_8))) {
+
+			String line;
+
+			while ((line = output.readLine()) != null) {
+				if (line.startsWith(StartupProbe.RESULT_PREFIX)) {
+					reported = Long.parseLong(line.substring(StartupProbe.RESULT_PREFIX.length()));
+				}
+			}
+		}
+
+		final int exitCode = process.waitFor();
+		final long elapsed = (System.nanoTime() - start) / 1000L;
+
+		if (exitCode != 0 || reported < 0) {
+			throw new IOException("Probe failed (exit code " + exitCode + "): " + command);
+		}
+
+		return new long[] { elapsed, reported };
+	}
+
+	/**
+	 * Formats the statistics of the runs of a configuration.
+	 *
+	 * @param name
+	 *            - the name of the configuration. Not <code>null</code>.
+	 * @param results
+	 *            - the process times and the reported times, in microseconds. Not <code>null</code>.
+	 * @return the summary line.
+	 */
+	static String summary(final String name, final long[][] results) {
+
+		final long[] process = results[0].clone();
+		final long[] reported = results[1].clone();
+
+		Arrays.sort(process);
+		Arrays.sort(reported);
+
+		return String.format("%-8s process: median %6.1f ms, p90 %6.1f ms | first transcription: median %6.1f ms, "
+				+ "p90 %6.1f ms (%d runs)", name, percentile(process, 50) / 1000.0, percentile(process, 90) / 1000.0,
+				percentile(reported, 50) / 1000.0, percentile(reported, 90) / 1000.0, process.length);
+	}
+
+	/**
+	 * Returns a percentile (nearest rank) of sorted values.
+	 *
+	 * @param sorted
+	 *            - the values, in ascending order. Not empty.
+	 * @param percent
+	 *            - the percentile. Between 1 and 100.
+	 * @return the value.
+	 */
+	static long percentile(final long[] sorted, final int percent) {
+		return sorted[Math.max(0, (sorted.length * percent + 99) / 100 - 1)];
+	}
+
+	/**
+	 * Prints the usage and exits.
+	 */
+	private static void usage() {
+		System.err.println("Usage: StartupBenchmark --classpath CLASSPATH [--archive FILE] [--runs 20] [--locale en]");
+		System.exit(2);
+	}
+}
@@ -0,0 +1,111 @@
+package com.mambu.number2words.tools.startup;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberSequence;
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+import com.mambu.number2words.cache.StripedTranscriptionCache;
+
+/**
+ * Program that transcribes a single amount and reports how long it took since it was started, to measure the startup
+ * cost of the library (class loading and static initialization). Launched by {@link StartupBenchmark}.
+ * <p>
+ * With <code>--train</code>, it exercises the transcribers, parsers and caches of all the languages instead. This is
+ * the training run used to create the class-data-sharing archive of the library:
+ *
+ * <pre>
+ * java -XX:ArchiveClassesAtExit=number2words.jsa -cp number2words.jar \
+ *     com.mambu.number2words.tools.startup.StartupProbe --train
+ * </pre>
+ */
+public final class StartupProbe {
+
+	/**
+	 * The prefix of the reported time.
+	 */
+	static final String RESULT_PREFIX = "first-transcription-us=";
+
+	/**
+	 * The languages exercised by the training run.
+	 */
+	private static final Locale[] LOCALES = { Locale.ENGLISH, Locale.SIMPLIFIED_CHINESE, Locale.forLanguageTag("es") };
+
+	/**
+	 * Private constructor. No instances allowed.
+	 */
+	private StartupProbe() {
+		// command-line tool
+	}
+
+	/**
+	 * Entry point.
+	 *
+	 * @param args
+	 *            - <code>--train</code> for the training run, or the language tag of the transcription (English by
+	 *            default).
+	 */
+	public static void main(final String[] args) {
+
+		final long start = System.nanoTime();
+
+		if (args.length > 0 && "--train".equals(args[0])) {
+			System.out.println(train() + " characters transcribed");
+			return;
+		}
+
+		final Locale locale = args.length > 0 ? Locale.forLanguageTag(args[0]) : Locale.ENGLISH;
+		final String words = NumberTranscriberFactory.getTranscriber(locale).toWords(new BigDecimal("1234.56"));
+
+		final long elapsed = System.nanoTime() - start;
+
+		System.out.println(RESULT_PREFIX + elapsed / 1000L);
+		System.out.println(words);
+	}
+
+	/**
+	 * Uses the main features of the library in all the languages, so that their classes are loaded and initialized.
+	 *
+	 * @return the number of transcribed characters.
+	 */
+	static long train() {
+
+		long length = 0L;
+
+		final StripedTranscriptionCache cache = new StripedTranscriptionCache(1L << 20);
+
+		for (final Locale locale : LOCALES) {
+
+			final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.getTranscriber(locale);
+			final ExtendedNumberTranscriber caching = NumberTranscriberFactory.newCachingTranscriber(locale, cache);
+			final StringBuilder builder = new StringBuilder();
+
+			for (final String value : new String[] { "0", "7", "12.5", "1234.56", "1000000", "987654321012.99" }) {
+
+				final String words = transcriber.toWords(value);
+
+				length += words.length() + caching.toWords(new BigDecimal(value)).length();
+				NumberTranscriberFactory.newParser(locale).parse(words);
+				transcriber.matches(new BigDecimal(value), words);
+			}
+
+			transcriber.appendAmount(builder, 123456L, 2);
+
+			final NumberSequence sequence = transcriber.sequence(999L, 1001L);
+
+			while (sequence.hasNext()) {
+				sequence.next();
+				sequence.appendWords(builder);
+			}
+
+			length += builder.length();
+		}
+
+		final StringBuilder builder = new StringBuilder();
+
+		NumberTranscriberFactory.newMultiLocaleTranscriber(LOCALES).appendWords(builder, new BigDecimal("42"), " / ");
+
+		return length + builder.length();
+	}
+}
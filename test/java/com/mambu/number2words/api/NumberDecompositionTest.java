@@ -0,0 +1,179 @@
+package com.mambu.number2words.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Tests for the language neutral number decomposition.
+ */
+public class NumberDecompositionTest {
+
+	@Test
+	public void testDigitsAndGroups() {
+
+		final NumberDecomposition number = NumberDecomposition.of(new BigDecimal("1234567"));
+
+		assertEquals(7, number.getDigitCount());
+		assertEquals(7, number.getDigit(0));
+		assertEquals(1, number.getDigit(6));
+		assertEquals(0, number.getDigit(7));
+		assertEquals(234L, number.getGroup(3, 3));
+		assertEquals(1L, number.getGroup(6, 3));
+		assertEquals(123L, number.dropLowDigits(4).getGroup(0, 18));
+		assertFalse(number.hasFraction());
+		assertNull(number.getFraction());
+	}
+
+	@Test
+	public void testFraction() {
+
+		assertEquals(NumberDecomposition.ofInteger(20L), NumberDecomposition.of(new BigDecimal("1.20")).getFraction());
+		assertEquals(NumberDecomposition.ofInteger(5L), NumberDecomposition.of(new BigDecimal("1.05")).getFraction());
+		assertTrue(NumberDecomposition.of(new BigDecimal("1.00")).getFraction().isZero());
+		assertFalse(NumberDecomposition.of(new BigDecimal("1E+3")).hasFraction());
+		assertEquals(1000L, NumberDecomposition.of(new BigDecimal("1E+3")).getGroup(0, 4));
+	}
+
+	@Test
+	public void testFractionDigitCount() {
+
+		assertEquals(2, NumberDecomposition.of(new BigDecimal("1.05")).getFractionDigitCount());
+		assertEquals(1, NumberDecomposition.parse("1.5").getFractionDigitCount());
+		assertEquals(0, NumberDecomposition.ofInteger(1L).getFractionDigitCount());
+		assertEquals(3, NumberDecomposition.ofMinorUnits(1005L, 3).getFractionDigitCount());
+		assertEquals(NumberDecomposition.ofMinorUnits(105L, 2), NumberDecomposition.parse("1.05"));
+		assertFalse(NumberDecomposition.parse("1.05").equals(NumberDecomposition.parse("1.5")));
+	}
+
+	@Test
+	public void testZeroAndLargeValues() {
+
+		assertTrue(NumberDecomposition.ofInteger(0L).isZero());
+		assertEquals(1, NumberDecomposition.of(BigDecimal.ZERO).getDigitCount());
+
+		final BigInteger large = new BigInteger("123456789012345678901234567890");
+
+		assertEquals(large, NumberDecomposition.of(new BigDecimal(large)).toBigInteger());
+		assertEquals(BigInteger.valueOf(Long.MAX_VALUE), NumberDecomposition.ofInteger(Long.MAX_VALUE).toBigInteger());
+		assertEquals(NumberDecomposition.ofInteger(Long.MAX_VALUE),
+				NumberDecomposition.of(BigDecimal.valueOf(Long.MAX_VALUE)));
+	}
+
+	@Test
+	public void testParseMatchesBigDecimal() {
+
+		for (final String text : new String[] { "0", "000", "7", "0012", "1.20", "1.05", "1.00", "0.5",
+				"999999999999999999", "123456789012345678901234567890.000001" }) {
+
+			assertEquals(text, NumberDecomposition.of(new BigDecimal(text)), NumberDecomposition.parse(text));
+		}
+	}
+
+	@Test
+	public void testParseSeparators() {
+
+		assertEquals(NumberDecomposition.of(new BigDecimal("1234567.5")),
+				NumberDecomposition.parse("1.234.567,5", ',', '.'));
+		assertEquals(NumberDecomposition.ofInteger(10000L), NumberDecomposition.parse("1_0000", '.', '_'));
+
+		final byte[] bytes = "xx12,345.60yy".getBytes(StandardCharsets.US_ASCII);
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+		assertEquals(NumberDecomposition.of(new BigDecimal("12345.60")),
+				NumberDecomposition.parseAscii(bytes, 2, 9, '.', ','));
+		assertEquals(NumberDecomposition.of(new BigDecimal("12345.60")),
+				NumberDecomposition.parseAscii(buffer, 2, 9, '.', ','));
+		assertEquals(0, buffer.position());
+	}
+
+	@Test
+	public void testParseRejectsInvalidText() {
+
+		for (final String text : new String[] { "", ".", "1.", ".5", "-1", "+1", "1e3", "1 000", "1,,000", ",1",
+				"1,", "1.2.3", "1.2,3", "1,2", "١" }) {
+			try {
+				NumberDecomposition.parse(text, '.', text.equals("1,2") ? NumberDecomposition.NO_GROUPING : ',');
+				fail("Accepted " + text);
+			} catch (final NumberFormatException e) {
+				// expected
+			}
+		}
+	}
+
+	/**
+	 * Packs the digits as COMP-3, with the passed sign nibble.
+	 */
+	private static byte[] pack(final String digits, final int sign) {
+
+		final String padded = digits.length() % 2 == 0 ? "0" + digits : digits;
+		final byte[] bytes = new byte[(padded.length() + 1) / 2];
+
+		for (int i = 0; i < padded.length(); ++i) {
+			bytes[i / 2] |= (padded.charAt(i) - '0') << (i % 2 == 0 ? 4 : 0);
+		}
+
+		bytes[bytes.length - 1] |= sign;
+
+		return bytes;
+	}
+
+	@Test
+	public void testPackedDecimal() {
+
+		final String[][] values = { { "0", "0" }, { "12345", "2" }, { "1205", "2" }, { "100", "2" }, { "7", "3" },
+				{ "123456789012345678901234567890", "4" }, { "42", "0" } };
+
+		for (final String[] value : values) {
+
+			final int scale = Integer.parseInt(value[1]);
+			final BigDecimal expected = new BigDecimal(new BigInteger(value[0]), scale);
+
+			for (final int sign : new int[] { 0x0C, 0x0F }) {
+
+				// the value is placed in the middle of a larger buffer
+				final byte[] packed = pack(value[0], sign);
+				final ByteBuffer buffer = ByteBuffer.allocate(packed.length + 4);
+				buffer.position(2);
+				buffer.put(packed);
+				buffer.position(1);
+
+				assertEquals(value[0], NumberDecomposition.of(expected),
+						NumberDecomposition.parsePacked(buffer, 2, packed.length, scale));
+				assertEquals(1, buffer.position());
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativePackedDecimalFails() {
+
+		final byte[] packed = pack("12", 0x0D);
+
+		NumberDecomposition.parsePacked(ByteBuffer.wrap(packed), 0, packed.length, 0);
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testInvalidPackedDigitFails() {
+		NumberDecomposition.parsePacked(ByteBuffer.wrap(new byte[] { (byte) 0xA1, 0x2C }), 0, 2, 0);
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testInvalidPackedSignFails() {
+		NumberDecomposition.parsePacked(ByteBuffer.wrap(new byte[] { 0x12, 0x34 }), 0, 2, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeValuesFail() {
+		NumberDecomposition.of(new BigDecimal("-1"));
+	}
+}
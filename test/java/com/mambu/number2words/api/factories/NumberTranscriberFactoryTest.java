@@ -1,8 +1,15 @@
 package com.mambu.number2words.api.factories;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.Locale;
+import java.util.ServiceLoader;
+import java.util.Set;
 
 import org.junit.Test;
 
@@ -32,6 +39,53 @@ public class NumberTranscriberFactoryTest {
 				NumberTranscriberFactory.newTranscriber(Locale.forLanguageTag("es")));
 	}
 
+	@Test
+	public void givenServiceLoaderModulesAreRegistered() {
+
+		int count = 0;
+
+		for (final LanguageModule module : ServiceLoader.load(LanguageModule.class)) {
+
+			final Locale locale = new Locale(module.getLanguage());
+
+			assertTrue(module.getLanguage(), NumberTranscriberFactory.getRegistry().isSupported(locale));
+			assertEquals(new BigDecimal("12.50"), NumberTranscriberFactory.newParser(locale).parse(
+					NumberTranscriberFactory.getTranscriber(locale).toWords("12.50"), 2));
+			++count;
+		}
+
+		assertEquals(3, count);
+	}
+
+	@Test
+	public void givenLocalesWarmUpTranscribesAllOfThem() {
+
+		final Set<Locale> locales = new LinkedHashSet<>(Arrays.asList(Locale.ENGLISH, Locale.forLanguageTag("es-MX"),
+				Locale.SIMPLIFIED_CHINESE));
+
+		final WarmUpReport report = NumberTranscriberFactory.warmUp(locales, new WarmUpProfile(2000, 4, true));
+
+		assertEquals(locales, report.getLocales());
+		assertTrue(report.toString(), report.getTranscriptionCount() > 3 * 3 * 2000);
+		assertTrue(report.toString(), report.getElapsedNanos() > 0L);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void givenInvalidWarmUpProfileThrows() {
+		new WarmUpProfile(1000, 5, false);
+	}
+
+	@Test
+	public void givenMaximumIterationsWarmUpProfileIsValid() {
+		assertEquals(WarmUpProfile.MAX_ITERATIONS, new WarmUpProfile(WarmUpProfile.MAX_ITERATIONS, 0, false)
+				.getIterations());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void givenTooManyIterationsWarmUpProfileThrows() {
+		new WarmUpProfile(WarmUpProfile.MAX_ITERATIONS + 1, 0, false);
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void givenInvalidLocaleFactoryThrows() {
 		NumberTranscriberFactory.newTranscriber(Locale.forLanguageTag("ro"));
@@ -0,0 +1,109 @@
+package com.mambu.number2words.api.factories;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import org.junit.Test;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.api.NumberSequence;
+import com.mambu.number2words.api.factories.OutputStyle.LetterCase;
+
+/**
+ * Tests for {@link OutputStyle} and the styled transcribers.
+ */
+public class OutputStyleTest {
+
+	private static final Locale SPANISH = Locale.forLanguageTag("es");
+
+	private static final BigDecimal NUMBER = new BigDecimal("1121.5");
+
+	@Test
+	public void testLetterCases() {
+
+		assertEquals("ONE THOUSAND ONE HUNDRED TWENTY ONE AND FIVE", NumberTranscriberFactory.newTranscriber(
+				Locale.ENGLISH, OutputStyle.DEFAULT.withLetterCase(LetterCase.UPPER)).toWords(NUMBER));
+		assertEquals("One Thousand One Hundred Twenty One And Five", NumberTranscriberFactory.newTranscriber(
+				Locale.ENGLISH, OutputStyle.DEFAULT.withLetterCase(LetterCase.TITLE)).toWords(NUMBER));
+		assertEquals("One thousand one hundred twenty one and five", NumberTranscriberFactory.newTranscriber(
+				Locale.ENGLISH, OutputStyle.DEFAULT.withLetterCase(LetterCase.SENTENCE)).toWords(NUMBER));
+		assertEquals(NumberTranscriberFactory.getTranscriber(Locale.ENGLISH).toWords(NUMBER), NumberTranscriberFactory
+				.newTranscriber(Locale.ENGLISH, OutputStyle.DEFAULT).toWords(NUMBER));
+	}
+
+	@Test
+	public void testHyphenatedTensAndSeparator() {
+
+		final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.newTranscriber(Locale.ENGLISH,
+				OutputStyle.DEFAULT.withHyphenatedTens(true).withWordSeparator("_"));
+
+		assertEquals("one_thousand_one_hundred_twenty-one_and_five", transcriber.toWords(NUMBER));
+		assertEquals("ninety-nine", transcriber.toWords(BigDecimal.valueOf(99)));
+		assertEquals("one_hundred_ten", transcriber.toWords(BigDecimal.valueOf(110)));
+	}
+
+	@Test
+	public void testSpanishConjunctionIsStyled() {
+
+		final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.newTranscriber(SPANISH,
+				OutputStyle.DEFAULT.withLetterCase(LetterCase.UPPER));
+
+		assertEquals("TREINTA Y DOS COMA CINCO", transcriber.toWords(new BigDecimal("32.5")));
+	}
+
+	@Test
+	public void testOverlayIsStyled() {
+
+		final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.newTranscriber(Locale.ENGLISH,
+				WordOverlay.EMPTY.withDecimalSeparator("point").withWord(1000L, "grand"), OutputStyle.DEFAULT
+						.withLetterCase(LetterCase.TITLE));
+
+		assertEquals("Two Grand Point Five", transcriber.toWords(new BigDecimal("2000.5")));
+	}
+
+	@Test
+	public void testSentenceCaseEntryPoints() {
+
+		final ExtendedNumberTranscriber styled = NumberTranscriberFactory.newTranscriber(SPANISH, OutputStyle.DEFAULT
+				.withLetterCase(LetterCase.SENTENCE));
+		final ExtendedNumberTranscriber plain = NumberTranscriberFactory.getTranscriber(SPANISH);
+
+		final StringBuilder builder = new StringBuilder();
+		styled.appendAmount(builder, 200105L, 2);
+		assertEquals("Dos mil uno coma cinco", builder.toString());
+
+		assertTrue(styled.matches(BigDecimal.valueOf(21), "Veintiuno"));
+		assertEquals(0, styled.mismatch(NumberDecomposition.parse("21"), "veintiuno"));
+
+		// every value of a sequence starts with a capital letter
+		final NumberSequence sequence = styled.sequence(999L, 1002L);
+
+		while (sequence.hasNext()) {
+			final String expected = plain.toWords(BigDecimal.valueOf(sequence.next()));
+			assertEquals(expected.substring(0, 1).toUpperCase(SPANISH) + expected.substring(1), sequence.toWords());
+		}
+	}
+
+	@Test
+	public void testChineseSeparator() {
+
+		final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.newTranscriber(Locale.CHINESE,
+				OutputStyle.DEFAULT.withWordSeparator(" "));
+
+		final NumberSequence sequence = transcriber.sequence(10000L, 10001L);
+
+		while (sequence.hasNext()) {
+			assertEquals(transcriber.toWords(BigDecimal.valueOf(sequence.next())), sequence.toWords());
+		}
+		assertEquals("壹 万 零 壹", transcriber.toWords(BigDecimal.valueOf(10001L)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnsupportedLanguageFails() {
+		NumberTranscriberFactory.newTranscriber(Locale.JAPANESE, OutputStyle.DEFAULT);
+	}
+}
@@ -0,0 +1,107 @@
+package com.mambu.number2words.api.factories;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.parsing.interfaces.WordValue.GrammaticalNumber;
+import com.mambu.number2words.parsing.interfaces.WordValue.WordForm;
+
+/**
+ * Tests for {@link TenantTranscribers} and {@link WordOverlay}.
+ */
+public class TenantTranscribersTest {
+
+	private static final Locale SPANISH = Locale.forLanguageTag("es");
+
+	/**
+	 * Overlays by tenant, counting the reads.
+	 */
+	private static final class MapSource implements TenantTranscribers.OverlaySource {
+
+		private final Map<String, WordOverlay> overlays = new HashMap<>();
+
+		private int reads;
+
+		@Override
+		public WordOverlay getOverlay(final String tenant, final Locale locale) {
+			++reads;
+			return overlays.get(tenant + "/" + locale.getLanguage());
+		}
+	}
+
+	@Test
+	public void testOverlaidWords() {
+
+		final MapSource source = new MapSource();
+		source.overlays.put("acme/en", WordOverlay.EMPTY.withDecimalSeparator("point").withWord(1000L, "grand"));
+		source.overlays.put("acme/es", WordOverlay.EMPTY.withDecimalSeparator("con").withWord(1000000L,
+				GrammaticalNumber.PLURAL, WordForm.DEFAULT, "M"));
+		source.overlays.put("acme/zh", WordOverlay.EMPTY.withDecimalSeparator("點"));
+
+		final TenantTranscribers tenants = new TenantTranscribers(source, 10);
+
+		assertEquals("one grand two hundred thirty four point five", tenants.get("acme", Locale.ENGLISH).toWords(
+				new BigDecimal("1234.5")));
+		assertEquals("dos M con cinco", tenants.get("acme", SPANISH).toWords("2000000.5"));
+		assertEquals("壹點伍", tenants.get("acme", Locale.SIMPLIFIED_CHINESE).toWords("1.5"));
+
+		// the other words and tenants are not changed
+		assertEquals("one million point five", tenants.get("acme", Locale.ENGLISH).toWords("1000000.5"));
+		assertEquals("one thousand two hundred thirty four and five", tenants.get("other", Locale.ENGLISH).toWords(
+				"1234.5"));
+		assertEquals("un millon coma cinco", NumberTranscriberFactory.getTranscriber(SPANISH).toWords("1000000.5"));
+	}
+
+	@Test
+	public void testTenantsWithoutChangesShareTheTranscribers() {
+
+		final TenantTranscribers tenants = new TenantTranscribers(new MapSource(), 10);
+
+		assertSame(NumberTranscriberFactory.getTranscriber(Locale.ENGLISH), tenants.get("plain", Locale.ENGLISH));
+	}
+
+	@Test
+	public void testCachingAndEviction() {
+
+		final MapSource source = new MapSource();
+
+		for (final String tenant : new String[] { "a", "b", "c" }) {
+			source.overlays.put(tenant + "/en", WordOverlay.EMPTY.withDecimalSeparator(tenant));
+		}
+
+		final TenantTranscribers tenants = new TenantTranscribers(source, 2);
+
+		final ExtendedNumberTranscriber a = tenants.get("a", Locale.ENGLISH);
+		final ExtendedNumberTranscriber b = tenants.get("b", Locale.ENGLISH);
+
+		assertSame(a, tenants.get("a", Locale.ENGLISH));
+		assertEquals(2, source.reads);
+
+		// "b" is the least recently used
+		tenants.get("c", Locale.ENGLISH);
+
+		assertEquals(2, tenants.size());
+		assertSame(a, tenants.get("a", Locale.ENGLISH));
+		assertNotSame(b, tenants.get("b", Locale.ENGLISH));
+		assertEquals(4, source.reads);
+
+		tenants.invalidate("b");
+		tenants.get("b", Locale.ENGLISH);
+
+		assertEquals(5, source.reads);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testOverlayOfUnmappedValue() {
+		NumberTranscriberFactory.newTranscriber(Locale.ENGLISH, WordOverlay.EMPTY.withWord(25L, "quarter"));
+	}
+}
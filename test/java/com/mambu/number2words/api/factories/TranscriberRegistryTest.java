@@ -0,0 +1,99 @@
+package com.mambu.number2words.api.factories;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+
+/**
+ * Tests for {@link TranscriberRegistry}.
+ */
+public class TranscriberRegistryTest {
+
+	private static final Locale SPANISH = Locale.forLanguageTag("es");
+
+	@Test
+	public void testFactoryTranscribersAreShared() {
+
+		final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.getTranscriber(Locale.ENGLISH);
+
+		assertSame(transcriber, NumberTranscriberFactory.getTranscriber(Locale.US));
+		assertSame(transcriber, NumberTranscriberFactory.getTranscriber(Locale.forLanguageTag("en-Latn-GB-x-test")));
+		assertNotSame(transcriber, NumberTranscriberFactory.newTranscriber(Locale.ENGLISH));
+		assertEquals("doce", NumberTranscriberFactory.getTranscriber(Locale.forLanguageTag("es-MX")).toWords("12"));
+	}
+
+	@Test
+	public void testFallbackChain() {
+
+		assertEquals(Arrays.asList(Locale.forLanguageTag("sr-Latn-RS"), new Locale("sr", "RS"), new Locale("sr")),
+				TranscriberRegistry.getFallbackChain(Locale.forLanguageTag("sr-Latn-RS")));
+		assertEquals(Arrays.asList(new Locale("es")), TranscriberRegistry.getFallbackChain(SPANISH));
+	}
+
+	@Test
+	public void testMostSpecificRegistrationWins() {
+
+		final ExtendedNumberTranscriber spanish = NumberTranscriberFactory.getTranscriber(SPANISH);
+		final ExtendedNumberTranscriber english = NumberTranscriberFactory.getTranscriber(Locale.ENGLISH);
+
+		final TranscriberRegistry registry = new TranscriberRegistry().register(SPANISH, spanish);
+
+		assertSame(spanish, registry.get(Locale.forLanguageTag("es-US")));
+
+		// the cached resolution is dropped when a language is registered
+		registry.register(Locale.forLanguageTag("es-US"), english);
+
+		assertSame(english, registry.get(Locale.forLanguageTag("es-US")));
+		assertSame(spanish, registry.get(Locale.forLanguageTag("es-MX")));
+		assertEquals(Locale.forLanguageTag("es-US"), registry.getResolvedLocale(Locale.forLanguageTag("es-US")));
+	}
+
+	@Test
+	public void testProviderIsCalledOnce() {
+
+		final AtomicInteger calls = new AtomicInteger();
+		final TranscriberRegistry registry = new TranscriberRegistry();
+
+		registry.register(new Locale("ro"), new TranscriberProvider() {
+
+			@Override
+			public ExtendedNumberTranscriber newTranscriber(final Locale locale) {
+				calls.incrementAndGet();
+				return NumberTranscriberFactory.getTranscriber(Locale.ENGLISH);
+			}
+		});
+
+		assertEquals(0, calls.get());
+		assertSame(registry.get(new Locale("ro")), registry.get(new Locale("ro", "MD")));
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	public void testFallbackLocale() {
+
+		final TranscriberRegistry registry = new TranscriberRegistry().register(Locale.ENGLISH,
+				NumberTranscriberFactory.getTranscriber(Locale.ENGLISH));
+
+		assertFalse(registry.isSupported(Locale.GERMAN));
+
+		registry.setFallback(Locale.UK);
+
+		assertTrue(registry.isSupported(Locale.GERMAN));
+		assertEquals(Locale.ENGLISH, registry.getResolvedLocale(Locale.GERMAN));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnsupportedLocaleFails() {
+		new TranscriberRegistry().get(Locale.ENGLISH);
+	}
+}
@@ -0,0 +1,121 @@
+package com.mambu.number2words.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+
+/**
+ * Tests for {@link AmountDictionary} and the dictionary transcribers.
+ */
+public class AmountDictionaryTest {
+
+	private Path directory;
+
+	private Path file;
+
+	@Before
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("dictionary");
+		file = directory.resolve("amounts.bin");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+		Files.deleteIfExists(directory);
+	}
+
+	@Test
+	public void testDictionaryWordsAreTheSame() throws IOException {
+
+		for (final Locale locale : new Locale[] { Locale.ENGLISH, Locale.forLanguageTag("es"),
+				Locale.SIMPLIFIED_CHINESE }) {
+
+			final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.getTranscriber(locale);
+
+			AmountDictionary.build(transcriber, locale, 12345L, 2, file);
+
+			final AmountDictionary dictionary = AmountDictionary.open(file);
+			final ExtendedNumberTranscriber mapped = NumberTranscriberFactory.newDictionaryTranscriber(dictionary);
+
+			assertEquals(locale, dictionary.getLocale());
+
+			for (long minorUnits = 0; minorUnits <= 13000L; minorUnits += 7) {
+
+				final BigDecimal amount = BigDecimal.valueOf(minorUnits, 2);
+				final StringBuilder builder = new StringBuilder("> ");
+
+				mapped.appendAmount(builder, minorUnits, 2);
+
+				assertEquals(transcriber.toWords(amount), mapped.toWords(amount));
+				assertEquals("> " + transcriber.toWords(amount), builder.toString());
+			}
+
+			// other scales and integers are not in the dictionary
+			for (final String value : new String[] { "12", "1.5", "1.05", "7.125", "123.4", "1000000.01" }) {
+				assertEquals(transcriber.toWords(value), mapped.toWords(value));
+			}
+		}
+	}
+
+	@Test
+	public void testIndexOf() throws IOException {
+
+		final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.getTranscriber(Locale.ENGLISH);
+
+		AmountDictionary.build(transcriber, Locale.ENGLISH, 99999L, 2, file);
+
+		final AmountDictionary dictionary = AmountDictionary.open(file);
+
+		assertEquals(2, dictionary.getScale());
+		assertEquals(99999L, dictionary.getMaxMinorUnits());
+		assertEquals(1250L, dictionary.indexOf(NumberDecomposition.parse("12.50")));
+		assertEquals(1205L, dictionary.indexOf(NumberDecomposition.parse("12.5")));
+		assertEquals(99999L, dictionary.indexOf(NumberDecomposition.parse("999.99")));
+		assertEquals(-1L, dictionary.indexOf(NumberDecomposition.parse("1000.00")));
+		assertEquals(-1L, dictionary.indexOf(NumberDecomposition.parse("12")));
+		assertEquals(-1L, dictionary.indexOf(NumberDecomposition.parse("12.125")));
+		assertFalse(dictionary.appendTo(new StringBuilder(), 100000L));
+	}
+
+	@Test
+	public void testCopyToByteBuffer() throws IOException {
+
+		final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory
+				.getTranscriber(Locale.SIMPLIFIED_CHINESE);
+
+		AmountDictionary.build(transcriber, Locale.SIMPLIFIED_CHINESE, 2000L, 1, file);
+
+		final AmountDictionary dictionary = AmountDictionary.open(file);
+		final ByteBuffer target = ByteBuffer.allocate(128);
+
+		final int length = dictionary.copyTo(target, 125L);
+
+		assertEquals(transcriber.toWords("12.5"), new String(target.array(), 0, length, StandardCharsets.UTF_8));
+		assertEquals(length, target.position());
+		assertEquals(-1, dictionary.copyTo(target, 2001L));
+	}
+
+	@Test(expected = IOException.class)
+	public void testInvalidFileFails() throws IOException {
+
+		Files.write(file, new byte[128]);
+
+		AmountDictionary.open(file);
+	}
+}
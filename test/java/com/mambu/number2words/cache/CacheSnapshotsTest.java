@@ -0,0 +1,215 @@
+package com.mambu.number2words.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+
+/**
+ * Tests for {@link CacheSnapshots}.
+ */
+public class CacheSnapshotsTest {
+
+	private Path directory;
+
+	private Path file;
+
+	@Before
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("snapshots");
+		file = directory.resolve("cache.bin");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+		Files.deleteIfExists(directory);
+	}
+
+	@Test
+	public void testRoundTrip() throws IOException {
+
+		for (final TranscriptionCache source : new TranscriptionCache[] { new StripedTranscriptionCache(1L << 20),
+				new OffHeapTranscriptionCache(1L << 20) }) {
+
+			final String[] values = { "12", "1.05", "1.50", "7.0", "123456789012345678901234567890.25" };
+
+			for (final Locale locale : new Locale[] { Locale.ENGLISH, Locale.SIMPLIFIED_CHINESE }) {
+
+				final ExtendedNumberTranscriber caching = NumberTranscriberFactory.newCachingTranscriber(locale,
+						source);
+
+				for (final String value : values) {
+					caching.toWords(value);
+				}
+			}
+
+			final int written = CacheSnapshots.write(source, 100, file);
+
+			final TranscriptionCache target = new StripedTranscriptionCache(1L << 20);
+
+			assertEquals(written, CacheSnapshots.load(target, file));
+
+			for (final Locale locale : new Locale[] { Locale.ENGLISH, Locale.SIMPLIFIED_CHINESE }) {
+
+				final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.getTranscriber(locale);
+
+				for (final String value : values) {
+
+					final NumberDecomposition number = NumberDecomposition.of(new BigDecimal(value));
+					final StringBuilder builder = new StringBuilder();
+
+					if (target.appendTo(builder, locale, number)) {
+						assertEquals(transcriber.toWords(value), builder.toString());
+					} else {
+						// the off-heap cache does not keep the numbers with more than 18 digits
+						assertTrue(value, source instanceof OffHeapTranscriptionCache && value.length() > 18);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testHottestEntriesAreKept() throws IOException {
+
+		final TranscriptionCache source = new StripedTranscriptionCache(1L << 20);
+		final ExtendedNumberTranscriber caching = NumberTranscriberFactory.newCachingTranscriber(Locale.ENGLISH,
+				source);
+
+		for (int i = 0; i < 5; ++i) {
+			caching.toWords("42");
+		}
+
+		for (int value = 0; value < 20; ++value) {
+			caching.toWords(Integer.toString(value + 100));
+		}
+
+		assertEquals(3, CacheSnapshots.write(source, 3, file));
+
+		final TranscriptionCache target = new StripedTranscriptionCache(1L << 20);
+		CacheSnapshots.load(target, file);
+
+		final List<CacheEntry> entries = target.getHottestEntries(1);
+
+		assertEquals(1, entries.size());
+		assertEquals("forty two", entries.get(0).getWords());
+		assertTrue(entries.get(0).getFrequency() >= 5);
+	}
+
+	@Test
+	public void testLargeEntries() throws IOException {
+
+		final TranscriptionCache source = new StripedTranscriptionCache(1L << 24);
+
+		// more than 255 bytes for the number, more than 64 KB for the words
+		final NumberDecomposition large = NumberDecomposition.of(BigDecimal.TEN.pow(700).add(new BigDecimal("0.05")));
+		final String longWords = repeat('a', 70000);
+
+		source.put(Locale.ENGLISH, large, "large");
+		source.put(Locale.ENGLISH, NumberDecomposition.ofInteger(1L), longWords);
+		source.put(Locale.ENGLISH, NumberDecomposition.ofInteger(2L), repeat('b', CacheSnapshots.MAX_ENTRY_BYTES + 1));
+
+		assertEquals(2, CacheSnapshots.write(source, 10, file));
+
+		final TranscriptionCache target = new StripedTranscriptionCache(1L << 24);
+
+		assertEquals(2, CacheSnapshots.load(target, file));
+
+		final StringBuilder builder = new StringBuilder();
+		assertTrue(target.appendTo(builder, Locale.ENGLISH, large));
+		assertEquals("large", builder.toString());
+
+		builder.setLength(0);
+		assertTrue(target.appendTo(builder, Locale.ENGLISH, NumberDecomposition.ofInteger(1L)));
+		assertEquals(longWords, builder.toString());
+
+		assertFalse(target.appendTo(builder, Locale.ENGLISH, NumberDecomposition.ofInteger(2L)));
+	}
+
+	@Test
+	public void testStaleLocalesAreIgnored() throws IOException {
+
+		try (final DataOutputStream output = new DataOutputStream(Files.newOutputStream(file))) {
+			output.writeInt(0x4e325743);
+			output.writeInt(3);
+			output.writeInt(2);
+			output.writeUTF("en");
+			output.writeLong(NumberTranscriberFactory.getMappingsFingerprint(Locale.ENGLISH) + 1L);
+			output.writeUTF("es");
+			output.writeLong(NumberTranscriberFactory.getMappingsFingerprint(Locale.forLanguageTag("es")));
+			output.writeInt(2);
+
+			for (int locale = 0; locale < 2; ++locale) {
+				output.writeInt(locale);
+				output.writeInt(0);
+				output.writeLong(42L);
+				output.writeInt(0);
+				output.writeByte(1);
+				output.writeInt(1);
+				output.writeByte('x');
+			}
+		}
+
+		final TranscriptionCache target = new StripedTranscriptionCache(1L << 20);
+
+		assertEquals(1, CacheSnapshots.load(target, file));
+		assertFalse(target.appendTo(new StringBuilder(), Locale.ENGLISH, NumberDecomposition.ofInteger(42L)));
+		assertTrue(target.appendTo(new StringBuilder(), Locale.forLanguageTag("es"),
+				NumberDecomposition.ofInteger(42L)));
+	}
+
+	@Test
+	public void testOtherVersionIsIgnored() throws IOException {
+
+		try (final DataOutputStream output = new DataOutputStream(Files.newOutputStream(file))) {
+			output.writeInt(0x4e325743);
+			output.writeInt(1);
+			output.writeLong(NumberTranscriberFactory.getMappingsFingerprint());
+			output.writeInt(1);
+		}
+
+		final TranscriptionCache target = new StripedTranscriptionCache(1L << 20);
+
+		assertEquals(0, CacheSnapshots.load(target, file));
+		assertEquals(0L, target.getStatistics().getSize());
+	}
+
+	@Test
+	public void testMissingSnapshotIsIgnored() throws IOException {
+		assertEquals(0, CacheSnapshots.load(new StripedTranscriptionCache(1L << 20), file));
+		assertFalse(Files.exists(file));
+	}
+
+	@Test(expected = IOException.class)
+	public void testInvalidSnapshotFails() throws IOException {
+
+		Files.write(file, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+
+		CacheSnapshots.load(new StripedTranscriptionCache(1L << 20), file);
+	}
+
+	private static String repeat(final char c, final int count) {
+
+		final char[] chars = new char[count];
+		Arrays.fill(chars, c);
+
+		return new String(chars);
+	}
+}
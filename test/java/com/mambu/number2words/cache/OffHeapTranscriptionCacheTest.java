@@ -0,0 +1,148 @@
+package com.mambu.number2words.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+
+/**
+ * Tests for {@link OffHeapTranscriptionCache}.
+ */
+public class OffHeapTranscriptionCacheTest {
+
+	@Test
+	public void testCachedWordsAreTheSame() {
+
+		final TranscriptionCache cache = new OffHeapTranscriptionCache(4L * 1024L * 1024L);
+
+		for (final Locale locale : new Locale[] { Locale.ENGLISH, Locale.forLanguageTag("es"),
+				Locale.SIMPLIFIED_CHINESE }) {
+
+			final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.getTranscriber(locale);
+			final ExtendedNumberTranscriber caching = NumberTranscriberFactory.newCachingTranscriber(locale, cache);
+
+			final Random random = new Random(42L);
+
+			for (int i = 0; i < 3000; ++i) {
+
+				final BigDecimal value = BigDecimal.valueOf(random.nextInt(500), random.nextInt(3));
+
+				assertEquals(transcriber.toWords(value), caching.toWords(value));
+			}
+		}
+
+		final CacheStatistics statistics = cache.getStatistics();
+
+		assertTrue(statistics.toString(), statistics.getHitCount() > statistics.getMissCount());
+		assertEquals(0L, statistics.getEvictionCount());
+	}
+
+	@Test
+	public void testCopyToByteBuffer() {
+
+		final OffHeapTranscriptionCache cache = new OffHeapTranscriptionCache(1024L * 1024L);
+		final NumberDecomposition number = NumberDecomposition.parse("12.5");
+
+		final ByteBuffer target = ByteBuffer.allocate(64);
+
+		assertEquals(-1, cache.copyTo(target, Locale.SIMPLIFIED_CHINESE, number));
+
+		cache.put(Locale.SIMPLIFIED_CHINESE, number, "壹拾贰点伍");
+
+		final int length = cache.copyTo(target, Locale.SIMPLIFIED_CHINESE, number);
+
+		assertEquals("壹拾贰点伍", new String(target.array(), 0, length, StandardCharsets.UTF_8));
+		assertEquals(length, target.position());
+	}
+
+	@Test
+	public void testEvictionKeepsAllEntriesReachable() {
+
+		// small segments, so that the clock evicts and the probe sequences wrap around
+		final OffHeapTranscriptionCache cache = new OffHeapTranscriptionCache(64L * 1024L, 40, 2);
+		final Map<Long, String> inserted = new HashMap<>();
+		final Random random = new Random(7L);
+
+		for (int i = 0; i < 50000; ++i) {
+
+			final long value = random.nextInt(2000);
+			final NumberDecomposition number = NumberDecomposition.ofInteger(value);
+			final StringBuilder builder = new StringBuilder();
+
+			if (cache.appendTo(builder, Locale.ENGLISH, number)) {
+				assertEquals(inserted.get(value), builder.toString());
+			} else {
+				final String words = "value " + value + (value % 2 == 0 ? " ü" : " 壹");
+				cache.put(Locale.ENGLISH, number, words);
+				inserted.put(value, words);
+			}
+		}
+
+		final CacheStatistics statistics = cache.getStatistics();
+
+		assertTrue(statistics.toString(), statistics.getEvictionCount() > 0);
+		assertTrue(statistics.toString(), statistics.getWeight() <= 64L * 1024L);
+		assertTrue(statistics.toString(), statistics.getHitCount() > 0);
+	}
+
+	@Test
+	public void testFractionLeadingZeroesAreKept() {
+
+		final OffHeapTranscriptionCache cache = new OffHeapTranscriptionCache(64L * 1024L, 32, 1);
+		final NumberDecomposition leading = NumberDecomposition.parse("1.05");
+		final NumberDecomposition plain = NumberDecomposition.parse("1.5");
+
+		cache.put(Locale.ENGLISH, leading, "one point zero five");
+		cache.put(Locale.ENGLISH, plain, "one point five");
+
+		final StringBuilder builder = new StringBuilder();
+		assertTrue(cache.appendTo(builder, Locale.ENGLISH, leading));
+		assertEquals("one point zero five", builder.toString());
+
+		builder.setLength(0);
+		assertTrue(cache.appendTo(builder, Locale.ENGLISH, plain));
+		assertEquals("one point five", builder.toString());
+
+		final Map<NumberDecomposition, String> snapshot = new HashMap<>();
+
+		for (final CacheEntry entry : cache.getHottestEntries(10)) {
+			snapshot.put(entry.getNumber(), entry.getWords());
+		}
+
+		assertEquals(2, snapshot.size());
+		assertEquals("one point zero five", snapshot.get(leading));
+	}
+
+	@Test
+	public void testUncacheableEntriesAreRejected() {
+
+		final OffHeapTranscriptionCache cache = new OffHeapTranscriptionCache(64L * 1024L, 16, 1);
+		final NumberDecomposition large = NumberDecomposition.of(new BigDecimal("12345678901234567890"));
+		final NumberDecomposition small = NumberDecomposition.ofInteger(1L);
+
+		cache.put(Locale.ENGLISH, large, "large");
+		cache.put(Locale.ENGLISH, small, "words that are too long");
+
+		assertFalse(cache.appendTo(new StringBuilder(), Locale.ENGLISH, large));
+		assertFalse(cache.appendTo(new StringBuilder(), Locale.ENGLISH, small));
+		assertEquals(2L, cache.getStatistics().getRejectionCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidWordLengthFails() {
+		new OffHeapTranscriptionCache(1024L * 1024L, 0, 1);
+	}
+}
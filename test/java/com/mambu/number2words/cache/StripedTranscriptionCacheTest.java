@@ -0,0 +1,197 @@
+package com.mambu.number2words.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+
+/**
+ * Tests for {@link StripedTranscriptionCache} and the caching transcribers.
+ */
+public class StripedTranscriptionCacheTest {
+
+	private static final Locale SPANISH = Locale.forLanguageTag("es");
+
+	@Test
+	public void testCachedWordsAreTheSame() {
+
+		final TranscriptionCache cache = new StripedTranscriptionCache(1L << 20);
+
+		for (final Locale locale : new Locale[] { Locale.ENGLISH, SPANISH, Locale.SIMPLIFIED_CHINESE }) {
+
+			final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.getTranscriber(locale);
+			final ExtendedNumberTranscriber caching = NumberTranscriberFactory.newCachingTranscriber(locale, cache);
+
+			final Random random = new Random(42L);
+
+			for (int i = 0; i < 2000; ++i) {
+
+				final BigDecimal value = BigDecimal.valueOf(random.nextInt(300), random.nextInt(3));
+				final String expected = transcriber.toWords(value);
+
+				assertEquals(expected, caching.toWords(value));
+				assertEquals(expected, caching.toWords(value.toPlainString()));
+
+				final StringBuilder builder = new StringBuilder("> ");
+				caching.appendAmount(builder, value.unscaledValue().longValue(), value.scale());
+
+				assertEquals("> " + expected, builder.toString());
+			}
+		}
+
+		final CacheStatistics statistics = cache.getStatistics();
+
+		assertTrue(statistics.toString(), statistics.getHitCount() > statistics.getMissCount());
+		assertEquals(0L, statistics.getEvictionCount());
+	}
+
+	@Test
+	public void testLocalesDoNotShareEntries() {
+
+		final TranscriptionCache cache = new StripedTranscriptionCache(1L << 20);
+
+		assertEquals("twelve", NumberTranscriberFactory.newCachingTranscriber(Locale.ENGLISH, cache).toWords("12"));
+		assertEquals("doce", NumberTranscriberFactory.newCachingTranscriber(SPANISH, cache).toWords("12"));
+	}
+
+	@Test
+	public void testScaleIsPartOfTheKey() {
+
+		final ExtendedNumberTranscriber caching = NumberTranscriberFactory.newCachingTranscriber(Locale.ENGLISH,
+				new StripedTranscriptionCache(1L << 20));
+
+		assertEquals("one and fifty", caching.toWords(new BigDecimal("1.50")));
+		assertEquals("one and five", caching.toWords(new BigDecimal("1.5")));
+		assertEquals("one", caching.toWords(new BigDecimal("1")));
+		assertEquals("one and zero", caching.toWords(new BigDecimal("1.0")));
+	}
+
+	@Test
+	public void testWeightIsBounded() {
+
+		final long maximumWeight = 64L * 1024L;
+		final TranscriptionCache cache = new StripedTranscriptionCache(maximumWeight, 4);
+
+		for (long value = 0; value < 20000L; ++value) {
+
+			final NumberDecomposition number = NumberDecomposition.ofInteger(value);
+
+			if (!cache.appendTo(new StringBuilder(), Locale.ENGLISH, number)) {
+				cache.put(Locale.ENGLISH, number, "words of " + value);
+			}
+		}
+
+		final CacheStatistics statistics = cache.getStatistics();
+
+		assertTrue(statistics.toString(), statistics.getWeight() <= maximumWeight);
+		assertTrue(statistics.toString(), statistics.getSize() > 0);
+	}
+
+	@Test
+	public void testOneOffValuesDoNotEvictFrequentOnes() {
+
+		final TranscriptionCache cache = new StripedTranscriptionCache(16L * 1024L, 1);
+		final StringBuilder builder = new StringBuilder();
+
+		final int hotCount = 40;
+
+		// the frequent values are looked up several times
+		for (int round = 0; round < 5; ++round) {
+			for (long value = 0; value < hotCount; ++value) {
+
+				final NumberDecomposition number = NumberDecomposition.ofInteger(value);
+
+				if (!cache.appendTo(builder, Locale.ENGLISH, number)) {
+					cache.put(Locale.ENGLISH, number, "hot " + value);
+				}
+			}
+		}
+
+		// values seen only once, while the frequent values are still being looked up
+		for (long value = 1000; value < 11000L; ++value) {
+
+			final NumberDecomposition number = NumberDecomposition.ofInteger(value);
+
+			if (!cache.appendTo(builder, Locale.ENGLISH, number)) {
+				cache.put(Locale.ENGLISH, number, "cold " + value);
+			}
+
+			assertTrue(cache.appendTo(builder, Locale.ENGLISH, NumberDecomposition.ofInteger(value % hotCount)));
+		}
+
+		for (long value = 0; value < hotCount; ++value) {
+			assertTrue(Long.toString(value),
+					cache.appendTo(builder, Locale.ENGLISH, NumberDecomposition.ofInteger(value)));
+		}
+
+		assertTrue(cache.getStatistics().getRejectionCount() > 0);
+		assertFalse(cache.appendTo(builder, Locale.ENGLISH, NumberDecomposition.ofInteger(10999L)));
+	}
+
+	@Test
+	public void testConcurrentTranscriptions() throws Exception {
+
+		final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.getTranscriber(Locale.ENGLISH);
+		final ExtendedNumberTranscriber caching = NumberTranscriberFactory.newCachingTranscriber(Locale.ENGLISH,
+				new StripedTranscriptionCache(256L * 1024L));
+
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try {
+
+			final List<Future<Void>> results = new ArrayList<>();
+
+			for (int t = 0; t < 8; ++t) {
+
+				final long seed = t;
+
+				results.add(executor.submit(new Callable<Void>() {
+
+					@Override
+					public Void call() {
+
+						final Random random = new Random(seed);
+
+						for (int i = 0; i < 20000; ++i) {
+
+							// skewed: most values are small
+							final int bound = random.nextInt(4) == 0 ? 1000000 : 200;
+							final BigDecimal amount = BigDecimal.valueOf(random.nextInt(bound), 2);
+
+							assertEquals(transcriber.toWords(amount), caching.toWords(amount));
+						}
+
+						return null;
+					}
+				}));
+			}
+
+			for (final Future<Void> result : results) {
+				result.get();
+			}
+
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidWeightFails() {
+		new StripedTranscriptionCache(0L);
+	}
+}
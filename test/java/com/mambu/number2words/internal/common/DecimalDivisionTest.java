@@ -0,0 +1,50 @@
+package com.mambu.number2words.internal.common;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.mambu.number2words.api.NumberDecomposition;
+
+/**
+ * Tests for {@link DecimalDivision} (the version of the running JVM).
+ */
+public class DecimalDivisionTest {
+
+	private static void verify(final long dividend, final int power, final long divisor) {
+		assertEquals(dividend + "/" + divisor, dividend / divisor, DecimalDivision.divide(dividend, power));
+		assertEquals(dividend + "%" + divisor, dividend % divisor, DecimalDivision.remainder(dividend, power));
+	}
+
+	@Test
+	public void testBoundaries() {
+
+		long divisor = 1L;
+
+		for (int power = 0; power <= NumberDecomposition.MAX_LONG_DIGITS; ++power, divisor *= 10) {
+
+			final long largest = Long.MAX_VALUE / divisor * divisor;
+
+			for (final long dividend : new long[] { 0L, 1L, divisor - 1, divisor, divisor + 1, largest - 1, largest,
+					Long.MAX_VALUE }) {
+				verify(dividend, power, divisor);
+			}
+		}
+	}
+
+	@Test
+	public void testRandomValues() {
+
+		final Random random = new Random(42L);
+
+		long divisor = 1L;
+
+		for (int power = 0; power <= NumberDecomposition.MAX_LONG_DIGITS; ++power, divisor *= 10) {
+			for (int i = 0; i < 10000; ++i) {
+				verify(random.nextLong() >>> (1 + random.nextInt(63)), power, divisor);
+			}
+		}
+	}
+}
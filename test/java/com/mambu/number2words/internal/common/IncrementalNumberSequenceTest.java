@@ -0,0 +1,110 @@
+package com.mambu.number2words.internal.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberSequence;
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+
+/**
+ * Tests that the incremental transcription of sequences matches the transcription of each value.
+ */
+public class IncrementalNumberSequenceTest {
+
+	private static final Locale[] LOCALES = { Locale.ENGLISH, Locale.forLanguageTag("es"), Locale.SIMPLIFIED_CHINESE };
+
+	private static void verifyRange(final ExtendedNumberTranscriber transcriber, final long from, final long to) {
+
+		final NumberSequence sequence = transcriber.sequence(from, to);
+		final StringBuilder builder = new StringBuilder();
+
+		long expected = from - 1L;
+
+		// the loop condition can not use "<=", as "to" can be Long.MAX_VALUE
+		while (expected != to) {
+
+			assertEquals(++expected, sequence.next());
+
+			builder.setLength(0);
+			sequence.appendWords(builder);
+
+			assertEquals(transcriber.toWords(BigDecimal.valueOf(expected)), builder.toString());
+		}
+
+		assertFalse(sequence.hasNext());
+	}
+
+	@Test
+	public void testRanges() {
+
+		for (final Locale locale : LOCALES) {
+
+			final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.getTranscriber(locale);
+
+			verifyRange(transcriber, 0L, 25000L);
+			verifyRange(transcriber, 999000L, 1002000L);
+			verifyRange(transcriber, 99990000L, 100030000L - 1L);
+			verifyRange(transcriber, 1000000000000L - 20000L, 1000000000000L + 20000L);
+			verifyRange(transcriber, Long.MAX_VALUE - 30000L, Long.MAX_VALUE);
+		}
+	}
+
+	@Test
+	public void testSortedValues() {
+
+		final Random random = new Random(42L);
+		final long[] values = new long[20000];
+
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = random.nextInt(10) == 0 ? random.nextLong() & Long.MAX_VALUE : random.nextInt(1 << 24);
+		}
+
+		Arrays.sort(values);
+
+		for (final Locale locale : LOCALES) {
+
+			final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.getTranscriber(locale);
+			final NumberSequence sequence = transcriber.sequence(values);
+
+			for (final long value : values) {
+				assertEquals(value, sequence.next());
+				assertEquals(transcriber.toWords(BigDecimal.valueOf(value)), sequence.toWords());
+			}
+
+			assertFalse(sequence.hasNext());
+		}
+	}
+
+	@Test
+	public void testEmptyRange() {
+		assertFalse(NumberTranscriberFactory.getTranscriber(Locale.ENGLISH).sequence(2L, 1L).hasNext());
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void testNextAfterEndFails() {
+
+		final NumberSequence sequence = NumberTranscriberFactory.getTranscriber(Locale.ENGLISH).sequence(1L, 1L);
+
+		sequence.next();
+		sequence.next();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testWordsBeforeNextFail() {
+		NumberTranscriberFactory.getTranscriber(Locale.ENGLISH).sequence(1L, 1L).toWords();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeValuesFail() {
+		NumberTranscriberFactory.getTranscriber(Locale.ENGLISH).sequence(new long[] { -1L }).next();
+	}
+}
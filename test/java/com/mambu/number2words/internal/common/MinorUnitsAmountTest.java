@@ -0,0 +1,75 @@
+package com.mambu.number2words.internal.common;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+
+/**
+ * Tests that the minor units fast path gives the same words as the {@link BigDecimal} path.
+ */
+public class MinorUnitsAmountTest {
+
+	private static final Locale[] LOCALES = { Locale.ENGLISH, Locale.forLanguageTag("es"), Locale.SIMPLIFIED_CHINESE };
+
+	private static void verify(final ExtendedNumberTranscriber transcriber, final long minorUnits, final int scale) {
+
+		final StringBuilder builder = new StringBuilder();
+
+		transcriber.appendAmount(builder, minorUnits, scale);
+
+		assertEquals(minorUnits + "/" + scale, transcriber.toWords(BigDecimal.valueOf(minorUnits, scale)),
+				builder.toString());
+	}
+
+	@Test
+	public void testAllCentsOfSomeAmounts() {
+
+		for (final Locale locale : LOCALES) {
+
+			final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.getTranscriber(locale);
+
+			for (final long whole : new long[] { 0L, 1L, 21L, 100L, 1001L, 21000L, 1000000L, 100010005L,
+					1000000000000L, Long.MAX_VALUE / 100 - 1 }) {
+
+				for (long cents = 0; cents < 100; ++cents) {
+					verify(transcriber, whole * 100 + cents, 2);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testOtherScales() {
+
+		final Random random = new Random(7L);
+
+		for (final Locale locale : LOCALES) {
+
+			final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.getTranscriber(locale);
+
+			for (int scale = 0; scale <= 18; ++scale) {
+				for (int i = 0; i < 50; ++i) {
+					verify(transcriber, random.nextLong() & Long.MAX_VALUE, scale);
+					verify(transcriber, random.nextInt(1000000), scale);
+				}
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeAmountFails() {
+		NumberTranscriberFactory.getTranscriber(Locale.ENGLISH).appendAmount(new StringBuilder(), -1L, 2);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidScaleFails() {
+		NumberTranscriberFactory.getTranscriber(Locale.ENGLISH).appendAmount(new StringBuilder(), 1L, 19);
+	}
+}
@@ -0,0 +1,72 @@
+package com.mambu.number2words.internal.common;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.junit.Test;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.MultiLocaleTranscriber;
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+
+/**
+ * Tests that transcribing into several locales at once gives the same words as transcribing into each.
+ */
+public class MultiLocaleNumberTranscriberTest {
+
+	private static final Locale SPANISH = Locale.forLanguageTag("es");
+
+	private final MultiLocaleTranscriber transcriber = NumberTranscriberFactory.newMultiLocaleTranscriber(
+			Locale.ENGLISH, SPANISH, Locale.SIMPLIFIED_CHINESE);
+
+	@Test
+	public void testSameWordsAsSingleLocale() {
+
+		final ExtendedNumberTranscriber[] single = { NumberTranscriberFactory.getTranscriber(Locale.ENGLISH),
+				NumberTranscriberFactory.getTranscriber(SPANISH),
+				NumberTranscriberFactory.getTranscriber(Locale.SIMPLIFIED_CHINESE) };
+
+		for (final String value : new String[] { "0", "1.05", "21000.20", "1000001", "100010005", "1000000000000",
+				"123456789012345678901234567890.5" }) {
+
+			final BigDecimal number = new BigDecimal(value);
+			final String[] words = transcriber.toWords(number);
+
+			for (int i = 0; i < single.length; ++i) {
+				assertEquals(value, single[i].toWords(number), words[i]);
+			}
+		}
+	}
+
+	@Test
+	public void testSingleBuilder() {
+
+		final StringBuilder builder = new StringBuilder();
+
+		transcriber.appendWords(builder, new BigDecimal("12"), " / ");
+
+		assertEquals("twelve / doce / 壹拾贰", builder.toString());
+		assertEquals(Arrays.asList(Locale.ENGLISH, SPANISH, Locale.SIMPLIFIED_CHINESE), transcriber.getLocales());
+	}
+
+	@Test
+	public void testSeparateBuilders() {
+
+		final StringBuilder[] builders = { new StringBuilder("A: "), new StringBuilder("B: "),
+				new StringBuilder("C: ") };
+
+		transcriber.appendWords(builders, BigDecimal.ONE);
+
+		assertArrayEquals(new String[] { "A: one", "B: uno", "C: 壹" }, new String[] { builders[0].toString(),
+				builders[1].toString(), builders[2].toString() });
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnsupportedLocaleFails() {
+		NumberTranscriberFactory.newMultiLocaleTranscriber(Locale.ENGLISH, Locale.forLanguageTag("ro"));
+	}
+}
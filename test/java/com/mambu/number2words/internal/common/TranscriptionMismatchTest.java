@@ -0,0 +1,96 @@
+package com.mambu.number2words.internal.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberDecomposition;
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+
+/**
+ * Tests that comparing a number with an expected text gives the same result as comparing with its transcription.
+ */
+public class TranscriptionMismatchTest {
+
+	private static final Locale[] LOCALES = { Locale.ENGLISH, Locale.forLanguageTag("es"), Locale.SIMPLIFIED_CHINESE };
+
+	/**
+	 * The index of the first difference between the two texts, or -1.
+	 */
+	private static int expectedMismatch(final String words, final String expected) {
+
+		final int length = Math.min(words.length(), expected.length());
+
+		for (int i = 0; i < length; ++i) {
+			if (words.charAt(i) != expected.charAt(i)) {
+				return i;
+			}
+		}
+
+		return words.length() == expected.length() ? -1 : length;
+	}
+
+	@Test
+	public void testRandomValues() {
+
+		final Random random = new Random(42L);
+
+		for (final Locale locale : LOCALES) {
+
+			final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.getTranscriber(locale);
+
+			for (int i = 0; i < 3000; ++i) {
+
+				final BigInteger unscaled = new BigInteger(random.nextInt(80) + 1, random);
+				final BigDecimal value = new BigDecimal(unscaled, random.nextInt(3));
+				final NumberDecomposition number = NumberDecomposition.of(value);
+				final String words = transcriber.toWords(value);
+
+				assertTrue(words, transcriber.matches(value, words));
+				assertEquals(words, -1, transcriber.mismatch(number, words));
+
+				// a single changed character
+				final int index = random.nextInt(words.length());
+				final String changed = words.substring(0, index) + '#' + words.substring(index + 1);
+
+				assertFalse(transcriber.matches(value, changed));
+				assertEquals(changed, index, transcriber.mismatch(number, changed));
+
+				// truncated and extended texts
+				final String truncated = words.substring(0, index);
+				final String extended = words + (random.nextBoolean() ? " " : " one");
+
+				assertEquals(truncated, expectedMismatch(words, truncated), transcriber.mismatch(number, truncated));
+				assertEquals(extended, words.length(), transcriber.mismatch(number, extended));
+
+				// the transcription of another value
+				final BigDecimal other = value.add(BigDecimal.ONE);
+				final String otherWords = transcriber.toWords(other);
+
+				assertEquals(otherWords, expectedMismatch(words, otherWords), transcriber.mismatch(number, otherWords));
+			}
+		}
+	}
+
+	@Test
+	public void testEnglish() {
+
+		final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.getTranscriber(Locale.ENGLISH);
+
+		final NumberDecomposition number = NumberDecomposition.parse("1200.5");
+
+		assertEquals(-1, transcriber.mismatch(number, "one thousand two hundred and five"));
+		assertEquals(24, transcriber.mismatch(number, "one thousand two hundred"));
+		assertEquals(14, transcriber.mismatch(number, "one thousand three hundred and five"));
+		assertEquals(0, transcriber.mismatch(number, ""));
+		assertFalse(transcriber.matches(new BigDecimal("1200"), "one thousand two hundred "));
+	}
+}
@@ -0,0 +1,71 @@
+package com.mambu.number2words.internal.common.mapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Locale;
+
+import org.junit.Test;
+
+import com.mambu.number2words.api.factories.OutputStyle.LetterCase;
+import com.mambu.number2words.api.factories.WordOverlay;
+import com.mambu.number2words.internal.english.mapping.EnglishMappingTables;
+import com.mambu.number2words.internal.spanish.mapping.SpanishMappingTables;
+import com.mambu.number2words.internal.spanish.mapping.SpanishNumberMapping;
+import com.mambu.number2words.parsing.interfaces.WordValue.GrammaticalNumber;
+import com.mambu.number2words.parsing.interfaces.WordValue.WordForm;
+
+/**
+ * Tests for {@link WordTable}.
+ */
+public class WordTableTest {
+
+	@Test
+	public void testSameWordsAsTheMapping() {
+
+		final WordTable table = SpanishMappingTables.asWordTable();
+
+		for (final SpanishNumberMapping mapping : SpanishNumberMapping.values()) {
+
+			assertEquals(mapping.ordinal(), table.indexOf(mapping.getValue()));
+
+			for (final GrammaticalNumber number : GrammaticalNumber.values()) {
+				for (final WordForm form : WordForm.values()) {
+					assertEquals(mapping.getWordValue().getWord(number, form), table.getWord(mapping.getValue(),
+							number, form));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testOverlaySharesTheUnchangedWords() {
+
+		final WordTable base = EnglishMappingTables.asWordTable();
+		final WordTable overlaid = base.overlay(WordOverlay.EMPTY.withWord(1000L, GrammaticalNumber.PLURAL,
+				WordForm.DEFAULT, "grand"));
+
+		assertEquals("grand", overlaid.getWord(1000L, GrammaticalNumber.PLURAL, WordForm.DEFAULT));
+		assertEquals("thousand", overlaid.getWord(1000L, GrammaticalNumber.SINGULAR, WordForm.DEFAULT));
+		assertSame(base.getWord(7L, GrammaticalNumber.SINGULAR, WordForm.DEFAULT), overlaid.getWord(7L,
+				GrammaticalNumber.SINGULAR, WordForm.DEFAULT));
+		assertEquals(-1, overlaid.indexOf(21L));
+	}
+
+	@Test
+	public void testCasedWords() {
+
+		final WordTable base = SpanishMappingTables.asWordTable();
+
+		assertSame(base, base.withCase(LetterCase.DEFAULT, Locale.ROOT));
+		assertEquals("DIECISEIS", base.withCase(LetterCase.UPPER, Locale.ROOT).getWord(16L, GrammaticalNumber.SINGULAR,
+				WordForm.DEFAULT));
+		assertEquals("Millones", base.withCase(LetterCase.TITLE, Locale.ROOT).getWord(1000000L,
+				GrammaticalNumber.PLURAL, WordForm.DEFAULT));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMismatchedWordsFail() {
+		WordTable.of(new long[] { 0L, 1L }, 1L, new String[] { "zero", "zero", "zero", "zero" });
+	}
+}
@@ -0,0 +1,158 @@
+package com.mambu.number2words.internal.common.parsing;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberParser;
+import com.mambu.number2words.api.NumberSequence;
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+
+/**
+ * Tests that the words produced by the transcribers are parsed back into the same numbers.
+ */
+public class WordsParserTest {
+
+	private static final Locale SPANISH = Locale.forLanguageTag("es");
+
+	private static final Locale[] LOCALES = { Locale.ENGLISH, SPANISH, Locale.SIMPLIFIED_CHINESE };
+
+	@Test
+	public void testRoundTripRanges() {
+
+		for (final Locale locale : LOCALES) {
+
+			final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.getTranscriber(locale);
+			final NumberParser parser = NumberTranscriberFactory.newParser(locale);
+
+			final long[][] ranges = { { 0L, 25000L }, { 999000L, 1002000L }, { 99990000L, 100010000L },
+					{ Long.MAX_VALUE - 2000L, Long.MAX_VALUE } };
+
+			for (final long[] range : ranges) {
+
+				final NumberSequence sequence = transcriber.sequence(range[0], range[1]);
+
+				while (sequence.hasNext()) {
+
+					final long value = sequence.next();
+
+					assertEquals(sequence.toWords(), value, parser.parseLong(sequence.toWords()));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testRoundTripRandomValues() {
+
+		final Random random = new Random(42L);
+
+		for (final Locale locale : LOCALES) {
+
+			final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.getTranscriber(locale);
+			final NumberParser parser = NumberTranscriberFactory.newParser(locale);
+
+			for (int i = 0; i < 5000; ++i) {
+
+				final BigDecimal value = new BigDecimal(new BigInteger(90, random), random.nextInt(3));
+				final String words = transcriber.toWords(value);
+
+				if (value.scale() == 0) {
+					assertEquals(words, value, parser.parse(words));
+				} else {
+					// leading zeroes of the fractional part are not transcribed
+					assertEquals(words, value, parser.parse(words, value.scale()));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testEnglish() {
+
+		final NumberParser parser = NumberTranscriberFactory.newParser(Locale.ENGLISH);
+
+		assertEquals(0L, parser.parseLong("zero"));
+		assertEquals(123L, parser.parseLong("One Hundred  Twenty Three"));
+		assertEquals(new BigDecimal("1.5"), parser.parse("one and five"));
+		assertEquals(new BigDecimal("1.05"), parser.parse("one and five", 2));
+		assertEquals(new BigDecimal("12.50"), parser.parse("twelve and fifty"));
+		assertEquals(1250L, parser.parseMinorUnits("twelve and fifty", 2));
+		assertEquals(new BigDecimal("1000000000000000000"), parser.parse("one million trillion"));
+		assertEquals(new BigDecimal("1000000000000000000000000"), parser.parse("one trillion trillion"));
+	}
+
+	@Test
+	public void testSpanish() {
+
+		final NumberParser parser = NumberTranscriberFactory.newParser(SPANISH);
+
+		assertEquals(21000L, parser.parseLong("veintiuno mil"));
+		assertEquals(1000001L, parser.parseLong("un millon uno"));
+		assertEquals(1001L, parser.parseLong("mil uno"));
+		assertEquals(32L, parser.parseLong("treinta y dos"));
+		assertEquals(1000000000000000000L, parser.parseLong("un millon billones"));
+		assertEquals(new BigDecimal("100.25"), parser.parse("cien coma veinticinco"));
+	}
+
+	@Test
+	public void testChinese() {
+
+		final NumberParser parser = NumberTranscriberFactory.newParser(Locale.SIMPLIFIED_CHINESE);
+
+		assertEquals(12L, parser.parseLong("壹拾贰"));
+		assertEquals(1001L, parser.parseLong("壹仟零壹"));
+		assertEquals(100000001L, parser.parseLong("壹億零壹"));
+		assertEquals(1000000000000000000L, parser.parseLong("壹佰万兆"));
+		assertEquals(new BigDecimal("1.05"), parser.parse("壹点零伍"));
+		assertEquals(new BigDecimal("1.050"), parser.parse("壹点伍零", 3));
+		assertEquals(new BigDecimal("1.05"), parser.parse("壹点伍", 2));
+		assertEquals(105L, parser.parseMinorUnits("壹点伍", 2));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testUnknownWordFails() {
+		NumberTranscriberFactory.newParser(Locale.ENGLISH).parse("one hundred plus twenty");
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testPartialWordFails() {
+		NumberTranscriberFactory.newParser(Locale.ENGLISH).parse("one hundreds");
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testRepeatedGroupFails() {
+		NumberTranscriberFactory.newParser(Locale.ENGLISH).parse("one thousand two thousand");
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testMissingFractionFails() {
+		NumberTranscriberFactory.newParser(Locale.ENGLISH).parse("one and");
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testEmptyFails() {
+		NumberTranscriberFactory.newParser(Locale.ENGLISH).parse(" ");
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testFractionNotFittingScaleFails() {
+		NumberTranscriberFactory.newParser(Locale.ENGLISH).parseMinorUnits("one and one hundred", 2);
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void testFractionOfLongFails() {
+		NumberTranscriberFactory.newParser(Locale.ENGLISH).parseLong("one and five");
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void testLongOverflowFails() {
+		NumberTranscriberFactory.newParser(Locale.ENGLISH).parseLong("ten million trillion");
+	}
+}
@@ -5,6 +5,7 @@ import static org.junit.Assert.assertEquals;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.text.ParseException;
@@ -12,7 +13,7 @@ import java.text.ParseException;
 import org.junit.Before;
 import org.junit.Test;
 
-import com.mambu.number2words.api.NumberTranscriber;
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
 import com.mambu.number2words.internal.common.FileValuesTestHelper;
 import com.mambu.number2words.internal.english.tokenization.EnglishNumberTokenizer;
 
@@ -24,7 +25,7 @@ import com.mambu.number2words.internal.english.tokenization.EnglishNumberTokeniz
  */
 public class EnglishNumberTranscriberTest {
 
-	private NumberTranscriber transcriber = new EnglishNumberTranscriber(new EnglishNumberTokenizer(),
+	private ExtendedNumberTranscriber transcriber = new EnglishNumberTranscriber(new EnglishNumberTokenizer(),
 			new EnglishNumberTranscriptionContext());
 	private DecimalFormat decimalFormat;
 
@@ -82,6 +83,25 @@ public class EnglishNumberTranscriberTest {
 		}
 	}
 
+	@Test
+	public void testCharSequence() {
+
+		for (String value : new String[] { "0", "12", "1234.12", "1000000000001.05", "98765432109876543210" }) {
+			assertEquals(transcriber.toWords(new BigDecimal(value)), transcriber.toWords(value));
+		}
+	}
+
+	@Test
+	public void testPackedDecimal() {
+
+		final StringBuilder builder = new StringBuilder();
+
+		// 12345.67 as COMP-3, with a positive sign
+		transcriber.appendPacked(builder, ByteBuffer.wrap(new byte[] { 0x12, 0x34, 0x56, 0x7C }), 0, 4, 2);
+
+		assertEquals(transcriber.toWords(new BigDecimal("12345.67")), builder.toString());
+	}
+
 	@Test
 	public void testValuesFromFile() throws FileNotFoundException, IOException, ParseException {
 
@@ -0,0 +1,125 @@
+package com.mambu.number2words.internal.rules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.ParseException;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+import com.mambu.number2words.internal.common.FileValuesTestHelper;
+
+/**
+ * Tests for {@link MethodHandleNumberTranscriber}.
+ */
+public class MethodHandleNumberTranscriberTest {
+
+	private static final Locale[] LOCALES = { Locale.ENGLISH, Locale.forLanguageTag("es"), Locale.SIMPLIFIED_CHINESE };
+
+	private DecimalFormat decimalFormat;
+
+	@Before
+	public void setUp() {
+
+		final DecimalFormatSymbols symbols = new DecimalFormatSymbols();
+		symbols.setGroupingSeparator('_');
+		symbols.setDecimalSeparator('.');
+
+		decimalFormat = new DecimalFormat("#,##0.0#", symbols);
+		decimalFormat.setParseBigDecimal(true);
+	}
+
+	@Test
+	public void testEnglishFile() throws IOException, ParseException {
+		FileValuesTestHelper.readAndVerifyFile(NumberTranscriberFactory.newSpecializedTranscriber(Locale.ENGLISH),
+				decimalFormat, "/english_numbers_test.txt");
+	}
+
+	@Test
+	public void testSpanishFile() throws IOException, ParseException {
+		FileValuesTestHelper.readAndVerifyFile(
+				NumberTranscriberFactory.newSpecializedTranscriber(Locale.forLanguageTag("es")), decimalFormat,
+				"/spanish_numbers_test.txt");
+	}
+
+	@Test
+	public void testSimplifiedChineseFile() throws IOException, ParseException {
+		FileValuesTestHelper.readAndVerifyFile(
+				NumberTranscriberFactory.newSpecializedTranscriber(Locale.SIMPLIFIED_CHINESE), decimalFormat,
+				"/simplified_chinese_financial_numbers_test.txt");
+	}
+
+	@Test
+	public void testSameWordsAsTheTokenizingTranscribers() {
+
+		final Random random = new Random(47L);
+
+		for (final Locale locale : LOCALES) {
+
+			final ExtendedNumberTranscriber expected = NumberTranscriberFactory.getTranscriber(locale);
+			final ExtendedNumberTranscriber actual = NumberTranscriberFactory.newSpecializedTranscriber(locale);
+
+			for (int i = 0; i < 20000; ++i) {
+
+				// digits with many zeros, up to overflowing the largest scale twice
+				final StringBuilder digits = new StringBuilder("1");
+
+				for (int length = random.nextInt(30); length > 0; --length) {
+					digits.append(random.nextInt(3) == 0 ? (char) ('0' + random.nextInt(10)) : '0');
+				}
+
+				final BigDecimal number = new BigDecimal(new BigInteger(digits.toString()), random.nextInt(3) == 0
+						? random.nextInt(Math.min(5, digits.length()) + 1) : 0);
+
+				assertEquals(locale + " " + number.toPlainString(), expected.toWords(number), actual.toWords(number));
+				assertTrue(actual.matches(number, expected.toWords(number)));
+			}
+		}
+	}
+
+	@Test
+	public void testEachLanguageHasItsOwnClass() {
+
+		final Set<Class<?>> classes = new HashSet<>();
+
+		for (final Locale locale : LOCALES) {
+			classes.add(MethodHandleNumberTranscriber.forLanguage(locale.getLanguage()).getClass());
+		}
+
+		assertEquals(LOCALES.length, classes.size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnbundledLanguageFails() {
+		MethodHandleNumberTranscriber.forLanguage("ja");
+	}
+
+	@Test
+	public void testCustomDefinition() throws IOException {
+
+		final LanguageRules rules = LanguageRules.compile(new StringReader(
+				"separator = -\ndecimal.separator = point\nfraction = digits\ngroup.digits = 2\nzero.mark = z\n"
+						+ "word.0=o\nword.1=a\nword.2=b\nword.3=c\nword.4=d\nword.5=e\nword.6=f\nword.7=g\n"
+						+ "word.8=h\nword.9=i\nplace.10 = ty\nscale.2 = hun\nscale.4 = tho\n"));
+
+		final ExtendedNumberTranscriber transcriber = MethodHandleNumberTranscriber.forRules(rules);
+
+		assertEquals("a-ty-c-hun-z-e", transcriber.toWords("1305"));
+		assertEquals("b-tho-z-a-point-b", transcriber.toWords("20001.02"));
+		assertEquals("a-hun-tho-z-a", transcriber.toWords("1000001"));
+		assertEquals("o-point", transcriber.toWords("0.0"));
+	}
+}
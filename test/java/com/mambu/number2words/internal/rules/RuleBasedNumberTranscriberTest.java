@@ -0,0 +1,145 @@
+package com.mambu.number2words.internal.rules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.NumberSequence;
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+import com.mambu.number2words.internal.common.FileValuesTestHelper;
+
+/**
+ * Tests for {@link RuleBasedNumberTranscriber} with the bundled {@link LanguageRules}.
+ */
+public class RuleBasedNumberTranscriberTest {
+
+	private static final Locale[] LOCALES = { Locale.ENGLISH, Locale.forLanguageTag("es"), Locale.SIMPLIFIED_CHINESE };
+
+	private DecimalFormat decimalFormat;
+
+	@Before
+	public void setUp() {
+
+		final DecimalFormatSymbols symbols = new DecimalFormatSymbols();
+		symbols.setGroupingSeparator('_');
+		symbols.setDecimalSeparator('.');
+
+		decimalFormat = new DecimalFormat("#,##0.0#", symbols);
+		decimalFormat.setParseBigDecimal(true);
+	}
+
+	@Test
+	public void testEnglishFile() throws IOException, ParseException {
+		FileValuesTestHelper.readAndVerifyFile(NumberTranscriberFactory.newRuleBasedTranscriber(Locale.ENGLISH),
+				decimalFormat, "/english_numbers_test.txt");
+	}
+
+	@Test
+	public void testSpanishFile() throws IOException, ParseException {
+		FileValuesTestHelper.readAndVerifyFile(
+				NumberTranscriberFactory.newRuleBasedTranscriber(Locale.forLanguageTag("es")), decimalFormat,
+				"/spanish_numbers_test.txt");
+	}
+
+	@Test
+	public void testSimplifiedChineseFile() throws IOException, ParseException {
+		FileValuesTestHelper.readAndVerifyFile(
+				NumberTranscriberFactory.newRuleBasedTranscriber(Locale.SIMPLIFIED_CHINESE), decimalFormat,
+				"/simplified_chinese_financial_numbers_test.txt");
+	}
+
+	@Test
+	public void testSameWordsAsTheTokenizingTranscribers() {
+
+		final Random random = new Random(46L);
+
+		for (final Locale locale : LOCALES) {
+
+			final ExtendedNumberTranscriber expected = NumberTranscriberFactory.getTranscriber(locale);
+			final ExtendedNumberTranscriber actual = NumberTranscriberFactory.newRuleBasedTranscriber(locale);
+
+			for (int i = 0; i < 20000; ++i) {
+
+				// digits with many zeros, up to overflowing the largest scale twice
+				final StringBuilder digits = new StringBuilder("1");
+
+				for (int length = random.nextInt(30); length > 0; --length) {
+					digits.append(random.nextInt(3) == 0 ? (char) ('0' + random.nextInt(10)) : '0');
+				}
+
+				final BigDecimal number = new BigDecimal(new BigInteger(digits.toString()), random.nextInt(3) == 0
+						? random.nextInt(Math.min(5, digits.length()) + 1) : 0);
+
+				assertEquals(locale + " " + number.toPlainString(), expected.toWords(number), actual.toWords(number));
+				assertTrue(actual.matches(number, expected.toWords(number)));
+			}
+		}
+	}
+
+	@Test
+	public void testAmountsAndSequences() {
+
+		for (final Locale locale : LOCALES) {
+
+			final ExtendedNumberTranscriber expected = NumberTranscriberFactory.getTranscriber(locale);
+			final ExtendedNumberTranscriber actual = NumberTranscriberFactory.newRuleBasedTranscriber(locale);
+
+			final StringBuilder builder = new StringBuilder();
+
+			actual.appendAmount(builder, 100012345L, 2);
+
+			assertEquals(expected.toWords(new BigDecimal("1000123.45")), builder.toString());
+
+			final NumberSequence sequence = actual.sequence(99990L, 100010L);
+
+			for (long value = 99990L; sequence.hasNext(); ++value) {
+				sequence.next();
+				assertEquals(expected.toWords(BigDecimal.valueOf(value)), sequence.toWords());
+			}
+		}
+	}
+
+	@Test
+	public void testCustomDefinition() throws IOException {
+
+		final ExtendedNumberTranscriber transcriber = NumberTranscriberFactory.newRuleBasedTranscriber(new StringReader(
+				"separator = -\ndecimal.separator = point\nfraction = digits\ngroup.digits = 2\n"
+						+ "word.0=o\nword.1=a\nword.2=b\nword.3=c\nword.4=d\nword.5=e\nword.6=f\nword.7=g\n"
+						+ "word.8=h\nword.9=i\nplace.10 = ty\nscale.2 = hun\nscale.4 = tho\nscale.4.plural = thos\n"));
+
+		assertEquals("a-ty-c-hun-e", transcriber.toWords("1305"));
+		assertEquals("b-thos-a-point-b", transcriber.toWords("20001.02"));
+		assertEquals("a-hun-thos-a", transcriber.toWords("1000001"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMissingDigitWord() throws IOException {
+		LanguageRules.compile(new StringReader("separator=\ndecimal.separator=.\ngroup.digits=1\nscale.1=x\n"
+				+ "word.0=0\nword.1=1\nword.2=2\nword.3=3\nword.4=4\nword.5=5\nword.6=6\nword.7=7\nword.8=8\n"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownKey() throws IOException {
+		LanguageRules.compile(new StringReader("separator=\ndecimal.separator=.\ngroup.digits=1\nscale.1=x\n"
+				+ "word.0=0\nword.1=1\nword.2=2\nword.3=3\nword.4=4\nword.5=5\nword.6=6\nword.7=7\nword.8=8\n"
+				+ "word.9=9\nwords.10=10\n"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownLanguage() {
+		NumberTranscriberFactory.newRuleBasedTranscriber(Locale.GERMAN);
+	}
+}
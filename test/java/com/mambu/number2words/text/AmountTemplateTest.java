@@ -0,0 +1,105 @@
+package com.mambu.number2words.text;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import org.junit.Test;
+
+/**
+ * Tests for the precompiled amount templates.
+ */
+public class AmountTemplateTest {
+
+	@Test
+	public void testPlainSlots() {
+
+		final AmountTemplate template = AmountTemplate.compile("Pay {0} ({1,locale=es}) {{ref}}", Locale.ENGLISH);
+
+		assertEquals(2, template.getAmountCount());
+		assertEquals("Pay twelve and fifty (doce coma cincuenta) {ref}",
+				template.render(new BigDecimal("12.50"), new BigDecimal("12.50")));
+	}
+
+	@Test
+	public void testPadding() {
+
+		assertEquals("[one*****]", AmountTemplate.compile("[{0,width=8,pad=*}]", Locale.ENGLISH).render(BigDecimal.ONE));
+		assertEquals("[*****one]",
+				AmountTemplate.compile("[{0,width=8,pad=*,align=right}]", Locale.ENGLISH).render(BigDecimal.ONE));
+		assertEquals("[**one***]",
+				AmountTemplate.compile("[{0,width=8,pad=*,align=center}]", Locale.ENGLISH).render(BigDecimal.ONE));
+		// longer transcriptions are not truncated
+		assertEquals("[one hundred]",
+				AmountTemplate.compile("[{0,width=3,pad=*}]", Locale.ENGLISH).render(BigDecimal.valueOf(100)));
+	}
+
+	@Test
+	public void testLetterCase() {
+
+		assertEquals("Pay ONE HUNDRED TWELVE only", AmountTemplate.compile("Pay {0,case=upper} only", Locale.ENGLISH)
+				.render(BigDecimal.valueOf(112)));
+		assertEquals("Twelve: doce", AmountTemplate.compile("{0,case=sentence}: {0,locale=es}", Locale.ENGLISH).render(
+				BigDecimal.valueOf(12)));
+	}
+
+	@Test
+	public void testDocumentedCheque() {
+
+		final AmountTemplate cheque = AmountTemplate.compile("Pay {0,width=40,pad=*,align=center} only",
+				Locale.ENGLISH);
+		final StringBuilder builder = new StringBuilder();
+
+		cheque.render(builder, new BigDecimal("1200"));
+
+		assertEquals("Pay ********one thousand two hundred******** only", builder.toString());
+	}
+
+	@Test
+	public void testReusableBuffer() {
+
+		final AmountTemplate template = AmountTemplate.compile("{0,width=12,align=right}|{0,locale=zh}\n",
+				Locale.ENGLISH);
+		final StringBuilder builder = new StringBuilder();
+
+		template.render(builder, BigDecimal.valueOf(3));
+		template.render(builder, BigDecimal.valueOf(20));
+
+		assertEquals("       three|叁\n      twenty|贰拾\n", builder.toString());
+	}
+
+	@Test
+	public void testCommaPadding() {
+
+		assertEquals("[one,,,,,]", AmountTemplate.compile("[{0,width=8,pad=,}]", Locale.ENGLISH).render(
+				BigDecimal.ONE));
+		assertEquals("[,,,,,one]", AmountTemplate.compile("[{0,pad=,,width=8,align=right}]", Locale.ENGLISH).render(
+				BigDecimal.ONE));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testLongPaddingFails() {
+		AmountTemplate.compile("{0,width=8,pad=**}", Locale.ENGLISH);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testHugeWidthFails() {
+		AmountTemplate.compile("{0,width=2000000000}", Locale.ENGLISH);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnclosedSlotFails() {
+		AmountTemplate.compile("Pay {0", Locale.ENGLISH);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownOptionFails() {
+		AmountTemplate.compile("Pay {0,colour=red}", Locale.ENGLISH);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMissingAmountFails() {
+		AmountTemplate.compile("{0} {1}", Locale.ENGLISH).render(BigDecimal.ONE);
+	}
+}
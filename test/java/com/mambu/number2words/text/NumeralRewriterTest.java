@@ -0,0 +1,117 @@
+package com.mambu.number2words.text;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import org.junit.Test;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+
+/**
+ * Tests for the streaming numeral substitution.
+ */
+public class NumeralRewriterTest {
+
+	private final ExtendedNumberTranscriber english = NumberTranscriberFactory.getTranscriber(Locale.ENGLISH);
+
+	private final NumeralRewriter rewriter = new NumeralRewriter(english, ',', '.');
+
+	@Test
+	public void testSimpleLiterals() {
+		assertEquals("Pay one thousand two hundred fifty and fifty EUR.", rewriter.rewrite("Pay 1,250.50 EUR."));
+		assertEquals("one", rewriter.rewrite("1"));
+		assertEquals("twelve thousand three hundred forty five", rewriter.rewrite("12345"));
+	}
+
+	@Test
+	public void testSeparatorsThatEndLiterals() {
+		assertEquals("Items one, two and three.", rewriter.rewrite("Items 1, 2 and 3."));
+		assertEquals("one,twenty three", rewriter.rewrite("1,23"));
+		assertEquals("one,two thousand three hundred forty five", rewriter.rewrite("1,2345"));
+		assertEquals("twelve thousand three hundred forty five,six hundred seventy eight",
+				rewriter.rewrite("12345,678"));
+		assertEquals("(five).", rewriter.rewrite("(5)."));
+		assertEquals("one,.five", rewriter.rewrite("1,.5"));
+	}
+
+	@Test
+	public void testSeparatorsBetweenNumerals() {
+		assertEquals("one,two,three", rewriter.rewrite("1,2,3"));
+		assertEquals("one and two.three", rewriter.rewrite("1.2.3"));
+		assertEquals("one,two,three,four", rewriter.rewrite("1,2,3,4"));
+		assertEquals("one,twenty three thousand four hundred fifty six", rewriter.rewrite("1,23,456"));
+	}
+
+	@Test
+	public void testTrailingSeparators() {
+		assertEquals("Pay twelve.", rewriter.rewrite("Pay 12."));
+		assertEquals("one thousand,", rewriter.rewrite("1,000,"));
+		assertEquals("one,", rewriter.rewrite("1,"));
+	}
+
+	@Test
+	public void testNumeralsGluedToWords() {
+		assertEquals("one,23b", rewriter.rewrite("1,23b"));
+		assertEquals("1.5x", rewriter.rewrite("1.5x"));
+		assertEquals("one,two,3b", rewriter.rewrite("1,2,3b"));
+	}
+
+	@Test
+	public void testDigitsInsideWords() {
+		assertEquals("Ref A12 or 12b or x_1", rewriter.rewrite("Ref A12 or 12b or x_1"));
+		assertEquals("3rd", rewriter.rewrite("3rd"));
+	}
+
+	@Test
+	public void testTooLongLiteralsAreCopied() {
+
+		final StringBuilder digits = new StringBuilder();
+
+		for (int i = 0; i <= NumeralRewriter.MAX_LITERAL_LENGTH; ++i) {
+			digits.append('9');
+		}
+
+		assertEquals("see " + digits + " and two", rewriter.rewrite("see " + digits + " and 2"));
+	}
+
+	@Test
+	public void testOtherSeparators() {
+
+		final NumeralRewriter spanish = new NumeralRewriter(NumberTranscriberFactory.getTranscriber(Locale
+				.forLanguageTag("es")), '.', ',');
+
+		assertEquals("Total: mil doscientos coma cinco.", spanish.rewrite("Total: 1.200,5."));
+
+		final NumeralRewriter ungrouped = new NumeralRewriter(english, NumeralRewriter.NO_GROUPING, '.');
+
+		assertEquals("one,two hundred", ungrouped.rewrite("1,200"));
+	}
+
+	@Test
+	public void testReaderAcrossBufferBoundaries() throws IOException {
+
+		final StringBuilder text = new StringBuilder();
+		final StringBuilder expected = new StringBuilder();
+
+		for (int i = 0; i < 5000; ++i) {
+			text.append("line ").append(i).append(",\n");
+			expected.append("line ").append(english.toWords(BigDecimal.valueOf(i))).append(",\n");
+		}
+
+		final StringWriter writer = new StringWriter();
+		rewriter.rewrite(new StringReader(text.toString()), writer);
+
+		assertEquals(expected.toString(), writer.toString());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSameSeparatorsFail() {
+		new NumeralRewriter(english, '.', '.');
+	}
+}
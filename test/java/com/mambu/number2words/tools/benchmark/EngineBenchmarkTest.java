@@ -0,0 +1,48 @@
+package com.mambu.number2words.tools.benchmark;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.mambu.number2words.api.NumberDecomposition;
+
+/**
+ * Tests for {@link EngineBenchmark}.
+ */
+public class EngineBenchmarkTest {
+
+	@Test
+	public void testAmounts() {
+
+		final NumberDecomposition[] amounts = EngineBenchmark.amounts(1000, new Random(1L));
+
+		for (final NumberDecomposition amount : amounts) {
+			assertThat(amount.getDigitCount(), lessThan(13));
+			assertTrue(amount.hasFraction());
+			assertThat(amount.getFraction().toBigInteger().intValue(), lessThan(100));
+		}
+	}
+
+	@Test
+	public void testMeasure() {
+
+		final double[][] results = EngineBenchmark.measure(EngineBenchmark.amounts(100, new Random(1L)), 1, 2);
+
+		assertEquals(EngineBenchmark.ENGINES.length, results.length);
+
+		for (final double[] engine : results) {
+
+			assertEquals(EngineBenchmark.LOCALES.length, engine.length);
+
+			for (final double nanos : engine) {
+				assertThat(nanos, greaterThan(0.0));
+			}
+		}
+	}
+}
@@ -0,0 +1,171 @@
+package com.mambu.number2words.tools.bulk;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for the memory-mapped bulk file transcription tool. The test resources are already in the
+ * <code>value TAB words</code> format, so the appended column must match the second one.
+ */
+public class BulkFileTranscriberTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File resource(final String name) throws IOException {
+
+		final File file = folder.newFile();
+
+		try (final InputStream in = BulkFileTranscriberTest.class.getResourceAsStream(name)) {
+			Files.copy(in, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		return file;
+	}
+
+	private List<String> transcribe(final BulkFileTranscriber.Options options, final File input) throws Exception {
+
+		final File output = folder.newFile();
+
+		new BulkFileTranscriber(options).transcribe(input, output);
+
+		return Files.readAllLines(output.toPath(), StandardCharsets.UTF_8);
+	}
+
+	private void verifyFixture(final Locale locale, final String name) throws Exception {
+
+		final BulkFileTranscriber.Options options = new BulkFileTranscriber.Options();
+		options.locale = locale;
+		options.groupingSeparator = '_';
+		options.skipComments = true;
+		options.workers = 3;
+		// small chunks, to make sure lines are not split between chunks
+		options.chunkSize = 100;
+
+		final File input = resource(name);
+		final List<String> lines = transcribe(options, input);
+
+		assertEquals(Files.readAllLines(input.toPath(), StandardCharsets.UTF_8).size(), lines.size());
+
+		int verified = 0;
+
+		for (final String line : lines) {
+
+			if (line.isEmpty() || line.startsWith("#")) {
+				continue;
+			}
+
+			final String[] columns = line.split("\t");
+
+			assertThat(line, columns.length, equalTo(3));
+			assertThat(columns[0] + " failed transcription", columns[2], equalTo(columns[1]));
+
+			++verified;
+		}
+
+		assertThat(verified, greaterThan(0));
+	}
+
+	@Test
+	public void testEnglishFixture() throws Exception {
+		verifyFixture(Locale.ENGLISH, "/english_numbers_test.txt");
+	}
+
+	@Test
+	public void testSpanishFixture() throws Exception {
+		verifyFixture(Locale.forLanguageTag("es"), "/spanish_numbers_test.txt");
+	}
+
+	@Test
+	public void testSimplifiedChineseFixture() throws Exception {
+		verifyFixture(Locale.SIMPLIFIED_CHINESE, "/simplified_chinese_financial_numbers_test.txt");
+	}
+
+	@Test
+	public void testFixedWidthAndErrors() throws Exception {
+
+		final String content = String.format("A  %24sX\r\nB  %24sX\r\nC  %24sX", "000012.50",
+				"1234567890123456789012", "-2");
+
+		final File input = folder.newFile();
+		Files.write(input.toPath(), content.getBytes(StandardCharsets.US_ASCII));
+
+		final BulkFileTranscriber.Options options = new BulkFileTranscriber.Options();
+		options.fixedStart = 3;
+		options.fixedLength = 24;
+		options.delimiter = ';';
+
+		final List<String> lines = transcribe(options, input);
+
+		assertThat(lines.get(0), endsWith("X;twelve and fifty"));
+		assertThat(lines.get(1), endsWith("X;one billion two hundred thirty four million five hundred sixty seven "
+				+ "thousand eight hundred ninety trillion one hundred twenty three billion four hundred fifty six "
+				+ "million seven hundred eighty nine thousand twelve"));
+		assertThat(lines.get(2), endsWith("X;" + BulkFileTranscriber.ERROR_MARKER + "Invalid amount: -2"));
+	}
+
+	@Test
+	public void testChunkCapacityIsBounded() {
+
+		assertEquals(64, BulkFileTranscriber.Chunk.grownCapacity(32, 33L));
+		assertEquals(100, BulkFileTranscriber.Chunk.grownCapacity(32, 100L));
+		// doubling would overflow an int
+		assertEquals(BulkFileTranscriber.Chunk.MAX_CAPACITY, BulkFileTranscriber.Chunk.grownCapacity(
+				Integer.MAX_VALUE / 2 + 1, Integer.MAX_VALUE / 2 + 2L));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testChunkCapacityOverflowFails() {
+		BulkFileTranscriber.Chunk.grownCapacity(BulkFileTranscriber.Chunk.MAX_CAPACITY, Integer.MAX_VALUE + 1L);
+	}
+
+	@Test
+	public void testChunkEncodesWordsAsUtf8() {
+
+		final BulkFileTranscriber.Chunk chunk = new BulkFileTranscriber.Chunk(16);
+
+		chunk.put((byte) '1');
+		chunk.put((byte) '\t');
+		// more than the initial capacity, with 3-byte characters
+		chunk.put(new StringBuilder("壹仟贰佰叁拾肆元伍角陆分"));
+
+		assertEquals("1\t壹仟贰佰叁拾肆元伍角陆分", chunk.toString());
+	}
+
+	@Test
+	public void testFixedField() {
+
+		final BulkFileTranscriber.Options options = new BulkFileTranscriber.Options();
+
+		BulkFileTranscriber.setFixedField(options, "3:24");
+
+		assertEquals(3, options.fixedStart);
+		assertEquals(24, options.fixedLength);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFixedFieldWithoutLengthFails() {
+		BulkFileTranscriber.setFixedField(new BulkFileTranscriber.Options(), "10");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFixedFieldWithEmptyLengthFails() {
+		BulkFileTranscriber.setFixedField(new BulkFileTranscriber.Options(), "10:");
+	}
+}
@@ -0,0 +1,104 @@
+package com.mambu.number2words.tools.codegen;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.mambu.number2words.internal.common.mapping.QuantifyingMappingsHelper;
+import com.mambu.number2words.internal.common.mapping.WordValueFactory;
+import com.mambu.number2words.internal.english.mapping.EnglishMappingTables;
+import com.mambu.number2words.internal.english.mapping.EnglishNumberMapping;
+import com.mambu.number2words.parsing.interfaces.ValueMapping;
+import com.mambu.number2words.parsing.interfaces.WordValue;
+import com.mambu.number2words.parsing.interfaces.WordValue.GrammaticalNumber;
+import com.mambu.number2words.parsing.interfaces.WordValue.WordForm;
+
+/**
+ * Tests for {@link MappingTablesGenerator} and the generated tables.
+ */
+public class MappingTablesGeneratorTest {
+
+	@Test
+	public void testTablesMatchTheMapping() {
+
+		for (final EnglishNumberMapping mapping : EnglishNumberMapping.values()) {
+
+			assertEquals(mapping.ordinal(), EnglishMappingTables.indexOf(mapping.getValue()));
+
+			for (final GrammaticalNumber number : GrammaticalNumber.values()) {
+				for (final WordForm form : WordForm.values()) {
+					assertEquals(mapping.getWordValue().getWord(number, form),
+							EnglishMappingTables.getWord(mapping.getValue(), number, form));
+				}
+			}
+		}
+
+		assertEquals(-1, EnglishMappingTables.indexOf(21L));
+		assertEquals(-1, EnglishMappingTables.indexOf(-1L));
+	}
+
+	@Test
+	public void testGroupStructureMatchesTheMapping() {
+
+		final List<EnglishNumberMapping> groups = QuantifyingMappingsHelper
+				.groupQuantifiers(EnglishNumberMapping.class);
+		final long[] groupQuantifiers = EnglishMappingTables.getGroupQuantifiers();
+
+		assertEquals(groups.size(), groupQuantifiers.length);
+
+		for (int i = 0; i < groupQuantifiers.length; ++i) {
+			assertEquals(groups.get(i).getValue().longValue(), groupQuantifiers[i]);
+		}
+
+		assertArrayEquals(new long[] { 100L, 10L }, EnglishMappingTables.getSubGroupQuantifiers());
+		assertEquals(QuantifyingMappingsHelper.largestConsecutiveMapping(EnglishNumberMapping.class).getValue()
+				.longValue(), EnglishMappingTables.getLargestConsecutiveValue());
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void testUnmappedValueFails() {
+		EnglishMappingTables.getWord(21L, GrammaticalNumber.SINGULAR, WordForm.DEFAULT);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnorderedMappingFails() {
+		MappingTablesGenerator.generate(UnorderedMapping.class, "UnorderedTables");
+	}
+
+	/**
+	 * A mapping with the values out of order.
+	 */
+	private enum UnorderedMapping implements ValueMapping {
+
+		ZERO(0L), TWO(2L), ONE(1L), THOUSAND(1000L);
+
+		private final long value;
+
+		UnorderedMapping(final long value) {
+			this.value = value;
+		}
+
+		@Override
+		public WordValue getWordValue() {
+			return WordValueFactory.wordFrom(name());
+		}
+
+		@Override
+		public Long getValue() {
+			return value;
+		}
+
+		@Override
+		public boolean isGroupQuantifier() {
+			return value == 1000L;
+		}
+
+		@Override
+		public boolean isSubGroupQuantifier() {
+			return false;
+		}
+	}
+}
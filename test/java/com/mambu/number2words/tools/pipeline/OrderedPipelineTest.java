@@ -0,0 +1,92 @@
+package com.mambu.number2words.tools.pipeline;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.junit.Test;
+
+import com.mambu.number2words.tools.pipeline.OrderedPipeline.ResultSink;
+
+/**
+ * Tests for {@link OrderedPipeline}.
+ */
+public class OrderedPipelineTest {
+
+	/**
+	 * Returns a constant.
+	 */
+	private static Callable<Integer> task(final int value) {
+		return new Callable<Integer>() {
+
+			@Override
+			public Integer call() {
+				return value;
+			}
+		};
+	}
+
+	@Test
+	public void testResultsKeepSubmissionOrder() throws Exception {
+
+		final List<Integer> results = new ArrayList<>();
+
+		final OrderedPipeline<Integer> pipeline = new OrderedPipeline<>(4, 8, new ResultSink<Integer>() {
+
+			@Override
+			public void accept(final Integer result) {
+				results.add(result);
+			}
+
+			@Override
+			public void idle() {
+				// nothing buffered
+			}
+		});
+
+		for (int i = 0; i < 1000; ++i) {
+			pipeline.submit(task(i));
+		}
+		pipeline.finish();
+
+		assertEquals(1000, results.size());
+
+		for (int i = 0; i < 1000; ++i) {
+			assertEquals(i, results.get(i).intValue());
+		}
+	}
+
+	@Test(timeout = 10000)
+	public void testSinkErrorStopsThePipeline() throws Exception {
+
+		final OrderedPipeline<Integer> pipeline = new OrderedPipeline<>(2, 2, new ResultSink<Integer>() {
+
+			@Override
+			public void accept(final Integer result) {
+				throw new AssertionError("sink failed");
+			}
+
+			@Override
+			public void idle() {
+				// nothing buffered
+			}
+		});
+
+		try {
+			// more tasks than the window: the producer must not wait for the dead writer
+			for (int i = 0; i < 100; ++i) {
+				pipeline.submit(task(i));
+			}
+			pipeline.finish();
+			fail("The failure of the sink was not reported");
+
+		} catch (final IOException e) {
+			assertTrue(e.getCause() instanceof AssertionError);
+		}
+	}
+}
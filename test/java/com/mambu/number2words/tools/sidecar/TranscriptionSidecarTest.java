@@ -0,0 +1,139 @@
+package com.mambu.number2words.tools.sidecar;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import org.junit.Test;
+
+import com.mambu.number2words.api.ExtendedNumberTranscriber;
+import com.mambu.number2words.api.factories.NumberTranscriberFactory;
+
+/**
+ * Tests for the binary sidecar protocol.
+ */
+public class TranscriptionSidecarTest {
+
+	private static void writeRequest(final DataOutputStream out, final String tag, final BigDecimal value)
+			throws IOException {
+
+		final byte[] tagBytes = tag.getBytes(StandardCharsets.US_ASCII);
+		final byte[] unscaled = value.unscaledValue().toByteArray();
+
+		out.writeInt(1 + tagBytes.length + 4 + unscaled.length);
+		out.writeByte(tagBytes.length);
+		out.write(tagBytes);
+		out.writeInt(value.scale());
+		out.write(unscaled);
+	}
+
+	private static String readResponse(final DataInputStream in, final byte expectedStatus) throws IOException {
+
+		final byte[] payload = new byte[in.readInt()];
+		in.readFully(payload);
+
+		assertEquals(expectedStatus, payload[0]);
+
+		return new String(payload, 1, payload.length - 1, StandardCharsets.UTF_8);
+	}
+
+	private static DataInputStream run(final int workers, final byte[] requests) throws Exception {
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		new TranscriptionSidecar(workers, 8).run(new ByteArrayInputStream(requests), out);
+
+		return new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+	}
+
+	@Test
+	public void testResponsesKeepRequestOrder() throws Exception {
+
+		final String[] tags = { "en", "es", "zh-CN" };
+		final ExtendedNumberTranscriber[] transcribers = { NumberTranscriberFactory.getTranscriber(Locale.ENGLISH),
+				NumberTranscriberFactory.getTranscriber(Locale.forLanguageTag("es")),
+				NumberTranscriberFactory.getTranscriber(Locale.SIMPLIFIED_CHINESE) };
+
+		final ByteArrayOutputStream requests = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(requests);
+
+		for (int i = 0; i < 3000; ++i) {
+			writeRequest(out, tags[i % 3], BigDecimal.valueOf(i * 7919L, i % 3));
+		}
+
+		final DataInputStream in = run(4, requests.toByteArray());
+
+		for (int i = 0; i < 3000; ++i) {
+			assertEquals(transcribers[i % 3].toWords(BigDecimal.valueOf(i * 7919L, i % 3)),
+					readResponse(in, TranscriptionSidecar.STATUS_OK));
+		}
+
+		assertEquals(-1, in.read());
+	}
+
+	@Test
+	public void testErrorsAreReportedInline() throws Exception {
+
+		final ByteArrayOutputStream requests = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(requests);
+
+		writeRequest(out, "ro", BigDecimal.ONE);
+		writeRequest(out, "en", new BigDecimal("-2"));
+		writeRequest(out, "en", BigDecimal.valueOf(1L, Integer.MAX_VALUE));
+		writeRequest(out, "en", BigDecimal.valueOf(1L, -1000000));
+		writeRequest(out, "en", new BigDecimal("1234.12"));
+
+		final DataInputStream in = run(2, requests.toByteArray());
+
+		readResponse(in, TranscriptionSidecar.STATUS_ERROR);
+		readResponse(in, TranscriptionSidecar.STATUS_ERROR);
+		assertEquals("Unsupported scale: " + Integer.MAX_VALUE, readResponse(in, TranscriptionSidecar.STATUS_ERROR));
+		assertEquals("Unsupported scale: -1000000", readResponse(in, TranscriptionSidecar.STATUS_ERROR));
+
+		assertEquals("one thousand two hundred thirty four and twelve",
+				readResponse(in, TranscriptionSidecar.STATUS_OK));
+	}
+
+	@Test
+	public void testLongBoundaryAndLanguageChanges() throws Exception {
+
+		final ExtendedNumberTranscriber english = NumberTranscriberFactory.getTranscriber(Locale.ENGLISH);
+
+		final BigDecimal largestLong = BigDecimal.valueOf(Long.MAX_VALUE, 2);
+		final BigDecimal beyondLong = largestLong.add(BigDecimal.valueOf(1L, 2));
+
+		final ByteArrayOutputStream requests = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(requests);
+
+		writeRequest(out, "ro", BigDecimal.ONE);
+		writeRequest(out, "en", largestLong);
+		writeRequest(out, "ro", BigDecimal.ONE);
+		writeRequest(out, "en", beyondLong);
+
+		// a single worker and a large window: the requests are transcribed as one batch
+		final ByteArrayOutputStream responses = new ByteArrayOutputStream();
+		new TranscriptionSidecar(1, 64).run(new ByteArrayInputStream(requests.toByteArray()), responses);
+
+		final DataInputStream in = new DataInputStream(new ByteArrayInputStream(responses.toByteArray()));
+
+		readResponse(in, TranscriptionSidecar.STATUS_ERROR);
+		assertEquals(english.toWords(largestLong), readResponse(in, TranscriptionSidecar.STATUS_OK));
+		readResponse(in, TranscriptionSidecar.STATUS_ERROR);
+		assertEquals(english.toWords(beyondLong), readResponse(in, TranscriptionSidecar.STATUS_OK));
+
+		assertEquals(-1, in.read());
+	}
+
+	@Test(expected = IOException.class)
+	public void testTruncatedFrameFails() throws Exception {
+
+		run(1, new byte[] { 0, 0, 0, 10, 2, 'e' });
+	}
+}
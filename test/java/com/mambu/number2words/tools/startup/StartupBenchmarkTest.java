@@ -0,0 +1,40 @@
+package com.mambu.number2words.tools.startup;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link StartupBenchmark} and {@link StartupProbe}.
+ */
+public class StartupBenchmarkTest {
+
+	@Test
+	public void testPercentile() {
+
+		final long[] sorted = { 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L };
+
+		assertEquals(5L, StartupBenchmark.percentile(sorted, 50));
+		assertEquals(9L, StartupBenchmark.percentile(sorted, 90));
+		assertEquals(10L, StartupBenchmark.percentile(sorted, 100));
+		assertEquals(1L, StartupBenchmark.percentile(new long[] { 1L }, 90));
+	}
+
+	@Test
+	public void testSummary() {
+
+		final String summary = StartupBenchmark.summary("default", new long[][] { { 3000L, 1000L, 2000L },
+				{ 500L, 700L, 600L } });
+
+		assertThat(summary, containsString("process: median    2.0 ms, p90    3.0 ms"));
+		assertThat(summary, containsString("first transcription: median    0.6 ms, p90    0.7 ms (3 runs)"));
+	}
+
+	@Test
+	public void testTrainingRun() {
+		assertThat(StartupProbe.train(), greaterThan(1000L));
+	}
+}